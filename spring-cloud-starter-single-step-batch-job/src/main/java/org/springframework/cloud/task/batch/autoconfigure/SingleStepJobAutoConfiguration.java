@@ -18,15 +18,28 @@ package org.springframework.cloud.task.batch.autoconfigure;
 
 import java.util.Map;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
 import org.springframework.batch.core.job.Job;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.listener.StepListenerFactoryBean;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.Step;
 import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.infrastructure.item.ItemProcessor;
 import org.springframework.batch.infrastructure.item.ItemReader;
+import org.springframework.batch.infrastructure.item.ItemStream;
+import org.springframework.batch.infrastructure.item.ItemStreamReader;
+import org.springframework.batch.infrastructure.item.ItemStreamWriter;
 import org.springframework.batch.infrastructure.item.ItemWriter;
+import org.springframework.batch.infrastructure.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.batch.infrastructure.item.support.SynchronizedItemReader;
+import org.springframework.batch.infrastructure.item.support.builder.SynchronizedItemStreamReaderBuilder;
+import org.springframework.batch.infrastructure.item.support.builder.SynchronizedItemStreamWriterBuilder;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
@@ -34,13 +47,21 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.batch.autoconfigure.BatchAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.system.JavaVersion;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.util.Assert;
 
 /**
- * Autoconfiguration to create a single step Spring Batch Job.
+ * Autoconfiguration to create a single step Spring Batch Job. When
+ * {@code spring.batch.job.concurrency.mode} is PLATFORM or VIRTUAL, the chunks of the
+ * step are executed on a task executor, VIRTUAL requiring Java 21 or later, with the reader and any stateful writer
+ * synchronized, and the item counting readers, such as the {@code FlatFileItemReader} and
+ * {@code JdbcCursorItemReader}, do not save their position.
  *
  * @author Michael Minella
  * @since 2.3
@@ -48,7 +69,9 @@ import org.springframework.util.Assert;
 @AutoConfiguration
 @EnableConfigurationProperties(SingleStepJobProperties.class)
 @AutoConfigureBefore(BatchAutoConfiguration.class)
-public class SingleStepJobAutoConfiguration {
+public class SingleStepJobAutoConfiguration implements DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(SingleStepJobAutoConfiguration.class);
 
 	private SingleStepJobProperties properties;
 
@@ -61,6 +84,11 @@ public class SingleStepJobAutoConfiguration {
 	@Autowired(required = false)
 	private ItemProcessor<Map<String, Object>, Map<String, Object>> itemProcessor;
 
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	private TaskExecutor taskExecutor;
+
 	public SingleStepJobAutoConfiguration(SingleStepJobProperties properties, ApplicationContext context) {
 
 		validateProperties(properties);
@@ -72,6 +100,12 @@ public class SingleStepJobAutoConfiguration {
 		Assert.hasText(properties.getStepName(), "A step name is required");
 		Assert.notNull(properties.getChunkSize(), "A chunk size is required");
 		Assert.isTrue(properties.getChunkSize() > 0, "A chunk size greater than zero is required");
+		Assert.isTrue(properties.getConcurrency().getLimit() > 0,
+				"A concurrency limit greater than zero is required");
+		Assert.isTrue(
+				properties.getConcurrency().getMode() != SingleStepJobProperties.Concurrency.Mode.VIRTUAL
+						|| JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE),
+				"The VIRTUAL concurrency mode requires Java 21 or later, use PLATFORM instead");
 	}
 
 	@Bean
@@ -79,16 +113,110 @@ public class SingleStepJobAutoConfiguration {
 	@ConditionalOnProperty(prefix = "spring.batch.job", name = "job-name")
 	public Job job(ItemReader<Map<String, Object>> itemReader, ItemWriter<Map<String, Object>> itemWriter) {
 
+		ItemReader<Map<String, Object>> stepReader = itemReader;
+		ItemProcessor<Map<String, Object>, Map<String, Object>> stepProcessor = this.itemProcessor;
+		ItemWriter<Map<String, Object>> stepWriter = itemWriter;
+
+		if (this.properties.getMetrics().isEnabled() && this.meterRegistry != null) {
+			SingleStepJobMetrics metrics = new SingleStepJobMetrics(this.meterRegistry,
+					this.properties.getJobName(), this.properties.getStepName(),
+					this.properties.getMetrics().isPercentileHistogram());
+			stepReader = metrics.instrumentReader(stepReader);
+			if (stepProcessor != null) {
+				stepProcessor = metrics.instrumentProcessor(stepProcessor);
+			}
+			stepWriter = metrics.instrumentWriter(stepWriter);
+		}
+
+		SingleStepJobProperties.Concurrency concurrency = this.properties.getConcurrency();
+		if (concurrency.getMode() != SingleStepJobProperties.Concurrency.Mode.NONE) {
+			this.taskExecutor = createTaskExecutor(concurrency);
+			// The position of a reader is saved when a chunk commits, and can be ahead of
+			// items of chunks that have not been committed yet
+			if (itemReader instanceof AbstractItemCountingItemStreamItemReader<?> countingReader
+					&& countingReader.isSaveState()) {
+				logger.warn("The saveState of the " + itemReader.getClass().getSimpleName()
+						+ " is set to false because the chunks of the step are executed concurrently, "
+						+ "a restarted job reads its input from the beginning");
+				countingReader.setSaveState(false);
+			}
+			if (concurrency.isSynchronizeReader()) {
+				stepReader = synchronizedReader(stepReader);
+			}
+			// Stateful writers such as the FlatFileItemWriter are not thread-safe
+			if (itemWriter instanceof ItemStream
+					&& stepWriter instanceof ItemStreamWriter<Map<String, Object>> itemStreamWriter) {
+				stepWriter = synchronizedWriter(itemStreamWriter);
+			}
+		}
+
 		SimpleStepBuilder<Map<String, Object>, Map<String, Object>> stepBuilder = new StepBuilder(
 				this.properties.getStepName(), this.jobRepository)
 			.<Map<String, Object>, Map<String, Object>>chunk(this.properties.getChunkSize(), this.transactionManager)
-			.reader(itemReader);
+			.reader(stepReader);
+
+		stepBuilder.processor(stepProcessor);
+
+		// The wrappers hide the listener callbacks of the delegates from the builder
+		if (stepReader != itemReader) {
+			registerListener(stepBuilder, itemReader);
+		}
+		if (stepProcessor != this.itemProcessor) {
+			registerListener(stepBuilder, this.itemProcessor);
+		}
+		if (stepWriter != itemWriter) {
+			registerListener(stepBuilder, itemWriter);
+		}
+		if (this.taskExecutor != null) {
+			stepBuilder.taskExecutor(this.taskExecutor);
+		}
+
+		Step step = stepBuilder.writer(stepWriter).build();
+
+		return new JobBuilder(this.properties.getJobName(), this.jobRepository).start(step).build();
+	}
 
-		stepBuilder.processor(this.itemProcessor);
+	@Override
+	public void destroy() {
+		if (this.taskExecutor instanceof ThreadPoolTaskExecutor threadPoolTaskExecutor) {
+			threadPoolTaskExecutor.shutdown();
+		}
+		else if (this.taskExecutor instanceof SimpleAsyncTaskExecutor simpleAsyncTaskExecutor) {
+			simpleAsyncTaskExecutor.close();
+		}
+	}
 
-		Step step = stepBuilder.writer(itemWriter).build();
+	private TaskExecutor createTaskExecutor(SingleStepJobProperties.Concurrency concurrency) {
+		if (concurrency.getMode() == SingleStepJobProperties.Concurrency.Mode.VIRTUAL) {
+			SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(concurrency.getThreadNamePrefix());
+			taskExecutor.setVirtualThreads(true);
+			taskExecutor.setConcurrencyLimit(concurrency.getLimit());
+			return taskExecutor;
+		}
+		ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+		taskExecutor.setCorePoolSize(concurrency.getLimit());
+		taskExecutor.setMaxPoolSize(concurrency.getLimit());
+		taskExecutor.setThreadNamePrefix(concurrency.getThreadNamePrefix());
+		taskExecutor.initialize();
+		return taskExecutor;
+	}
 
-		return new JobBuilder(this.properties.getJobName(), this.jobRepository).start(step).build();
+	private ItemReader<Map<String, Object>> synchronizedReader(ItemReader<Map<String, Object>> reader) {
+		if (reader instanceof ItemStreamReader<Map<String, Object>> itemStreamReader) {
+			return new SynchronizedItemStreamReaderBuilder<Map<String, Object>>().delegate(itemStreamReader).build();
+		}
+		return new SynchronizedItemReader<>(reader);
+	}
+
+	private ItemWriter<Map<String, Object>> synchronizedWriter(ItemStreamWriter<Map<String, Object>> writer) {
+		return new SynchronizedItemStreamWriterBuilder<Map<String, Object>>().delegate(writer).build();
+	}
+
+	private void registerListener(SimpleStepBuilder<Map<String, Object>, Map<String, Object>> stepBuilder,
+			Object delegate) {
+		if (delegate != null && StepListenerFactoryBean.isListener(delegate)) {
+			stepBuilder.listener(delegate);
+		}
 	}
 
 }
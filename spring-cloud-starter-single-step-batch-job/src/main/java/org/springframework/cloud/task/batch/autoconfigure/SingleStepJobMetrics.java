@@ -0,0 +1,322 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.autoconfigure;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemProcessor;
+import org.springframework.batch.infrastructure.item.ItemReader;
+import org.springframework.batch.infrastructure.item.ItemStream;
+import org.springframework.batch.infrastructure.item.ItemStreamReader;
+import org.springframework.batch.infrastructure.item.ItemStreamWriter;
+import org.springframework.batch.infrastructure.item.ItemWriter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Micrometer instrumentation of the reader, processor and writer of a single step job.
+ * The meters are registered once, when this class is created, and the wrappers only call
+ * {@link System#nanoTime()} and record into them, so no object is allocated per item.
+ * The commit of a chunk is timed by a transaction synchronization that the writer
+ * registers with the chunk transaction, so the other transactions of the step, such as
+ * the updates of the job repository, are not counted.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+public class SingleStepJobMetrics {
+
+	/**
+	 * Name of the timer of each item read.
+	 */
+	public static final String ITEM_READ_METER = "spring.batch.job.item.read";
+
+	/**
+	 * Name of the timer of each item processed.
+	 */
+	public static final String ITEM_PROCESS_METER = "spring.batch.job.item.process";
+
+	/**
+	 * Name of the timer of each chunk written.
+	 */
+	public static final String CHUNK_WRITE_METER = "spring.batch.job.chunk.write";
+
+	/**
+	 * Name of the distribution summary of the number of items in each chunk written.
+	 */
+	public static final String CHUNK_SIZE_METER = "spring.batch.job.chunk.size";
+
+	/**
+	 * Name of the timer of each chunk transaction commit.
+	 */
+	public static final String CHUNK_COMMIT_METER = "spring.batch.job.chunk.commit";
+
+	private final Timer readTimer;
+
+	private final Timer processTimer;
+
+	private final Timer writeTimer;
+
+	private final DistributionSummary chunkSize;
+
+	private final Timer commitTimer;
+
+	/**
+	 * Registers the meters of a single step job.
+	 * @param meterRegistry the registry the meters are registered with
+	 * @param jobName the name of the job, used as the {@code job.name} tag
+	 * @param stepName the name of the step, used as the {@code step.name} tag
+	 * @param percentileHistogram whether the timers publish a percentile histogram
+	 */
+	public SingleStepJobMetrics(MeterRegistry meterRegistry, String jobName, String stepName,
+			boolean percentileHistogram) {
+		Assert.notNull(meterRegistry, "meterRegistry is required");
+		Tags tags = Tags.of("job.name", jobName, "step.name", stepName);
+		this.readTimer = Timer.builder(ITEM_READ_METER)
+			.description("Time taken to read an item")
+			.tags(tags)
+			.publishPercentileHistogram(percentileHistogram)
+			.register(meterRegistry);
+		this.processTimer = Timer.builder(ITEM_PROCESS_METER)
+			.description("Time taken to process an item")
+			.tags(tags)
+			.publishPercentileHistogram(percentileHistogram)
+			.register(meterRegistry);
+		this.writeTimer = Timer.builder(CHUNK_WRITE_METER)
+			.description("Time taken to write a chunk")
+			.tags(tags)
+			.publishPercentileHistogram(percentileHistogram)
+			.register(meterRegistry);
+		this.chunkSize = DistributionSummary.builder(CHUNK_SIZE_METER)
+			.description("Number of items in a written chunk")
+			.baseUnit("items")
+			.tags(tags)
+			.register(meterRegistry);
+		this.commitTimer = Timer.builder(CHUNK_COMMIT_METER)
+			.description("Time taken to commit the transaction of a chunk")
+			.tags(tags)
+			.publishPercentileHistogram(percentileHistogram)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Wraps a reader so that each read is timed. The open, update and close calls are
+	 * passed on when the reader is an {@link ItemStream}.
+	 * @param <T> the type of the items
+	 * @param reader the reader to instrument
+	 * @return the instrumented reader
+	 */
+	public <T> ItemStreamReader<T> instrumentReader(ItemReader<T> reader) {
+		return new TimedItemReader<>(reader, this.readTimer);
+	}
+
+	/**
+	 * Wraps a processor so that each item processed is timed.
+	 * @param <I> the type of the input items
+	 * @param <O> the type of the output items
+	 * @param processor the processor to instrument
+	 * @return the instrumented processor
+	 */
+	public <I, O> ItemProcessor<I, O> instrumentProcessor(ItemProcessor<I, O> processor) {
+		return new TimedItemProcessor<>(processor, this.processTimer);
+	}
+
+	/**
+	 * Wraps a writer so that each chunk written is timed, its size recorded and the
+	 * commit of its transaction timed. The open, update and close calls are passed on
+	 * when the writer is an {@link ItemStream}.
+	 * @param <T> the type of the items
+	 * @param writer the writer to instrument
+	 * @return the instrumented writer
+	 */
+	public <T> ItemStreamWriter<T> instrumentWriter(ItemWriter<T> writer) {
+		return new TimedItemWriter<>(writer, this.writeTimer, this.chunkSize, this.commitTimer);
+	}
+
+	private static void openStream(Object delegate, ExecutionContext executionContext) {
+		if (delegate instanceof ItemStream itemStream) {
+			itemStream.open(executionContext);
+		}
+	}
+
+	private static void updateStream(Object delegate, ExecutionContext executionContext) {
+		if (delegate instanceof ItemStream itemStream) {
+			itemStream.update(executionContext);
+		}
+	}
+
+	private static void closeStream(Object delegate) {
+		if (delegate instanceof ItemStream itemStream) {
+			itemStream.close();
+		}
+	}
+
+	private static final class TimedItemReader<T> implements ItemStreamReader<T> {
+
+		private final ItemReader<T> delegate;
+
+		private final Timer timer;
+
+		TimedItemReader(ItemReader<T> delegate, Timer timer) {
+			this.delegate = delegate;
+			this.timer = timer;
+		}
+
+		@Override
+		public T read() throws Exception {
+			long start = System.nanoTime();
+			try {
+				return this.delegate.read();
+			}
+			finally {
+				this.timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			}
+		}
+
+		@Override
+		public void open(ExecutionContext executionContext) {
+			openStream(this.delegate, executionContext);
+		}
+
+		@Override
+		public void update(ExecutionContext executionContext) {
+			updateStream(this.delegate, executionContext);
+		}
+
+		@Override
+		public void close() {
+			closeStream(this.delegate);
+		}
+
+	}
+
+	private static final class TimedItemProcessor<I, O> implements ItemProcessor<I, O> {
+
+		private final ItemProcessor<I, O> delegate;
+
+		private final Timer timer;
+
+		TimedItemProcessor(ItemProcessor<I, O> delegate, Timer timer) {
+			this.delegate = delegate;
+			this.timer = timer;
+		}
+
+		@Override
+		public O process(I item) throws Exception {
+			long start = System.nanoTime();
+			try {
+				return this.delegate.process(item);
+			}
+			finally {
+				this.timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			}
+		}
+
+	}
+
+	private static final class TimedItemWriter<T> implements ItemStreamWriter<T> {
+
+		private final ItemWriter<T> delegate;
+
+		private final Timer timer;
+
+		private final DistributionSummary chunkSize;
+
+		private final Timer commitTimer;
+
+		TimedItemWriter(ItemWriter<T> delegate, Timer timer, DistributionSummary chunkSize, Timer commitTimer) {
+			this.delegate = delegate;
+			this.timer = timer;
+			this.chunkSize = chunkSize;
+			this.commitTimer = commitTimer;
+		}
+
+		@Override
+		public void write(Chunk<? extends T> chunk) throws Exception {
+			this.chunkSize.record(chunk.size());
+			// The same chunk transaction may be written more than once when items are
+			// retried, its commit is only timed once
+			if (TransactionSynchronizationManager.isSynchronizationActive()
+					&& !TransactionSynchronizationManager.hasResource(this.commitTimer)) {
+				TransactionSynchronizationManager.bindResource(this.commitTimer, Boolean.TRUE);
+				TransactionSynchronizationManager.registerSynchronization(new CommitTiming(this.commitTimer));
+			}
+			long start = System.nanoTime();
+			try {
+				this.delegate.write(chunk);
+			}
+			finally {
+				this.timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			}
+		}
+
+		@Override
+		public void open(ExecutionContext executionContext) {
+			openStream(this.delegate, executionContext);
+		}
+
+		@Override
+		public void update(ExecutionContext executionContext) {
+			updateStream(this.delegate, executionContext);
+		}
+
+		@Override
+		public void close() {
+			closeStream(this.delegate);
+		}
+
+	}
+
+	/**
+	 * Times the commit of the chunk transaction it is registered with.
+	 */
+	private static final class CommitTiming implements TransactionSynchronization {
+
+		private final Timer timer;
+
+		private long start;
+
+		CommitTiming(Timer timer) {
+			this.timer = timer;
+		}
+
+		@Override
+		public void beforeCommit(boolean readOnly) {
+			this.start = System.nanoTime();
+		}
+
+		@Override
+		public void afterCommit() {
+			this.timer.record(System.nanoTime() - this.start, TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(this.timer);
+		}
+
+	}
+
+}
@@ -42,6 +42,16 @@ public class SingleStepJobProperties {
 	 */
 	private String jobName;
 
+	/**
+	 * Micrometer instrumentation of the reader, processor and writer of the step.
+	 */
+	private final Metrics metrics = new Metrics();
+
+	/**
+	 * Multi-threaded execution of the chunks of the step.
+	 */
+	private final Concurrency concurrency = new Concurrency();
+
 	/**
 	 * Name of the step in the single step job.
 	 * @return name
@@ -90,4 +100,189 @@ public class SingleStepJobProperties {
 		this.jobName = jobName;
 	}
 
+	/**
+	 * The Micrometer instrumentation settings of the step.
+	 * @return metrics settings
+	 */
+	public Metrics getMetrics() {
+		return this.metrics;
+	}
+
+	/**
+	 * The multi-threaded execution settings of the step.
+	 * @return concurrency settings
+	 */
+	public Concurrency getConcurrency() {
+		return this.concurrency;
+	}
+
+	/**
+	 * Micrometer instrumentation settings for the single step job.
+	 */
+	public static class Metrics {
+
+		/**
+		 * Whether the reader, processor, writer and chunk commits of the step are timed
+		 * when a MeterRegistry is available.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Whether the timers publish a percentile histogram.
+		 */
+		private boolean percentileHistogram = true;
+
+		/**
+		 * Whether the reader, processor, writer and chunk commits of the step are timed.
+		 * @return true if the step is instrumented
+		 */
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		/**
+		 * Set whether the reader, processor, writer and chunk commits of the step are
+		 * timed.
+		 * @param enabled true to instrument the step
+		 */
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		/**
+		 * Whether the timers publish a percentile histogram.
+		 * @return true if a percentile histogram is published
+		 */
+		public boolean isPercentileHistogram() {
+			return this.percentileHistogram;
+		}
+
+		/**
+		 * Set whether the timers publish a percentile histogram.
+		 * @param percentileHistogram true to publish a percentile histogram
+		 */
+		public void setPercentileHistogram(boolean percentileHistogram) {
+			this.percentileHistogram = percentileHistogram;
+		}
+
+	}
+
+	/**
+	 * Multi-threaded execution settings for the single step job.
+	 */
+	public static class Concurrency {
+
+		/**
+		 * The threads the chunks of the step are executed on: NONE to execute them one
+		 * after the other on the thread that launched the job, PLATFORM for a pool of
+		 * platform threads or VIRTUAL for virtual threads, which requires Java 21 or
+		 * later.
+		 */
+		private Mode mode = Mode.NONE;
+
+		/**
+		 * The maximum number of chunks executed at the same time.
+		 */
+		private int limit = 4;
+
+		/**
+		 * The prefix of the names of the threads the chunks are executed on.
+		 */
+		private String threadNamePrefix = "single-step-";
+
+		/**
+		 * Whether reads from the ItemReader are synchronized. Only disable it for readers
+		 * that are thread-safe.
+		 */
+		private boolean synchronizeReader = true;
+
+		/**
+		 * The threads the chunks of the step are executed on.
+		 * @return the concurrency mode
+		 */
+		public Mode getMode() {
+			return this.mode;
+		}
+
+		/**
+		 * Set the threads the chunks of the step are executed on.
+		 * @param mode the concurrency mode
+		 */
+		public void setMode(Mode mode) {
+			this.mode = mode;
+		}
+
+		/**
+		 * The maximum number of chunks executed at the same time.
+		 * @return the concurrency limit
+		 */
+		public int getLimit() {
+			return this.limit;
+		}
+
+		/**
+		 * Set the maximum number of chunks executed at the same time.
+		 * @param limit the concurrency limit
+		 */
+		public void setLimit(int limit) {
+			this.limit = limit;
+		}
+
+		/**
+		 * The prefix of the names of the threads the chunks are executed on.
+		 * @return the thread name prefix
+		 */
+		public String getThreadNamePrefix() {
+			return this.threadNamePrefix;
+		}
+
+		/**
+		 * Set the prefix of the names of the threads the chunks are executed on.
+		 * @param threadNamePrefix the thread name prefix
+		 */
+		public void setThreadNamePrefix(String threadNamePrefix) {
+			this.threadNamePrefix = threadNamePrefix;
+		}
+
+		/**
+		 * Whether reads from the ItemReader are synchronized.
+		 * @return true if reads are synchronized
+		 */
+		public boolean isSynchronizeReader() {
+			return this.synchronizeReader;
+		}
+
+		/**
+		 * Set whether reads from the ItemReader are synchronized.
+		 * @param synchronizeReader false for thread-safe readers
+		 */
+		public void setSynchronizeReader(boolean synchronizeReader) {
+			this.synchronizeReader = synchronizeReader;
+		}
+
+		/**
+		 * The threads the chunks of the step are executed on.
+		 */
+		public enum Mode {
+
+			/**
+			 * The chunks are executed one after the other on the thread that launched the
+			 * job.
+			 */
+			NONE,
+
+			/**
+			 * The chunks are executed on a pool of platform threads.
+			 */
+			PLATFORM,
+
+			/**
+			 * The chunks are executed on virtual threads. Requires Java 21 or later.
+			 */
+			VIRTUAL
+
+		}
+
+	}
+
 }
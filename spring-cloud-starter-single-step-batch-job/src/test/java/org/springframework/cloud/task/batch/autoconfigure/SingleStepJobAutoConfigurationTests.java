@@ -20,14 +20,21 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 
 import org.springframework.batch.core.job.Job;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.launch.JobOperator;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.infrastructure.item.ItemWriter;
 import org.springframework.batch.infrastructure.item.support.ListItemReader;
 import org.springframework.batch.infrastructure.item.support.ListItemWriter;
 import org.springframework.batch.infrastructure.support.transaction.ResourcelessTransactionManager;
@@ -41,6 +48,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.fail;
 
 /**
@@ -127,6 +135,89 @@ public class SingleStepJobAutoConfigurationTests {
 		validateConfiguration(applicationContextRunner);
 	}
 
+	@Test
+	public void testMetricsConfiguration() {
+		ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
+			.withUserConfiguration(SimpleConfiguration.class, MeterRegistryConfiguration.class)
+			.withConfiguration(
+					AutoConfigurations.of(PropertyPlaceholderAutoConfiguration.class, BatchAutoConfiguration.class,
+							SingleStepJobAutoConfiguration.class, DataSourceAutoConfiguration.class))
+			.withPropertyValues("spring.batch.job.job-name=job", "spring.batch.job.step-name=step1",
+					"spring.batch.job.chunk-size=2", "spring.batch.job.metrics.enabled=true");
+
+		validateConfiguration(applicationContextRunner);
+		applicationContextRunner.run((context) -> {
+			MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+			JobExecution jobExecution = context.getBean(JobOperator.class)
+				.start(context.getBean(Job.class), new JobParameters());
+			JobRepository jobRepository = context.getBean(JobRepository.class);
+			while (jobRepository.getJobExecution(jobExecution.getId()).isRunning()) {
+				Thread.sleep(1000);
+			}
+
+			assertThat(meterRegistry.get(SingleStepJobMetrics.ITEM_READ_METER)
+				.tag("job.name", "job")
+				.tag("step.name", "step1")
+				.timer()
+				.count()).isEqualTo(4);
+			assertThat(meterRegistry.get(SingleStepJobMetrics.CHUNK_WRITE_METER).timer().count()).isEqualTo(2);
+			assertThat(meterRegistry.get(SingleStepJobMetrics.CHUNK_SIZE_METER).summary().totalAmount())
+				.isEqualTo(3);
+			assertThat(meterRegistry.get(SingleStepJobMetrics.CHUNK_COMMIT_METER).timer().count()).isEqualTo(2);
+		});
+	}
+
+	@Test
+	public void testMultiThreadedConfiguration() {
+		ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
+			.withUserConfiguration(ConcurrentConfiguration.class)
+			.withConfiguration(
+					AutoConfigurations.of(PropertyPlaceholderAutoConfiguration.class, BatchAutoConfiguration.class,
+							SingleStepJobAutoConfiguration.class, DataSourceAutoConfiguration.class))
+			.withPropertyValues("spring.batch.job.job-name=job", "spring.batch.job.step-name=step1",
+					"spring.batch.job.chunk-size=1", "spring.batch.job.concurrency.mode=platform",
+					"spring.batch.job.concurrency.limit=2");
+
+		applicationContextRunner.run((context) -> {
+			JobExecution jobExecution = context.getBean(JobOperator.class)
+				.start(context.getBean(Job.class), new JobParameters());
+			JobRepository jobRepository = context.getBean(JobRepository.class);
+			while (jobRepository.getJobExecution(jobExecution.getId()).isRunning()) {
+				Thread.sleep(1000);
+			}
+
+			ConcurrentConfiguration configuration = context.getBean(ConcurrentConfiguration.class);
+			assertThat(configuration.writtenItems).extracting((item) -> item.get("item"))
+				.containsExactlyInAnyOrder("foo", "bar", "baz");
+			assertThat(configuration.writerThreads).allMatch((name) -> name.startsWith("single-step-"));
+		});
+	}
+
+	@Test
+	public void testInvalidConcurrencyLimit() {
+		SingleStepJobProperties properties = new SingleStepJobProperties();
+		properties.setJobName("job");
+		properties.setStepName("step");
+		properties.setChunkSize(5);
+		properties.getConcurrency().setLimit(0);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> new SingleStepJobAutoConfiguration(properties, null))
+			.withMessage("A concurrency limit greater than zero is required");
+	}
+
+	@Test
+	@EnabledForJreRange(max = JRE.JAVA_20)
+	public void testVirtualConcurrencyRequiresJava21() {
+		SingleStepJobProperties properties = new SingleStepJobProperties();
+		properties.setJobName("job");
+		properties.setStepName("step");
+		properties.setChunkSize(5);
+		properties.getConcurrency().setMode(SingleStepJobProperties.Concurrency.Mode.VIRTUAL);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> new SingleStepJobAutoConfiguration(properties, null))
+			.withMessage("The VIRTUAL concurrency mode requires Java 21 or later, use PLATFORM instead");
+	}
+
 	private void validateConfiguration(ApplicationContextRunner applicationContextRunner) {
 		applicationContextRunner.run((context) -> {
 			JobOperator jobOperator = context.getBean(JobOperator.class);
@@ -153,6 +244,44 @@ public class SingleStepJobAutoConfigurationTests {
 		});
 	}
 
+	@Configuration
+	public static class ConcurrentConfiguration {
+
+		private final Queue<Map<String, Object>> writtenItems = new ConcurrentLinkedQueue<>();
+
+		private final Queue<String> writerThreads = new ConcurrentLinkedQueue<>();
+
+		@Bean
+		public PlatformTransactionManager platformTransactionManager() {
+			return new ResourcelessTransactionManager();
+		}
+
+		@Bean
+		public ListItemReader<Map<String, Object>> itemReader() {
+			return new ListItemReader<>(List.of(Collections.singletonMap("item", "foo"),
+					Collections.singletonMap("item", "bar"), Collections.singletonMap("item", "baz")));
+		}
+
+		@Bean
+		public ItemWriter<Map<String, Object>> itemWriter() {
+			return (chunk) -> {
+				this.writerThreads.add(Thread.currentThread().getName());
+				this.writtenItems.addAll(chunk.getItems());
+			};
+		}
+
+	}
+
+	@Configuration
+	public static class MeterRegistryConfiguration {
+
+		@Bean
+		public MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+	}
+
 	@Configuration
 	public static class SimpleConfiguration {
 
@@ -29,6 +29,7 @@ import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.launch.JobOperator;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.infrastructure.item.file.FlatFileItemReader;
 import org.springframework.batch.infrastructure.item.file.LineCallbackHandler;
 import org.springframework.batch.infrastructure.item.file.LineMapper;
 import org.springframework.batch.infrastructure.item.file.mapping.FieldSetMapper;
@@ -130,6 +131,26 @@ public class FlatFileItemReaderAutoConfigurationTests {
 		});
 	}
 
+	@Test
+	public void testSaveStateDisabledForConcurrentChunks() {
+		ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
+			.withUserConfiguration(JobConfiguration.class)
+			.withConfiguration(AutoConfigurations.of(PropertyPlaceholderAutoConfiguration.class,
+					BatchAutoConfiguration.class, SingleStepJobAutoConfiguration.class,
+					FlatFileItemReaderAutoConfiguration.class, DataSourceAutoConfiguration.class))
+			.withPropertyValues("spring.batch.job.jobName=job", "spring.batch.job.stepName=step1",
+					"spring.batch.job.chunkSize=5", "spring.batch.job.concurrency.mode=platform",
+					"spring.batch.job.flatfileitemreader.name=concurrentConfiguration",
+					"spring.batch.job.flatfileitemreader.resource=/test.txt",
+					"spring.batch.job.flatfileitemreader.delimited=true",
+					"spring.batch.job.flatfileitemreader.names=foo,bar,baz");
+
+		applicationContextRunner.run((context) -> {
+			assertThat(context).hasSingleBean(Job.class);
+			assertThat(context.getBean(FlatFileItemReader.class).isSaveState()).isFalse();
+		});
+	}
+
 	@Test
 	public void testFixedWidthConfiguration() {
 		ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
@@ -56,7 +56,7 @@ public class TaskBatchAutoConfiguration {
 	 */
 	@AutoConfiguration
 	@ConditionalOnMissingBean(name = "taskBatchExecutionListener")
-	@EnableConfigurationProperties(TaskProperties.class)
+	@EnableConfigurationProperties({ TaskProperties.class, TaskBatchProperties.class })
 	public static class TaskBatchExecutionListenerAutoconfiguration {
 
 		@Autowired
@@ -65,6 +65,9 @@ public class TaskBatchAutoConfiguration {
 		@Autowired
 		private TaskProperties taskProperties;
 
+		@Autowired
+		private TaskBatchProperties taskBatchProperties;
+
 		@Bean
 		public TaskBatchExecutionListenerFactoryBean taskBatchExecutionListener(TaskExplorer taskExplorer) {
 			TaskConfigurer taskConfigurer = null;
@@ -72,8 +75,11 @@ public class TaskBatchAutoConfiguration {
 				taskConfigurer = this.context.getBean(TaskConfigurer.class);
 			}
 			if (taskConfigurer != null && taskConfigurer.getTaskDataSource() != null) {
-				return new TaskBatchExecutionListenerFactoryBean(taskConfigurer.getTaskDataSource(), taskExplorer,
-						this.taskProperties.getTablePrefix());
+				TaskBatchExecutionListenerFactoryBean factoryBean = new TaskBatchExecutionListenerFactoryBean(
+						taskConfigurer.getTaskDataSource(), taskExplorer, this.taskProperties.getTablePrefix());
+				factoryBean.setRelationshipBufferEnabled(this.taskBatchProperties.isRelationshipBufferEnabled());
+				factoryBean.setRelationshipFlushInterval(this.taskBatchProperties.getRelationshipFlushInterval());
+				return factoryBean;
 			}
 			else {
 				return new TaskBatchExecutionListenerFactoryBean(null, taskExplorer,
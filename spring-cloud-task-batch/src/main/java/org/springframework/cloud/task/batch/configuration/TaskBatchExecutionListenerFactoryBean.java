@@ -17,13 +17,16 @@
 package org.springframework.cloud.task.batch.configuration;
 
 import java.lang.reflect.Field;
+import java.time.Duration;
 
 import javax.sql.DataSource;
 
 import org.springframework.aop.framework.Advised;
 import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.cloud.task.batch.listener.TaskBatchExecutionListener;
+import org.springframework.cloud.task.batch.listener.support.BufferingTaskBatchDao;
 import org.springframework.cloud.task.batch.listener.support.JdbcTaskBatchDao;
 import org.springframework.cloud.task.batch.listener.support.MapTaskBatchDao;
 import org.springframework.cloud.task.configuration.TaskProperties;
@@ -36,11 +39,13 @@ import org.springframework.util.ReflectionUtils;
 /**
  * {@link FactoryBean} for a {@link TaskBatchExecutionListener}. Provides a jdbc based
  * listener if there is a {@link DataSource} available. Otherwise, builds a listener that
- * uses the map based implementation.
+ * uses the map based implementation. The jdbc based listener can buffer the relationships
+ * and write them in batches.
  *
  * @author Michael Minella
  */
-public class TaskBatchExecutionListenerFactoryBean implements FactoryBean<TaskBatchExecutionListener> {
+public class TaskBatchExecutionListenerFactoryBean
+		implements FactoryBean<TaskBatchExecutionListener>, DisposableBean {
 
 	private TaskBatchExecutionListener listener;
 
@@ -50,6 +55,12 @@ public class TaskBatchExecutionListenerFactoryBean implements FactoryBean<TaskBa
 
 	private String tablePrefix = TaskProperties.DEFAULT_TABLE_PREFIX;
 
+	private boolean relationshipBufferEnabled;
+
+	private long relationshipFlushInterval;
+
+	private BufferingTaskBatchDao bufferingTaskBatchDao;
+
 	/**
 	 * Initializes the TaskBatchExecutionListenerFactoryBean and defaults the tablePrefix
 	 * to {@link TaskProperties#DEFAULT_TABLE_PREFIX}.
@@ -82,6 +93,12 @@ public class TaskBatchExecutionListenerFactoryBean implements FactoryBean<TaskBa
 		if (this.dataSource == null) {
 			this.listener = new TaskBatchExecutionListener(getMapTaskBatchDao());
 		}
+		else if (this.relationshipBufferEnabled) {
+			this.bufferingTaskBatchDao = new BufferingTaskBatchDao(
+					new JdbcTaskBatchDao(this.dataSource, this.tablePrefix),
+					Duration.ofMillis(this.relationshipFlushInterval));
+			this.listener = new TaskBatchExecutionListener(this.bufferingTaskBatchDao);
+		}
 		else {
 			this.listener = new TaskBatchExecutionListener(new JdbcTaskBatchDao(this.dataSource, this.tablePrefix));
 		}
@@ -89,6 +106,31 @@ public class TaskBatchExecutionListenerFactoryBean implements FactoryBean<TaskBa
 		return this.listener;
 	}
 
+	/**
+	 * When set to true, the jdbc based listener buffers the relationships and writes them
+	 * in one batch at the end of the task.
+	 * @param relationshipBufferEnabled whether the relationships are buffered
+	 */
+	public void setRelationshipBufferEnabled(boolean relationshipBufferEnabled) {
+		this.relationshipBufferEnabled = relationshipBufferEnabled;
+	}
+
+	/**
+	 * The interval in millis at which buffered relationships are also written, 0 to only
+	 * write them at the end of the task.
+	 * @param relationshipFlushInterval the flush interval in millis
+	 */
+	public void setRelationshipFlushInterval(long relationshipFlushInterval) {
+		this.relationshipFlushInterval = relationshipFlushInterval;
+	}
+
+	@Override
+	public void destroy() {
+		if (this.bufferingTaskBatchDao != null) {
+			this.bufferingTaskBatchDao.destroy();
+		}
+	}
+
 	@Override
 	public Class<?> getObjectType() {
 		return TaskBatchExecutionListener.class;
@@ -30,6 +30,8 @@ public class TaskBatchProperties {
 
 	private static final long DEFAULT_POLL_INTERVAL = 5000L;
 
+	private static final int DEFAULT_MAX_PARALLEL_JOBS = 4;
+
 	/**
 	 * Comma-separated list of job names to execute on startup (for instance,
 	 * `job1,job2`). By default, all Jobs found in the context are executed.
@@ -46,12 +48,47 @@ public class TaskBatchProperties {
 	private int applicationRunnerOrder = 0;
 
 	/**
-	 * Fixed delay in milliseconds that Spring Cloud Task will wait when checking if
-	 * {@link org.springframework.batch.core.JobExecution}s have completed, when
-	 * spring.cloud.task.batch.failOnJobFailure is set to true. Defaults to 5000.
+	 * Maximum delay in milliseconds that Spring Cloud Task will wait between checks of the
+	 * job repository for {@link org.springframework.batch.core.JobExecution}s that have
+	 * not signalled their completion, when spring.cloud.task.batch.failOnJobFailure is
+	 * set to true. Defaults to 5000.
 	 */
 	private long failOnJobFailurePollInterval = DEFAULT_POLL_INTERVAL;
 
+	/**
+	 * When set to true, the jobs selected to run on startup are launched concurrently
+	 * instead of one after the other, when spring.cloud.task.batch.failOnJobFailure is set
+	 * to true. Defaults to false.
+	 */
+	private boolean parallelLaunchEnabled = false;
+
+	/**
+	 * The maximum number of jobs launched concurrently when parallel-launch-enabled is set
+	 * to true. Defaults to 4.
+	 */
+	private int maxParallelJobs = DEFAULT_MAX_PARALLEL_JOBS;
+
+	/**
+	 * When set to true, jobs launched concurrently run on virtual threads. Requires Java
+	 * 21 or later. Defaults to false.
+	 */
+	private boolean parallelLaunchVirtualThreadsEnabled = false;
+
+	/**
+	 * When set to true, the relationships between the task execution and its job
+	 * executions are buffered and written in one batch when the task ends, before the task
+	 * execution is completed, instead of one insert at the start of each job. Defaults to
+	 * false.
+	 */
+	private boolean relationshipBufferEnabled = false;
+
+	/**
+	 * Interval in milliseconds at which buffered relationships are also written while the
+	 * task runs, when relationship-buffer-enabled is set to true. Defaults to 0, only
+	 * write them when the task ends.
+	 */
+	private long relationshipFlushInterval = 0;
+
 	public String getJobNames() {
 		return this.jobNames;
 	}
@@ -86,4 +123,44 @@ public class TaskBatchProperties {
 		this.failOnJobFailurePollInterval = failOnJobFailurePollInterval;
 	}
 
+	public boolean isParallelLaunchEnabled() {
+		return this.parallelLaunchEnabled;
+	}
+
+	public void setParallelLaunchEnabled(boolean parallelLaunchEnabled) {
+		this.parallelLaunchEnabled = parallelLaunchEnabled;
+	}
+
+	public int getMaxParallelJobs() {
+		return this.maxParallelJobs;
+	}
+
+	public void setMaxParallelJobs(int maxParallelJobs) {
+		this.maxParallelJobs = maxParallelJobs;
+	}
+
+	public boolean isParallelLaunchVirtualThreadsEnabled() {
+		return this.parallelLaunchVirtualThreadsEnabled;
+	}
+
+	public void setParallelLaunchVirtualThreadsEnabled(boolean parallelLaunchVirtualThreadsEnabled) {
+		this.parallelLaunchVirtualThreadsEnabled = parallelLaunchVirtualThreadsEnabled;
+	}
+
+	public boolean isRelationshipBufferEnabled() {
+		return this.relationshipBufferEnabled;
+	}
+
+	public void setRelationshipBufferEnabled(boolean relationshipBufferEnabled) {
+		this.relationshipBufferEnabled = relationshipBufferEnabled;
+	}
+
+	public long getRelationshipFlushInterval() {
+		return this.relationshipFlushInterval;
+	}
+
+	public void setRelationshipFlushInterval(long relationshipFlushInterval) {
+		this.relationshipFlushInterval = relationshipFlushInterval;
+	}
+
 }
@@ -25,11 +25,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.AbstractJob;
 import org.springframework.batch.core.job.Job;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.JobExecutionException;
@@ -42,15 +50,15 @@ import org.springframework.batch.core.launch.JobExecutionAlreadyRunningException
 import org.springframework.batch.core.launch.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.launch.JobOperator;
 import org.springframework.batch.core.launch.JobRestartException;
+import org.springframework.batch.core.listener.JobExecutionListener;
 import org.springframework.batch.core.repository.JobRepository;
-import org.springframework.batch.infrastructure.repeat.RepeatStatus;
-import org.springframework.batch.infrastructure.repeat.support.RepeatTemplate;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.batch.autoconfigure.JobExecutionEvent;
 import org.springframework.boot.batch.autoconfigure.JobLauncherApplicationRunner;
 import org.springframework.cloud.task.batch.configuration.TaskBatchProperties;
 import org.springframework.cloud.task.listener.TaskException;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
@@ -64,7 +72,16 @@ import org.springframework.util.StringUtils;
  * more of the jobs has an {@link BatchStatus} of FAILED. TaskJobLauncherApplicationRunner
  * can also be used to launch a specific job by providing a jobName. The
  * TaskJobLauncherApplicationRunner takes the place of the
- * {@link JobLauncherApplicationRunner} when it is in use.
+ * {@link JobLauncherApplicationRunner} when it is in use. The completion of jobs that
+ * extend {@link AbstractJob} is signalled by a {@link JobExecutionListener}; the
+ * {@link JobRepository} is only polled, with a growing delay, as a fallback. As an
+ * {@link AbstractJob} offers no way to remove a listener, that listener stays registered
+ * with the job bean after it has been launched. It is shared by all runners, so it is
+ * registered at most once with each job, and it only signals the executions a runner is
+ * currently waiting for. When
+ * {@code spring.cloud.task.batch.parallel-launch-enabled} is set to true, the jobs are
+ * launched concurrently, up to {@code spring.cloud.task.batch.max-parallel-jobs} at a
+ * time, and the failed jobs are reported together once all jobs have completed.
  *
  * @author Glenn Renfro
  * @since 2.3.0
@@ -73,12 +90,45 @@ public class TaskJobLauncherApplicationRunner extends JobLauncherApplicationRunn
 
 	private static final Log logger = LogFactory.getLog(TaskJobLauncherApplicationRunner.class);
 
+	private static final long INITIAL_POLL_INTERVAL = 50;
+
 	private final JobOperator taskJobOperator;
 
 	private final JobRepository taskJobRepository;
 
 	private final List<JobExecution> jobExecutionList = new ArrayList<>();
 
+	/**
+	 * The completions of the job executions the runners are waiting for, by job execution
+	 * id.
+	 */
+	private static final Map<Long, CompletableFuture<JobExecution>> JOB_COMPLETIONS = new ConcurrentHashMap<>();
+
+	/**
+	 * The jobs the completion listener has been registered with. Held weakly so that the
+	 * jobs of a closed context can be collected.
+	 */
+	private static final Set<Job> MONITORED_JOBS = Collections
+		.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+	private static final JobExecutionListener JOB_COMPLETION_LISTENER = new JobExecutionListener() {
+
+		@Override
+		public void afterJob(JobExecution jobExecution) {
+			// Only the executions a runner is waiting for have a completion, the listener
+			// stays registered with the job for the executions launched by others
+			CompletableFuture<JobExecution> completion = JOB_COMPLETIONS.get(jobExecution.getId());
+			if (completion != null) {
+				completion.complete(jobExecution);
+			}
+		}
+
+	};
+
+	private final List<Future<JobExecution>> jobLaunches = new ArrayList<>();
+
+	private SimpleAsyncTaskExecutor jobLaunchExecutor;
+
 	private ApplicationEventPublisher taskApplicationEventPublisher;
 
 	private final TaskBatchProperties taskBatchProperties;
@@ -113,12 +163,26 @@ public class TaskJobLauncherApplicationRunner extends JobLauncherApplicationRunn
 			properties = new Properties();
 		}
 		launchJobFromProperties(properties);
+		awaitJobLaunches();
 		monitorJobExecutions();
 	}
 
 	@Override
 	protected void execute(Job job, JobParameters jobParameters) throws JobExecutionAlreadyRunningException,
 			JobRestartException, JobInstanceAlreadyCompleteException, InvalidJobParametersException {
+		if (this.taskBatchProperties.isParallelLaunchEnabled()) {
+			this.jobLaunches.add(getJobLaunchExecutor().submit(() -> launch(job, jobParameters)));
+			return;
+		}
+		JobExecution execution = launch(job, jobParameters);
+		this.jobExecutionList.add(execution);
+		if (execution.getStatus().equals(BatchStatus.FAILED)) {
+			throwJobFailedException(Collections.singletonList(execution));
+		}
+	}
+
+	private JobExecution launch(Job job, JobParameters jobParameters) throws JobExecutionAlreadyRunningException,
+			JobRestartException, JobInstanceAlreadyCompleteException, InvalidJobParametersException {
 		String jobName = job.getName();
 		JobParameters parameters = jobParameters;
 		boolean jobInstanceExists = this.taskJobRepository.getJobInstance(job.getName(), jobParameters) != null;
@@ -147,38 +211,119 @@ public class TaskJobLauncherApplicationRunner extends JobLauncherApplicationRunn
 				parameters = merge(nextParameters, jobParameters);
 			}
 		}
+		if (job instanceof AbstractJob abstractJob && MONITORED_JOBS.add(job)) {
+			abstractJob.registerJobExecutionListener(JOB_COMPLETION_LISTENER);
+		}
 		JobExecution execution = this.taskJobOperator.start(job, parameters);
 		if (this.taskApplicationEventPublisher != null) {
 			this.taskApplicationEventPublisher.publishEvent(new JobExecutionEvent(execution));
 		}
-		this.jobExecutionList.add(execution);
-		if (execution.getStatus().equals(BatchStatus.FAILED)) {
-			throwJobFailedException(Collections.singletonList(execution));
+		return execution;
+	}
+
+	/**
+	 * Waits for the jobs launched concurrently and adds their executions to the monitored
+	 * executions, in the order the jobs were launched. The first exception thrown while
+	 * launching a job is rethrown once all launches have ended.
+	 * @throws JobExecutionException if a job could not be launched
+	 */
+	private void awaitJobLaunches() throws JobExecutionException {
+		Throwable launchFailure = null;
+		for (Future<JobExecution> jobLaunch : this.jobLaunches) {
+			try {
+				this.jobExecutionList.add(jobLaunch.get());
+			}
+			catch (ExecutionException ex) {
+				if (launchFailure == null) {
+					launchFailure = ex.getCause();
+				}
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new TaskException("Interrupted while waiting for the jobs to be launched", ex);
+			}
+		}
+		this.jobLaunches.clear();
+		if (launchFailure instanceof JobExecutionException jobExecutionException) {
+			throw jobExecutionException;
 		}
+		if (launchFailure instanceof RuntimeException runtimeException) {
+			throw runtimeException;
+		}
+		if (launchFailure != null) {
+			throw new TaskException("Failed to launch job", launchFailure);
+		}
+	}
+
+	private synchronized SimpleAsyncTaskExecutor getJobLaunchExecutor() {
+		if (this.jobLaunchExecutor == null) {
+			SimpleAsyncTaskExecutor jobLaunchExecutor = new SimpleAsyncTaskExecutor("task-job-launcher-");
+			jobLaunchExecutor.setConcurrencyLimit(this.taskBatchProperties.getMaxParallelJobs());
+			jobLaunchExecutor.setVirtualThreads(this.taskBatchProperties.isParallelLaunchVirtualThreadsEnabled());
+			this.jobLaunchExecutor = jobLaunchExecutor;
+		}
+		return this.jobLaunchExecutor;
 	}
 
 	private void monitorJobExecutions() {
-		RepeatTemplate template = new RepeatTemplate();
+		List<JobExecution> failedJobExecutions = new ArrayList<>();
+		for (JobExecution jobExecution : this.jobExecutionList) {
+			if (awaitCompletion(jobExecution).equals(BatchStatus.FAILED)) {
+				failedJobExecutions.add(jobExecution);
+			}
+		}
 
-		template.iterate(context -> {
+		if (failedJobExecutions.size() > 0) {
+			throwJobFailedException(failedJobExecutions);
+		}
+	}
 
-			List<JobExecution> failedJobExecutions = new ArrayList<>();
-			for (JobExecution jobExecution : this.jobExecutionList) {
-				BatchStatus batchStatus = getCurrentBatchStatus(jobExecution);
-				if (batchStatus.isRunning()) {
-					Thread.sleep(this.taskBatchProperties.getFailOnJobFailurePollInterval());
-					return RepeatStatus.CONTINUABLE;
-				}
-				if (batchStatus.equals(BatchStatus.FAILED)) {
-					failedJobExecutions.add(jobExecution);
+	/**
+	 * Waits until the job execution is no longer running. The wait ends as soon as the
+	 * job completion listener is called, with the status of the execution it was given,
+	 * since the listener is called before the final status is stored in the repository.
+	 * The repository is checked each time the wait times out, with the timeout doubling up
+	 * to the failOnJobFailurePollInterval, in case the listener was not registered or was
+	 * called before the wait started. The completion is only kept while waiting.
+	 * @param jobExecution the job execution to wait for
+	 * @return the status of the completed job execution
+	 */
+	private BatchStatus awaitCompletion(JobExecution jobExecution) {
+		CompletableFuture<JobExecution> completion = new CompletableFuture<>();
+		JOB_COMPLETIONS.put(jobExecution.getId(), completion);
+		long maxPollInterval = this.taskBatchProperties.getFailOnJobFailurePollInterval();
+		long pollInterval = Math.min(INITIAL_POLL_INTERVAL, maxPollInterval);
+		BatchStatus batchStatus = getCurrentBatchStatus(jobExecution);
+		try {
+			while (batchStatus.isRunning()) {
+				waitForCompletion(completion, pollInterval);
+				if (completion.isDone()) {
+					return completion.getNow(null).getStatus();
 				}
+				pollInterval = Math.min(pollInterval * 2, maxPollInterval);
+				batchStatus = getCurrentBatchStatus(jobExecution);
 			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new TaskException(
+					String.format("Interrupted while waiting for job execution %s to complete", jobExecution.getId()),
+					ex);
+		}
+		finally {
+			JOB_COMPLETIONS.remove(jobExecution.getId());
+		}
+		return batchStatus;
+	}
 
-			if (failedJobExecutions.size() > 0) {
-				throwJobFailedException(failedJobExecutions);
-			}
-			return RepeatStatus.FINISHED;
-		});
+	private void waitForCompletion(CompletableFuture<JobExecution> completion, long timeout)
+			throws InterruptedException {
+		try {
+			completion.get(timeout, TimeUnit.MILLISECONDS);
+		}
+		catch (TimeoutException | ExecutionException ex) {
+			// fall back to checking the repository
+		}
 	}
 
 	private BatchStatus getCurrentBatchStatus(JobExecution jobExecution) {
@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.task.batch.listener;
 
+import java.util.List;
+
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.cloud.task.repository.TaskExecution;
 
@@ -34,4 +36,23 @@ public interface TaskBatchDao {
 	 */
 	void saveRelationship(TaskExecution taskExecution, JobExecution jobExecution);
 
+	/**
+	 * Saves the relationships between a task execution and several job executions.
+	 * Implementations may write them in one batch.
+	 * @param taskExecution task execution
+	 * @param jobExecutions job executions
+	 */
+	default void saveRelationships(TaskExecution taskExecution, List<JobExecution> jobExecutions) {
+		for (JobExecution jobExecution : jobExecutions) {
+			saveRelationship(taskExecution, jobExecution);
+		}
+	}
+
+	/**
+	 * Writes the relationships that have been saved but not written yet. Does nothing
+	 * unless the implementation buffers relationships.
+	 */
+	default void flush() {
+	}
+
 }
@@ -28,7 +28,8 @@ import org.springframework.util.Assert;
 
 /**
  * Responsible for storing the relationship between a Spring Batch job and the Spring
- * Cloud task it was executed within.
+ * Cloud task it was executed within. Relationships buffered by the {@link TaskBatchDao}
+ * are flushed when the task ends, before the task execution is completed.
  *
  * @author Michael Minella
  */
@@ -36,7 +37,7 @@ public class TaskBatchExecutionListener implements JobExecutionListener, Ordered
 
 	private static final Log logger = LogFactory.getLog(TaskBatchExecutionListener.class);
 
-	private TaskExecution taskExecution;
+	private volatile TaskExecution taskExecution;
 
 	private final TaskBatchDao taskBatchDao;
 
@@ -54,6 +55,11 @@ public class TaskBatchExecutionListener implements JobExecutionListener, Ordered
 		this.taskExecution = taskExecution;
 	}
 
+	@Override
+	public void onTaskEnd(TaskExecution taskExecution) {
+		this.taskBatchDao.flush();
+	}
+
 	@Override
 	public void beforeJob(JobExecution jobExecution) {
 		if (this.taskExecution == null) {
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.task.batch.listener.TaskBatchDao;
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * {@link TaskBatchDao} that buffers the relationships and writes them to a delegate in
+ * one batch when {@link #flush()} is called, and optionally at a fixed interval. This
+ * keeps the write off the start path of each job.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+public class BufferingTaskBatchDao implements TaskBatchDao, DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(BufferingTaskBatchDao.class);
+
+	private final TaskBatchDao delegate;
+
+	private final Object monitor = new Object();
+
+	private final Object flushMonitor = new Object();
+
+	private Map<TaskExecution, List<JobExecution>> buffer = new LinkedHashMap<>();
+
+	private ScheduledExecutorService flushExecutor;
+
+	/**
+	 * Initializes the BufferingTaskBatchDao.
+	 * @param delegate the dao that writes the relationships
+	 * @param flushInterval the interval at which the buffered relationships are written,
+	 * or {@link Duration#ZERO} to write them only when {@link #flush()} is called
+	 */
+	public BufferingTaskBatchDao(TaskBatchDao delegate, Duration flushInterval) {
+		Assert.notNull(delegate, "A delegate is required");
+		Assert.notNull(flushInterval, "A flushInterval is required");
+		Assert.isTrue(!flushInterval.isNegative(), "flushInterval must not be negative");
+		this.delegate = delegate;
+		if (!flushInterval.isZero()) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("task-batch-relationship-flush-");
+			threadFactory.setDaemon(true);
+			this.flushExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+			this.flushExecutor.scheduleWithFixedDelay(this::scheduledFlush, flushInterval.toMillis(),
+					flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	public void saveRelationship(TaskExecution taskExecution, JobExecution jobExecution) {
+		Assert.notNull(taskExecution, "A taskExecution is required");
+		Assert.notNull(jobExecution, "A jobExecution is required");
+		synchronized (this.monitor) {
+			this.buffer.computeIfAbsent(taskExecution, (key) -> new ArrayList<>()).add(jobExecution);
+		}
+	}
+
+	/**
+	 * Writes the buffered relationships. When this method returns, every relationship
+	 * saved before it was called has been written, including those of a concurrent
+	 * scheduled flush. Relationships that could not be written are kept for the next
+	 * flush.
+	 */
+	@Override
+	public void flush() {
+		synchronized (this.flushMonitor) {
+			Map<TaskExecution, List<JobExecution>> relationships;
+			synchronized (this.monitor) {
+				if (this.buffer.isEmpty()) {
+					return;
+				}
+				relationships = this.buffer;
+				this.buffer = new LinkedHashMap<>();
+			}
+			try {
+				Iterator<Map.Entry<TaskExecution, List<JobExecution>>> iterator = relationships.entrySet()
+					.iterator();
+				while (iterator.hasNext()) {
+					Map.Entry<TaskExecution, List<JobExecution>> entry = iterator.next();
+					this.delegate.saveRelationships(entry.getKey(), entry.getValue());
+					iterator.remove();
+				}
+			}
+			finally {
+				if (!relationships.isEmpty()) {
+					synchronized (this.monitor) {
+						relationships.forEach((taskExecution, jobExecutions) -> this.buffer
+							.computeIfAbsent(taskExecution, (key) -> new ArrayList<>())
+							.addAll(0, jobExecutions));
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	public void destroy() {
+		if (this.flushExecutor != null) {
+			this.flushExecutor.shutdown();
+		}
+		flush();
+	}
+
+	private void scheduledFlush() {
+		try {
+			flush();
+		}
+		catch (RuntimeException ex) {
+			logger.warn("Failed to write the buffered task batch relationships, retrying at the next flush", ex);
+		}
+	}
+
+}
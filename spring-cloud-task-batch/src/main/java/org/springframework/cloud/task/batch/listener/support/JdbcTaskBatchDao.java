@@ -16,6 +16,9 @@
 
 package org.springframework.cloud.task.batch.listener.support;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.sql.DataSource;
 
 import org.springframework.batch.core.job.JobExecution;
@@ -72,6 +75,17 @@ public class JdbcTaskBatchDao implements TaskBatchDao {
 		this.jdbcTemplate.update(getQuery(INSERT_STATEMENT), taskExecution.getExecutionId(), jobExecution.getId());
 	}
 
+	@Override
+	public void saveRelationships(TaskExecution taskExecution, List<JobExecution> jobExecutions) {
+		Assert.notNull(taskExecution, "A taskExecution is required");
+		Assert.notNull(jobExecutions, "jobExecutions are required");
+		List<Object[]> batchArgs = new ArrayList<>(jobExecutions.size());
+		for (JobExecution jobExecution : jobExecutions) {
+			batchArgs.add(new Object[] { taskExecution.getExecutionId(), jobExecution.getId() });
+		}
+		this.jdbcTemplate.batchUpdate(getQuery(INSERT_STATEMENT), batchArgs);
+	}
+
 	private String getQuery(String base) {
 		return StringUtils.replace(base, "%PREFIX%", this.tablePrefix);
 	}
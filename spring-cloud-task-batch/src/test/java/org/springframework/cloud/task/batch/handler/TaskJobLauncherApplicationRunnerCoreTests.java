@@ -16,14 +16,17 @@
 
 package org.springframework.cloud.task.batch.handler;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import javax.sql.DataSource;
 
 import org.junit.jupiter.api.Test;
 
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.support.MapJobRegistry;
 import org.springframework.batch.core.configuration.annotation.EnableJdbcJobRepository;
 import org.springframework.batch.core.job.Job;
 import org.springframework.batch.core.job.JobExecutionException;
@@ -34,6 +37,7 @@ import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.job.parameters.JobParametersBuilder;
 import org.springframework.batch.core.job.parameters.RunIdIncrementer;
 import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.launch.support.TaskExecutorJobOperator;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.Step;
 import org.springframework.batch.core.step.builder.StepBuilder;
@@ -50,9 +54,12 @@ import org.springframework.cloud.task.listener.TaskException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 
 /**
@@ -157,6 +164,84 @@ public class TaskJobLauncherApplicationRunnerCoreTests {
 		});
 	}
 
+	@Test
+	void asyncJobCompletionDoesNotWaitForPollInterval() {
+		this.contextRunner.run((context) -> {
+			JobRepository jobRepository = context.getBean(JobRepository.class);
+			PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+			TaskExecutorJobOperator jobOperator = new TaskExecutorJobOperator();
+			jobOperator.setJobRepository(jobRepository);
+			jobOperator.setJobRegistry(new MapJobRegistry());
+			jobOperator.setTaskExecutor(new SimpleAsyncTaskExecutor());
+			jobOperator.afterPropertiesSet();
+			TaskBatchProperties taskBatchProperties = new TaskBatchProperties();
+			taskBatchProperties.setFailOnJobFailurePollInterval(60000);
+			TaskJobLauncherApplicationRunner runner = new TaskJobLauncherApplicationRunner(jobOperator,
+					jobRepository, taskBatchProperties);
+			Job job = new JobBuilder("asyncJob", jobRepository)
+				.start(new StepBuilder("asyncStep", jobRepository).tasklet((contribution, chunkContext) -> {
+					Thread.sleep(200);
+					return null;
+				}, transactionManager).build())
+				.build();
+			runner.setJobs(List.of(job));
+
+			assertTimeoutPreemptively(Duration.ofSeconds(30), () -> runner.run());
+			assertThat(jobRepository.getJobInstances("asyncJob", 0, 1)).hasSize(1);
+		});
+	}
+
+	@Test
+	void completionsNotKeptForExecutionsLaunchedElsewhere() {
+		this.contextRunner.run((context) -> {
+			JobRepository jobRepository = context.getBean(JobRepository.class);
+			JobOperator jobOperator = context.getBean(JobOperator.class);
+			PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+			TaskJobLauncherApplicationRunner runner = new TaskJobLauncherApplicationRunner(jobOperator,
+					jobRepository, new TaskBatchProperties());
+			Job job = new JobBuilder("monitoredJob", jobRepository)
+				.start(new StepBuilder("monitoredStep", jobRepository)
+					.tasklet((contribution, chunkContext) -> null, transactionManager)
+					.build())
+				.build();
+			runner.setJobs(List.of(job));
+			runner.run();
+
+			jobOperator.start(job, new JobParametersBuilder().addLong("id", 1L).toJobParameters());
+			jobOperator.start(job, new JobParametersBuilder().addLong("id", 2L).toJobParameters());
+
+			assertThat(jobRepository.getJobInstances("monitoredJob", 0, 5)).hasSize(3);
+			assertThat((Map<?, ?>) ReflectionTestUtils.getField(TaskJobLauncherApplicationRunner.class,
+					"JOB_COMPLETIONS")).isEmpty();
+		});
+	}
+
+	@Test
+	void parallelLaunchReportsAllFailedJobs() {
+		this.contextRunner.run((context) -> {
+			JobRepository jobRepository = context.getBean(JobRepository.class);
+			PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+			TaskBatchProperties taskBatchProperties = new TaskBatchProperties();
+			taskBatchProperties.setParallelLaunchEnabled(true);
+			taskBatchProperties.setMaxParallelJobs(2);
+			TaskJobLauncherApplicationRunner runner = new TaskJobLauncherApplicationRunner(
+					context.getBean(JobOperator.class), jobRepository, taskBatchProperties);
+			Job jobA = new JobBuilder("jobA", jobRepository)
+				.start(new StepBuilder("stepA", jobRepository).tasklet(throwingTasklet(), transactionManager).build())
+				.build();
+			Job jobB = new JobBuilder("jobB", jobRepository)
+				.start(new StepBuilder("stepB", jobRepository).tasklet(throwingTasklet(), transactionManager).build())
+				.build();
+			runner.setJobs(List.of(jobA, jobB));
+
+			assertThatExceptionOfType(TaskException.class).isThrownBy(() -> runner.run())
+				.withMessageContaining("Job jobA failed")
+				.withMessageContaining("Job jobB failed");
+			assertThat(jobRepository.getJobInstances("jobA", 0, 1)).hasSize(1);
+			assertThat(jobRepository.getJobInstances("jobB", 0, 1)).hasSize(1);
+		});
+	}
+
 	private Tasklet throwingTasklet() {
 		return (contribution, chunkContext) -> {
 			throw new RuntimeException("Planned");
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.cloud.task.batch.listener.TaskBatchDao;
+import org.springframework.cloud.task.batch.listener.TaskBatchExecutionListener;
+import org.springframework.cloud.task.repository.TaskExecution;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author agent
+ */
+public class BufferingTaskBatchDaoTests {
+
+	private final TaskBatchDao delegate = mock(TaskBatchDao.class);
+
+	private final TaskExecution taskExecution = new TaskExecution();
+
+	@Test
+	public void testRelationshipsWrittenInOneBatchOnFlush() {
+		BufferingTaskBatchDao dao = new BufferingTaskBatchDao(this.delegate, Duration.ZERO);
+		JobExecution first = mock(JobExecution.class);
+		JobExecution second = mock(JobExecution.class);
+
+		dao.saveRelationship(this.taskExecution, first);
+		dao.saveRelationship(this.taskExecution, second);
+		verify(this.delegate, never()).saveRelationships(any(), anyList());
+
+		dao.flush();
+		verify(this.delegate).saveRelationships(this.taskExecution, List.of(first, second));
+		dao.flush();
+		verify(this.delegate, times(1)).saveRelationships(any(), anyList());
+	}
+
+	@Test
+	public void testRelationshipsKeptWhenWriteFails() {
+		BufferingTaskBatchDao dao = new BufferingTaskBatchDao(this.delegate, Duration.ZERO);
+		JobExecution jobExecution = mock(JobExecution.class);
+		willThrow(new IllegalStateException("down")).given(this.delegate)
+			.saveRelationships(this.taskExecution, List.of(jobExecution));
+
+		dao.saveRelationship(this.taskExecution, jobExecution);
+		assertThatIllegalStateException().isThrownBy(dao::flush);
+		assertThatIllegalStateException().isThrownBy(dao::flush);
+		verify(this.delegate, times(2)).saveRelationships(this.taskExecution, List.of(jobExecution));
+	}
+
+	@Test
+	public void testTaskEndFlushesRelationships() {
+		BufferingTaskBatchDao dao = new BufferingTaskBatchDao(this.delegate, Duration.ZERO);
+		TaskBatchExecutionListener listener = new TaskBatchExecutionListener(dao);
+		JobExecution jobExecution = mock(JobExecution.class);
+
+		listener.onTaskStartup(this.taskExecution);
+		listener.beforeJob(jobExecution);
+		verify(this.delegate, never()).saveRelationships(any(), anyList());
+
+		listener.onTaskEnd(this.taskExecution);
+		verify(this.delegate).saveRelationships(this.taskExecution, List.of(jobExecution));
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.benchmarks;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.sql.DataSource;
+
+import org.springframework.cloud.task.repository.dao.JdbcTaskExecutionDao;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.util.Assert;
+
+/**
+ * Creates embedded H2 or HSQLDB databases initialized with the task schema and seeds
+ * the {@code TASK_EXECUTION} table with a configurable number of rows.
+ *
+ * @author agent
+ */
+public final class EmbeddedTaskDatabase {
+
+	/**
+	 * Prefix used for the seeded task names. Names are suffixed with their index.
+	 */
+	public static final String TASK_NAME_PREFIX = "benchmarkTask";
+
+	private static final String INSERT_TASK_EXECUTION = "INSERT into TASK_EXECUTION"
+			+ "(TASK_EXECUTION_ID, START_TIME, END_TIME, TASK_NAME, EXIT_CODE, EXIT_MESSAGE, LAST_UPDATED, "
+			+ "EXTERNAL_EXECUTION_ID) values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final int SEED_BATCH_SIZE = 1000;
+
+	private EmbeddedTaskDatabase() {
+	}
+
+	/**
+	 * Create a new, uniquely named, embedded database with the task schema applied.
+	 * @param database either {@code h2} or {@code hsqldb}.
+	 * @return the embedded database.
+	 */
+	public static EmbeddedDatabase create(String database) {
+		EmbeddedDatabaseType type = switch (database.toLowerCase(Locale.ROOT)) {
+			case "h2" -> EmbeddedDatabaseType.H2;
+			case "hsqldb" -> EmbeddedDatabaseType.HSQL;
+			default -> throw new IllegalArgumentException("Unsupported benchmark database: " + database);
+		};
+		return new EmbeddedDatabaseBuilder().generateUniqueName(true)
+			.setType(type)
+			.addScript("classpath:org/springframework/cloud/task/schema-" + database.toLowerCase(Locale.ROOT)
+					+ ".sql")
+			.build();
+	}
+
+	/**
+	 * Seed the task execution table. Every tenth execution is left running, the rest
+	 * are completed. Identifiers are drawn from the dao's incrementer so that executions
+	 * created by the benchmarks do not collide with the seeded rows.
+	 * @param dataSource the data source to seed.
+	 * @param dao the dao whose incrementer provides the identifiers.
+	 * @param rows the number of executions to insert.
+	 * @param taskNames the number of distinct task names to spread the rows over.
+	 */
+	public static void seed(DataSource dataSource, JdbcTaskExecutionDao dao, int rows, int taskNames) {
+		Assert.isTrue(taskNames > 0, "taskNames must be greater than zero");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		LocalDateTime base = LocalDateTime.now().minusDays(1);
+		List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+		for (int i = 0; i < rows; i++) {
+			LocalDateTime startTime = base.plusNanos(i * 1000L);
+			boolean running = i % 10 == 0;
+			batch.add(new Object[] { dao.getNextExecutionId(), Timestamp.valueOf(startTime),
+					running ? null : Timestamp.valueOf(startTime.plusSeconds(1)), taskName(i % taskNames),
+					running ? null : 0, running ? null : "COMPLETED", Timestamp.valueOf(startTime),
+					"external-" + i });
+			if (batch.size() == SEED_BATCH_SIZE) {
+				jdbcTemplate.batchUpdate(INSERT_TASK_EXECUTION, batch);
+				batch.clear();
+			}
+		}
+		if (!batch.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_TASK_EXECUTION, batch);
+		}
+	}
+
+	/**
+	 * Name of the seeded task at the given index.
+	 * @param index the task name index.
+	 * @return the task name.
+	 */
+	public static String taskName(int index) {
+		return TASK_NAME_PREFIX + index;
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.task.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.batch.infrastructure.item.database.Order;
+import org.springframework.cloud.task.repository.dao.JdbcTaskExecutionDao;
+import org.springframework.cloud.task.repository.database.PagingQueryProvider;
+import org.springframework.cloud.task.repository.database.support.SqlPagingQueryProviderFactoryBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+/**
+ * Measures the cost of building {@link PagingQueryProvider} instances and generating
+ * page queries for every supported database type. The data source is never connected
+ * to since the database type is supplied explicitly.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PagingQueryProviderBenchmark {
+
+	/**
+	 * Database type passed to the {@link SqlPagingQueryProviderFactoryBean}.
+	 */
+	@Param({ "H2", "HSQL", "MYSQL", "MARIADB", "POSTGRES", "ORACLE", "SQLSERVER", "DB2" })
+	public String databaseType;
+
+	private final Pageable shallow = PageRequest.of(0, 20);
+
+	private final Pageable deep = PageRequest.of(5000, 20);
+
+	private final SimpleDriverDataSource dataSource = new SimpleDriverDataSource();
+
+	private Map<String, Order> sortKeys;
+
+	private PagingQueryProvider provider;
+
+	@Setup
+	public void setUp() throws Exception {
+		this.sortKeys = new LinkedHashMap<>();
+		this.sortKeys.put("START_TIME", Order.DESCENDING);
+		this.sortKeys.put("TASK_EXECUTION_ID", Order.DESCENDING);
+		this.provider = createProvider();
+	}
+
+	@Benchmark
+	public PagingQueryProvider createProvider() throws Exception {
+		SqlPagingQueryProviderFactoryBean factoryBean = new SqlPagingQueryProviderFactoryBean();
+		factoryBean.setDatabaseType(this.databaseType);
+		factoryBean.setDataSource(this.dataSource);
+		factoryBean.setSelectClause(JdbcTaskExecutionDao.SELECT_CLAUSE);
+		factoryBean.setFromClause(JdbcTaskExecutionDao.FROM_CLAUSE);
+		factoryBean.setWhereClause(JdbcTaskExecutionDao.TASK_NAME_WHERE_CLAUSE);
+		factoryBean.setSortKeys(this.sortKeys);
+		return factoryBean.getObject();
+	}
+
+	@Benchmark
+	public String shallowPageQuery() {
+		return this.provider.getPageQuery(this.shallow);
+	}
+
+	@Benchmark
+	public String deepPageQuery() {
+		return this.provider.getPageQuery(this.deep);
+	}
+
+}
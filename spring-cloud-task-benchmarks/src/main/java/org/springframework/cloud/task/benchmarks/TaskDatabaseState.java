@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.cloud.task.repository.TaskExplorer;
+import org.springframework.cloud.task.repository.TaskRepository;
+import org.springframework.cloud.task.repository.dao.JdbcTaskExecutionDao;
+import org.springframework.cloud.task.repository.support.SimpleTaskExplorer;
+import org.springframework.cloud.task.repository.support.SimpleTaskRepository;
+import org.springframework.cloud.task.repository.support.TaskExecutionDaoFactoryBean;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+/**
+ * Shared JMH state that provides a seeded embedded database along with the
+ * {@link TaskRepository} and {@link TaskExplorer} backed by it.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+public class TaskDatabaseState {
+
+	/**
+	 * The embedded database to run against.
+	 */
+	@Param({ "h2", "hsqldb" })
+	public String database;
+
+	/**
+	 * Number of task executions seeded before the benchmark runs.
+	 */
+	@Param({ "1000", "100000" })
+	public int rows;
+
+	/**
+	 * Number of distinct task names the seeded rows are spread over.
+	 */
+	@Param({ "10" })
+	public int taskNames;
+
+	EmbeddedDatabase dataSource;
+
+	JdbcTaskExecutionDao taskExecutionDao;
+
+	TaskRepository taskRepository;
+
+	TaskExplorer taskExplorer;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		this.dataSource = EmbeddedTaskDatabase.create(this.database);
+		TaskExecutionDaoFactoryBean factoryBean = new TaskExecutionDaoFactoryBean(this.dataSource);
+		this.taskExecutionDao = (JdbcTaskExecutionDao) factoryBean.getObject();
+		this.taskRepository = new SimpleTaskRepository(factoryBean);
+		this.taskExplorer = new SimpleTaskExplorer(factoryBean);
+		EmbeddedTaskDatabase.seed(this.dataSource, this.taskExecutionDao, this.rows, this.taskNames);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.dataSource.shutdown();
+	}
+
+}
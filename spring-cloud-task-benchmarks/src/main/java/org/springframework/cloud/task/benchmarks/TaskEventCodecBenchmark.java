@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.cloud.task.batch.listener.support.JobExecutionEvent;
+import org.springframework.cloud.task.batch.listener.support.StepExecutionEvent;
+import org.springframework.cloud.task.batch.listener.support.TaskEventBinaryCodec;
+import org.springframework.cloud.task.repository.TaskExecution;
+
+/**
+ * Compares encoding and decoding the task and batch events with the
+ * {@link TaskEventBinaryCodec} and with the JSON mapping used by the default content
+ * type. The encode benchmarks report the size of both encodings of the event as the
+ * {@code binaryBytes} and {@code jsonBytes} secondary results.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskEventCodecBenchmark {
+
+	@Param({ "task-execution", "step-execution", "job-execution" })
+	String event;
+
+	@Param({ "10" })
+	int contextEntries;
+
+	private final TaskEventBinaryCodec codec = new TaskEventBinaryCodec();
+
+	private final JsonMapper jsonMapper = JsonMapper.builder()
+		.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+		.build();
+
+	private Object payload;
+
+	private byte[] binary;
+
+	private byte[] json;
+
+	@Setup
+	public void setUp() {
+		this.payload = switch (this.event) {
+			case "task-execution" -> taskExecution();
+			case "step-execution" -> new StepExecutionEvent(stepExecution(jobExecution()));
+			case "job-execution" -> jobExecutionEvent();
+			default -> throw new IllegalArgumentException("Unknown event " + this.event);
+		};
+		this.binary = this.codec.encode(this.payload);
+		this.json = this.jsonMapper.writeValueAsBytes(this.payload);
+	}
+
+	@Benchmark
+	public byte[] binaryEncode(EncodedSize encodedSize) {
+		return this.codec.encode(this.payload);
+	}
+
+	@Benchmark
+	public byte[] jsonEncode(EncodedSize encodedSize) {
+		return this.jsonMapper.writeValueAsBytes(this.payload);
+	}
+
+	@Benchmark
+	public Object binaryDecode() {
+		return this.codec.decode(this.binary);
+	}
+
+	@Benchmark
+	public Object jsonDecode() {
+		return this.jsonMapper.readValue(this.json, this.payload.getClass());
+	}
+
+	private TaskExecution taskExecution() {
+		List<String> arguments = new ArrayList<>();
+		for (int i = 0; i < this.contextEntries; i++) {
+			arguments.add("--argument" + i + "=value" + i);
+		}
+		LocalDateTime startTime = LocalDateTime.now();
+		return new TaskExecution(42, 0, "benchmarkTask", startTime, startTime.plusSeconds(30), "COMPLETED",
+				arguments, null, "external-42", null);
+	}
+
+	private JobExecutionEvent jobExecutionEvent() {
+		JobExecution jobExecution = jobExecution();
+		List<StepExecution> stepExecutions = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			stepExecutions.add(stepExecution(jobExecution));
+		}
+		jobExecution.addStepExecutions(stepExecutions);
+		return new JobExecutionEvent(jobExecution);
+	}
+
+	private JobExecution jobExecution() {
+		JobExecution jobExecution = new JobExecution(1L, new JobInstance(1L, "benchmarkJob"),
+				new JobParametersBuilder().addString("input", "file:/data/input.csv")
+					.addLong("run.id", 7L)
+					.toJobParameters());
+		jobExecution.setStatus(BatchStatus.STARTED);
+		jobExecution.setStartTime(LocalDateTime.now());
+		fill(jobExecution.getExecutionContext());
+		return jobExecution;
+	}
+
+	private StepExecution stepExecution(JobExecution jobExecution) {
+		StepExecution stepExecution = new StepExecution(2L, "benchmarkStep", jobExecution);
+		stepExecution.setStatus(BatchStatus.STARTED);
+		stepExecution.setStartTime(LocalDateTime.now());
+		stepExecution.setReadCount(125_000);
+		stepExecution.setWriteCount(124_000);
+		stepExecution.setFilterCount(1_000);
+		stepExecution.setCommitCount(1_250);
+		fill(stepExecution.getExecutionContext());
+		return stepExecution;
+	}
+
+	private void fill(ExecutionContext executionContext) {
+		for (int i = 0; i < this.contextEntries; i++) {
+			executionContext.putLong("reader.position" + i, i * 1000L);
+			executionContext.putString("reader.resource" + i, "file:/data/input-" + i + ".csv");
+		}
+	}
+
+	/**
+	 * Reports the size in bytes of the binary and JSON encodings of the event. The
+	 * counters are set rather than incremented, so every iteration reports the size of a
+	 * single event.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class EncodedSize {
+
+		public long binaryBytes;
+
+		public long jsonBytes;
+
+		@Setup(Level.Iteration)
+		public void setUp(TaskEventCodecBenchmark benchmark) {
+			this.binaryBytes = benchmark.binary.length;
+			this.jsonBytes = benchmark.json.length;
+		}
+
+	}
+
+}
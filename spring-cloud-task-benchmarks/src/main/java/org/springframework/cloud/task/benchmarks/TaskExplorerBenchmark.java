@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.task.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskExplorer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Measures the read paths of {@link TaskExplorer}: paging at shallow and deep offsets,
+ * latest execution per task name and the count queries.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskExplorerBenchmark {
+
+	@Benchmark
+	public Page<TaskExecution> findAllShallow(TaskDatabaseState database, Pages pages) {
+		return database.taskExplorer.findAll(pages.shallow);
+	}
+
+	@Benchmark
+	public Page<TaskExecution> findAllDeep(TaskDatabaseState database, Pages pages) {
+		return database.taskExplorer.findAll(pages.deep);
+	}
+
+	@Benchmark
+	public Page<TaskExecution> findByNameShallow(TaskDatabaseState database, Pages pages) {
+		return database.taskExplorer.findTaskExecutionsByName(pages.taskName, pages.shallow);
+	}
+
+	@Benchmark
+	public Page<TaskExecution> findByNameDeep(TaskDatabaseState database, Pages pages) {
+		return database.taskExplorer.findTaskExecutionsByName(pages.taskName, pages.deepForName);
+	}
+
+	@Benchmark
+	public Page<TaskExecution> findRunningShallow(TaskDatabaseState database, Pages pages) {
+		return database.taskExplorer.findRunningTaskExecutions(pages.taskName, pages.shallow);
+	}
+
+	@Benchmark
+	public List<TaskExecution> latestTaskExecutionsByTaskNames(TaskDatabaseState database, Pages pages) {
+		return database.taskExplorer.getLatestTaskExecutionsByTaskNames(pages.allTaskNames);
+	}
+
+	@Benchmark
+	public TaskExecution latestTaskExecutionForTaskName(TaskDatabaseState database, Pages pages) {
+		return database.taskExplorer.getLatestTaskExecutionForTaskName(pages.taskName);
+	}
+
+	@Benchmark
+	public long taskExecutionCount(TaskDatabaseState database) {
+		return database.taskExplorer.getTaskExecutionCount();
+	}
+
+	@Benchmark
+	public long taskExecutionCountByTaskName(TaskDatabaseState database, Pages pages) {
+		return database.taskExplorer.getTaskExecutionCountByTaskName(pages.taskName);
+	}
+
+	@Benchmark
+	public long runningTaskExecutionCount(TaskDatabaseState database) {
+		return database.taskExplorer.getRunningTaskExecutionCount();
+	}
+
+	/**
+	 * Page requests derived from the size of the seeded data.
+	 */
+	@State(Scope.Benchmark)
+	public static class Pages {
+
+		/**
+		 * Number of executions per page.
+		 */
+		@Param({ "20" })
+		public int pageSize;
+
+		Pageable shallow;
+
+		Pageable deep;
+
+		Pageable deepForName;
+
+		String taskName;
+
+		String[] allTaskNames;
+
+		@Setup
+		public void setUp(TaskDatabaseState database) {
+			int lastPage = Math.max(0, database.rows / this.pageSize - 1);
+			int lastPageForName = Math.max(0, database.rows / database.taskNames / this.pageSize - 1);
+			this.shallow = PageRequest.of(0, this.pageSize);
+			this.deep = PageRequest.of(lastPage, this.pageSize);
+			this.deepForName = PageRequest.of(lastPageForName, this.pageSize);
+			this.taskName = EmbeddedTaskDatabase.taskName(0);
+			this.allTaskNames = new String[database.taskNames];
+			for (int i = 0; i < database.taskNames; i++) {
+				this.allTaskNames[i] = EmbeddedTaskDatabase.taskName(i);
+			}
+		}
+
+	}
+
+}
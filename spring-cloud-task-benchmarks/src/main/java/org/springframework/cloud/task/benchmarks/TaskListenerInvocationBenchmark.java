@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.cloud.task.listener.annotation.AfterTask;
+import org.springframework.cloud.task.listener.annotation.BeforeTask;
+import org.springframework.cloud.task.listener.annotation.FailedTask;
+import org.springframework.cloud.task.listener.annotation.TaskListenerExecutor;
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Compares dispatching the {@link BeforeTask}, {@link AfterTask} and {@link FailedTask}
+ * methods of a set of listener beans through {@link TaskListenerExecutor}, which invokes
+ * method handles created once, with calling {@link Method#invoke} for each listener.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskListenerInvocationBenchmark {
+
+	@Param({ "1", "10" })
+	int listeners;
+
+	private final TaskExecution taskExecution = new TaskExecution();
+
+	private final Throwable throwable = new IllegalStateException("failed");
+
+	private TaskListenerExecutor taskListenerExecutor;
+
+	private List<Object> beans;
+
+	private Method beforeTask;
+
+	private Method afterTask;
+
+	private Method failedTask;
+
+	@Setup
+	public void setUp() {
+		this.beans = new ArrayList<>();
+		for (int i = 0; i < this.listeners; i++) {
+			this.beans.add(new Listener());
+		}
+		this.beforeTask = ReflectionUtils.findMethod(Listener.class, "beforeTask", TaskExecution.class);
+		this.afterTask = ReflectionUtils.findMethod(Listener.class, "afterTask", TaskExecution.class);
+		this.failedTask = ReflectionUtils.findMethod(Listener.class, "failedTask", TaskExecution.class,
+				Throwable.class);
+		this.taskListenerExecutor = new TaskListenerExecutor(instances(this.beforeTask), instances(this.afterTask),
+				instances(this.failedTask));
+	}
+
+	@Benchmark
+	public void methodHandleLifecycle() {
+		this.taskListenerExecutor.onTaskStartup(this.taskExecution);
+		this.taskListenerExecutor.onTaskFailed(this.taskExecution, this.throwable);
+		this.taskListenerExecutor.onTaskEnd(this.taskExecution);
+	}
+
+	@Benchmark
+	public void reflectiveLifecycle() throws Exception {
+		for (Object bean : this.beans) {
+			this.beforeTask.invoke(bean, this.taskExecution);
+		}
+		for (Object bean : this.beans) {
+			this.failedTask.invoke(bean, this.taskExecution, this.throwable);
+		}
+		for (Object bean : this.beans) {
+			this.afterTask.invoke(bean, this.taskExecution);
+		}
+	}
+
+	@Benchmark
+	public void createExecutor(Blackhole blackhole) {
+		blackhole.consume(new TaskListenerExecutor(instances(this.beforeTask), instances(this.afterTask),
+				instances(this.failedTask)));
+	}
+
+	private Map<Method, Set<Object>> instances(Method method) {
+		Map<Method, Set<Object>> instances = new LinkedHashMap<>();
+		instances.put(method, new LinkedHashSet<>(this.beans));
+		return instances;
+	}
+
+	public static class Listener {
+
+		private long events;
+
+		@BeforeTask
+		public void beforeTask(TaskExecution taskExecution) {
+			this.events++;
+		}
+
+		@AfterTask
+		public void afterTask(TaskExecution taskExecution) {
+			this.events++;
+		}
+
+		@FailedTask
+		public void failedTask(TaskExecution taskExecution, Throwable throwable) {
+			this.events++;
+		}
+
+	}
+
+}
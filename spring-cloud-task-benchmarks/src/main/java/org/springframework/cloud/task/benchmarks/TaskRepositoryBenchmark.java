@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskRepository;
+import org.springframework.cloud.task.repository.support.SimpleTaskRepository;
+import org.springframework.cloud.task.repository.support.TaskExecutionDaoFactoryBean;
+
+/**
+ * Measures the throughput of the task lifecycle writes (create, start and complete)
+ * through {@link TaskRepository} for the JDBC and Map based daos.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskRepositoryBenchmark {
+
+	private static final List<String> ARGUMENTS = List.of("--foo=bar", "--baz=qux");
+
+	@Benchmark
+	public TaskExecution jdbcCreate(TaskDatabaseState state) {
+		return state.taskRepository.createTaskExecution("createTask");
+	}
+
+	@Benchmark
+	public TaskExecution jdbcCreateAndStart(TaskDatabaseState state) {
+		return start(state.taskRepository);
+	}
+
+	@Benchmark
+	public TaskExecution jdbcLifecycle(TaskDatabaseState state) {
+		return complete(state.taskRepository, start(state.taskRepository));
+	}
+
+	@Benchmark
+	public TaskExecution mapCreate(MapState state) {
+		return state.taskRepository.createTaskExecution("createTask");
+	}
+
+	@Benchmark
+	public TaskExecution mapLifecycle(MapState state) {
+		return complete(state.taskRepository, start(state.taskRepository));
+	}
+
+	private static TaskExecution start(TaskRepository taskRepository) {
+		TaskExecution taskExecution = taskRepository.createTaskExecution();
+		return taskRepository.startTaskExecution(taskExecution.getExecutionId(), "lifecycleTask",
+				LocalDateTime.now(), ARGUMENTS, null);
+	}
+
+	private static TaskExecution complete(TaskRepository taskRepository, TaskExecution taskExecution) {
+		return taskRepository.completeTaskExecution(taskExecution.getExecutionId(), 0, LocalDateTime.now(),
+				"COMPLETED");
+	}
+
+	/**
+	 * State for the Map based dao. The repository is recreated for every iteration so
+	 * that its backing map does not grow without bound.
+	 */
+	@State(Scope.Benchmark)
+	public static class MapState {
+
+		TaskRepository taskRepository;
+
+		@Setup(Level.Iteration)
+		public void setUp() {
+			this.taskRepository = new SimpleTaskRepository(new TaskExecutionDaoFactoryBean());
+		}
+
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.task.benchmarks.startup;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * {@link DataSource} wrapper that counts connection checkouts and measures how long
+ * connections used for metadata lookups are held. Every call to
+ * {@code DatabaseType.fromMetaData} checks out a connection and reads its metadata, so
+ * this is how the harness attributes time to dialect detection.
+ *
+ * @author agent
+ */
+class MetaDataTrackingDataSource extends DelegatingDataSource {
+
+	MetaDataTrackingDataSource(DataSource targetDataSource) {
+		super(targetDataSource);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return track(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return track(super.getConnection(username, password));
+	}
+
+	private Connection track(Connection connection) {
+		StartupMetrics.add(StartupMetrics.CONNECTIONS, 1);
+		long checkedOut = System.nanoTime();
+		boolean[] metaDataRead = new boolean[1];
+		return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+				(proxy, method, args) -> {
+					if (method.getName().equals("getMetaData")) {
+						metaDataRead[0] = true;
+					}
+					else if (method.getName().equals("close") && metaDataRead[0]) {
+						StartupMetrics.add(StartupMetrics.METADATA_LOOKUPS, 1);
+						StartupMetrics.add(StartupMetrics.METADATA_NANOS, System.nanoTime() - checkedOut);
+					}
+					try {
+						return method.invoke(connection, args);
+					}
+					catch (InvocationTargetException ex) {
+						throw ex.getTargetException();
+					}
+				});
+	}
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.task.benchmarks.startup;
+
+import java.util.List;
+
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.infrastructure.item.support.ListItemReader;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Registers a single step job when Spring Batch is on the classpath of the probe, which
+ * is only the case for the {@link StartupConfiguration#BATCH} and
+ * {@link StartupConfiguration#BATCH_EVENTS} configurations. The latter also defines
+ * {@value #STEP_COUNT_PROPERTY} chunk oriented step beans, which are not part of the job
+ * but go through the same bean post processing as the steps of a large application.
+ *
+ * @author agent
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "org.springframework.batch.core.job.Job")
+public class StartupBatchJobConfiguration {
+
+	/**
+	 * Property holding the number of additional chunk oriented steps to define.
+	 */
+	public static final String STEP_COUNT_PROPERTY = "startup.batch.steps";
+
+	@Bean
+	public Job startupJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+		return new JobBuilder("startupJob", jobRepository)
+			.start(new StepBuilder("startupStep", jobRepository)
+				.tasklet((contribution, chunkContext) -> RepeatStatus.FINISHED, transactionManager)
+				.build())
+			.build();
+	}
+
+	@Bean
+	public static BeanDefinitionRegistryPostProcessor startupStepsRegistrar(Environment environment) {
+		int stepCount = environment.getProperty(STEP_COUNT_PROPERTY, Integer.class, 0);
+		return (BeanDefinitionRegistry registry) -> {
+			for (int i = 0; i < stepCount; i++) {
+				String name = "startupChunkStep" + i;
+				AbstractBeanDefinition definition = BeanDefinitionBuilder
+					.rootBeanDefinition(StartupBatchJobConfiguration.class, "chunkStep")
+					.addConstructorArgValue(name)
+					.setAutowireMode(AbstractBeanDefinition.AUTOWIRE_CONSTRUCTOR)
+					.getBeanDefinition();
+				registry.registerBeanDefinition(name, definition);
+			}
+		};
+	}
+
+	static Step chunkStep(String name, JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+		return new StepBuilder(name, jobRepository).<String, String>chunk(10)
+			.transactionManager(transactionManager)
+			.reader(new ListItemReader<>(List.of()))
+			.writer((chunk) -> {
+			})
+			.build();
+	}
+
+}
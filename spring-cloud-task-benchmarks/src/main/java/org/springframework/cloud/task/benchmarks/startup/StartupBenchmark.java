@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.task.benchmarks.startup;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the wall time of a task application from JVM start through
+ * {@code TaskLifecycleListener.start()} and {@code ApplicationReadyEvent} to context
+ * close. Every measurement launches {@link StartupProbeApplication} in a fresh JVM with a
+ * classpath filtered for the selected {@link StartupConfiguration}, and reports where the
+ * time was spent. Results are printed as a table and written as JSON.
+ * <p>
+ * Supported arguments are {@code --iterations=<n>} (default 5),
+ * {@code --configurations=none,h2,batch,stream,batch_events} (default all),
+ * {@code --output=<file>} (default {@code startup-result.json}) and
+ * {@code --jvm-args=<args>} which are passed to every probe JVM.
+ *
+ * @author agent
+ */
+public final class StartupBenchmark {
+
+	private static final long PROBE_TIMEOUT_SECONDS = 120;
+
+	private static final Map<String, String> NANOSECOND_METRICS = new LinkedHashMap<>();
+
+	private static final Map<String, String> MILLISECOND_METRICS = new LinkedHashMap<>();
+
+	private static final Map<String, String> COUNT_METRICS = new LinkedHashMap<>();
+
+	static {
+		MILLISECOND_METRICS.put(StartupMetrics.TASK_STARTED, "JVM start to TaskLifecycleListener.start()");
+		MILLISECOND_METRICS.put(StartupMetrics.APPLICATION_READY, "JVM start to ApplicationReadyEvent");
+		MILLISECOND_METRICS.put(StartupMetrics.CONTEXT_CLOSED, "JVM start to context closed");
+		NANOSECOND_METRICS.put("step.spring.context.config-classes.parse", "Auto-configuration (parse and conditions)");
+		NANOSECOND_METRICS.put("step.spring.context.refresh", "Context refresh");
+		NANOSECOND_METRICS.put("step.spring.cloud.task.repository.initialize", "TaskRepositoryInitializer");
+		NANOSECOND_METRICS.put("step.spring.cloud.task.listeners.scan", "TaskListenerExecutorObjectFactory scan");
+		NANOSECOND_METRICS.put("step.spring.cloud.task.lifecycle.start", "TaskLifecycleListener.start()");
+		NANOSECOND_METRICS.put(StartupMetrics.METADATA_NANOS, "DatabaseType.fromMetaData (connection held)");
+		COUNT_METRICS.put(StartupMetrics.METADATA_LOOKUPS, "Metadata lookups");
+		COUNT_METRICS.put(StartupMetrics.CONNECTIONS, "Connections checked out");
+	}
+
+	private StartupBenchmark() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		int iterations = 5;
+		List<StartupConfiguration> configurations = new ArrayList<>(Arrays.asList(StartupConfiguration.values()));
+		String output = "startup-result.json";
+		List<String> jvmArgs = new ArrayList<>();
+		for (String arg : args) {
+			if (arg.startsWith("--iterations=")) {
+				iterations = Integer.parseInt(valueOf(arg));
+			}
+			else if (arg.startsWith("--configurations=")) {
+				configurations.clear();
+				for (String name : valueOf(arg).split(",")) {
+					configurations.add(StartupConfiguration.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+				}
+			}
+			else if (arg.startsWith("--output=")) {
+				output = valueOf(arg);
+			}
+			else if (arg.startsWith("--jvm-args=")) {
+				jvmArgs.addAll(Arrays.asList(valueOf(arg).trim().split("\\s+")));
+			}
+			else {
+				throw new IllegalArgumentException("Unknown argument: " + arg);
+			}
+		}
+
+		String classpath = System.getProperty("java.class.path");
+		if (!classpath.contains(File.pathSeparator)) {
+			throw new IllegalStateException("The startup harness needs an exploded classpath so that it can be "
+					+ "filtered for each configuration. Run it through exec:exec rather than the benchmarks jar.");
+		}
+
+		Map<StartupConfiguration, Map<String, List<Double>>> results = new LinkedHashMap<>();
+		for (StartupConfiguration configuration : configurations) {
+			Map<String, List<Double>> samples = new LinkedHashMap<>();
+			for (int i = 0; i < iterations; i++) {
+				record(samples, runProbe(configuration, classpath, jvmArgs));
+			}
+			results.put(configuration, samples);
+		}
+		report(results, System.out);
+		Files.writeString(Path.of(output), toJson(results), StandardCharsets.UTF_8);
+	}
+
+	private static String valueOf(String arg) {
+		return arg.substring(arg.indexOf('=') + 1);
+	}
+
+	private static Properties runProbe(StartupConfiguration configuration, String classpath, List<String> jvmArgs)
+			throws IOException, InterruptedException {
+		Path resultFile = Files.createTempFile("task-startup-", ".properties");
+		try {
+			List<String> command = new ArrayList<>();
+			command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+			command.addAll(jvmArgs);
+			command.add("-D" + StartupProbeApplication.RESULT_FILE_PROPERTY + "=" + resultFile);
+			command.add("-cp");
+			command.add(configuration.filterClasspath(classpath));
+			command.add(StartupProbeApplication.class.getName());
+			command.add("--spring.main.banner-mode=off");
+			command.add("--logging.level.root=WARN");
+			command.add("--spring.cloud.task.name=startup-" + configuration.getName());
+			command.addAll(configuration.getArguments());
+
+			long launched = System.nanoTime();
+			Process process = new ProcessBuilder(command).inheritIO().start();
+			if (!process.waitFor(PROBE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				process.destroyForcibly();
+				throw new IllegalStateException("Probe for " + configuration.getName() + " timed out");
+			}
+			long wallNanos = System.nanoTime() - launched;
+			if (process.exitValue() != 0) {
+				throw new IllegalStateException(
+						"Probe for " + configuration.getName() + " exited with " + process.exitValue());
+			}
+			Properties properties = new Properties();
+			try (InputStream inputStream = new FileInputStream(resultFile.toFile())) {
+				properties.load(inputStream);
+			}
+			properties.setProperty("process.wallNanos", String.valueOf(wallNanos));
+			return properties;
+		}
+		finally {
+			Files.deleteIfExists(resultFile);
+		}
+	}
+
+	private static void record(Map<String, List<Double>> samples, Properties properties) {
+		add(samples, "Process wall time", nanosToMillis(properties.getProperty("process.wallNanos")));
+		for (Map.Entry<String, String> metric : MILLISECOND_METRICS.entrySet()) {
+			add(samples, metric.getValue(), Double.parseDouble(properties.getProperty(metric.getKey(), "0")));
+		}
+		double closing = Double.parseDouble(properties.getProperty(StartupMetrics.CONTEXT_CLOSING, "0"));
+		double closed = Double.parseDouble(properties.getProperty(StartupMetrics.CONTEXT_CLOSED, "0"));
+		add(samples, "Context close", closed - closing);
+		for (Map.Entry<String, String> metric : NANOSECOND_METRICS.entrySet()) {
+			add(samples, metric.getValue(), nanosToMillis(properties.getProperty(metric.getKey(), "0")));
+		}
+		for (Map.Entry<String, String> metric : COUNT_METRICS.entrySet()) {
+			add(samples, metric.getValue(), Double.parseDouble(properties.getProperty(metric.getKey(), "0")));
+		}
+	}
+
+	private static void add(Map<String, List<Double>> samples, String name, double value) {
+		samples.computeIfAbsent(name, (key) -> new ArrayList<>()).add(value);
+	}
+
+	private static double nanosToMillis(String nanos) {
+		return Long.parseLong(nanos) / 1_000_000.0;
+	}
+
+	private static double[] summarize(List<Double> values) {
+		List<Double> sorted = new ArrayList<>(values);
+		sorted.sort(Double::compareTo);
+		return new double[] { sorted.get(0), sorted.get(sorted.size() / 2), sorted.get(sorted.size() - 1) };
+	}
+
+	private static void report(Map<StartupConfiguration, Map<String, List<Double>>> results, PrintStream out) {
+		for (Map.Entry<StartupConfiguration, Map<String, List<Double>>> configuration : results.entrySet()) {
+			out.println();
+			out.printf("%s (times in ms, counts per run)%n", configuration.getKey().getName());
+			out.printf("  %-45s %10s %10s %10s%n", "", "min", "median", "max");
+			for (Map.Entry<String, List<Double>> metric : configuration.getValue().entrySet()) {
+				double[] summary = summarize(metric.getValue());
+				out.printf(Locale.ROOT, "  %-45s %10.2f %10.2f %10.2f%n", metric.getKey(), summary[0], summary[1],
+						summary[2]);
+			}
+		}
+	}
+
+	private static String toJson(Map<StartupConfiguration, Map<String, List<Double>>> results) {
+		StringBuilder json = new StringBuilder("{");
+		String configurationSeparator = "";
+		for (Map.Entry<StartupConfiguration, Map<String, List<Double>>> configuration : results.entrySet()) {
+			json.append(configurationSeparator).append('"').append(configuration.getKey().getName()).append("\":{");
+			String metricSeparator = "";
+			for (Map.Entry<String, List<Double>> metric : configuration.getValue().entrySet()) {
+				double[] summary = summarize(metric.getValue());
+				json.append(metricSeparator)
+					.append('"')
+					.append(metric.getKey())
+					.append("\":")
+					.append(String.format(Locale.ROOT, "{\"min\":%.3f,\"median\":%.3f,\"max\":%.3f,\"samples\":%s}",
+							summary[0], summary[1], summary[2], metric.getValue()));
+				metricSeparator = ",";
+			}
+			json.append('}');
+			configurationSeparator = ",";
+		}
+		return json.append('}').toString();
+	}
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.task.benchmarks.startup;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The application shapes measured by the {@link StartupBenchmark}. Each configuration is
+ * launched with a classpath that only contains the jars such an application would ship
+ * with, so that auto-configuration sees the same conditions it would in production.
+ *
+ * @author agent
+ */
+public enum StartupConfiguration {
+
+	/**
+	 * A task without a DataSource, using the Map based repository.
+	 */
+	NONE("h2-", "hsqldb-", "HikariCP-", "spring-boot-jdbc-", "spring-boot-starter-jdbc-", "spring-batch-",
+			"spring-boot-batch-", "spring-boot-starter-batch-", "spring-cloud-task-batch-", "spring-cloud-stream-",
+			"spring-cloud-task-stream-", "spring-cloud-function-"),
+
+	/**
+	 * A task backed by an embedded H2 database.
+	 */
+	H2("hsqldb-", "spring-batch-", "spring-boot-batch-", "spring-boot-starter-batch-", "spring-cloud-task-batch-",
+			"spring-cloud-stream-", "spring-cloud-task-stream-", "spring-cloud-function-"),
+
+	/**
+	 * A task that launches a single step batch job against an embedded H2 database.
+	 */
+	BATCH("hsqldb-", "spring-cloud-stream-", "spring-cloud-task-stream-", "spring-cloud-function-"),
+
+	/**
+	 * A task backed by an embedded H2 database that emits task events through the test
+	 * binder.
+	 */
+	STREAM("hsqldb-", "spring-batch-", "spring-boot-batch-", "spring-boot-starter-batch-",
+			"spring-cloud-task-batch-"),
+
+	/**
+	 * A task that defines a batch job and 200 chunk oriented steps against an embedded H2
+	 * database and emits batch events through the test binder, so that the listeners are
+	 * registered with every step.
+	 */
+	BATCH_EVENTS(new String[] { "--" + StartupBatchJobConfiguration.STEP_COUNT_PROPERTY + "=200" }, "hsqldb-");
+
+	private final String[] arguments;
+
+	private final String[] excludedJarPrefixes;
+
+	StartupConfiguration(String... excludedJarPrefixes) {
+		this(new String[0], excludedJarPrefixes);
+	}
+
+	StartupConfiguration(String[] arguments, String... excludedJarPrefixes) {
+		this.arguments = arguments;
+		this.excludedJarPrefixes = excludedJarPrefixes;
+	}
+
+	/**
+	 * Application arguments passed to the probe of this configuration.
+	 * @return the arguments.
+	 */
+	public List<String> getArguments() {
+		return List.of(this.arguments);
+	}
+
+	/**
+	 * Filter the provided classpath down to the entries this configuration should see.
+	 * @param classpath the full classpath of the harness.
+	 * @return the classpath for the probe application.
+	 */
+	public String filterClasspath(String classpath) {
+		List<String> entries = new ArrayList<>();
+		for (String entry : classpath.split(File.pathSeparator)) {
+			if (!isExcluded(new File(entry).getName())) {
+				entries.add(entry);
+			}
+		}
+		return String.join(File.pathSeparator, entries);
+	}
+
+	private boolean isExcluded(String fileName) {
+		for (String prefix : this.excludedJarPrefixes) {
+			if (fileName.startsWith(prefix) && fileName.endsWith(".jar")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Lower case name of the configuration, used in reports.
+	 * @return the name of the configuration.
+	 */
+	public String getName() {
+		return name().toLowerCase(Locale.ROOT);
+	}
+
+}
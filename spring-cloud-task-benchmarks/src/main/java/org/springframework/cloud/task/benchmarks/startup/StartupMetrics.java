@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.task.benchmarks.startup;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects the measurements of a single probe run. Milestones are recorded as the
+ * number of milliseconds since the JVM started, counters are accumulated.
+ *
+ * @author agent
+ */
+final class StartupMetrics {
+
+	/**
+	 * Milestone recorded when the task listeners are invoked from
+	 * {@code TaskLifecycleListener.start()}.
+	 */
+	static final String TASK_STARTED = "milestone.taskStarted";
+
+	/**
+	 * Milestone recorded when the {@code ApplicationReadyEvent} is received.
+	 */
+	static final String APPLICATION_READY = "milestone.applicationReady";
+
+	/**
+	 * Milestone recorded when the application context starts closing.
+	 */
+	static final String CONTEXT_CLOSING = "milestone.contextClosing";
+
+	/**
+	 * Milestone recorded once the application context is closed.
+	 */
+	static final String CONTEXT_CLOSED = "milestone.contextClosed";
+
+	/**
+	 * Number of connections checked out from the DataSource.
+	 */
+	static final String CONNECTIONS = "datasource.connections";
+
+	/**
+	 * Number of connections that were used to read database metadata, which is what
+	 * {@code DatabaseType.fromMetaData} does.
+	 */
+	static final String METADATA_LOOKUPS = "datasource.metadataLookups";
+
+	/**
+	 * Time spent, in nanoseconds, holding connections that were used to read metadata.
+	 */
+	static final String METADATA_NANOS = "datasource.metadataNanos";
+
+	private static final Map<String, AtomicLong> values = new ConcurrentHashMap<>();
+
+	private StartupMetrics() {
+	}
+
+	static void milestone(String name) {
+		values.computeIfAbsent(name, (key) -> new AtomicLong())
+			.set(ManagementFactory.getRuntimeMXBean().getUptime());
+	}
+
+	static void add(String name, long amount) {
+		values.computeIfAbsent(name, (key) -> new AtomicLong()).addAndGet(amount);
+	}
+
+	static Map<String, AtomicLong> values() {
+		return values;
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.task.benchmarks.startup;
+
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.cloud.task.configuration.EnableTask;
+import org.springframework.cloud.task.listener.TaskExecutionListener;
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.util.Assert;
+
+/**
+ * The task application launched by the {@link StartupBenchmark} in a fresh JVM for every
+ * measurement. It records its milestones relative to the JVM start, together with the
+ * durations of the startup steps of interest, and writes them to the file named by the
+ * {@code startup.result-file} system property.
+ *
+ * @author agent
+ */
+@EnableTask
+@SpringBootApplication
+public class StartupProbeApplication {
+
+	/**
+	 * System property that names the file the measurements are written to.
+	 */
+	public static final String RESULT_FILE_PROPERTY = "startup.result-file";
+
+	private static final int STARTUP_BUFFER_CAPACITY = 20_000;
+
+	public static void main(String[] args) throws Exception {
+		String resultFile = System.getProperty(RESULT_FILE_PROPERTY);
+		Assert.hasText(resultFile, "The " + RESULT_FILE_PROPERTY + " system property is required");
+
+		BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(STARTUP_BUFFER_CAPACITY);
+		SpringApplication application = new SpringApplication(StartupProbeApplication.class);
+		application.setApplicationStartup(applicationStartup);
+		ConfigurableApplicationContext context = application.run(args);
+		if (context.isActive()) {
+			context.close();
+		}
+		StartupMetrics.milestone(StartupMetrics.CONTEXT_CLOSED);
+
+		Properties results = new Properties();
+		for (Map.Entry<String, AtomicLong> entry : StartupMetrics.values().entrySet()) {
+			results.setProperty(entry.getKey(), String.valueOf(entry.getValue().get()));
+		}
+		for (StartupTimeline.TimelineEvent event : applicationStartup.getBufferedTimeline().getEvents()) {
+			String key = "step." + event.getName();
+			long nanos = event.getDuration().toNanos()
+					+ Long.parseLong(results.getProperty(key, "0"));
+			results.setProperty(key, String.valueOf(nanos));
+		}
+		try (OutputStream outputStream = new FileOutputStream(resultFile)) {
+			results.store(outputStream, null);
+		}
+	}
+
+	@Bean
+	public static BeanPostProcessor metaDataTrackingDataSourcePostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource && !(bean instanceof MetaDataTrackingDataSource)) {
+					return new MetaDataTrackingDataSource(dataSource);
+				}
+				return bean;
+			}
+		};
+	}
+
+	@Bean
+	public TaskExecutionListener startupMilestoneListener() {
+		return new TaskExecutionListener() {
+			@Override
+			public void onTaskStartup(TaskExecution taskExecution) {
+				StartupMetrics.milestone(StartupMetrics.TASK_STARTED);
+			}
+		};
+	}
+
+	@EventListener
+	public void onApplicationReady(ApplicationReadyEvent event) {
+		StartupMetrics.milestone(StartupMetrics.APPLICATION_READY);
+	}
+
+	@EventListener
+	public void onContextClosed(ContextClosedEvent event) {
+		StartupMetrics.milestone(StartupMetrics.CONTEXT_CLOSING);
+	}
+
+}
@@ -28,6 +28,7 @@ import org.springframework.cloud.task.repository.TaskNameResolver;
 import org.springframework.cloud.task.repository.TaskRepository;
 import org.springframework.cloud.task.repository.dao.JdbcTaskExecutionDao;
 import org.springframework.cloud.task.repository.dao.MapTaskExecutionDao;
+import org.springframework.cloud.task.repository.support.DatabaseDialect;
 import org.springframework.cloud.task.repository.support.SimpleTaskExplorer;
 import org.springframework.cloud.task.repository.support.SimpleTaskNameResolver;
 import org.springframework.cloud.task.repository.support.SimpleTaskRepository;
@@ -36,6 +37,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.jdbc.support.JdbcTransactionManager;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StringUtils;
 
 /**
  * Default implementation of the TaskConfigurer interface. If no {@link TaskConfigurer}
@@ -162,6 +164,9 @@ public class DefaultTaskConfigurer implements TaskConfigurer {
 		}
 
 		if (this.dataSource != null) {
+			if (taskProperties != null && StringUtils.hasText(taskProperties.getDatabaseType())) {
+				DatabaseDialect.forDataSource(this.dataSource, taskProperties.getDatabaseType());
+			}
 			taskExecutionDaoFactoryBean = new TaskExecutionDaoFactoryBean(this.dataSource, tablePrefix);
 		}
 		else {
@@ -152,7 +152,7 @@ public class SimpleTaskAutoConfiguration {
 			TaskConfigurer taskConfigurer;
 			if (!CollectionUtils.isEmpty(this.dataSources) && this.dataSources.size() == 1) {
 				taskConfigurer = new DefaultTaskConfigurer(this.dataSources.iterator().next(),
-						this.taskProperties.getTablePrefix(), this.context);
+						this.taskProperties.getTablePrefix(), this.context, this.taskProperties);
 			}
 			else {
 				taskConfigurer = new DefaultTaskConfigurer(this.taskProperties.getTablePrefix());
@@ -17,12 +17,11 @@
 package org.springframework.cloud.task.configuration;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import javax.sql.DataSource;
 
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
-
 import org.springframework.cloud.task.listener.TaskExecutionException;
 import org.springframework.cloud.task.listener.annotation.AfterTask;
 import org.springframework.cloud.task.listener.annotation.BeforeTask;
@@ -33,8 +32,6 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
-import org.springframework.integration.jdbc.lock.DefaultLockRepository;
-import org.springframework.integration.jdbc.lock.JdbcLockRegistry;
 import org.springframework.integration.leader.DefaultCandidate;
 import org.springframework.integration.leader.event.OnFailedToAcquireMutexEvent;
 import org.springframework.integration.leader.event.OnGrantedEvent;
@@ -46,7 +43,9 @@ import org.springframework.transaction.PlatformTransactionManager;
  * When spring.cloud.task.single-instance-enabled is set to true this listener will create
  * a lock for the task based on the spring.cloud.task.name. If a lock already exists this
  * Listener will throw a TaskExecutionException. If this listener is added manually, then
- * it should be added as the first listener in the chain.
+ * it should be added as the first listener in the chain. The listener waits for the
+ * {@link OnGrantedEvent} or {@link OnFailedToAcquireMutexEvent} published by its
+ * {@link LockRegistryLeaderInitiator} rather than polling for them.
  *
  * @author Glenn Renfro
  * @author Mahmoud Ben Hassine
@@ -54,8 +53,6 @@ import org.springframework.transaction.PlatformTransactionManager;
  */
 public class SingleInstanceTaskListener implements ApplicationListener<ApplicationEvent> {
 
-	private static final Log logger = LogFactory.getLog(SingleInstanceTaskListener.class);
-
 	private LockRegistry lockRegistry;
 
 	private LockRegistryLeaderInitiator lockRegistryLeaderInitiator;
@@ -64,9 +61,7 @@ public class SingleInstanceTaskListener implements ApplicationListener<Applicati
 
 	private ApplicationEventPublisher applicationEventPublisher;
 
-	private boolean lockReady;
-
-	private boolean lockFailed;
+	private volatile CompletableFuture<Boolean> lockAcquired = new CompletableFuture<>();
 
 	private DataSource dataSource;
 
@@ -108,25 +103,35 @@ public class SingleInstanceTaskListener implements ApplicationListener<Applicati
 				String.valueOf(taskExecution.getExecutionId()), this.taskNameResolver.getTaskName()));
 		this.lockRegistryLeaderInitiator.setApplicationEventPublisher(this.applicationEventPublisher);
 		this.lockRegistryLeaderInitiator.setPublishFailedEvents(true);
+		this.lockAcquired = new CompletableFuture<>();
 		this.lockRegistryLeaderInitiator.start();
-		while (!this.lockReady) {
-			try {
-				Thread.sleep(this.taskProperties.getSingleInstanceLockCheckInterval());
-			}
-			catch (InterruptedException ex) {
-				logger.warn("Thread Sleep Failed", ex);
-			}
-			if (this.lockFailed) {
-				String errorMessage = String.format("Task with name \"%s\" is already running.",
-						this.taskNameResolver.getTaskName());
-				try {
-					this.lockRegistryLeaderInitiator.destroy();
-				}
-				catch (Exception exception) {
-					throw new TaskExecutionException("Failed to destroy lock.", exception);
-				}
-				throw new TaskExecutionException(errorMessage);
-			}
+		boolean acquired;
+		try {
+			acquired = this.lockAcquired.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			destroyLeaderInitiator();
+			throw new TaskExecutionException("Interrupted while waiting for the task lock.", ex);
+		}
+		catch (ExecutionException ex) {
+			destroyLeaderInitiator();
+			throw new TaskExecutionException("Failed to acquire the task lock.", ex.getCause());
+		}
+		if (!acquired) {
+			String errorMessage = String.format("Task with name \"%s\" is already running.",
+					this.taskNameResolver.getTaskName());
+			destroyLeaderInitiator();
+			throw new TaskExecutionException(errorMessage);
+		}
+	}
+
+	private void destroyLeaderInitiator() {
+		try {
+			this.lockRegistryLeaderInitiator.destroy();
+		}
+		catch (Exception exception) {
+			throw new TaskExecutionException("Failed to destroy lock.", exception);
 		}
 	}
 
@@ -142,22 +147,21 @@ public class SingleInstanceTaskListener implements ApplicationListener<Applicati
 
 	@Override
 	public void onApplicationEvent(ApplicationEvent applicationEvent) {
+		if (applicationEvent.getSource() != this.lockRegistryLeaderInitiator) {
+			return;
+		}
 		if (applicationEvent instanceof OnGrantedEvent) {
-			this.lockReady = true;
+			this.lockAcquired.complete(true);
 		}
 		else if (applicationEvent instanceof OnFailedToAcquireMutexEvent) {
-			this.lockFailed = true;
+			this.lockAcquired.complete(false);
 		}
 	}
 
 	private LockRegistry getDefaultLockRegistry(long executionId) {
-		DefaultLockRepository lockRepository = new DefaultLockRepository(this.dataSource, String.valueOf(executionId));
-		lockRepository.setPrefix(this.taskProperties.getTablePrefix());
-		lockRepository.setApplicationContext(this.applicationContext);
-		lockRepository.afterPropertiesSet();
-		lockRepository.setTransactionManager(this.platformTransactionManager);
-		lockRepository.afterSingletonsInstantiated();
-		return new JdbcLockRegistry(lockRepository, Duration.ofSeconds(this.taskProperties.getSingleInstanceLockTtl()));
+		return TaskLockRegistries.createJdbcLockRegistry(this.dataSource, this.taskProperties, this.applicationContext,
+				this.platformTransactionManager, String.valueOf(executionId),
+				Duration.ofSeconds(this.taskProperties.getSingleInstanceLockTtl()));
 	}
 
 }
@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.task.configuration;
 
+import javax.sql.DataSource;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -25,6 +27,7 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.integration.support.locks.LockRegistry;
 import org.springframework.integration.support.locks.PassThruLockRegistry;
 
 /**
@@ -50,12 +53,24 @@ public class SingleTaskConfiguration {
 
 	@Bean
 	public SingleInstanceTaskListener taskListener(TaskNameResolver resolver, ApplicationContext applicationContext) {
-		if (this.taskConfigurer.getTaskDataSource() == null) {
+		LockRegistry fileLockRegistry = TaskLockRegistries.createFileLockRegistry(this.taskProperties);
+		if (fileLockRegistry != null) {
+			return new SingleInstanceTaskListener(fileLockRegistry, resolver, this.taskProperties,
+					this.applicationEventPublisher, applicationContext);
+		}
+		DataSource dataSource = this.taskConfigurer.getTaskDataSource();
+		if (dataSource == null) {
 			return new SingleInstanceTaskListener(new PassThruLockRegistry(), resolver, this.taskProperties,
 					this.applicationEventPublisher, applicationContext);
 		}
+		LockRegistry advisoryLockRegistry = TaskLockRegistries.createAdvisoryLockRegistry(dataSource,
+				this.taskProperties);
+		if (advisoryLockRegistry != null) {
+			return new SingleInstanceTaskListener(advisoryLockRegistry, resolver, this.taskProperties,
+					this.applicationEventPublisher, applicationContext);
+		}
 
-		return new SingleInstanceTaskListener(this.taskConfigurer.getTaskDataSource(), resolver, this.taskProperties,
+		return new SingleInstanceTaskListener(dataSource, resolver, this.taskProperties,
 				this.applicationEventPublisher, applicationContext);
 	}
 
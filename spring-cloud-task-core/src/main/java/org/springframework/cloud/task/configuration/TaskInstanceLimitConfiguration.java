@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.configuration;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.task.repository.TaskNameResolver;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.integration.support.locks.PassThruLockRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.Assert;
+
+/**
+ * Autoconfiguration of {@link TaskInstanceLimitListener}.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@AutoConfiguration
+@ConditionalOnProperty(prefix = "spring.cloud.task", name = "max-instances")
+public class TaskInstanceLimitConfiguration {
+
+	private static final Log logger = LogFactory.getLog(TaskInstanceLimitConfiguration.class);
+
+	@Autowired
+	private TaskProperties taskProperties;
+
+	@Autowired
+	private TaskConfigurer taskConfigurer;
+
+	@Bean
+	public TaskInstanceLimitListener taskInstanceLimitListener(TaskNameResolver resolver,
+			ApplicationContext applicationContext) {
+		Integer maxInstances = this.taskProperties.getMaxInstances();
+		Assert.isTrue(maxInstances != null && maxInstances > 0,
+				() -> "spring.cloud.task.max-instances must be greater than 0 but was " + maxInstances);
+		LockRegistry fileLockRegistry = TaskLockRegistries.createFileLockRegistry(this.taskProperties);
+		if (fileLockRegistry != null) {
+			return new TaskInstanceLimitListener((clientId) -> fileLockRegistry, resolver, this.taskProperties);
+		}
+		DataSource dataSource = this.taskConfigurer.getTaskDataSource();
+		if (dataSource == null) {
+			logger.warn("spring.cloud.task.max-instances requires a task DataSource, instances are not limited");
+			LockRegistry lockRegistry = new PassThruLockRegistry();
+			return new TaskInstanceLimitListener((clientId) -> lockRegistry, resolver, this.taskProperties);
+		}
+		LockRegistry advisoryLockRegistry = TaskLockRegistries.createAdvisoryLockRegistry(dataSource,
+				this.taskProperties);
+		if (advisoryLockRegistry != null) {
+			return new TaskInstanceLimitListener((clientId) -> advisoryLockRegistry, resolver, this.taskProperties);
+		}
+		PlatformTransactionManager transactionManager = applicationContext.getBean("springCloudTaskTransactionManager",
+				PlatformTransactionManager.class);
+		Duration timeToLive = Duration.ofMillis(this.taskProperties.getInstanceLeaseTtl());
+		return new TaskInstanceLimitListener((clientId) -> TaskLockRegistries.createJdbcLockRegistry(dataSource,
+				this.taskProperties, applicationContext, transactionManager, clientId, timeToLive), resolver,
+				this.taskProperties);
+	}
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.configuration;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cloud.task.listener.TaskExecutionException;
+import org.springframework.cloud.task.listener.annotation.AfterTask;
+import org.springframework.cloud.task.listener.annotation.BeforeTask;
+import org.springframework.cloud.task.listener.annotation.FailedTask;
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskNameResolver;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.integration.support.locks.RenewableLockRegistry;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * When spring.cloud.task.max-instances is set this listener leases one of that many
+ * slots for the task based on the spring.cloud.task.name, acting as a counting semaphore.
+ * Each slot is a lock named after the task and the slot number. If no slot is free the
+ * listener waits for up to spring.cloud.task.instance-wait-timeout millis and then throws
+ * a TaskExecutionException.
+ *
+ * The slot is acquired, renewed and released on a dedicated thread, because the locks
+ * are held by the thread that acquired them. Slots from a {@link RenewableLockRegistry}
+ * are renewed at a third of spring.cloud.task.instance-lease-ttl so that the lease of a
+ * task that dies expires. When spring.cloud.task.instance-wait-fair is true, waiting
+ * executions first take a queue lock, so only one of them at a time competes for a
+ * freed slot. The queue lock is renewed at the same rate while its holder waits.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+public class TaskInstanceLimitListener {
+
+	private static final Log logger = LogFactory.getLog(TaskInstanceLimitListener.class);
+
+	private final Function<String, LockRegistry> lockRegistryProvider;
+
+	private final TaskNameResolver taskNameResolver;
+
+	private final TaskProperties taskProperties;
+
+	private ScheduledExecutorService leaseExecutor;
+
+	private ScheduledFuture<?> renewal;
+
+	private Lock slotLock;
+
+	/**
+	 * @param lockRegistryProvider returns the {@link LockRegistry} for a client id
+	 * @param taskNameResolver resolves the name of the task
+	 * @param taskProperties the task properties
+	 */
+	public TaskInstanceLimitListener(Function<String, LockRegistry> lockRegistryProvider,
+			TaskNameResolver taskNameResolver, TaskProperties taskProperties) {
+		this.lockRegistryProvider = lockRegistryProvider;
+		this.taskNameResolver = taskNameResolver;
+		this.taskProperties = taskProperties;
+	}
+
+	@BeforeTask
+	public void acquireSlot(TaskExecution taskExecution) {
+		LockRegistry lockRegistry = this.lockRegistryProvider.apply(String.valueOf(taskExecution.getExecutionId()));
+		String taskName = this.taskNameResolver.getTaskName();
+		this.leaseExecutor = Executors.newSingleThreadScheduledExecutor(leaseThreadFactory());
+		Future<String> slot = this.leaseExecutor.submit(() -> acquire(lockRegistry, taskName));
+		String slotKey;
+		try {
+			slotKey = slot.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			slot.cancel(true);
+			releaseSlot();
+			throw new TaskExecutionException("Interrupted while waiting for a task instance slot.", ex);
+		}
+		catch (ExecutionException ex) {
+			releaseSlot();
+			throw new TaskExecutionException("Failed to acquire a task instance slot.", ex.getCause());
+		}
+		if (slotKey == null) {
+			releaseSlot();
+			throw new TaskExecutionException(String.format("Task with name \"%s\" already has %d running instances.",
+					taskName, this.taskProperties.getMaxInstances()));
+		}
+		if (lockRegistry instanceof RenewableLockRegistry renewableLockRegistry) {
+			long period = renewalPeriod();
+			this.renewal = this.leaseExecutor.scheduleAtFixedRate(() -> renew(renewableLockRegistry, slotKey), period,
+					period, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@AfterTask
+	public void releaseSlotOnEnd(TaskExecution taskExecution) {
+		releaseSlot();
+	}
+
+	@FailedTask
+	public void releaseSlotOnError(TaskExecution taskExecution, Throwable throwable) {
+		releaseSlot();
+	}
+
+	private String acquire(LockRegistry lockRegistry, String taskName) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.taskProperties.getInstanceWaitTimeout());
+		String queueKey = taskName + "#queue";
+		Lock queueLock = null;
+		if (this.taskProperties.isInstanceWaitFair()) {
+			queueLock = lockRegistry.obtain(queueKey);
+			if (!queueLock.tryLock(this.taskProperties.getInstanceWaitTimeout(), TimeUnit.MILLISECONDS)) {
+				return null;
+			}
+		}
+		RenewableLockRegistry queueRenewal = (queueLock != null
+				&& lockRegistry instanceof RenewableLockRegistry renewableLockRegistry) ? renewableLockRegistry : null;
+		long renewalPeriod = TimeUnit.MILLISECONDS.toNanos(renewalPeriod());
+		long nextRenewal = System.nanoTime() + renewalPeriod;
+		try {
+			while (true) {
+				for (int i = 0; i < this.taskProperties.getMaxInstances(); i++) {
+					String slotKey = taskName + "#" + i;
+					Lock lock = lockRegistry.obtain(slotKey);
+					if (lock.tryLock()) {
+						this.slotLock = lock;
+						return slotKey;
+					}
+				}
+				long now = System.nanoTime();
+				long remaining = deadline - now;
+				if (remaining <= 0) {
+					return null;
+				}
+				if (queueRenewal != null) {
+					if (now - nextRenewal >= 0) {
+						renew(queueRenewal, queueKey);
+						nextRenewal = now + renewalPeriod;
+					}
+					remaining = Math.min(remaining, nextRenewal - now);
+				}
+				Thread.sleep(Math.min(TimeUnit.NANOSECONDS.toMillis(remaining) + 1,
+						this.taskProperties.getSingleInstanceLockCheckInterval()));
+			}
+		}
+		finally {
+			if (queueLock != null) {
+				queueLock.unlock();
+			}
+		}
+	}
+
+	private long renewalPeriod() {
+		return Math.max(1, this.taskProperties.getInstanceLeaseTtl() / 3);
+	}
+
+	private void renew(RenewableLockRegistry lockRegistry, String lockKey) {
+		try {
+			lockRegistry.renewLock(lockKey);
+		}
+		catch (RuntimeException ex) {
+			logger.warn(String.format("Failed to renew the lease of task instance lock %s", lockKey), ex);
+		}
+	}
+
+	private synchronized void releaseSlot() {
+		if (this.leaseExecutor == null) {
+			return;
+		}
+		if (this.renewal != null) {
+			this.renewal.cancel(false);
+			this.renewal = null;
+		}
+		Future<?> release = this.leaseExecutor.submit(() -> {
+			if (this.slotLock != null) {
+				this.slotLock.unlock();
+				this.slotLock = null;
+			}
+		});
+		try {
+			release.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException ex) {
+			logger.warn("Failed to release the task instance slot", ex.getCause());
+		}
+		finally {
+			this.leaseExecutor.shutdown();
+			this.leaseExecutor = null;
+		}
+	}
+
+	private static CustomizableThreadFactory leaseThreadFactory() {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("task-instance-lease-");
+		threadFactory.setDaemon(true);
+		return threadFactory;
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cloud.task.configuration.TaskProperties.SingleInstanceLockType;
+import org.springframework.cloud.task.lock.DatabaseAdvisoryLockRegistry;
+import org.springframework.cloud.task.lock.FileLockRegistry;
+import org.springframework.cloud.task.repository.support.DatabaseDialect;
+import org.springframework.cloud.task.repository.support.DatabaseType;
+import org.springframework.context.ApplicationContext;
+import org.springframework.integration.jdbc.lock.DefaultLockRepository;
+import org.springframework.integration.jdbc.lock.JdbcLockRegistry;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StringUtils;
+
+/**
+ * Creates the {@link LockRegistry} instances used to restrict the running instances of a
+ * task.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+final class TaskLockRegistries {
+
+	private static final Log logger = LogFactory.getLog(TaskLockRegistries.class);
+
+	private TaskLockRegistries() {
+	}
+
+	/**
+	 * Create a registry backed by the TASK_LOCK table.
+	 * @param dataSource the task data source
+	 * @param taskProperties the task properties that provide the table prefix
+	 * @param applicationContext the application context
+	 * @param transactionManager the task transaction manager
+	 * @param clientId the id that identifies the lock holder
+	 * @param timeToLive the time after which a lock that was not renewed expires
+	 * @return the lock registry
+	 */
+	static JdbcLockRegistry createJdbcLockRegistry(DataSource dataSource, TaskProperties taskProperties,
+			ApplicationContext applicationContext, PlatformTransactionManager transactionManager, String clientId,
+			Duration timeToLive) {
+		DefaultLockRepository lockRepository = new DefaultLockRepository(dataSource, clientId);
+		lockRepository.setPrefix(taskProperties.getTablePrefix());
+		lockRepository.setApplicationContext(applicationContext);
+		lockRepository.afterPropertiesSet();
+		lockRepository.setTransactionManager(transactionManager);
+		lockRepository.afterSingletonsInstantiated();
+		return new JdbcLockRegistry(lockRepository, timeToLive);
+	}
+
+	/**
+	 * Create a registry backed by database session locks if they are configured and
+	 * supported.
+	 * @param dataSource the task data source
+	 * @param taskProperties the task properties
+	 * @return the lock registry or {@code null} if the TASK_LOCK table should be used
+	 */
+	static DatabaseAdvisoryLockRegistry createAdvisoryLockRegistry(DataSource dataSource,
+			TaskProperties taskProperties) {
+		if (taskProperties.getSingleInstanceLockType() != SingleInstanceLockType.ADVISORY) {
+			return null;
+		}
+		DatabaseType databaseType = DatabaseDialect.forDataSource(dataSource).getDatabaseType();
+		if (!DatabaseAdvisoryLockRegistry.isSupported(databaseType)) {
+			logger.warn(String.format("Advisory locks are not supported for %s, using the %sLOCK table instead",
+					databaseType, taskProperties.getTablePrefix()));
+			return null;
+		}
+		DatabaseAdvisoryLockRegistry lockRegistry = new DatabaseAdvisoryLockRegistry(dataSource, databaseType,
+				taskProperties.getTablePrefix());
+		lockRegistry.setIdleBetweenTries(Duration.ofMillis(taskProperties.getSingleInstanceLockCheckInterval()));
+		return lockRegistry;
+	}
+
+	/**
+	 * Create a registry backed by lock files if they are configured.
+	 * @param taskProperties the task properties
+	 * @return the lock registry or {@code null} if file locks are not configured
+	 */
+	static FileLockRegistry createFileLockRegistry(TaskProperties taskProperties) {
+		if (taskProperties.getSingleInstanceLockType() != SingleInstanceLockType.FILE) {
+			return null;
+		}
+		Path directory = StringUtils.hasText(taskProperties.getLockDirectory())
+				? Path.of(taskProperties.getLockDirectory())
+				: Path.of(System.getProperty("java.io.tmpdir"), "spring-cloud-task-locks");
+		FileLockRegistry lockRegistry = new FileLockRegistry(directory);
+		lockRegistry.setIdleBetweenTries(Duration.ofMillis(taskProperties.getSingleInstanceLockCheckInterval()));
+		return lockRegistry;
+	}
+
+}
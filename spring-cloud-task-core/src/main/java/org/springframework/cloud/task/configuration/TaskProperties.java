@@ -38,6 +38,12 @@ public class TaskProperties {
 
 	private static final int DEFAULT_CHECK_INTERVAL = 500;
 
+	private static final int DEFAULT_ASYNC_LISTENER_TIMEOUT = 30000;
+
+	private static final int DEFAULT_ASYNC_LISTENER_CONCURRENCY_LIMIT = 8;
+
+	private static final int DEFAULT_INSTANCE_LEASE_TTL = 60000;
+
 	private static final Log logger = LogFactory.getLog(TaskProperties.class);
 
 	/**
@@ -88,6 +94,48 @@ public class TaskProperties {
 	 */
 	private int singleInstanceLockCheckInterval = DEFAULT_CHECK_INTERVAL;
 
+	/**
+	 * The lock used when single-instance-enabled or max-instances is set. TABLE stores
+	 * the lock in the TASK_LOCK table. ADVISORY uses the session level locks of
+	 * PostgreSQL, MySQL, MariaDB or SQL Server, which are released by the database if the
+	 * task process dies, and falls back to TABLE for other databases. FILE locks a file in
+	 * the lock-directory, which only restricts instances on the same host but needs no
+	 * database. Default is: TABLE.
+	 */
+	private SingleInstanceLockType singleInstanceLockType = SingleInstanceLockType.TABLE;
+
+	/**
+	 * The directory of the lock files when single-instance-lock-type is FILE. Defaults to
+	 * spring-cloud-task-locks in the java.io.tmpdir directory.
+	 */
+	private String lockDirectory;
+
+	/**
+	 * The maximum number of task executions with the same task name that can run at the
+	 * same time. When set, each task execution leases one of this many slots and fails if
+	 * none is free within the instance-wait-timeout. Defaults to null, no limit.
+	 */
+	private Integer maxInstances;
+
+	/**
+	 * Declares the time (in millis) after which the slot lease of a task execution that
+	 * stopped renewing it expires, when max-instances is set and the TASK_LOCK table is
+	 * used. Leases are renewed at a third of this time. Default time is: 60000 millis.
+	 */
+	private int instanceLeaseTtl = DEFAULT_INSTANCE_LEASE_TTL;
+
+	/**
+	 * Declares the maximum amount of time (in millis) that a task execution waits for a
+	 * free slot when max-instances is set. Default time is: 0 millis, fail immediately.
+	 */
+	private int instanceWaitTimeout = 0;
+
+	/**
+	 * When set to true, task executions waiting for a slot take turns through a queue lock
+	 * instead of all competing for a freed slot.
+	 */
+	private boolean instanceWaitFair = false;
+
 	/**
 	 * If set to true then tables are initialized. If set to false tables are not
 	 * initialized. Defaults to null. The requirement for it to be defaulted to null is so
@@ -96,6 +144,32 @@ public class TaskProperties {
 	 */
 	private Boolean initializeEnabled;
 
+	/**
+	 * The type of the database used by the task repository, for example POSTGRES or
+	 * ORACLE. When set, the database type is not detected from the DataSource metadata.
+	 */
+	private String databaseType;
+
+	/**
+	 * Declares the maximum amount of time (in millis) that the task lifecycle waits for
+	 * listeners annotated with
+	 * {@link org.springframework.cloud.task.listener.annotation.AsyncTaskListener} to
+	 * complete. Default time is: 30000 millis.
+	 */
+	private int asyncListenerTimeout = DEFAULT_ASYNC_LISTENER_TIMEOUT;
+
+	/**
+	 * The maximum number of asynchronous task execution listeners that run at the same
+	 * time. Default is: 8.
+	 */
+	private int asyncListenerConcurrencyLimit = DEFAULT_ASYNC_LISTENER_CONCURRENCY_LIMIT;
+
+	/**
+	 * When set to true asynchronous task execution listeners run on virtual threads.
+	 * Requires Java 21 or later.
+	 */
+	private boolean asyncListenerVirtualThreadsEnabled = false;
+
 	public String getExternalExecutionId() {
 		return this.externalExecutionId;
 	}
@@ -160,6 +234,54 @@ public class TaskProperties {
 		this.singleInstanceLockCheckInterval = singleInstanceLockCheckInterval;
 	}
 
+	public SingleInstanceLockType getSingleInstanceLockType() {
+		return this.singleInstanceLockType;
+	}
+
+	public void setSingleInstanceLockType(SingleInstanceLockType singleInstanceLockType) {
+		this.singleInstanceLockType = singleInstanceLockType;
+	}
+
+	public String getLockDirectory() {
+		return this.lockDirectory;
+	}
+
+	public void setLockDirectory(String lockDirectory) {
+		this.lockDirectory = lockDirectory;
+	}
+
+	public Integer getMaxInstances() {
+		return this.maxInstances;
+	}
+
+	public void setMaxInstances(Integer maxInstances) {
+		this.maxInstances = maxInstances;
+	}
+
+	public int getInstanceLeaseTtl() {
+		return this.instanceLeaseTtl;
+	}
+
+	public void setInstanceLeaseTtl(int instanceLeaseTtl) {
+		this.instanceLeaseTtl = instanceLeaseTtl;
+	}
+
+	public int getInstanceWaitTimeout() {
+		return this.instanceWaitTimeout;
+	}
+
+	public void setInstanceWaitTimeout(int instanceWaitTimeout) {
+		this.instanceWaitTimeout = instanceWaitTimeout;
+	}
+
+	public boolean isInstanceWaitFair() {
+		return this.instanceWaitFair;
+	}
+
+	public void setInstanceWaitFair(boolean instanceWaitFair) {
+		this.instanceWaitFair = instanceWaitFair;
+	}
+
 	public Boolean isInitializeEnabled() {
 		return initializeEnabled;
 	}
@@ -168,4 +290,58 @@ public class TaskProperties {
 		this.initializeEnabled = initializeEnabled;
 	}
 
+	public String getDatabaseType() {
+		return this.databaseType;
+	}
+
+	public void setDatabaseType(String databaseType) {
+		this.databaseType = databaseType;
+	}
+
+	public int getAsyncListenerTimeout() {
+		return this.asyncListenerTimeout;
+	}
+
+	public void setAsyncListenerTimeout(int asyncListenerTimeout) {
+		this.asyncListenerTimeout = asyncListenerTimeout;
+	}
+
+	public int getAsyncListenerConcurrencyLimit() {
+		return this.asyncListenerConcurrencyLimit;
+	}
+
+	public void setAsyncListenerConcurrencyLimit(int asyncListenerConcurrencyLimit) {
+		this.asyncListenerConcurrencyLimit = asyncListenerConcurrencyLimit;
+	}
+
+	public boolean isAsyncListenerVirtualThreadsEnabled() {
+		return this.asyncListenerVirtualThreadsEnabled;
+	}
+
+	public void setAsyncListenerVirtualThreadsEnabled(boolean asyncListenerVirtualThreadsEnabled) {
+		this.asyncListenerVirtualThreadsEnabled = asyncListenerVirtualThreadsEnabled;
+	}
+
+	/**
+	 * The kinds of lock available to restrict a task to a single instance.
+	 */
+	public enum SingleInstanceLockType {
+
+		/**
+		 * A lock row in the TASK_LOCK table.
+		 */
+		TABLE,
+
+		/**
+		 * A session level lock of the database.
+		 */
+		ADVISORY,
+
+		/**
+		 * A lock on a file of the local file system.
+		 */
+		FILE
+
+	}
+
 }
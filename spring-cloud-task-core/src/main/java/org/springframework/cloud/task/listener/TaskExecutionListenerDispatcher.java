@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.listener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.task.configuration.TaskProperties;
+import org.springframework.cloud.task.listener.annotation.AsyncTaskListener;
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Invokes a lifecycle callback on a list of {@link TaskExecutionListener}s. Listeners
+ * annotated with {@link AsyncTaskListener} are started first on a bounded executor, the
+ * remaining listeners are then called in order on the calling thread, and finally the
+ * asynchronous listeners are joined.
+ *
+ * A failure is reported the same way as for sequential invocation: the exception of the
+ * first failing listener in list order is rethrown once all started listeners have
+ * finished. Synchronous listeners following a failed synchronous listener are not
+ * called.
+ *
+ * Each asynchronous listener receives its own copy of the {@link TaskExecution}, taken
+ * before any synchronous listener is called, so that the listeners do not share a
+ * mutable instance across threads. The synchronous listeners share the original.
+ *
+ * Submitting an asynchronous listener never blocks: listeners beyond the concurrency
+ * limit are queued. A listener that does not complete within the timeout is interrupted,
+ * and a listener that ignores the interrupt only holds up the listeners queued behind
+ * it, each of which is bounded by the timeout of its own dispatch.
+ *
+ * The executor is created on the first asynchronous dispatch and shut down when the
+ * dispatcher is destroyed, waiting at most the listener timeout for running listeners.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+class TaskExecutionListenerDispatcher implements DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(TaskExecutionListenerDispatcher.class);
+
+	private final TaskProperties taskProperties;
+
+	private ThreadPoolExecutor executor;
+
+	TaskExecutionListenerDispatcher(TaskProperties taskProperties) {
+		this.taskProperties = taskProperties;
+	}
+
+	static boolean isAsync(TaskExecutionListener listener) {
+		return AnnotationUtils.findAnnotation(ClassUtils.getUserClass(listener), AsyncTaskListener.class) != null;
+	}
+
+	void dispatch(List<TaskExecutionListener> listeners, TaskExecution taskExecution,
+			UnaryOperator<TaskExecution> copier, BiConsumer<TaskExecutionListener, TaskExecution> callback) {
+		if (listeners.stream().noneMatch(TaskExecutionListenerDispatcher::isAsync)) {
+			for (TaskExecutionListener listener : listeners) {
+				callback.accept(listener, taskExecution);
+			}
+			return;
+		}
+		Throwable[] failures = new Throwable[listeners.size()];
+		List<Integer> asyncIndexes = new ArrayList<>();
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < listeners.size(); i++) {
+			TaskExecutionListener listener = listeners.get(i);
+			if (isAsync(listener)) {
+				TaskExecution listenerTaskExecution = copier.apply(taskExecution);
+				asyncIndexes.add(i);
+				futures.add(getExecutor().submit(() -> callback.accept(listener, listenerTaskExecution)));
+			}
+		}
+		for (int i = 0; i < listeners.size(); i++) {
+			TaskExecutionListener listener = listeners.get(i);
+			if (!isAsync(listener)) {
+				try {
+					callback.accept(listener, taskExecution);
+				}
+				catch (Throwable ex) {
+					failures[i] = ex;
+					break;
+				}
+			}
+		}
+		long deadline = System.nanoTime()
+				+ TimeUnit.MILLISECONDS.toNanos(this.taskProperties.getAsyncListenerTimeout());
+		for (int i = 0; i < futures.size(); i++) {
+			int index = asyncIndexes.get(i);
+			Future<?> future = futures.get(i);
+			try {
+				future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+			}
+			catch (ExecutionException ex) {
+				failures[index] = ex.getCause();
+			}
+			catch (TimeoutException ex) {
+				future.cancel(true);
+				failures[index] = new TaskExecutionException(
+						String.format("TaskExecutionListener %s did not complete within %s ms", listeners.get(index),
+								this.taskProperties.getAsyncListenerTimeout()),
+						ex);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				failures[index] = new TaskExecutionException(
+						String.format("Interrupted while waiting for TaskExecutionListener %s", listeners.get(index)),
+						ex);
+			}
+		}
+		for (Throwable failure : failures) {
+			if (failure != null) {
+				rethrow(failure);
+			}
+		}
+	}
+
+	@Override
+	public void destroy() {
+		ThreadPoolExecutor executor;
+		synchronized (this) {
+			executor = this.executor;
+			this.executor = null;
+		}
+		if (executor == null) {
+			return;
+		}
+		executor.shutdown();
+		try {
+			if (!executor.awaitTermination(this.taskProperties.getAsyncListenerTimeout(), TimeUnit.MILLISECONDS)) {
+				logger.warn("Asynchronous task execution listeners did not complete before shutdown");
+				executor.shutdownNow();
+			}
+		}
+		catch (InterruptedException ex) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void rethrow(Throwable failure) {
+		if (failure instanceof RuntimeException runtimeException) {
+			throw runtimeException;
+		}
+		if (failure instanceof Error error) {
+			throw error;
+		}
+		throw new TaskExecutionException(failure.getMessage(), failure);
+	}
+
+	private synchronized ThreadPoolExecutor getExecutor() {
+		if (this.executor == null) {
+			ThreadFactory threadFactory;
+			if (this.taskProperties.isAsyncListenerVirtualThreadsEnabled()) {
+				threadFactory = new VirtualThreadTaskExecutor("task-listener-").getVirtualThreadFactory();
+			}
+			else {
+				CustomizableThreadFactory customizableThreadFactory = new CustomizableThreadFactory("task-listener-");
+				customizableThreadFactory.setDaemon(true);
+				threadFactory = customizableThreadFactory;
+			}
+			int concurrencyLimit = this.taskProperties.getAsyncListenerConcurrencyLimit();
+			if (concurrencyLimit > 0) {
+				this.executor = new ThreadPoolExecutor(concurrencyLimit, concurrencyLimit, 60, TimeUnit.SECONDS,
+						new LinkedBlockingQueue<>(), threadFactory);
+				this.executor.allowCoreThreadTimeOut(true);
+			}
+			else {
+				this.executor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS,
+						new SynchronousQueue<>(), threadFactory);
+			}
+		}
+		return this.executor;
+	}
+
+}
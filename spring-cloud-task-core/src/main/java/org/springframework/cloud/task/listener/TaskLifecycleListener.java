@@ -49,6 +49,7 @@ import org.springframework.context.ApplicationListener;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.SmartLifecycle;
 import org.springframework.core.Ordered;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
@@ -93,6 +94,8 @@ public class TaskLifecycleListener
 
 	private final TaskObservations taskObservations;
 
+	private final TaskExecutionListenerDispatcher taskExecutionListenerDispatcher;
+
 	@Autowired
 	private ConfigurableApplicationContext context;
 
@@ -152,6 +155,7 @@ public class TaskLifecycleListener
 		this.taskExplorer = taskExplorer;
 		this.taskProperties = taskProperties;
 		this.taskListenerExecutorObjectFactory = taskListenerExecutorObjectFactory;
+		this.taskExecutionListenerDispatcher = new TaskExecutionListenerDispatcher(taskProperties);
 		observationRegistry = observationRegistry == null ? ObservationRegistry.NOOP : observationRegistry;
 		this.taskObservations = new TaskObservations(observationRegistry, taskObservationCloudKeyValues,
 				observationConvention);
@@ -255,10 +259,10 @@ public class TaskLifecycleListener
 	}
 
 	private void doTaskStart() {
+		StartupStep taskStartStep = this.context.getApplicationStartup().start("spring.cloud.task.lifecycle.start");
 		try {
 			if (!this.started) {
 				this.taskExecutionListeners = new ArrayList<>();
-				this.taskListenerExecutorObjectFactory.getObject();
 				if (!CollectionUtils.isEmpty(this.taskExecutionListenersFromContext)) {
 					this.taskExecutionListeners.addAll(this.taskExecutionListenersFromContext);
 				}
@@ -305,6 +309,9 @@ public class TaskLifecycleListener
 			this.doTaskEnd();
 			throw t;
 		}
+		finally {
+			taskStartStep.end();
+		}
 	}
 
 	private TaskExecution invokeOnTaskStartup(TaskExecution taskExecution) {
@@ -314,9 +321,8 @@ public class TaskLifecycleListener
 		if (!CollectionUtils.isEmpty(startupListenerList)) {
 			try {
 				Collections.reverse(startupListenerList);
-				for (TaskExecutionListener taskExecutionListener : startupListenerList) {
-					taskExecutionListener.onTaskStartup(listenerTaskExecution);
-				}
+				this.taskExecutionListenerDispatcher.dispatch(startupListenerList, listenerTaskExecution,
+						this::getTaskExecutionCopy, TaskExecutionListener::onTaskStartup);
 			}
 			catch (Throwable currentListenerException) {
 				logger.error(currentListenerException);
@@ -336,9 +342,8 @@ public class TaskLifecycleListener
 		TaskExecution listenerTaskExecution = getTaskExecutionCopy(taskExecution);
 		if (this.taskExecutionListeners != null) {
 			try {
-				for (TaskExecutionListener taskExecutionListener : this.taskExecutionListeners) {
-					taskExecutionListener.onTaskEnd(listenerTaskExecution);
-				}
+				this.taskExecutionListenerDispatcher.dispatch(this.taskExecutionListeners, listenerTaskExecution,
+						this::getTaskExecutionCopy, TaskExecutionListener::onTaskEnd);
 			}
 			catch (Throwable listenerException) {
 				String errorMessage = stackTraceToString(listenerException);
@@ -361,9 +366,9 @@ public class TaskLifecycleListener
 		TaskExecution listenerTaskExecution = getTaskExecutionCopy(taskExecution);
 		if (this.taskExecutionListeners != null) {
 			try {
-				for (TaskExecutionListener taskExecutionListener : this.taskExecutionListeners) {
-					taskExecutionListener.onTaskFailed(listenerTaskExecution, throwable);
-				}
+				this.taskExecutionListenerDispatcher.dispatch(this.taskExecutionListeners, listenerTaskExecution,
+						this::getTaskExecutionCopy,
+						(listener, execution) -> listener.onTaskFailed(execution, throwable));
 			}
 			catch (Throwable listenerException) {
 				this.listenerFailed = true;
@@ -429,6 +434,7 @@ public class TaskLifecycleListener
 
 	@Override
 	public void destroy() {
+		this.taskExecutionListenerDispatcher.destroy();
 	}
 
 	@Override
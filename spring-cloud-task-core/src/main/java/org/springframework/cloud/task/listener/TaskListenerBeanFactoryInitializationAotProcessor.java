@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.listener;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.lang.model.element.Modifier;
+
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cloud.task.listener.annotation.AfterTask;
+import org.springframework.cloud.task.listener.annotation.BeforeTask;
+import org.springframework.cloud.task.listener.annotation.FailedTask;
+import org.springframework.javapoet.CodeBlock;
+
+/**
+ * Records the beans that declare {@link BeforeTask}, {@link AfterTask} or
+ * {@link FailedTask} methods while the application is processed ahead of time, so that
+ * the {@link TaskListenerExecutorObjectFactory} does not have to introspect every bean
+ * definition at startup. Reflection hints are registered for the listener methods.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+class TaskListenerBeanFactoryInitializationAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+	@Override
+	public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+		List<String> beanNames = new ArrayList<>();
+		Set<Method> listenerMethods = new LinkedHashSet<>();
+		for (String beanName : beanFactory.getBeanDefinitionNames()) {
+			Class<?> type = TaskListenerExecutorObjectFactory.determineTargetClass(beanFactory, beanName);
+			if (type == null) {
+				continue;
+			}
+			Map<Method, List<Class<? extends Annotation>>> methods = TaskListenerExecutorObjectFactory
+				.getListenerMethods(type);
+			if (!methods.isEmpty()) {
+				beanNames.add(beanName);
+				listenerMethods.addAll(methods.keySet());
+			}
+		}
+		return new TaskListenerContribution(beanNames, listenerMethods);
+	}
+
+	private static final class TaskListenerContribution implements BeanFactoryInitializationAotContribution {
+
+		private final List<String> beanNames;
+
+		private final Set<Method> listenerMethods;
+
+		private TaskListenerContribution(List<String> beanNames, Set<Method> listenerMethods) {
+			this.beanNames = beanNames;
+			this.listenerMethods = listenerMethods;
+		}
+
+		@Override
+		public void applyTo(GenerationContext generationContext,
+				BeanFactoryInitializationCode beanFactoryInitializationCode) {
+			ReflectionHints reflectionHints = generationContext.getRuntimeHints().reflection();
+			for (Method method : this.listenerMethods) {
+				reflectionHints.registerMethod(method, ExecutableMode.INVOKE);
+			}
+			CodeBlock beanNames = CodeBlock.join(this.beanNames.stream().map(name -> CodeBlock.of("$S", name)).toList(),
+					", ");
+			GeneratedMethod generatedMethod = beanFactoryInitializationCode.getMethods()
+				.add("registerTaskListenerBeanNames", method -> {
+					method.addJavadoc("Register the names of the beans that declare task listener methods.");
+					method.addModifiers(Modifier.PUBLIC);
+					method.addParameter(DefaultListableBeanFactory.class, "beanFactory");
+					method.addStatement("beanFactory.registerSingleton($S, new $T($L))",
+							TaskListenerBeanNames.BEAN_NAME, TaskListenerBeanNames.class, beanNames);
+				});
+			beanFactoryInitializationCode.addInitializer(generatedMethod.toMethodReference());
+		}
+
+	}
+
+}
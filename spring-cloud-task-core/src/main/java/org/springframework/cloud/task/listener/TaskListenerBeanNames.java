@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.listener;
+
+import org.springframework.cloud.task.listener.annotation.AfterTask;
+import org.springframework.cloud.task.listener.annotation.BeforeTask;
+import org.springframework.cloud.task.listener.annotation.FailedTask;
+
+/**
+ * Names of the beans that declare {@link BeforeTask}, {@link AfterTask} or
+ * {@link FailedTask} methods, as recorded at build time by
+ * {@code TaskListenerBeanFactoryInitializationAotProcessor}. When present, the
+ * {@link TaskListenerExecutorObjectFactory} only inspects these beans instead of every
+ * bean definition in the context.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+public final class TaskListenerBeanNames {
+
+	/**
+	 * The name of the singleton registered by the generated initialization code.
+	 */
+	public static final String BEAN_NAME = "org.springframework.cloud.task.listener.taskListenerBeanNames";
+
+	private final String[] beanNames;
+
+	public TaskListenerBeanNames(String... beanNames) {
+		this.beanNames = beanNames;
+	}
+
+	public String[] getBeanNames() {
+		return this.beanNames.clone();
+	}
+
+}
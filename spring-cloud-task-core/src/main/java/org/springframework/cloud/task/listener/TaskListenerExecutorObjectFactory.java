@@ -18,9 +18,11 @@ package org.springframework.cloud.task.listener;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -41,9 +43,13 @@ import org.springframework.cloud.task.listener.annotation.TaskListenerExecutor;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.MethodIntrospector;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.metrics.StartupStep;
 
 /**
- * Initializes TaskListenerExecutor for a task.
+ * Initializes TaskListenerExecutor for a task. The bean definitions are scanned once and
+ * the resulting executor is cached. When the context was processed ahead of time, only
+ * the beans recorded by {@code TaskListenerBeanFactoryInitializationAotProcessor} are
+ * inspected.
  *
  * @author Glenn Renfro
  * @author Isik Erhan
@@ -53,6 +59,9 @@ public class TaskListenerExecutorObjectFactory implements ObjectFactory<TaskExec
 
 	private static final Log logger = LogFactory.getLog(TaskListenerExecutor.class);
 
+	private static final List<Class<? extends Annotation>> LISTENER_ANNOTATIONS = List.of(BeforeTask.class,
+			AfterTask.class, FailedTask.class);
+
 	private final Set<Class<?>> nonAnnotatedClasses = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
 	private ConfigurableApplicationContext context;
@@ -63,56 +72,47 @@ public class TaskListenerExecutorObjectFactory implements ObjectFactory<TaskExec
 
 	private Map<Method, Set<Object>> failedTaskInstances;
 
+	private TaskListenerExecutor taskListenerExecutor;
+
 	public TaskListenerExecutorObjectFactory(ConfigurableApplicationContext context) {
 		this.context = context;
 	}
 
 	@Override
 	public TaskListenerExecutor getObject() {
-		this.beforeTaskInstances = new HashMap<>();
-		this.afterTaskInstances = new HashMap<>();
-		this.failedTaskInstances = new HashMap<>();
-		initializeExecutor();
-		return new TaskListenerExecutor(this.beforeTaskInstances, this.afterTaskInstances, this.failedTaskInstances);
+		if (this.taskListenerExecutor != null) {
+			return this.taskListenerExecutor;
+		}
+		this.beforeTaskInstances = new LinkedHashMap<>();
+		this.afterTaskInstances = new LinkedHashMap<>();
+		this.failedTaskInstances = new LinkedHashMap<>();
+		StartupStep scanStep = this.context.getApplicationStartup().start("spring.cloud.task.listeners.scan");
+		scanStep.tag("beanCount", String.valueOf(this.context.getBeanDefinitionCount()));
+		try {
+			initializeExecutor();
+		}
+		finally {
+			scanStep.end();
+		}
+		this.taskListenerExecutor = new TaskListenerExecutor(this.beforeTaskInstances, this.afterTaskInstances,
+				this.failedTaskInstances);
+		return this.taskListenerExecutor;
 	}
 
 	private void initializeExecutor() {
 		ConfigurableListableBeanFactory factory = this.context.getBeanFactory();
-		for (String beanName : this.context.getBeanDefinitionNames()) {
-
-			if (!ScopedProxyUtils.isScopedTarget(beanName)) {
-				Class<?> type = null;
+		String[] beanNames = (factory.containsSingleton(TaskListenerBeanNames.BEAN_NAME))
+				? factory.getBean(TaskListenerBeanNames.BEAN_NAME, TaskListenerBeanNames.class).getBeanNames()
+				: this.context.getBeanDefinitionNames();
+		for (String beanName : beanNames) {
+			Class<?> type = determineTargetClass(factory, beanName);
+			if (type != null) {
 				try {
-					type = AutoProxyUtils.determineTargetClass(factory, beanName);
+					processBean(beanName, type);
 				}
 				catch (RuntimeException ex) {
-					// An unresolvable bean type, probably from a lazy bean - let's ignore
-					// it.
-					if (logger.isDebugEnabled()) {
-						logger.debug("Could not resolve target class for bean with name '" + beanName + "'", ex);
-					}
-				}
-				if (type != null) {
-					if (ScopedObject.class.isAssignableFrom(type)) {
-						try {
-							type = AutoProxyUtils.determineTargetClass(factory,
-									ScopedProxyUtils.getTargetBeanName(beanName));
-						}
-						catch (RuntimeException ex) {
-							// An invalid scoped proxy arrangement - let's ignore it.
-							if (logger.isDebugEnabled()) {
-								logger.debug("Could not resolve target bean for scoped proxy '" + beanName + "'", ex);
-							}
-						}
-					}
-					try {
-						processBean(beanName, type);
-					}
-					catch (RuntimeException ex) {
-						throw new BeanInitializationException(
-								"Failed to process @BeforeTask " + "annotation on bean with name '" + beanName + "'",
-								ex);
-					}
+					throw new BeanInitializationException(
+							"Failed to process @BeforeTask " + "annotation on bean with name '" + beanName + "'", ex);
 				}
 			}
 		}
@@ -121,45 +121,83 @@ public class TaskListenerExecutorObjectFactory implements ObjectFactory<TaskExec
 
 	private void processBean(String beanName, final Class<?> type) {
 		if (!this.nonAnnotatedClasses.contains(type)) {
-			Map<Method, BeforeTask> beforeTaskMethods = (new MethodGetter<BeforeTask>()).getMethods(type,
-					BeforeTask.class);
-			Map<Method, AfterTask> afterTaskMethods = (new MethodGetter<AfterTask>()).getMethods(type, AfterTask.class);
-			Map<Method, FailedTask> failedTaskMethods = (new MethodGetter<FailedTask>()).getMethods(type,
-					FailedTask.class);
-
-			if (beforeTaskMethods.isEmpty() && afterTaskMethods.isEmpty()) {
+			Map<Method, List<Class<? extends Annotation>>> listenerMethods = getListenerMethods(type);
+			if (listenerMethods.isEmpty()) {
 				this.nonAnnotatedClasses.add(type);
 				return;
 			}
-			if (!beforeTaskMethods.isEmpty()) {
-				for (Method beforeTaskMethod : beforeTaskMethods.keySet()) {
-					this.beforeTaskInstances.computeIfAbsent(beforeTaskMethod, k -> new LinkedHashSet<>())
-						.add(this.context.getBean(beanName));
+			Object bean = this.context.getBean(beanName);
+			listenerMethods.forEach((method, annotationTypes) -> {
+				for (Class<? extends Annotation> annotationType : annotationTypes) {
+					getInstances(annotationType).computeIfAbsent(method, k -> new LinkedHashSet<>()).add(bean);
 				}
+			});
+		}
+	}
+
+	private Map<Method, Set<Object>> getInstances(Class<? extends Annotation> annotationType) {
+		if (annotationType == BeforeTask.class) {
+			return this.beforeTaskInstances;
+		}
+		return (annotationType == AfterTask.class) ? this.afterTaskInstances : this.failedTaskInstances;
+	}
+
+	/**
+	 * Resolve the user class behind the bean with the given name, following scoped
+	 * proxies.
+	 * @param factory the bean factory that holds the bean definition
+	 * @param beanName the name of the bean
+	 * @return the target class or {@code null} if it can not be determined
+	 */
+	static Class<?> determineTargetClass(ConfigurableListableBeanFactory factory, String beanName) {
+		if (ScopedProxyUtils.isScopedTarget(beanName)) {
+			return null;
+		}
+		Class<?> type = null;
+		try {
+			type = AutoProxyUtils.determineTargetClass(factory, beanName);
+		}
+		catch (RuntimeException ex) {
+			// An unresolvable bean type, probably from a lazy bean - let's ignore
+			// it.
+			if (logger.isDebugEnabled()) {
+				logger.debug("Could not resolve target class for bean with name '" + beanName + "'", ex);
 			}
-			if (!afterTaskMethods.isEmpty()) {
-				for (Method afterTaskMethod : afterTaskMethods.keySet()) {
-					this.afterTaskInstances.computeIfAbsent(afterTaskMethod, k -> new LinkedHashSet<>())
-						.add(this.context.getBean(beanName));
-				}
+		}
+		if (type != null && ScopedObject.class.isAssignableFrom(type)) {
+			try {
+				type = AutoProxyUtils.determineTargetClass(factory, ScopedProxyUtils.getTargetBeanName(beanName));
 			}
-			if (!failedTaskMethods.isEmpty()) {
-				for (Method failedTaskMethod : failedTaskMethods.keySet()) {
-					this.failedTaskInstances.computeIfAbsent(failedTaskMethod, k -> new LinkedHashSet<>())
-						.add(this.context.getBean(beanName));
+			catch (RuntimeException ex) {
+				// An invalid scoped proxy arrangement - let's ignore it.
+				if (logger.isDebugEnabled()) {
+					logger.debug("Could not resolve target bean for scoped proxy '" + beanName + "'", ex);
 				}
 			}
 		}
+		return type;
 	}
 
-	private static final class MethodGetter<T extends Annotation> {
-
-		public Map<Method, T> getMethods(final Class<?> type, final Class<T> annotationClass) {
-			return MethodIntrospector.selectMethods(type,
-					(MethodIntrospector.MetadataLookup<T>) method -> AnnotationUtils.findAnnotation(method,
-							annotationClass));
-		}
-
+	/**
+	 * Find the methods of the given type that carry {@link BeforeTask}, {@link AfterTask}
+	 * or {@link FailedTask} in a single pass over its hierarchy.
+	 * @param type the type to introspect
+	 * @return the listener methods mapped to the listener annotations they carry
+	 */
+	static Map<Method, List<Class<? extends Annotation>>> getListenerMethods(Class<?> type) {
+		return MethodIntrospector.selectMethods(type,
+				(MethodIntrospector.MetadataLookup<List<Class<? extends Annotation>>>) method -> {
+					List<Class<? extends Annotation>> annotationTypes = null;
+					for (Class<? extends Annotation> annotationType : LISTENER_ANNOTATIONS) {
+						if (AnnotationUtils.findAnnotation(method, annotationType) != null) {
+							if (annotationTypes == null) {
+								annotationTypes = new ArrayList<>(1);
+							}
+							annotationTypes.add(annotationType);
+						}
+					}
+					return annotationTypes;
+				});
 	}
 
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.listener.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.cloud.task.listener.TaskExecutionListener;
+
+/**
+ * <p>
+ * Marks a {@link TaskExecutionListener} as independent of the other listeners, so that
+ * its callbacks may run concurrently with them at the start and end of a task.
+ * </p>
+ *
+ * <p>
+ * The lifecycle thread waits for asynchronous listeners to complete, for at most
+ * <code>spring.cloud.task.async-listener-timeout</code> milliseconds, before the task
+ * execution is recorded. Each asynchronous listener receives its own copy of the
+ * {@code TaskExecution}, so it does not see changes made by other listeners and the
+ * changes it makes are not recorded.
+ * </p>
+ *
+ * <pre class="code">
+ * &#064;AsyncTaskListener
+ * public class MyListener implements TaskExecutionListener {
+ * 	&#064;Override
+ * 	public void onTaskEnd(TaskExecution taskExecution) {
+ *    }
+ * }
+ * </pre>
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface AsyncTaskListener {
+
+}
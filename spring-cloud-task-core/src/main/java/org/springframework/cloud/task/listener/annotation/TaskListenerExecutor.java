@@ -16,37 +16,54 @@
 
 package org.springframework.cloud.task.listener.annotation;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.springframework.cloud.task.listener.TaskExecutionException;
 import org.springframework.cloud.task.listener.TaskExecutionListener;
 import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.annotation.OrderUtils;
+import org.springframework.util.ClassUtils;
 
 /**
  * Identifies all beans that contain a TaskExecutionListener annotation and stores the
  * associated method so that it can be called by the {@link TaskExecutionListener} at the
  * appropriate time.
  *
+ * Each annotated method is compiled into a {@link MethodHandle} bound to its bean when
+ * the executor is created. The listeners are invoked in the order given by
+ * {@link Order @Order} on the method, or else by the bean's {@link Ordered} or
+ * {@link Order @Order} declaration, and otherwise in registration order.
+ *
  * @author Glenn Renfro
  * @author Isik Erhan
  */
 public class TaskListenerExecutor implements TaskExecutionListener {
 
-	private Map<Method, Set<Object>> beforeTaskInstances;
+	private final List<ListenerInvoker> beforeTaskInvokers;
 
-	private Map<Method, Set<Object>> afterTaskInstances;
+	private final List<ListenerInvoker> afterTaskInvokers;
 
-	private Map<Method, Set<Object>> failedTaskInstances;
+	private final List<ListenerInvoker> failedTaskInvokers;
 
 	public TaskListenerExecutor(Map<Method, Set<Object>> beforeTaskInstances,
 			Map<Method, Set<Object>> afterTaskInstances, Map<Method, Set<Object>> failedTaskInstances) {
 
-		this.beforeTaskInstances = beforeTaskInstances;
-		this.afterTaskInstances = afterTaskInstances;
-		this.failedTaskInstances = failedTaskInstances;
+		this.beforeTaskInvokers = createInvokers(beforeTaskInstances, TaskExecution.class);
+		this.afterTaskInvokers = createInvokers(afterTaskInstances, TaskExecution.class);
+		this.failedTaskInvokers = createInvokers(failedTaskInstances, TaskExecution.class, Throwable.class);
 	}
 
 	/**
@@ -55,7 +72,7 @@ public class TaskListenerExecutor implements TaskExecutionListener {
 	 */
 	@Override
 	public void onTaskStartup(TaskExecution taskExecution) {
-		executeTaskListener(taskExecution, this.beforeTaskInstances.keySet(), this.beforeTaskInstances);
+		executeTaskListener(taskExecution, this.beforeTaskInvokers);
 	}
 
 	/**
@@ -64,7 +81,7 @@ public class TaskListenerExecutor implements TaskExecutionListener {
 	 */
 	@Override
 	public void onTaskEnd(TaskExecution taskExecution) {
-		executeTaskListener(taskExecution, this.afterTaskInstances.keySet(), this.afterTaskInstances);
+		executeTaskListener(taskExecution, this.afterTaskInvokers);
 	}
 
 	/**
@@ -74,57 +91,176 @@ public class TaskListenerExecutor implements TaskExecutionListener {
 	 */
 	@Override
 	public void onTaskFailed(TaskExecution taskExecution, Throwable throwable) {
-		executeTaskListenerWithThrowable(taskExecution, throwable, this.failedTaskInstances.keySet(),
-				this.failedTaskInstances);
+		executeTaskListenerWithThrowable(taskExecution, throwable, this.failedTaskInvokers);
 	}
 
-	private void executeTaskListener(TaskExecution taskExecution, Set<Method> methods,
-			Map<Method, Set<Object>> instances) {
-		for (Method method : methods) {
-			for (Object instance : instances.get(method)) {
-				try {
-					method.invoke(instance, taskExecution);
-				}
-				catch (IllegalAccessException e) {
-					throw new TaskExecutionException("@BeforeTask and @AfterTask annotated methods must be public.", e);
-				}
-				catch (InvocationTargetException e) {
-					throw new TaskExecutionException(
-							String.format("Failed to process @BeforeTask or @AfterTask" + " annotation because: %s",
-									e.getTargetException().getMessage()),
-							e);
-				}
-				catch (IllegalArgumentException e) {
-					throw new TaskExecutionException(
-							"taskExecution parameter " + "is required for @BeforeTask and @AfterTask annotated methods",
-							e);
-				}
+	private void executeTaskListener(TaskExecution taskExecution, List<ListenerInvoker> invokers) {
+		for (ListenerInvoker invoker : invokers) {
+			try {
+				invoker.invoke(taskExecution);
+			}
+			catch (IllegalAccessException e) {
+				throw new TaskExecutionException("@BeforeTask and @AfterTask annotated methods must be public.", e);
+			}
+			catch (InvocationTargetException e) {
+				throw new TaskExecutionException(
+						String.format("Failed to process @BeforeTask or @AfterTask" + " annotation because: %s",
+								e.getTargetException().getMessage()),
+						e);
+			}
+			catch (IllegalArgumentException e) {
+				throw new TaskExecutionException(
+						"taskExecution parameter " + "is required for @BeforeTask and @AfterTask annotated methods",
+						e);
+			}
+		}
+	}
+
+	private void executeTaskListenerWithThrowable(TaskExecution taskExecution, Throwable throwable,
+			List<ListenerInvoker> invokers) {
+		for (ListenerInvoker invoker : invokers) {
+			try {
+				invoker.invoke(taskExecution, throwable);
+			}
+			catch (IllegalAccessException e) {
+				throw new TaskExecutionException("@FailedTask annotated methods must be public.", e);
+			}
+			catch (InvocationTargetException e) {
+				throw new TaskExecutionException(
+						String.format("Failed to process @FailedTask " + "annotation because: %s",
+								e.getTargetException().getMessage()),
+						e);
+			}
+			catch (IllegalArgumentException e) {
+				throw new TaskExecutionException("taskExecution and throwable parameters "
+						+ "are required for @FailedTask annotated methods", e);
 			}
 		}
 	}
 
-	private void executeTaskListenerWithThrowable(TaskExecution taskExecution, Throwable throwable, Set<Method> methods,
-			Map<Method, Set<Object>> instances) {
-		for (Method method : methods) {
-			for (Object instance : instances.get(method)) {
+	private static List<ListenerInvoker> createInvokers(Map<Method, Set<Object>> instances,
+			Class<?>... parameterTypes) {
+		List<ListenerInvoker> invokers = new ArrayList<>();
+		instances.forEach((method, beans) -> {
+			for (Object bean : beans) {
+				invokers.add(new ListenerInvoker(method, bean, parameterTypes));
+			}
+		});
+		// List.sort is stable so listeners with the same order keep registration order.
+		invokers.sort(Comparator.comparingInt(ListenerInvoker::getOrder));
+		return List.copyOf(invokers);
+	}
+
+	/**
+	 * Invokes one annotated method on one bean. Problems found while creating the method
+	 * handle are reported on invocation with the exception type {@link Method#invoke}
+	 * would throw, so that they are translated the same way.
+	 */
+	private static final class ListenerInvoker {
+
+		private final int order;
+
+		private final MethodHandle handle;
+
+		private final Class<?> throwableType;
+
+		private final String accessFailure;
+
+		private final String argumentFailure;
+
+		private ListenerInvoker(Method method, Object bean, Class<?>[] parameterTypes) {
+			this.order = getOrder(method, bean);
+			Class<?>[] methodParameterTypes = method.getParameterTypes();
+			this.throwableType = (methodParameterTypes.length > 1) ? methodParameterTypes[1] : Throwable.class;
+			MethodHandle handle = null;
+			String accessFailure = null;
+			String argumentFailure = null;
+			if (!isApplicable(methodParameterTypes, parameterTypes)) {
+				argumentFailure = "wrong number or type of arguments for " + method;
+			}
+			else if (!Modifier.isStatic(method.getModifiers()) && !method.getDeclaringClass().isInstance(bean)) {
+				argumentFailure = "object is not an instance of declaring class " + method.getDeclaringClass();
+			}
+			else {
 				try {
-					method.invoke(instance, taskExecution, throwable);
-				}
-				catch (IllegalAccessException e) {
-					throw new TaskExecutionException("@FailedTask annotated methods must be public.", e);
+					handle = MethodHandles.publicLookup().unreflect(method);
+					if (!Modifier.isStatic(method.getModifiers())) {
+						handle = handle.bindTo(bean);
+					}
+					handle = handle.asType(MethodType.methodType(void.class, parameterTypes));
 				}
-				catch (InvocationTargetException e) {
-					throw new TaskExecutionException(
-							String.format("Failed to process @FailedTask " + "annotation because: %s",
-									e.getTargetException().getMessage()),
-							e);
-				}
-				catch (IllegalArgumentException e) {
-					throw new TaskExecutionException("taskExecution and throwable parameters "
-							+ "are required for @FailedTask annotated methods", e);
+				catch (IllegalAccessException ex) {
+					accessFailure = ex.getMessage();
 				}
 			}
+			this.handle = handle;
+			this.accessFailure = accessFailure;
+			this.argumentFailure = argumentFailure;
+		}
+
+		int getOrder() {
+			return this.order;
+		}
+
+		void invoke(TaskExecution taskExecution) throws IllegalAccessException, InvocationTargetException {
+			checkInvocable();
+			try {
+				this.handle.invokeExact(taskExecution);
+			}
+			catch (Throwable ex) {
+				throw new InvocationTargetException(ex);
+			}
+		}
+
+		void invoke(TaskExecution taskExecution, Throwable throwable)
+				throws IllegalAccessException, InvocationTargetException {
+			checkInvocable();
+			if (throwable != null && !this.throwableType.isInstance(throwable)) {
+				throw new IllegalArgumentException("argument type mismatch");
+			}
+			try {
+				this.handle.invokeExact(taskExecution, throwable);
+			}
+			catch (Throwable ex) {
+				throw new InvocationTargetException(ex);
+			}
 		}
+
+		private void checkInvocable() throws IllegalAccessException {
+			if (this.accessFailure != null) {
+				throw new IllegalAccessException(this.accessFailure);
+			}
+			if (this.argumentFailure != null) {
+				throw new IllegalArgumentException(this.argumentFailure);
+			}
+		}
+
+		/**
+		 * The first parameter must accept the task execution. A second parameter, when
+		 * required, may narrow the throwable; it is checked on each invocation.
+		 */
+		private static boolean isApplicable(Class<?>[] methodParameterTypes, Class<?>[] parameterTypes) {
+			if (methodParameterTypes.length != parameterTypes.length) {
+				return false;
+			}
+			if (!methodParameterTypes[0].isAssignableFrom(TaskExecution.class)) {
+				return false;
+			}
+			return methodParameterTypes.length == 1 || Throwable.class.isAssignableFrom(methodParameterTypes[1])
+					|| methodParameterTypes[1].isAssignableFrom(Throwable.class);
+		}
+
+		private static int getOrder(Method method, Object bean) {
+			Order order = AnnotationUtils.findAnnotation(method, Order.class);
+			if (order != null) {
+				return order.value();
+			}
+			if (bean instanceof Ordered ordered) {
+				return ordered.getOrder();
+			}
+			return OrderUtils.getOrder(ClassUtils.getUserClass(bean), Ordered.LOWEST_PRECEDENCE);
+		}
+
 	}
 
 }
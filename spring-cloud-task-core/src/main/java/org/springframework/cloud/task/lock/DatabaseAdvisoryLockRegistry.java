@@ -0,0 +1,319 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.lock;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cloud.task.repository.support.DatabaseType;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.Assert;
+
+/**
+ * {@link LockRegistry} backed by the session level locks of the database: PostgreSQL
+ * advisory locks, MySQL and MariaDB named locks and SQL Server application locks. A lock
+ * is acquired with a single statement on a connection that is held until the lock is
+ * released, so the database releases it if the process dies.
+ *
+ * The locks are reentrant for the thread that holds them. Reentrant acquisitions do not
+ * reach the database.
+ *
+ * If a lock cannot be released, or it is unknown whether it was acquired, its connection
+ * is aborted rather than returned to the pool, so that the database ends the session and
+ * releases the lock. A pooled connection that has been aborted is discarded by the pool
+ * when it is next validated.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+public class DatabaseAdvisoryLockRegistry implements LockRegistry {
+
+	private static final Log logger = LogFactory.getLog(DatabaseAdvisoryLockRegistry.class);
+
+	private static final int MAX_LOCK_NAME_LENGTH = 64;
+
+	private final DataSource dataSource;
+
+	private final DatabaseType databaseType;
+
+	private final String prefix;
+
+	private final Map<String, AdvisoryLock> locks = new ConcurrentHashMap<>();
+
+	private Duration idleBetweenTries = Duration.ofMillis(100);
+
+	/**
+	 * Create a registry for the given data source.
+	 * @param dataSource the data source that provides the lock sessions
+	 * @param databaseType the type of the database, see {@link #isSupported(DatabaseType)}
+	 * @param prefix the prefix added to every lock key, for example the table prefix
+	 */
+	public DatabaseAdvisoryLockRegistry(DataSource dataSource, DatabaseType databaseType, String prefix) {
+		Assert.notNull(dataSource, "A dataSource is required");
+		Assert.isTrue(isSupported(databaseType), () -> "Advisory locks are not supported for " + databaseType);
+		this.dataSource = dataSource;
+		this.databaseType = databaseType;
+		this.prefix = (prefix != null) ? prefix : "";
+	}
+
+	/**
+	 * Whether session level locks are available for the given database type.
+	 * @param databaseType the type of the database
+	 * @return true for PostgreSQL, MySQL, MariaDB and SQL Server
+	 */
+	public static boolean isSupported(DatabaseType databaseType) {
+		return databaseType == DatabaseType.POSTGRES || databaseType == DatabaseType.MYSQL
+				|| databaseType == DatabaseType.MARIADB || databaseType == DatabaseType.SQLSERVER;
+	}
+
+	/**
+	 * The time to wait between attempts when a lock is requested with a timeout.
+	 * @param idleBetweenTries the time between attempts, defaults to 100 millis
+	 */
+	public void setIdleBetweenTries(Duration idleBetweenTries) {
+		Assert.notNull(idleBetweenTries, "idleBetweenTries must not be null");
+		this.idleBetweenTries = idleBetweenTries;
+	}
+
+	@Override
+	public Lock obtain(Object lockKey) {
+		Assert.isInstanceOf(String.class, lockKey);
+		String name = this.prefix + lockKey;
+		return this.locks.computeIfAbsent(name, AdvisoryLock::new);
+	}
+
+	private String lockName(String name) {
+		if (name.length() <= MAX_LOCK_NAME_LENGTH) {
+			return name;
+		}
+		return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)).toString();
+	}
+
+	private static long lockId(String name) {
+		return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)).getMostSignificantBits();
+	}
+
+	private boolean acquire(Connection connection, String name) throws SQLException {
+		switch (this.databaseType) {
+			case POSTGRES -> {
+				try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+					statement.setLong(1, lockId(name));
+					return queryBoolean(statement);
+				}
+			}
+			case SQLSERVER -> {
+				try (CallableStatement statement = connection
+					.prepareCall("{? = call sp_getapplock(@Resource = ?, @LockMode = 'Exclusive', "
+							+ "@LockOwner = 'Session', @LockTimeout = 0)}")) {
+					statement.registerOutParameter(1, Types.INTEGER);
+					statement.setString(2, lockName(name));
+					statement.execute();
+					return statement.getInt(1) >= 0;
+				}
+			}
+			default -> {
+				try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+					statement.setString(1, lockName(name));
+					return queryBoolean(statement);
+				}
+			}
+		}
+	}
+
+	private void release(Connection connection, String name) throws SQLException {
+		switch (this.databaseType) {
+			case POSTGRES -> {
+				try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+					statement.setLong(1, lockId(name));
+					queryBoolean(statement);
+				}
+			}
+			case SQLSERVER -> {
+				try (CallableStatement statement = connection
+					.prepareCall("{call sp_releaseapplock(@Resource = ?, @LockOwner = 'Session')}")) {
+					statement.setString(1, lockName(name));
+					statement.execute();
+				}
+			}
+			default -> {
+				try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+					statement.setString(1, lockName(name));
+					queryBoolean(statement);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Abort the physical connection, so that the session and any lock it holds end even
+	 * if the connection comes from a pool, and then hand it back to the pool.
+	 * @param connection the connection to abort, may be {@code null}
+	 */
+	private static void abortConnection(Connection connection) {
+		if (connection == null) {
+			return;
+		}
+		try {
+			connection.abort(Runnable::run);
+		}
+		catch (SQLException | RuntimeException ex) {
+			logger.warn("Failed to abort the lock connection", ex);
+		}
+		JdbcUtils.closeConnection(connection);
+	}
+
+	private static boolean queryBoolean(PreparedStatement statement) throws SQLException {
+		try (ResultSet resultSet = statement.executeQuery()) {
+			if (!resultSet.next()) {
+				return false;
+			}
+			Object value = resultSet.getObject(1);
+			if (value instanceof Boolean result) {
+				return result;
+			}
+			return value instanceof Number number && number.intValue() == 1;
+		}
+	}
+
+	private final class AdvisoryLock implements Lock {
+
+		private final String name;
+
+		private final ReentrantLock delegate = new ReentrantLock();
+
+		private Connection connection;
+
+		private AdvisoryLock(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public void lock() {
+			boolean interrupted = false;
+			while (!tryLock()) {
+				try {
+					Thread.sleep(DatabaseAdvisoryLockRegistry.this.idleBetweenTries.toMillis());
+				}
+				catch (InterruptedException ex) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			while (!tryLock()) {
+				Thread.sleep(DatabaseAdvisoryLockRegistry.this.idleBetweenTries.toMillis());
+			}
+		}
+
+		@Override
+		public boolean tryLock() {
+			if (!this.delegate.tryLock()) {
+				return false;
+			}
+			if (this.delegate.getHoldCount() > 1) {
+				return true;
+			}
+			Connection connection = null;
+			try {
+				connection = DatabaseAdvisoryLockRegistry.this.dataSource.getConnection();
+				connection.setAutoCommit(true);
+				if (acquire(connection, this.name)) {
+					this.connection = connection;
+					return true;
+				}
+			}
+			catch (SQLException ex) {
+				logger.warn(String.format("Failed to acquire lock %s, aborting its connection", this.name), ex);
+				abortConnection(connection);
+				connection = null;
+			}
+			JdbcUtils.closeConnection(connection);
+			this.delegate.unlock();
+			return false;
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			long deadline = System.nanoTime() + unit.toNanos(time);
+			while (!tryLock()) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					return false;
+				}
+				Thread.sleep(Math.min(TimeUnit.NANOSECONDS.toMillis(remaining) + 1,
+						DatabaseAdvisoryLockRegistry.this.idleBetweenTries.toMillis()));
+			}
+			return true;
+		}
+
+		@Override
+		public void unlock() {
+			if (!this.delegate.isHeldByCurrentThread()) {
+				throw new IllegalMonitorStateException("The current thread does not hold lock " + this.name);
+			}
+			try {
+				if (this.delegate.getHoldCount() == 1) {
+					Connection connection = this.connection;
+					this.connection = null;
+					try {
+						release(connection, this.name);
+						JdbcUtils.closeConnection(connection);
+					}
+					catch (SQLException | RuntimeException ex) {
+						logger.warn(String.format("Failed to release lock %s, aborting its connection so that the "
+								+ "database ends the session", this.name), ex);
+						abortConnection(connection);
+					}
+				}
+			}
+			finally {
+				this.delegate.unlock();
+			}
+		}
+
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException("Conditions are not supported by advisory locks");
+		}
+
+	}
+
+}
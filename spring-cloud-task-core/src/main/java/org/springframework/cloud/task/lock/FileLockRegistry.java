@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.lock;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.util.Assert;
+
+/**
+ * {@link LockRegistry} backed by {@link FileChannel#tryLock() file locks} on one lock
+ * file per key in a directory. It restricts task instances on a single host without a
+ * database. The operating system releases the locks when the process exits.
+ *
+ * The locks are reentrant for the thread that holds them. The lock files are kept after
+ * the locks are released, so that every process locks the same file.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+public class FileLockRegistry implements LockRegistry {
+
+	private static final Log logger = LogFactory.getLog(FileLockRegistry.class);
+
+	private static final Pattern SAFE_FILE_NAME = Pattern.compile("[A-Za-z0-9._-]{1,200}");
+
+	private final Path directory;
+
+	private final Map<String, FileBasedLock> locks = new ConcurrentHashMap<>();
+
+	private Duration idleBetweenTries = Duration.ofMillis(100);
+
+	/**
+	 * Create a registry that keeps its lock files in the given directory.
+	 * @param directory the lock directory, created if it does not exist
+	 */
+	public FileLockRegistry(Path directory) {
+		Assert.notNull(directory, "A directory is required");
+		this.directory = directory;
+	}
+
+	/**
+	 * The time to wait between attempts when a lock is requested with a timeout.
+	 * @param idleBetweenTries the time between attempts, defaults to 100 millis
+	 */
+	public void setIdleBetweenTries(Duration idleBetweenTries) {
+		Assert.notNull(idleBetweenTries, "idleBetweenTries must not be null");
+		this.idleBetweenTries = idleBetweenTries;
+	}
+
+	@Override
+	public Lock obtain(Object lockKey) {
+		Assert.isInstanceOf(String.class, lockKey);
+		return this.locks.computeIfAbsent((String) lockKey, FileBasedLock::new);
+	}
+
+	private Path lockFile(String key) {
+		String fileName = SAFE_FILE_NAME.matcher(key).matches() ? key
+				: UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString();
+		return this.directory.resolve(fileName + ".lock");
+	}
+
+	private final class FileBasedLock implements Lock {
+
+		private final String key;
+
+		private final ReentrantLock delegate = new ReentrantLock();
+
+		private FileChannel channel;
+
+		private FileLock fileLock;
+
+		private FileBasedLock(String key) {
+			this.key = key;
+		}
+
+		@Override
+		public void lock() {
+			boolean interrupted = false;
+			while (!tryLock()) {
+				try {
+					Thread.sleep(FileLockRegistry.this.idleBetweenTries.toMillis());
+				}
+				catch (InterruptedException ex) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			while (!tryLock()) {
+				Thread.sleep(FileLockRegistry.this.idleBetweenTries.toMillis());
+			}
+		}
+
+		@Override
+		public boolean tryLock() {
+			if (!this.delegate.tryLock()) {
+				return false;
+			}
+			if (this.delegate.getHoldCount() > 1) {
+				return true;
+			}
+			FileChannel channel = null;
+			try {
+				Files.createDirectories(FileLockRegistry.this.directory);
+				channel = FileChannel.open(lockFile(this.key), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+				FileLock fileLock = channel.tryLock();
+				if (fileLock != null) {
+					this.channel = channel;
+					this.fileLock = fileLock;
+					return true;
+				}
+			}
+			catch (OverlappingFileLockException ex) {
+				// Held by another registry in this JVM.
+			}
+			catch (IOException ex) {
+				logger.warn(String.format("Failed to acquire file lock %s", this.key), ex);
+			}
+			closeQuietly(channel);
+			this.delegate.unlock();
+			return false;
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			long deadline = System.nanoTime() + unit.toNanos(time);
+			while (!tryLock()) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					return false;
+				}
+				Thread.sleep(Math.min(TimeUnit.NANOSECONDS.toMillis(remaining) + 1,
+						FileLockRegistry.this.idleBetweenTries.toMillis()));
+			}
+			return true;
+		}
+
+		@Override
+		public void unlock() {
+			if (!this.delegate.isHeldByCurrentThread()) {
+				throw new IllegalMonitorStateException("The current thread does not hold lock " + this.key);
+			}
+			try {
+				if (this.delegate.getHoldCount() == 1) {
+					try {
+						this.fileLock.release();
+					}
+					catch (IOException ex) {
+						logger.warn(String.format("Failed to release file lock %s", this.key), ex);
+					}
+					finally {
+						closeQuietly(this.channel);
+						this.fileLock = null;
+						this.channel = null;
+					}
+				}
+			}
+			finally {
+				this.delegate.unlock();
+			}
+		}
+
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException("Conditions are not supported by file locks");
+		}
+
+		private void closeQuietly(FileChannel channel) {
+			if (channel != null) {
+				try {
+					channel.close();
+				}
+				catch (IOException ex) {
+					logger.debug(String.format("Failed to close lock file for %s", this.key), ex);
+				}
+			}
+		}
+
+	}
+
+}
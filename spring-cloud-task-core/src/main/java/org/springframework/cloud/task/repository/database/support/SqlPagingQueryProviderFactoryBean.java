@@ -16,7 +16,6 @@
 
 package org.springframework.cloud.task.repository.database.support;
 
-import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 
@@ -25,23 +24,11 @@ import javax.sql.DataSource;
 import org.springframework.batch.infrastructure.item.database.Order;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.cloud.task.repository.database.PagingQueryProvider;
+import org.springframework.cloud.task.repository.support.DatabaseDialect;
 import org.springframework.cloud.task.repository.support.DatabaseType;
-import org.springframework.jdbc.support.MetaDataAccessException;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
-import static org.springframework.cloud.task.repository.support.DatabaseType.DB2;
-import static org.springframework.cloud.task.repository.support.DatabaseType.DB2AS400;
-import static org.springframework.cloud.task.repository.support.DatabaseType.DB2VSE;
-import static org.springframework.cloud.task.repository.support.DatabaseType.DB2ZOS;
-import static org.springframework.cloud.task.repository.support.DatabaseType.H2;
-import static org.springframework.cloud.task.repository.support.DatabaseType.HSQL;
-import static org.springframework.cloud.task.repository.support.DatabaseType.MARIADB;
-import static org.springframework.cloud.task.repository.support.DatabaseType.MYSQL;
-import static org.springframework.cloud.task.repository.support.DatabaseType.ORACLE;
-import static org.springframework.cloud.task.repository.support.DatabaseType.POSTGRES;
-import static org.springframework.cloud.task.repository.support.DatabaseType.SQLSERVER;
-
 /**
  * Factory bean for {@link PagingQueryProvider} interface. The database type will be
  * determined from the data source if not provided explicitly. Valid types are given by
@@ -63,22 +50,6 @@ public class SqlPagingQueryProviderFactoryBean implements FactoryBean<PagingQuer
 
 	private Map<String, Order> sortKeys;
 
-	private Map<DatabaseType, AbstractSqlPagingQueryProvider> providers = new HashMap<>();
-
-	{
-		this.providers.put(HSQL, new HsqlPagingQueryProvider());
-		this.providers.put(H2, new H2PagingQueryProvider());
-		this.providers.put(MYSQL, new MySqlPagingQueryProvider());
-		this.providers.put(MARIADB, new MariaDbPagingQueryProvider());
-		this.providers.put(POSTGRES, new PostgresPagingQueryProvider());
-		this.providers.put(ORACLE, new OraclePagingQueryProvider());
-		this.providers.put(SQLSERVER, new SqlServerPagingQueryProvider());
-		this.providers.put(DB2, new Db2PagingQueryProvider());
-		this.providers.put(DB2VSE, new Db2PagingQueryProvider());
-		this.providers.put(DB2ZOS, new Db2PagingQueryProvider());
-		this.providers.put(DB2AS400, new Db2PagingQueryProvider());
-	}
-
 	/**
 	 * @param databaseType the databaseType to set
 	 */
@@ -134,18 +105,18 @@ public class SqlPagingQueryProviderFactoryBean implements FactoryBean<PagingQuer
 	@Override
 	public PagingQueryProvider getObject() throws Exception {
 
-		DatabaseType type;
+		DatabaseDialect dialect;
 		try {
-			type = this.databaseType != null ? DatabaseType.valueOf(this.databaseType.toUpperCase(Locale.ROOT))
-					: DatabaseType.fromMetaData(this.dataSource);
+			dialect = this.databaseType != null
+					? DatabaseDialect.of(DatabaseType.valueOf(this.databaseType.toUpperCase(Locale.ROOT)))
+					: DatabaseDialect.forDataSource(this.dataSource);
 		}
-		catch (MetaDataAccessException e) {
+		catch (IllegalStateException e) {
 			throw new IllegalArgumentException(
 					"Could not inspect meta data for database type.  You have to supply it explicitly.", e);
 		}
 
-		AbstractSqlPagingQueryProvider provider = this.providers.get(type);
-		Assert.state(provider != null, "Should not happen: missing PagingQueryProvider for DatabaseType=" + type);
+		AbstractSqlPagingQueryProvider provider = dialect.createPagingQueryProvider();
 
 		provider.setFromClause(this.fromClause);
 		provider.setWhereClause(this.whereClause);
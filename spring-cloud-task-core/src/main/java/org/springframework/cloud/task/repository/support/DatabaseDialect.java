@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.task.repository.support;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.batch.infrastructure.item.database.support.DefaultDataFieldMaxValueIncrementerFactory;
+import org.springframework.cloud.task.listener.TaskException;
+import org.springframework.cloud.task.repository.database.PagingQueryProvider;
+import org.springframework.cloud.task.repository.database.support.AbstractSqlPagingQueryProvider;
+import org.springframework.cloud.task.repository.database.support.Db2PagingQueryProvider;
+import org.springframework.cloud.task.repository.database.support.H2PagingQueryProvider;
+import org.springframework.cloud.task.repository.database.support.HsqlPagingQueryProvider;
+import org.springframework.cloud.task.repository.database.support.MariaDbPagingQueryProvider;
+import org.springframework.cloud.task.repository.database.support.MySqlPagingQueryProvider;
+import org.springframework.cloud.task.repository.database.support.OraclePagingQueryProvider;
+import org.springframework.cloud.task.repository.database.support.PostgresPagingQueryProvider;
+import org.springframework.cloud.task.repository.database.support.SqlServerPagingQueryProvider;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.SqlServerSequenceMaxValueIncrementer;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StringUtils;
+
+/**
+ * Describes the database behind a {@link DataSource}: its {@link DatabaseType}, the
+ * strategy used to generate task execution ids and the {@link PagingQueryProvider} to
+ * use. The dialect of a {@link DataSource} is resolved from its metadata the first time
+ * it is requested, or registered explicitly, and is then shared by every component that
+ * needs it so the metadata lookup only happens once.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+public final class DatabaseDialect {
+
+	private static final Map<DataSource, DatabaseDialect> dialects = new ConcurrentReferenceHashMap<>(16,
+			ConcurrentReferenceHashMap.ReferenceType.WEAK);
+
+	private final DatabaseType databaseType;
+
+	private DatabaseDialect(DatabaseType databaseType) {
+		this.databaseType = databaseType;
+	}
+
+	/**
+	 * Returns the dialect of the provided {@link DataSource}, reading the database
+	 * metadata only if the dialect has not been resolved or registered before.
+	 * @param dataSource the data source to obtain the dialect for.
+	 * @return the dialect of the data source.
+	 * @throws IllegalStateException if the database type cannot be determined.
+	 */
+	public static DatabaseDialect forDataSource(DataSource dataSource) {
+		Assert.notNull(dataSource, "dataSource must not be null");
+		return dialects.computeIfAbsent(dataSource, DatabaseDialect::resolve);
+	}
+
+	/**
+	 * Returns the dialect of the provided {@link DataSource}, honouring an explicitly
+	 * configured database type such as {@code spring.cloud.task.database-type}. When a
+	 * type is provided it is registered for the data source, replacing any dialect
+	 * resolved before, otherwise this behaves like {@link #forDataSource(DataSource)}.
+	 * @param dataSource the data source to obtain the dialect for.
+	 * @param databaseType the configured database type name, may be {@code null}.
+	 * @return the dialect of the data source.
+	 * @throws IllegalArgumentException if the configured type is not a known
+	 * {@link DatabaseType}.
+	 */
+	public static DatabaseDialect forDataSource(DataSource dataSource, String databaseType) {
+		if (StringUtils.hasText(databaseType)) {
+			return register(dataSource, DatabaseType.valueOf(databaseType.trim().toUpperCase(Locale.ROOT)));
+		}
+		return forDataSource(dataSource);
+	}
+
+	/**
+	 * Registers the database type of a {@link DataSource} so that its metadata does not
+	 * need to be inspected.
+	 * @param dataSource the data source to register the dialect for.
+	 * @param databaseType the type of the database behind the data source.
+	 * @return the registered dialect.
+	 */
+	public static DatabaseDialect register(DataSource dataSource, DatabaseType databaseType) {
+		Assert.notNull(dataSource, "dataSource must not be null");
+		Assert.notNull(databaseType, "databaseType must not be null");
+		DatabaseDialect dialect = new DatabaseDialect(databaseType);
+		dialects.put(dataSource, dialect);
+		return dialect;
+	}
+
+	/**
+	 * Returns a dialect for the given database type that is not associated with any
+	 * {@link DataSource}.
+	 * @param databaseType the type of the database.
+	 * @return the dialect.
+	 */
+	public static DatabaseDialect of(DatabaseType databaseType) {
+		Assert.notNull(databaseType, "databaseType must not be null");
+		return new DatabaseDialect(databaseType);
+	}
+
+	private static DatabaseDialect resolve(DataSource dataSource) {
+		try {
+			return new DatabaseDialect(DatabaseType.fromMetaData(dataSource));
+		}
+		catch (MetaDataAccessException | SQLException ex) {
+			throw new IllegalStateException("Unable to detect database type", ex);
+		}
+	}
+
+	public DatabaseType getDatabaseType() {
+		return this.databaseType;
+	}
+
+	/**
+	 * The platform name used to locate the schema scripts for this database, for example
+	 * {@code hsqldb} for {@code schema-hsqldb.sql}.
+	 * @return the schema platform name.
+	 */
+	public String getSchemaPlatform() {
+		return switch (this.databaseType) {
+			case HSQL -> "hsqldb";
+			case DB2, DB2VSE, DB2ZOS, DB2AS400 -> "db2";
+			case POSTGRES -> "postgresql";
+			default -> this.databaseType.name().toLowerCase(Locale.ROOT);
+		};
+	}
+
+	/**
+	 * Creates the incrementer used to generate task execution ids. For SQL Server a
+	 * table based sequence is used when the table exists, otherwise a native sequence.
+	 * @param dataSource the data source the incrementer will use.
+	 * @param incrementerName the name of the sequence or table.
+	 * @return the incrementer.
+	 */
+	public DataFieldMaxValueIncrementer createIncrementer(DataSource dataSource, String incrementerName) {
+		DataFieldMaxValueIncrementer incrementer = new DefaultDataFieldMaxValueIncrementerFactory(dataSource)
+			.getIncrementer(this.databaseType.name(), incrementerName);
+		if (this.databaseType == DatabaseType.SQLSERVER && !isTableAvailable(dataSource, incrementerName)) {
+			incrementer = new SqlServerSequenceMaxValueIncrementer(dataSource, incrementerName);
+		}
+		return incrementer;
+	}
+
+	/**
+	 * Creates a new, unconfigured, paging query provider for this database.
+	 * @return the paging query provider.
+	 */
+	public AbstractSqlPagingQueryProvider createPagingQueryProvider() {
+		return switch (this.databaseType) {
+			case HSQL -> new HsqlPagingQueryProvider();
+			case H2 -> new H2PagingQueryProvider();
+			case MYSQL -> new MySqlPagingQueryProvider();
+			case MARIADB -> new MariaDbPagingQueryProvider();
+			case POSTGRES -> new PostgresPagingQueryProvider();
+			case ORACLE -> new OraclePagingQueryProvider();
+			case SQLSERVER -> new SqlServerPagingQueryProvider();
+			case DB2, DB2VSE, DB2ZOS, DB2AS400 -> new Db2PagingQueryProvider();
+		};
+	}
+
+	private static boolean isTableAvailable(DataSource dataSource, String tableName) {
+		Connection connection = DataSourceUtils.getConnection(dataSource);
+		try {
+			DatabaseMetaData metaData = connection.getMetaData();
+			try (ResultSet tables = metaData.getTables(null, null, tableName, new String[] { "TABLE" })) {
+				while (tables.next()) {
+					if (tableName.equals(tables.getString("TABLE_NAME"))) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+		catch (SQLException sqe) {
+			throw new TaskException(sqe.getMessage());
+		}
+		finally {
+			DataSourceUtils.releaseConnection(connection, dataSource);
+		}
+	}
+
+}
@@ -16,25 +16,14 @@
 
 package org.springframework.cloud.task.repository.support;
 
-import java.sql.DatabaseMetaData;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-
 import javax.sql.DataSource;
 
-import org.springframework.batch.infrastructure.item.database.support.DataFieldMaxValueIncrementerFactory;
-import org.springframework.batch.infrastructure.item.database.support.DefaultDataFieldMaxValueIncrementerFactory;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.cloud.task.configuration.TaskProperties;
-import org.springframework.cloud.task.listener.TaskException;
 import org.springframework.cloud.task.repository.dao.JdbcTaskExecutionDao;
 import org.springframework.cloud.task.repository.dao.MapTaskExecutionDao;
 import org.springframework.cloud.task.repository.dao.TaskExecutionDao;
-import org.springframework.jdbc.support.MetaDataAccessException;
-import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
-import org.springframework.jdbc.support.incrementer.SqlServerSequenceMaxValueIncrementer;
 import org.springframework.util.Assert;
-import org.springframework.util.StringUtils;
 
 /**
  * A {@link FactoryBean} implementation that creates the appropriate
@@ -89,26 +78,6 @@ public class TaskExecutionDaoFactoryBean implements FactoryBean<TaskExecutionDao
 				this.dao = new MapTaskExecutionDao();
 			}
 		}
-		if (this.dataSource != null) {
-			String databaseType = null;
-			try {
-				databaseType = DatabaseType.fromMetaData(dataSource).name();
-			}
-			catch (MetaDataAccessException e) {
-				throw new IllegalStateException(e);
-			}
-			if (StringUtils.hasText(databaseType) && databaseType.equals("SQLSERVER")) {
-				String incrementerName = this.tablePrefix + "SEQ";
-				DataFieldMaxValueIncrementerFactory incrementerFactory = new DefaultDataFieldMaxValueIncrementerFactory(
-						dataSource);
-				DataFieldMaxValueIncrementer incrementer = incrementerFactory.getIncrementer(databaseType,
-						incrementerName);
-				if (!isSqlServerTableSequenceAvailable(incrementerName)) {
-					incrementer = new SqlServerSequenceMaxValueIncrementer(dataSource, this.tablePrefix + "SEQ");
-				}
-				((JdbcTaskExecutionDao) this.dao).setTaskIncrementer(incrementer);
-			}
-		}
 		return this.dao;
 	}
 
@@ -123,41 +92,10 @@ public class TaskExecutionDaoFactoryBean implements FactoryBean<TaskExecutionDao
 	}
 
 	private void buildTaskExecutionDao(DataSource dataSource) {
-		DataFieldMaxValueIncrementerFactory incrementerFactory = new DefaultDataFieldMaxValueIncrementerFactory(
-				dataSource);
-		this.dao = new JdbcTaskExecutionDao(dataSource, this.tablePrefix);
-		String databaseType;
-		try {
-			databaseType = DatabaseType.fromMetaData(dataSource).name();
-		}
-		catch (MetaDataAccessException e) {
-			throw new IllegalStateException(e);
-		}
-		catch (SQLException e) {
-			throw new IllegalStateException(e);
-		}
-		((JdbcTaskExecutionDao) this.dao)
-			.setTaskIncrementer(incrementerFactory.getIncrementer(databaseType, this.tablePrefix + "SEQ"));
-	}
-
-	private boolean isSqlServerTableSequenceAvailable(String incrementerName) {
-		boolean result = false;
-		DatabaseMetaData metaData = null;
-		try {
-			metaData = dataSource.getConnection().getMetaData();
-			String[] types = { "TABLE" };
-			ResultSet tables = metaData.getTables(null, null, "%", types);
-			while (tables.next()) {
-				if (tables.getString("TABLE_NAME").equals(incrementerName)) {
-					result = true;
-					break;
-				}
-			}
-		}
-		catch (SQLException sqe) {
-			throw new TaskException(sqe.getMessage());
-		}
-		return result;
+		JdbcTaskExecutionDao jdbcTaskExecutionDao = new JdbcTaskExecutionDao(dataSource, this.tablePrefix);
+		jdbcTaskExecutionDao.setTaskIncrementer(
+				DatabaseDialect.forDataSource(dataSource).createIncrementer(dataSource, this.tablePrefix + "SEQ"));
+		this.dao = jdbcTaskExecutionDao;
 	}
 
 }
@@ -16,8 +16,12 @@
 
 package org.springframework.cloud.task.repository.support;
 
-import java.sql.SQLException;
-import java.util.Locale;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.sql.DataSource;
 
@@ -28,11 +32,15 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.task.configuration.TaskProperties;
+import org.springframework.context.ApplicationStartupAware;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
 import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
-import org.springframework.jdbc.support.JdbcUtils;
-import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.jdbc.datasource.init.ScriptException;
 
 /**
  * Utility for initializing the Task Repository's datasource. If a single
@@ -45,17 +53,52 @@ import org.springframework.jdbc.support.MetaDataAccessException;
  * <code>spring.cloud.task.initialize-enabled</code> to false.
  * <code>spring.cloud.task.initialize.enable</code> has been deprecated.
  *
+ * The schema version is recorded in the <code>TASK_SCHEMA_VERSION</code> table. When the
+ * recorded version is current the schema script is not run at all. When it is behind, the
+ * pending scripts from the <code>migration</code> directory are applied in order. A
+ * version is only recorded when its script ran without errors, so a failed migration is
+ * retried on the next start. The schema script only runs when the repository has no
+ * <code>TASK_EXECUTION</code> table. A repository created before the version table
+ * existed is baselined at the newest version whose changes can be detected in its tables,
+ * and the migrations after that version, which create the version table, are applied.
+ *
  * @author Glenn Renfro
  * @author Michael Minella
  */
 
-public final class TaskRepositoryInitializer implements InitializingBean {
+public final class TaskRepositoryInitializer implements InitializingBean, ApplicationStartupAware {
 
 	private static final Log logger = LogFactory.getLog(TaskRepositoryInitializer.class);
 
 	private static final String DEFAULT_SCHEMA_LOCATION = "classpath:org/springframework/"
 			+ "cloud/task/schema-@@platform@@.sql";
 
+	private static final String MIGRATION_LOCATION = "classpath:org/springframework/"
+			+ "cloud/task/migration/@@version@@/migration-@@platform@@.sql";
+
+	/**
+	 * Schema versions in the order they were released. The last entry is the version
+	 * created by the schema script; each entry may have a matching migration directory.
+	 */
+	static final List<String> SCHEMA_VERSIONS = List.of("1.1.x", "1.2.x", "2.2.x", "3.0.x", "5.0.x");
+
+	/**
+	 * Queries that only succeed once the matching version has been applied, newest first.
+	 * Versions that only change column types, such as 2.2.x and 3.0.x, cannot be told apart
+	 * from their predecessors and are applied again, which their migrations allow.
+	 */
+	private static final List<Map.Entry<String, String>> SCHEMA_VERSION_PROBES = List.of(
+			Map.entry("5.0.x", "SELECT VERSION FROM TASK_SCHEMA_VERSION WHERE 1 = 0"),
+			Map.entry("1.2.x", "SELECT PARENT_EXECUTION_ID FROM TASK_EXECUTION WHERE 1 = 0"),
+			Map.entry("1.1.x", "SELECT EXTERNAL_EXECUTION_ID FROM TASK_EXECUTION WHERE 1 = 0"));
+
+	private static final String SELECT_TASK_EXECUTION = "SELECT TASK_EXECUTION_ID FROM TASK_EXECUTION WHERE 1 = 0";
+
+	private static final String SELECT_SCHEMA_VERSIONS = "SELECT VERSION FROM TASK_SCHEMA_VERSION";
+
+	private static final String INSERT_SCHEMA_VERSION = "INSERT INTO TASK_SCHEMA_VERSION (VERSION, INSTALLED_ON) "
+			+ "VALUES (?, ?)";
+
 	/**
 	 * Path to the SQL file to use to initialize the database schema.
 	 */
@@ -70,6 +113,8 @@ public final class TaskRepositoryInitializer implements InitializingBean {
 
 	private TaskProperties taskProperties;
 
+	private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
 	public TaskRepositoryInitializer(TaskProperties taskProperties) {
 		this.taskProperties = taskProperties;
 	}
@@ -78,54 +123,150 @@ public final class TaskRepositoryInitializer implements InitializingBean {
 		this.dataSource = dataSource;
 	}
 
+	@Override
+	public void setApplicationStartup(ApplicationStartup applicationStartup) {
+		this.applicationStartup = applicationStartup;
+	}
+
 	@Autowired(required = false)
 	public void setResourceLoader(ResourceLoader resourceLoader) {
 		this.resourceLoader = resourceLoader;
 	}
 
-	private String getDatabaseType(DataSource dataSource) {
-		try {
-			return JdbcUtils.commonDatabaseName(DatabaseType.fromMetaData(dataSource).toString())
-				.toLowerCase(Locale.ROOT);
-		}
-		catch (MetaDataAccessException ex) {
-			throw new IllegalStateException("Unable to detect database type", ex);
-		}
-		catch (SQLException ex) {
-			throw new IllegalStateException("Unable to detect database type", ex);
-		}
-	}
-
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		boolean isInitializeEnabled = (this.taskProperties.isInitializeEnabled() != null)
 				? this.taskProperties.isInitializeEnabled() : this.taskInitializationEnabled;
 		if (this.dataSource != null && isInitializeEnabled
 				&& this.taskProperties.getTablePrefix().equals(TaskProperties.DEFAULT_TABLE_PREFIX)) {
-			String platform = getDatabaseType(this.dataSource);
-			if ("hsql".equals(platform)) {
-				platform = "hsqldb";
+			String platform = DatabaseDialect
+				.forDataSource(this.dataSource, this.taskProperties.getDatabaseType())
+				.getSchemaPlatform();
+			StartupStep initializeStep = this.applicationStartup.start("spring.cloud.task.repository.initialize");
+			initializeStep.tag("platform", platform);
+			try {
+				initializeSchema(platform);
 			}
-			if ("postgres".equals(platform)) {
-				platform = "postgresql";
+			finally {
+				initializeStep.end();
+			}
+		}
+	}
+
+	private void initializeSchema(String platform) {
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(this.dataSource);
+		Set<String> installedVersions = getInstalledVersions(jdbcTemplate);
+		if (installedVersions == null || installedVersions.isEmpty()) {
+			if (!succeeds(jdbcTemplate, SELECT_TASK_EXECUTION)) {
+				logger.debug(String.format("Initializing task schema for %s database", platform));
+				// The tables may have been created concurrently by another task.
+				execute(schema.replace("@@platform@@", platform), true);
+				recordVersions(jdbcTemplate, SCHEMA_VERSIONS);
+				return;
+			}
+			baselineSchema(jdbcTemplate, platform);
+			return;
+		}
+		if (installedVersions.containsAll(SCHEMA_VERSIONS)) {
+			logger.debug(String.format("Task schema for %s database is current", platform));
+			return;
+		}
+		for (String version : SCHEMA_VERSIONS) {
+			if (!installedVersions.contains(version)) {
+				if (!migrate(platform, version)) {
+					return;
+				}
+				recordVersions(jdbcTemplate, List.of(version));
+			}
+		}
+	}
+
+	/**
+	 * Bring a repository created before the version table existed up to date. The
+	 * migrations after the detected version are applied, including the one that creates
+	 * the version table, and all versions are then recorded.
+	 */
+	private void baselineSchema(JdbcTemplate jdbcTemplate, String platform) {
+		int baseline = -1;
+		for (Map.Entry<String, String> probe : SCHEMA_VERSION_PROBES) {
+			if (succeeds(jdbcTemplate, probe.getValue())) {
+				baseline = SCHEMA_VERSIONS.indexOf(probe.getKey());
+				break;
 			}
-			if ("oracle".equals(platform)) {
-				platform = "oracle";
+		}
+		logger.info(String.format("Task schema for %s database has no recorded version, baselining it at %s",
+				platform, (baseline >= 0) ? SCHEMA_VERSIONS.get(baseline) : "its first release"));
+		for (String version : SCHEMA_VERSIONS.subList(baseline + 1, SCHEMA_VERSIONS.size())) {
+			if (!migrate(platform, version)) {
+				return;
 			}
-			if ("mysql".equals(platform)) {
-				platform = "mysql";
+		}
+		recordVersions(jdbcTemplate, SCHEMA_VERSIONS);
+	}
+
+	/**
+	 * Applies the migration script of a version, if the database has one.
+	 * @return false if the script failed, in which case the version must not be recorded
+	 */
+	private boolean migrate(String platform, String version) {
+		String location = MIGRATION_LOCATION.replace("@@version@@", version).replace("@@platform@@", platform);
+		if (!this.resourceLoader.getResource(location).exists()) {
+			return true;
+		}
+		logger.info(String.format("Migrating task schema for %s database to %s", platform, version));
+		try {
+			execute(location, false);
+			return true;
+		}
+		catch (ScriptException ex) {
+			logger.warn(String.format("Failed to migrate task schema for %s database to %s, it will be retried on the "
+					+ "next start", platform, version), ex);
+			return false;
+		}
+	}
+
+	private boolean succeeds(JdbcTemplate jdbcTemplate, String query) {
+		try {
+			jdbcTemplate.queryForList(query);
+			return true;
+		}
+		catch (DataAccessException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the versions recorded in the version table or {@code null} if the table does
+	 * not exist yet.
+	 */
+	private Set<String> getInstalledVersions(JdbcTemplate jdbcTemplate) {
+		try {
+			return new HashSet<>(jdbcTemplate.queryForList(SELECT_SCHEMA_VERSIONS, String.class));
+		}
+		catch (DataAccessException ex) {
+			logger.debug("Task schema version table is not available", ex);
+			return null;
+		}
+	}
+
+	private void recordVersions(JdbcTemplate jdbcTemplate, List<String> versions) {
+		Timestamp installedOn = Timestamp.valueOf(LocalDateTime.now());
+		for (String version : versions) {
+			try {
+				jdbcTemplate.update(INSERT_SCHEMA_VERSION, version, installedOn);
 			}
-			if ("sqlserver".equals(platform)) {
-				platform = "sqlserver";
+			catch (DataAccessException ex) {
+				// Another task initialized the schema concurrently and recorded it first.
+				logger.debug(String.format("Unable to record task schema version %s", version), ex);
 			}
-			ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
-			String schemaLocation = schema;
-			schemaLocation = schemaLocation.replace("@@platform@@", platform);
-			populator.addScript(this.resourceLoader.getResource(schemaLocation));
-			populator.setContinueOnError(true);
-			logger.debug(String.format("Initializing task schema for %s database", platform));
-			DatabasePopulatorUtils.execute(populator, this.dataSource);
 		}
 	}
 
+	private void execute(String location, boolean continueOnError) {
+		ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+		populator.addScript(this.resourceLoader.getResource(location));
+		populator.setContinueOnError(continueOnError);
+		DatabasePopulatorUtils.execute(populator, this.dataSource);
+	}
+
 }
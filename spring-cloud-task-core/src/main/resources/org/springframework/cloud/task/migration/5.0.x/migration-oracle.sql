@@ -0,0 +1,4 @@
+CREATE TABLE TASK_SCHEMA_VERSION  (
+	VERSION VARCHAR2(20) NOT NULL PRIMARY KEY ,
+	INSTALLED_ON TIMESTAMP(9) NOT NULL
+);
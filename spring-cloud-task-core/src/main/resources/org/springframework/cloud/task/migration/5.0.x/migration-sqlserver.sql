@@ -0,0 +1,4 @@
+CREATE TABLE TASK_SCHEMA_VERSION  (
+  VERSION VARCHAR(20) NOT NULL PRIMARY KEY ,
+  INSTALLED_ON DATETIME NOT NULL
+);
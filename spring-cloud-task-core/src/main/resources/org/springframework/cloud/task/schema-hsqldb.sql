@@ -38,3 +38,8 @@ CREATE TABLE TASK_LOCK  (
 	EXPIRED_AFTER TIMESTAMP(9) NOT NULL,
 	constraint LOCK_PK primary key (LOCK_KEY, REGION)
 );
+
+CREATE TABLE TASK_SCHEMA_VERSION  (
+	VERSION VARCHAR(20) NOT NULL PRIMARY KEY ,
+	INSTALLED_ON TIMESTAMP(9) NOT NULL
+);
@@ -36,3 +36,8 @@ CREATE TABLE TASK_LOCK  (
 ) ENGINE=InnoDB;
 
 CREATE SEQUENCE TASK_SEQ START WITH 1 MINVALUE 1 MAXVALUE 9223372036854775806 INCREMENT BY 1 NOCACHE NOCYCLE ENGINE=InnoDB;
+
+CREATE TABLE TASK_SCHEMA_VERSION  (
+	VERSION VARCHAR(20) NOT NULL PRIMARY KEY ,
+	INSTALLED_ON DATETIME(6) NOT NULL
+) ENGINE=InnoDB;
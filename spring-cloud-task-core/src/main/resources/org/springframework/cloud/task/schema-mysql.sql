@@ -42,3 +42,8 @@ CREATE TABLE TASK_LOCK  (
 	EXPIRED_AFTER DATETIME(6) NOT NULL,
 	constraint LOCK_PK primary key (LOCK_KEY, REGION)
 ) ENGINE=InnoDB;
+
+CREATE TABLE TASK_SCHEMA_VERSION  (
+	VERSION VARCHAR(20) NOT NULL PRIMARY KEY ,
+	INSTALLED_ON DATETIME(6) NOT NULL
+) ENGINE=InnoDB;
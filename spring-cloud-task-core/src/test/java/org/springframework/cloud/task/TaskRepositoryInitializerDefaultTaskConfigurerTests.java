@@ -54,7 +54,7 @@ public class TaskRepositoryInitializerDefaultTaskConfigurerTests {
 	public void testTablesCreated() {
 		JdbcTemplate jdbcTemplate = new JdbcTemplate(this.dataSource);
 		List<Map<String, Object>> rows = jdbcTemplate.queryForList("SHOW TABLES");
-		assertThat(rows.size()).isEqualTo(4);
+		assertThat(rows.size()).isEqualTo(5);
 	}
 
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.configuration;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.task.listener.TaskExecutionException;
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.integration.support.locks.DefaultLockRegistry;
+import org.springframework.integration.support.locks.LockRegistry;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+/**
+ * @author agent
+ */
+public class TaskInstanceLimitListenerTests {
+
+	private final LockRegistry lockRegistry = new DefaultLockRegistry();
+
+	@Test
+	public void testInstancesUpToLimitRun() {
+		TaskProperties taskProperties = taskProperties(2);
+		createListener(taskProperties).acquireSlot(new TaskExecution());
+		assertThatNoException().isThrownBy(() -> createListener(taskProperties).acquireSlot(new TaskExecution()));
+	}
+
+	@Test
+	public void testInstanceOverLimitFails() {
+		TaskProperties taskProperties = taskProperties(1);
+		createListener(taskProperties).acquireSlot(new TaskExecution());
+		assertThatExceptionOfType(TaskExecutionException.class)
+			.isThrownBy(() -> createListener(taskProperties).acquireSlot(new TaskExecution()))
+			.withMessage("Task with name \"foo\" already has 1 running instances.");
+	}
+
+	@Test
+	public void testReleasedSlotIsReused() {
+		TaskProperties taskProperties = taskProperties(1);
+		TaskInstanceLimitListener listener = createListener(taskProperties);
+		listener.acquireSlot(new TaskExecution());
+		listener.releaseSlotOnEnd(new TaskExecution());
+		assertThatNoException().isThrownBy(() -> createListener(taskProperties).acquireSlot(new TaskExecution()));
+	}
+
+	@Test
+	public void testWaitForFreeSlot() throws Exception {
+		TaskProperties taskProperties = taskProperties(1);
+		taskProperties.setInstanceWaitTimeout(5000);
+		taskProperties.setInstanceWaitFair(true);
+		taskProperties.setSingleInstanceLockCheckInterval(10);
+		TaskInstanceLimitListener listener = createListener(taskProperties);
+		listener.acquireSlot(new TaskExecution());
+		Thread releaser = new Thread(() -> {
+			try {
+				Thread.sleep(100);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			listener.releaseSlotOnEnd(new TaskExecution());
+		});
+		releaser.start();
+		assertThatNoException().isThrownBy(() -> createListener(taskProperties).acquireSlot(new TaskExecution()));
+		releaser.join();
+	}
+
+	private TaskInstanceLimitListener createListener(TaskProperties taskProperties) {
+		return new TaskInstanceLimitListener((clientId) -> this.lockRegistry, () -> "foo", taskProperties);
+	}
+
+	private static TaskProperties taskProperties(int maxInstances) {
+		TaskProperties taskProperties = new TaskProperties();
+		taskProperties.setMaxInstances(maxInstances);
+		return taskProperties;
+	}
+
+}
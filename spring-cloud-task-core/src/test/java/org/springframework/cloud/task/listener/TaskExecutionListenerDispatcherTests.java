@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.listener;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.task.configuration.TaskProperties;
+import org.springframework.cloud.task.listener.annotation.AsyncTaskListener;
+import org.springframework.cloud.task.repository.TaskExecution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author agent
+ */
+public class TaskExecutionListenerDispatcherTests {
+
+	private final TaskProperties taskProperties = new TaskProperties();
+
+	@Test
+	public void testAsyncListenersRunConcurrently() {
+		CountDownLatch latch = new CountDownLatch(2);
+		Consumer<TaskExecution> awaitOther = (taskExecution) -> {
+			latch.countDown();
+			try {
+				assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+			}
+			catch (InterruptedException ex) {
+				throw new IllegalStateException(ex);
+			}
+		};
+		dispatch(new TaskExecutionListenerDispatcher(this.taskProperties),
+				List.of(new AsyncListener(awaitOther), new AsyncListener(awaitOther)), new TaskExecution());
+		assertThat(latch.getCount()).isZero();
+	}
+
+	@Test
+	public void testFirstFailureInListOrderIsReported() {
+		TaskExecutionListenerDispatcher dispatcher = new TaskExecutionListenerDispatcher(this.taskProperties);
+		List<TaskExecutionListener> listeners = List.of(new AsyncListener((taskExecution) -> {
+			throw new IllegalStateException("first");
+		}), new SyncListener((taskExecution) -> {
+			throw new IllegalStateException("second");
+		}));
+		assertThatExceptionOfType(IllegalStateException.class)
+			.isThrownBy(() -> dispatch(dispatcher, listeners, new TaskExecution()))
+			.withMessage("first");
+	}
+
+	@Test
+	public void testSlowAsyncListenerTimesOut() {
+		this.taskProperties.setAsyncListenerTimeout(50);
+		TaskExecutionListenerDispatcher dispatcher = new TaskExecutionListenerDispatcher(this.taskProperties);
+		List<TaskExecutionListener> listeners = List.of(new AsyncListener((taskExecution) -> {
+			try {
+				Thread.sleep(5000);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}));
+		assertThatExceptionOfType(TaskExecutionException.class)
+			.isThrownBy(() -> dispatch(dispatcher, listeners, new TaskExecution()))
+			.withMessageContaining("did not complete within 50 ms");
+	}
+
+	@Test
+	public void testTimedOutListenerIsInterrupted() throws InterruptedException {
+		this.taskProperties.setAsyncListenerTimeout(50);
+		CountDownLatch interrupted = new CountDownLatch(1);
+		TaskExecutionListenerDispatcher dispatcher = new TaskExecutionListenerDispatcher(this.taskProperties);
+		List<TaskExecutionListener> listeners = List.of(new AsyncListener((taskExecution) -> {
+			try {
+				Thread.sleep(5000);
+			}
+			catch (InterruptedException ex) {
+				interrupted.countDown();
+			}
+		}));
+		assertThatExceptionOfType(TaskExecutionException.class)
+			.isThrownBy(() -> dispatch(dispatcher, listeners, new TaskExecution()));
+		assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	public void testHungListenerDoesNotBlockLaterDispatches() {
+		this.taskProperties.setAsyncListenerTimeout(50);
+		this.taskProperties.setAsyncListenerConcurrencyLimit(1);
+		CountDownLatch release = new CountDownLatch(1);
+		TaskExecutionListenerDispatcher dispatcher = new TaskExecutionListenerDispatcher(this.taskProperties);
+		List<TaskExecutionListener> hungListeners = List.of(new AsyncListener((taskExecution) -> {
+			boolean released = false;
+			while (!released) {
+				try {
+					released = release.await(5, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException ex) {
+					// ignore the interrupt like a listener stuck in a blocking call
+				}
+			}
+		}));
+		List<TaskExecutionListener> listeners = List.of(new AsyncListener((taskExecution) -> {
+		}));
+		try {
+			assertThatExceptionOfType(TaskExecutionException.class)
+				.isThrownBy(() -> dispatch(dispatcher, hungListeners, new TaskExecution()));
+			long start = System.nanoTime();
+			assertThatExceptionOfType(TaskExecutionException.class)
+				.isThrownBy(() -> dispatch(dispatcher, listeners, new TaskExecution()))
+				.withMessageContaining("did not complete within 50 ms");
+			assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2000);
+		}
+		finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	public void testAsyncListenersReceiveTheirOwnCopy() {
+		TaskExecution taskExecution = new TaskExecution();
+		taskExecution.setExitMessage("original");
+		List<TaskExecution> received = new CopyOnWriteArrayList<>();
+		Consumer<TaskExecution> recordAndChange = (execution) -> {
+			received.add(execution);
+			execution.setExitMessage("changed");
+		};
+		dispatch(new TaskExecutionListenerDispatcher(this.taskProperties),
+				List.of(new AsyncListener(recordAndChange), new AsyncListener(recordAndChange),
+						new SyncListener(recordAndChange)),
+				taskExecution);
+
+		assertThat(received).hasSize(3).doesNotHaveDuplicates();
+		assertThat(received).filteredOn((execution) -> execution == taskExecution).hasSize(1);
+		assertThat(taskExecution.getExitMessage()).isEqualTo("changed");
+	}
+
+	@Test
+	public void testExecutorShutDownOnDestroy() throws InterruptedException {
+		TaskExecutionListenerDispatcher dispatcher = new TaskExecutionListenerDispatcher(this.taskProperties);
+		List<Thread> threads = new CopyOnWriteArrayList<>();
+		dispatch(dispatcher, List.of(new AsyncListener((taskExecution) -> threads.add(Thread.currentThread()))),
+				new TaskExecution());
+		assertThat(threads).hasSize(1);
+
+		dispatcher.destroy();
+		threads.get(0).join(5000);
+		assertThat(threads.get(0).isAlive()).isFalse();
+	}
+
+	private static void dispatch(TaskExecutionListenerDispatcher dispatcher, List<TaskExecutionListener> listeners,
+			TaskExecution taskExecution) {
+		dispatcher.dispatch(listeners, taskExecution, TaskExecutionListenerDispatcherTests::copy,
+				TaskExecutionListener::onTaskEnd);
+	}
+
+	private static TaskExecution copy(TaskExecution taskExecution) {
+		TaskExecution copy = new TaskExecution();
+		copy.setExitMessage(taskExecution.getExitMessage());
+		return copy;
+	}
+
+	static class SyncListener implements TaskExecutionListener {
+
+		private final Consumer<TaskExecution> onTaskEnd;
+
+		SyncListener(Consumer<TaskExecution> onTaskEnd) {
+			this.onTaskEnd = onTaskEnd;
+		}
+
+		@Override
+		public void onTaskEnd(TaskExecution taskExecution) {
+			this.onTaskEnd.accept(taskExecution);
+		}
+
+	}
+
+	@AsyncTaskListener
+	static class AsyncListener extends SyncListener {
+
+		AsyncListener(Consumer<TaskExecution> onTaskEnd) {
+			super(onTaskEnd);
+		}
+
+	}
+
+}
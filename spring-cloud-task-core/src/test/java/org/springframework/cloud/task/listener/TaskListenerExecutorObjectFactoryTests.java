@@ -31,11 +31,13 @@ import org.springframework.cloud.task.repository.TaskExecution;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * Verifies that the {@link TaskListenerExecutorObjectFactory} retrieves the
@@ -201,6 +203,75 @@ public class TaskListenerExecutorObjectFactoryTests {
 		});
 	}
 
+	@Test
+	public void verifyExecutorIsCached() {
+		ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
+			.withUserConfiguration(TaskExecutionListenerConfiguration.class);
+
+		applicationContextRunner.run((context) -> {
+			setup(context);
+
+			assertThat(this.taskListenerExecutorObjectFactory.getObject()).isSameAs(this.taskListenerExecutor);
+		});
+	}
+
+	@Test
+	public void verifyOnlyRecordedBeansAreInspected() {
+		ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
+			.withUserConfiguration(TaskExecutionListenerMultipleInstanceConfiguration.class)
+			.withBean(TaskListenerBeanNames.BEAN_NAME, TaskListenerBeanNames.class,
+					() -> new TaskListenerBeanNames("taskRunComponent"));
+
+		applicationContextRunner.run((context) -> {
+			setup(context);
+
+			this.taskListenerExecutor.onTaskStartup(createSampleTaskExecution(BEFORE_LISTENER));
+			validateSingleEntry(BEFORE_LISTENER);
+		});
+	}
+
+	@Test
+	public void verifyFailedTaskOnlyListener() {
+		ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
+			.withBean(FailedTaskRunComponent.class);
+
+		applicationContextRunner.run((context) -> {
+			setup(context);
+
+			this.taskListenerExecutor.onTaskFailed(createSampleTaskExecution(FAIL_LISTENER),
+					new IllegalStateException("oops"));
+			validateSingleEntry(FAIL_LISTENER);
+		});
+	}
+
+	@Test
+	public void verifyListenersFollowOrder() {
+		ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
+			.withBean(OrderedTaskRunComponent.class);
+
+		applicationContextRunner.run((context) -> {
+			setup(context);
+
+			this.taskListenerExecutor.onTaskStartup(createSampleTaskExecution(BEFORE_LISTENER));
+			assertThat(taskExecutionListenerResults).extracting(TaskExecution::getExitMessage)
+				.containsExactly("first", "second", "third");
+		});
+	}
+
+	@Test
+	public void verifyMissingParameterIsReported() {
+		ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
+			.withBean(NoParameterTaskRunComponent.class);
+
+		applicationContextRunner.run((context) -> {
+			setup(context);
+
+			assertThatExceptionOfType(TaskExecutionException.class)
+				.isThrownBy(() -> this.taskListenerExecutor.onTaskStartup(createSampleTaskExecution(BEFORE_LISTENER)))
+				.withMessage("taskExecution parameter is required for @BeforeTask and @AfterTask annotated methods");
+		});
+	}
+
 	private TaskExecution createSampleTaskExecution(String taskName) {
 		TaskExecution taskExecution = new TaskExecution();
 		taskExecution.setTaskName(taskName);
@@ -261,4 +332,49 @@ public class TaskListenerExecutorObjectFactoryTests {
 
 	}
 
+	public static class FailedTaskRunComponent {
+
+		@FailedTask
+		public void initFailedListener(TaskExecution taskExecution, Throwable exception) {
+			TaskListenerExecutorObjectFactoryTests.taskExecutionListenerResults.add(taskExecution);
+		}
+
+	}
+
+	public static class OrderedTaskRunComponent {
+
+		@BeforeTask
+		public void third(TaskExecution taskExecution) {
+			record(taskExecution, "third");
+		}
+
+		@BeforeTask
+		@Order(2)
+		public void second(TaskExecution taskExecution) {
+			record(taskExecution, "second");
+		}
+
+		@BeforeTask
+		@Order(1)
+		public void first(TaskExecution taskExecution) {
+			record(taskExecution, "first");
+		}
+
+		private void record(TaskExecution taskExecution, String exitMessage) {
+			TaskExecution result = new TaskExecution();
+			result.setTaskName(taskExecution.getTaskName());
+			result.setExitMessage(exitMessage);
+			TaskListenerExecutorObjectFactoryTests.taskExecutionListenerResults.add(result);
+		}
+
+	}
+
+	public static class NoParameterTaskRunComponent {
+
+		@BeforeTask
+		public void initBeforeListener() {
+		}
+
+	}
+
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.lock;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.task.repository.support.DatabaseType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author agent
+ */
+public class DatabaseAdvisoryLockRegistryTests {
+
+	private DataSource dataSource;
+
+	private Connection connection;
+
+	private ResultSet resultSet;
+
+	@BeforeEach
+	public void setup() throws Exception {
+		this.dataSource = mock(DataSource.class);
+		this.connection = mock(Connection.class);
+		PreparedStatement statement = mock(PreparedStatement.class);
+		this.resultSet = mock(ResultSet.class);
+		given(this.dataSource.getConnection()).willReturn(this.connection);
+		given(this.connection.prepareStatement(anyString())).willReturn(statement);
+		given(statement.executeQuery()).willReturn(this.resultSet);
+		given(this.resultSet.next()).willReturn(true);
+		given(this.resultSet.getObject(anyInt())).willReturn(Boolean.TRUE);
+	}
+
+	@Test
+	public void testLockAcquiredWithOneStatement() throws Exception {
+		Lock lock = new DatabaseAdvisoryLockRegistry(this.dataSource, DatabaseType.POSTGRES, "TASK_").obtain("foo");
+
+		assertThat(lock.tryLock()).isTrue();
+		assertThat(lock.tryLock()).isTrue();
+		verify(this.connection, times(1)).prepareStatement("SELECT pg_try_advisory_lock(?)");
+
+		lock.unlock();
+		verify(this.connection, times(0)).close();
+		lock.unlock();
+		verify(this.connection).prepareStatement("SELECT pg_advisory_unlock(?)");
+		verify(this.connection).close();
+	}
+
+	@Test
+	public void testLockHeldElsewhere() throws Exception {
+		given(this.resultSet.getObject(anyInt())).willReturn(0);
+		Lock lock = new DatabaseAdvisoryLockRegistry(this.dataSource, DatabaseType.MYSQL, "TASK_").obtain("foo");
+
+		assertThat(lock.tryLock()).isFalse();
+		verify(this.connection).prepareStatement("SELECT GET_LOCK(?, 0)");
+		verify(this.connection).close();
+	}
+
+	@Test
+	public void testConnectionAbortedWhenReleaseFails() throws Exception {
+		Lock lock = new DatabaseAdvisoryLockRegistry(this.dataSource, DatabaseType.POSTGRES, "TASK_").obtain("foo");
+		assertThat(lock.tryLock()).isTrue();
+		given(this.connection.prepareStatement("SELECT pg_advisory_unlock(?)"))
+			.willThrow(new SQLException("connection lost"));
+
+		lock.unlock();
+
+		verify(this.connection).abort(any(Executor.class));
+		verify(this.connection).close();
+	}
+
+	@Test
+	public void testConnectionAbortedWhenAcquireFails() throws Exception {
+		given(this.resultSet.getObject(anyInt())).willThrow(new SQLException("connection lost"));
+		Lock lock = new DatabaseAdvisoryLockRegistry(this.dataSource, DatabaseType.MYSQL, "TASK_").obtain("foo");
+
+		assertThat(lock.tryLock()).isFalse();
+
+		verify(this.connection).abort(any(Executor.class));
+		verify(this.connection).close();
+	}
+
+	@Test
+	public void testUnsupportedDatabase() {
+		assertThat(DatabaseAdvisoryLockRegistry.isSupported(DatabaseType.ORACLE)).isFalse();
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new DatabaseAdvisoryLockRegistry(this.dataSource, DatabaseType.H2, "TASK_"));
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.lock;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author agent
+ */
+public class FileLockRegistryTests {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void testLockIsReentrantAndCreatesLockFile() {
+		Lock lock = new FileLockRegistry(this.directory).obtain("foo");
+
+		assertThat(lock.tryLock()).isTrue();
+		assertThat(lock.tryLock()).isTrue();
+		assertThat(this.directory.resolve("foo.lock")).exists();
+		lock.unlock();
+		lock.unlock();
+	}
+
+	@Test
+	public void testLockHeldByOtherRegistryIsNotAcquired() throws Exception {
+		Lock lock = new FileLockRegistry(this.directory).obtain("foo");
+		Lock otherLock = new FileLockRegistry(this.directory).obtain("foo");
+
+		assertThat(lock.tryLock()).isTrue();
+		assertThat(otherLock.tryLock(50, TimeUnit.MILLISECONDS)).isFalse();
+		lock.unlock();
+		assertThat(otherLock.tryLock()).isTrue();
+		otherLock.unlock();
+	}
+
+	@Test
+	public void testUnsafeKeyIsMappedToFileName() {
+		Lock lock = new FileLockRegistry(this.directory).obtain("../foo#1");
+
+		assertThat(lock.tryLock()).isTrue();
+		assertThat(this.directory.toFile().list()).singleElement()
+			.satisfies((name) -> assertThat(name).doesNotContain("..").endsWith(".lock"));
+		lock.unlock();
+	}
+
+	@Test
+	public void testUnlockWithoutLock() {
+		Lock lock = new FileLockRegistry(this.directory).obtain("foo");
+
+		assertThatExceptionOfType(IllegalMonitorStateException.class).isThrownBy(lock::unlock);
+	}
+
+}
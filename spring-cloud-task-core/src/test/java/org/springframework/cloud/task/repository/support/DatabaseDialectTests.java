@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.task.repository.support;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.task.repository.database.support.Db2PagingQueryProvider;
+import org.springframework.cloud.task.repository.database.support.HsqlPagingQueryProvider;
+import org.springframework.cloud.task.repository.database.support.PostgresPagingQueryProvider;
+import org.springframework.cloud.task.util.TestDBUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * @author agent
+ */
+public class DatabaseDialectTests {
+
+	@Test
+	public void testDialectIsResolvedOncePerDataSource() throws Exception {
+		DataSource dataSource = TestDBUtils.getMockDataSource("PostgreSQL");
+		DatabaseDialect dialect = DatabaseDialect.forDataSource(dataSource);
+
+		assertThat(dialect.getDatabaseType()).isEqualTo(DatabaseType.POSTGRES);
+		assertThat(DatabaseDialect.forDataSource(dataSource)).isSameAs(dialect);
+		verify(dataSource, times(1)).getConnection();
+	}
+
+	@Test
+	public void testRegisteredDialectSkipsMetaData() {
+		DataSource dataSource = mock(DataSource.class);
+		DatabaseDialect.register(dataSource, DatabaseType.ORACLE);
+
+		assertThat(DatabaseDialect.forDataSource(dataSource).getDatabaseType()).isEqualTo(DatabaseType.ORACLE);
+		verifyNoInteractions(dataSource);
+	}
+
+	@Test
+	public void testSchemaPlatform() {
+		assertThat(DatabaseDialect.of(DatabaseType.HSQL).getSchemaPlatform()).isEqualTo("hsqldb");
+		assertThat(DatabaseDialect.of(DatabaseType.POSTGRES).getSchemaPlatform()).isEqualTo("postgresql");
+		assertThat(DatabaseDialect.of(DatabaseType.SQLSERVER).getSchemaPlatform()).isEqualTo("sqlserver");
+		assertThat(DatabaseDialect.of(DatabaseType.MARIADB).getSchemaPlatform()).isEqualTo("mariadb");
+		assertThat(DatabaseDialect.of(DatabaseType.DB2).getSchemaPlatform()).isEqualTo("db2");
+		assertThat(DatabaseDialect.of(DatabaseType.DB2VSE).getSchemaPlatform()).isEqualTo("db2");
+		assertThat(DatabaseDialect.of(DatabaseType.DB2ZOS).getSchemaPlatform()).isEqualTo("db2");
+		assertThat(DatabaseDialect.of(DatabaseType.DB2AS400).getSchemaPlatform()).isEqualTo("db2");
+	}
+
+	@Test
+	public void testConfiguredDatabaseTypeOverridesResolvedDialect() {
+		DataSource dataSource = TestDBUtils.getMockDataSource("PostgreSQL");
+		assertThat(DatabaseDialect.forDataSource(dataSource).getDatabaseType()).isEqualTo(DatabaseType.POSTGRES);
+
+		assertThat(DatabaseDialect.forDataSource(dataSource, "db2zos").getDatabaseType())
+			.isEqualTo(DatabaseType.DB2ZOS);
+		assertThat(DatabaseDialect.forDataSource(dataSource, null).getDatabaseType()).isEqualTo(DatabaseType.DB2ZOS);
+	}
+
+	@Test
+	public void testPagingQueryProvider() {
+		assertThat(DatabaseDialect.of(DatabaseType.HSQL).createPagingQueryProvider())
+			.isInstanceOf(HsqlPagingQueryProvider.class);
+		assertThat(DatabaseDialect.of(DatabaseType.POSTGRES).createPagingQueryProvider())
+			.isInstanceOf(PostgresPagingQueryProvider.class);
+		assertThat(DatabaseDialect.of(DatabaseType.DB2ZOS).createPagingQueryProvider())
+			.isInstanceOf(Db2PagingQueryProvider.class);
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.support;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.task.configuration.TaskProperties;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author agent
+ */
+public class TaskRepositoryInitializerTests {
+
+	private EmbeddedDatabase dataSource;
+
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	public void setup() {
+		this.dataSource = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+			.generateUniqueName(true)
+			.build();
+		this.jdbcTemplate = new JdbcTemplate(this.dataSource);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		this.dataSource.shutdown();
+	}
+
+	@Test
+	public void testSchemaVersionRecorded() throws Exception {
+		initialize();
+		assertThat(installedVersions()).containsExactlyInAnyOrderElementsOf(TaskRepositoryInitializer.SCHEMA_VERSIONS);
+	}
+
+	@Test
+	public void testSchemaScriptSkippedWhenCurrent() throws Exception {
+		initialize();
+		this.jdbcTemplate.execute("DROP TABLE TASK_LOCK");
+		initialize();
+		assertThat(tableCount("TASK_LOCK")).isZero();
+	}
+
+	@Test
+	public void testExistingSchemaIsBaselined() throws Exception {
+		initialize();
+		this.jdbcTemplate.execute("DROP TABLE TASK_SCHEMA_VERSION");
+		this.jdbcTemplate.execute("DROP TABLE TASK_TASK_BATCH");
+		initialize();
+		assertThat(tableCount("TASK_TASK_BATCH")).isZero();
+		assertThat(installedVersions()).containsExactlyInAnyOrderElementsOf(TaskRepositoryInitializer.SCHEMA_VERSIONS);
+	}
+
+	@Test
+	public void testExistingSchemaIsMigratedFromDetectedVersion() throws Exception {
+		initialize();
+		this.jdbcTemplate.execute("DROP TABLE TASK_SCHEMA_VERSION");
+		this.jdbcTemplate.execute("ALTER TABLE TASK_EXECUTION DROP COLUMN PARENT_EXECUTION_ID");
+		initialize();
+		assertThat(columnCount("TASK_EXECUTION", "PARENT_EXECUTION_ID")).isOne();
+		assertThat(installedVersions()).containsExactlyInAnyOrderElementsOf(TaskRepositoryInitializer.SCHEMA_VERSIONS);
+	}
+
+	@Test
+	public void testEmptyVersionTableIsBaselined() throws Exception {
+		initialize();
+		this.jdbcTemplate.update("DELETE FROM TASK_SCHEMA_VERSION");
+		initialize();
+		assertThat(installedVersions()).containsExactlyInAnyOrderElementsOf(TaskRepositoryInitializer.SCHEMA_VERSIONS);
+	}
+
+	@Test
+	public void testPendingMigrationRecorded() throws Exception {
+		initialize();
+		this.jdbcTemplate.update("DELETE FROM TASK_SCHEMA_VERSION WHERE VERSION = ?", "3.0.x");
+		initialize();
+		assertThat(installedVersions()).contains("3.0.x");
+	}
+
+	@Test
+	public void testFailedMigrationNotRecorded() throws Exception {
+		initialize();
+		String latestVersion = TaskRepositoryInitializer.SCHEMA_VERSIONS
+			.get(TaskRepositoryInitializer.SCHEMA_VERSIONS.size() - 1);
+		this.jdbcTemplate.update("DELETE FROM TASK_SCHEMA_VERSION WHERE VERSION = ?", latestVersion);
+		// The migration creates the version table, which already exists.
+		initialize();
+		assertThat(installedVersions()).doesNotContain(latestVersion);
+	}
+
+	private void initialize() throws Exception {
+		TaskRepositoryInitializer initializer = new TaskRepositoryInitializer(new TaskProperties());
+		initializer.setDataSource(this.dataSource);
+		initializer.setResourceLoader(new DefaultResourceLoader());
+		initializer.afterPropertiesSet();
+	}
+
+	private List<String> installedVersions() {
+		return this.jdbcTemplate.queryForList("SELECT VERSION FROM TASK_SCHEMA_VERSION", String.class);
+	}
+
+	private Integer columnCount(String tableName, String columnName) {
+		return this.jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_NAME = ? AND COLUMN_NAME = ?",
+				Integer.class, tableName, columnName);
+	}
+
+	private Integer tableCount(String tableName) {
+		return this.jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = ?", Integer.class, tableName);
+	}
+
+}
@@ -23,6 +23,7 @@ import org.springframework.batch.core.listener.ItemWriteListener;
 import org.springframework.batch.core.listener.JobExecutionListener;
 import org.springframework.batch.core.listener.SkipListener;
 import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
@@ -31,14 +32,21 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.stream.config.BindingServiceProperties;
 import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.cloud.task.batch.listener.support.AsyncMessagePublisher;
+import org.springframework.cloud.task.batch.listener.support.EventPartitionKeyResolver;
+import org.springframework.cloud.task.batch.listener.support.EventSpool;
 import org.springframework.cloud.task.batch.listener.support.MessagePublisher;
+import org.springframework.cloud.task.batch.listener.support.OutboxMessagePublisher;
 import org.springframework.cloud.task.batch.listener.support.TaskBatchEventListenerBeanPostProcessor;
 import org.springframework.cloud.task.batch.listener.support.TaskEventProperties;
 import org.springframework.cloud.task.configuration.SimpleTaskAutoConfiguration;
 import org.springframework.cloud.task.listener.TaskLifecycleListener;
+import org.springframework.cloud.task.repository.TaskNameResolver;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.converter.CompositeMessageConverter;
 
 /**
  * Autoconfigures Spring Batch listeners designed to emit events on the following
@@ -54,6 +62,15 @@ import org.springframework.context.annotation.Lazy;
  * <li>{@link EventEmittingSkipListener} - skip-events</li>
  * </ul>
  *
+ * When {@code spring.cloud.task.batch.events.item-summary.enabled} is true, an
+ * {@link EventEmittingItemSummaryListener} publishing on item-summary-events takes the
+ * place of the item read, item process and item write listeners, which are then not
+ * created.
+ *
+ * When {@code spring.cloud.task.batch.events.step-progress.enabled} is true, an
+ * {@link EventEmittingStepProgressListener} publishes the progress of each running step
+ * on step-progress-events.
+ *
  * @author Michael Minella
  * @author Glenn Renfro
  * @author Ali Shahbour
@@ -102,6 +119,16 @@ public class BatchEventAutoConfiguration {
 	 */
 	public static final String SKIP_EVENTS_LISTENER = "skipEventsListener";
 
+	/**
+	 * Name of the item summary events listener bean.
+	 */
+	public static final String ITEM_SUMMARY_EVENTS_LISTENER = "itemSummaryEventsListener";
+
+	/**
+	 * Name of the step progress events listener bean.
+	 */
+	public static final String STEP_PROGRESS_EVENTS_LISTENER = "stepProgressEventsListener";
+
 	@Bean
 	@ConditionalOnMissingBean
 	public static TaskBatchEventListenerBeanPostProcessor batchTaskEventListenerBeanPostProcessor() {
@@ -160,6 +187,8 @@ public class BatchEventAutoConfiguration {
 		@Bean
 		@ConditionalOnProperty(prefix = "spring.cloud.task.batch.events.item-read", name = "enabled",
 				havingValue = "true", matchIfMissing = true)
+		@ConditionalOnProperty(prefix = "spring.cloud.task.batch.events.item-summary", name = "enabled",
+				havingValue = "false", matchIfMissing = true)
 		// @checkstyle:on
 		public ItemReadListener itemReadEventsListener(MessagePublisher messagePublisher,
 				TaskEventProperties properties) {
@@ -171,6 +200,8 @@ public class BatchEventAutoConfiguration {
 		@Bean
 		@ConditionalOnProperty(prefix = "spring.cloud.task.batch.events.item-write", name = "enabled",
 				havingValue = "true", matchIfMissing = true)
+		@ConditionalOnProperty(prefix = "spring.cloud.task.batch.events.item-summary", name = "enabled",
+				havingValue = "false", matchIfMissing = true)
 		// @checkstyle:on
 		public ItemWriteListener itemWriteEventsListener(MessagePublisher messagePublisher,
 				TaskEventProperties properties) {
@@ -182,6 +213,8 @@ public class BatchEventAutoConfiguration {
 		@Bean
 		@ConditionalOnProperty(prefix = "spring.cloud.task.batch.events.item-process", name = "enabled",
 				havingValue = "true", matchIfMissing = true)
+		@ConditionalOnProperty(prefix = "spring.cloud.task.batch.events.item-summary", name = "enabled",
+				havingValue = "false", matchIfMissing = true)
 		// @checkstyle:on
 		public ItemProcessListener itemProcessEventsListener(MessagePublisher messagePublisher,
 				TaskEventProperties properties) {
@@ -199,9 +232,60 @@ public class BatchEventAutoConfiguration {
 					properties);
 		}
 
+		// @checkstyle:off
 		@Bean
-		public MessagePublisher messagePublisher(StreamBridge streamBridge) {
-			return new MessagePublisher(streamBridge);
+		@ConditionalOnProperty(prefix = "spring.cloud.task.batch.events.item-summary", name = "enabled",
+				havingValue = "true")
+		// @checkstyle:on
+		public EventEmittingItemSummaryListener itemSummaryEventsListener(MessagePublisher messagePublisher,
+				TaskEventProperties properties) {
+			return new EventEmittingItemSummaryListener(messagePublisher,
+					this.taskEventProperties.getItemSummaryOrder(), properties);
+		}
+
+		// @checkstyle:off
+		@Bean
+		@ConditionalOnProperty(prefix = "spring.cloud.task.batch.events.step-progress", name = "enabled",
+				havingValue = "true")
+		// @checkstyle:on
+		public EventEmittingStepProgressListener stepProgressEventsListener(MessagePublisher messagePublisher,
+				TaskEventProperties properties) {
+			return new EventEmittingStepProgressListener(messagePublisher,
+					this.taskEventProperties.getStepProgressOrder(), properties);
+		}
+
+		// @checkstyle:off
+		@Bean
+		@ConditionalOnProperty(prefix = "spring.cloud.task.batch.events", name = "async-enabled",
+				havingValue = "false", matchIfMissing = true)
+		// @checkstyle:on
+		@ConditionalOnMissingBean(OutboxMessagePublisher.class)
+		public MessagePublisher messagePublisher(StreamBridge streamBridge,
+				ObjectProvider<EventPartitionKeyResolver> partitionKeyResolver) {
+			MessagePublisher messagePublisher = new MessagePublisher(streamBridge);
+			partitionKeyResolver.ifAvailable(messagePublisher::setPartitionKeyResolver);
+			return messagePublisher;
+		}
+
+		// @checkstyle:off
+		@Bean
+		@ConditionalOnProperty(prefix = "spring.cloud.task.batch.events", name = "async-enabled",
+				havingValue = "true")
+		// @checkstyle:on
+		@ConditionalOnMissingBean(OutboxMessagePublisher.class)
+		public AsyncMessagePublisher asyncMessagePublisher(StreamBridge streamBridge, TaskEventProperties properties,
+				TaskNameResolver taskNameResolver, ObjectProvider<CompositeMessageConverter> messageConverter,
+				ObjectProvider<BindingServiceProperties> bindingServiceProperties,
+				ObjectProvider<EventPartitionKeyResolver> partitionKeyResolver) {
+			EventSpool spool = null;
+			if (properties.isAsyncSpoolEnabled()) {
+				spool = EventSpool.open(properties, taskNameResolver.getTaskName(), "batch-events",
+						messageConverter.getObject(), bindingServiceProperties.getIfAvailable());
+			}
+			AsyncMessagePublisher messagePublisher = new AsyncMessagePublisher(streamBridge, properties, spool,
+					messageConverter.getObject(), bindingServiceProperties.getIfAvailable());
+			partitionKeyResolver.ifAvailable(messagePublisher::setPartitionKeyResolver);
+			return messagePublisher;
 		}
 
 	}
@@ -16,12 +16,15 @@
 
 package org.springframework.cloud.task.batch.listener;
 
+import java.time.Duration;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.batch.core.listener.ItemProcessListener;
 import org.springframework.batch.infrastructure.item.ItemProcessor;
 import org.springframework.cloud.task.batch.listener.support.BatchJobHeaders;
+import org.springframework.cloud.task.batch.listener.support.EventSampler;
 import org.springframework.cloud.task.batch.listener.support.MessagePublisher;
 import org.springframework.cloud.task.batch.listener.support.TaskEventProperties;
 import org.springframework.core.Ordered;
@@ -35,7 +38,10 @@ import org.springframework.util.Assert;
  * was filtered ({@link ItemProcessor} returned null), if the result of the processor was
  * equal to the input (via <code>.equals</code>), or if they were not equal.
  * {@link ItemProcessListener#onProcessError(Object, Exception)} provides the exception
- * via the {@link BatchJobHeaders#BATCH_EXCEPTION} message header.
+ * via the {@link BatchJobHeaders#BATCH_EXCEPTION} message header. The events are sampled
+ * and rate limited by an {@link EventSampler} configured with the
+ * item-process-sample-rate, item-process-sample-interval and item-process-rate-limit
+ * properties, which errors bypass when errors-bypass-sampling is true.
  *
  * @author Michael Minella
  * @author Glenn Renfro
@@ -51,11 +57,15 @@ public class EventEmittingItemProcessListener implements ItemProcessListener, Or
 
 	private TaskEventProperties properties;
 
+	private final EventSampler sampler;
+
 	public EventEmittingItemProcessListener(MessagePublisher messagePublisher, TaskEventProperties properties) {
 		Assert.notNull(messagePublisher, "messagePublisher is required");
 		Assert.notNull(properties, "properties is required");
 		this.messagePublisher = messagePublisher;
 		this.properties = properties;
+		this.sampler = new EventSampler(properties.getItemProcessSampleRate(),
+				Duration.ofMillis(properties.getItemProcessSampleInterval()), properties.getItemProcessRateLimit());
 	}
 
 	public EventEmittingItemProcessListener(MessagePublisher messagePublisher, int order,
@@ -70,6 +80,9 @@ public class EventEmittingItemProcessListener implements ItemProcessListener, Or
 
 	@Override
 	public void afterProcess(Object item, Object result) {
+		if (!this.sampler.tryAcquire()) {
+			return;
+		}
 		if (result == null) {
 			this.messagePublisher.publish(this.properties.getItemProcessEventBindingName(), "1 item was filtered");
 		}
@@ -88,6 +101,9 @@ public class EventEmittingItemProcessListener implements ItemProcessListener, Or
 		if (logger.isDebugEnabled()) {
 			logger.debug("Executing onProcessError: " + e.getMessage(), e);
 		}
+		if (!this.properties.isErrorsBypassSampling() && !this.sampler.tryAcquire()) {
+			return;
+		}
 		this.messagePublisher.publishWithThrowableHeader(this.properties.getItemProcessEventBindingName(),
 				"Exception while item was being processed", e.getMessage());
 	}
@@ -16,12 +16,15 @@
 
 package org.springframework.cloud.task.batch.listener;
 
+import java.time.Duration;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.batch.core.listener.ItemReadListener;
 import org.springframework.batch.infrastructure.item.ItemReader;
 import org.springframework.cloud.task.batch.listener.support.BatchJobHeaders;
+import org.springframework.cloud.task.batch.listener.support.EventSampler;
 import org.springframework.cloud.task.batch.listener.support.MessagePublisher;
 import org.springframework.cloud.task.batch.listener.support.TaskEventProperties;
 import org.springframework.core.Ordered;
@@ -33,7 +36,10 @@ import org.springframework.util.Assert;
  * The {@link ItemReadListener#beforeRead()} and
  * {@link ItemReadListener#afterRead(Object)} are both no-ops in this implementation.
  * {@link ItemReadListener#onReadError(Exception)} provides the exception via the
- * {@link BatchJobHeaders#BATCH_EXCEPTION} message header.
+ * {@link BatchJobHeaders#BATCH_EXCEPTION} message header. Unless errors bypass
+ * sampling, the error events are sampled and rate limited by an {@link EventSampler}
+ * configured with the item-read-sample-rate, item-read-sample-interval and
+ * item-read-rate-limit properties.
  *
  * @author Glenn Renfro
  * @author Ali Shahbour
@@ -48,11 +54,15 @@ public class EventEmittingItemReadListener implements ItemReadListener, Ordered
 
 	private TaskEventProperties properties;
 
+	private final EventSampler sampler;
+
 	public EventEmittingItemReadListener(MessagePublisher messagePublisher, TaskEventProperties properties) {
 		Assert.notNull(messagePublisher, "messagePublisher is required");
 		Assert.notNull(properties, "properties is required");
 		this.properties = properties;
 		this.messagePublisher = messagePublisher;
+		this.sampler = new EventSampler(properties.getItemReadSampleRate(),
+				Duration.ofMillis(properties.getItemReadSampleInterval()), properties.getItemReadRateLimit());
 	}
 
 	public EventEmittingItemReadListener(MessagePublisher messagePublisher, int order, TaskEventProperties properties) {
@@ -75,7 +85,9 @@ public class EventEmittingItemReadListener implements ItemReadListener, Ordered
 		if (logger.isDebugEnabled()) {
 			logger.debug("Executing onReadError: " + ex.getMessage(), ex);
 		}
-
+		if (!this.properties.isErrorsBypassSampling() && !this.sampler.tryAcquire()) {
+			return;
+		}
 		this.messagePublisher.publishWithThrowableHeader(this.properties.getItemReadEventBindingName(),
 				"Exception while item was being read", ex.getMessage());
 	}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.listener.ItemProcessListener;
+import org.springframework.batch.core.listener.ItemReadListener;
+import org.springframework.batch.core.listener.ItemWriteListener;
+import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.Chunk;
+import org.springframework.cloud.task.batch.listener.support.BatchJobHeaders;
+import org.springframework.cloud.task.batch.listener.support.ItemSummaryEvent;
+import org.springframework.cloud.task.batch.listener.support.MessagePublisher;
+import org.springframework.cloud.task.batch.listener.support.TaskEventProperties;
+import org.springframework.core.Ordered;
+import org.springframework.util.Assert;
+
+/**
+ * Counts the items read, processed, filtered and written by each chunk oriented step
+ * execution of a batch job and publishes the counts of a step execution as an
+ * {@link ItemSummaryEvent} every {@link TaskEventProperties#getItemSummaryInterval() item
+ * summary interval} or {@link TaskEventProperties#getItemSummaryChunks() number of
+ * chunks}, and when the step ends. The counts are kept per step execution, found through
+ * the step that is running on the calling thread, so that partitioned and parallel steps
+ * are summarized apart, and in {@link LongAdder}s so that concurrent chunks do not contend
+ * on them.
+ *
+ * Read, process and write errors are still published one by one, on the item read, item
+ * process and item write bindings, with the exception in the
+ * {@link BatchJobHeaders#BATCH_EXCEPTION} message header.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+public class EventEmittingItemSummaryListener
+		implements ItemReadListener, ItemProcessListener, ItemWriteListener, StepExecutionListener, Ordered {
+
+	private static final Log logger = LogFactory.getLog(EventEmittingItemSummaryListener.class);
+
+	private final MessagePublisher messagePublisher;
+
+	private final TaskEventProperties properties;
+
+	private final Map<Long, StepCounts> stepCounts = new ConcurrentHashMap<>();
+
+	private int order = Ordered.LOWEST_PRECEDENCE;
+
+	public EventEmittingItemSummaryListener(MessagePublisher messagePublisher, TaskEventProperties properties) {
+		Assert.notNull(messagePublisher, "messagePublisher is required");
+		Assert.notNull(properties, "properties is required");
+		this.messagePublisher = messagePublisher;
+		this.properties = properties;
+	}
+
+	public EventEmittingItemSummaryListener(MessagePublisher messagePublisher, int order,
+			TaskEventProperties properties) {
+		this(messagePublisher, properties);
+		this.order = order;
+	}
+
+	@Override
+	public void beforeStep(StepExecution stepExecution) {
+		this.stepCounts.put(stepExecution.getId(), new StepCounts(stepExecution));
+	}
+
+	@Override
+	public void afterRead(Object item) {
+		StepCounts counts = currentStepCounts();
+		if (counts != null) {
+			counts.readCount.increment();
+		}
+	}
+
+	@Override
+	public void onReadError(Exception ex) {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Executing onReadError: " + ex.getMessage(), ex);
+		}
+		StepCounts counts = currentStepCounts();
+		if (counts != null) {
+			counts.readErrorCount.increment();
+		}
+		this.messagePublisher.publishWithThrowableHeader(this.properties.getItemReadEventBindingName(),
+				"Exception while item was being read", ex.getMessage());
+	}
+
+	@Override
+	public void afterProcess(Object item, Object result) {
+		StepCounts counts = currentStepCounts();
+		if (counts == null) {
+			return;
+		}
+		if (result == null) {
+			counts.filterCount.increment();
+		}
+		else {
+			counts.processCount.increment();
+		}
+	}
+
+	@Override
+	public void onProcessError(Object item, Exception e) {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Executing onProcessError: " + e.getMessage(), e);
+		}
+		StepCounts counts = currentStepCounts();
+		if (counts != null) {
+			counts.processErrorCount.increment();
+		}
+		this.messagePublisher.publishWithThrowableHeader(this.properties.getItemProcessEventBindingName(),
+				"Exception while item was being processed", e.getMessage());
+	}
+
+	@Override
+	public void afterWrite(Chunk items) {
+		StepCounts counts = currentStepCounts();
+		if (counts == null) {
+			return;
+		}
+		counts.writeCount.add(items.size());
+		counts.chunkCount.increment();
+		if (isSummaryDue(counts)) {
+			publishSummary(counts);
+		}
+	}
+
+	@Override
+	public void onWriteError(Exception exception, Chunk items) {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Executing onWriteError: " + exception.getMessage(), exception);
+		}
+		StepCounts counts = currentStepCounts();
+		if (counts != null) {
+			counts.writeErrorCount.add(items.size());
+		}
+		String payload = "Exception while " + items.size() + " items are attempted to be written.";
+		this.messagePublisher.publishWithThrowableHeader(this.properties.getItemWriteEventBindingName(), payload,
+				exception.getMessage());
+	}
+
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		StepCounts counts = this.stepCounts.remove(stepExecution.getId());
+		if (counts != null) {
+			publishSummary(counts);
+		}
+		return stepExecution.getExitStatus();
+	}
+
+	@Override
+	public int getOrder() {
+		return this.order;
+	}
+
+	/**
+	 * Returns the counts of the step execution running on the calling thread or, when the
+	 * thread is not bound to a step, of the only step execution that is running.
+	 * @return the counts, or {@code null} if the step execution is not known
+	 */
+	private StepCounts currentStepCounts() {
+		StepContext stepContext = StepSynchronizationManager.getContext();
+		if (stepContext != null) {
+			StepCounts counts = this.stepCounts.get(stepContext.getStepExecution().getId());
+			if (counts != null) {
+				return counts;
+			}
+		}
+		if (this.stepCounts.size() == 1) {
+			for (StepCounts counts : this.stepCounts.values()) {
+				return counts;
+			}
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Item outcome not counted, the step execution it belongs to is not known");
+		}
+		return null;
+	}
+
+	private boolean isSummaryDue(StepCounts counts) {
+		int summaryChunks = this.properties.getItemSummaryChunks();
+		if (summaryChunks > 0 && counts.chunksSinceSummary.incrementAndGet() % summaryChunks == 0) {
+			return true;
+		}
+		long interval = TimeUnit.MILLISECONDS.toNanos(this.properties.getItemSummaryInterval());
+		long lastSummary = counts.lastSummaryTime.get();
+		return interval > 0 && System.nanoTime() - lastSummary >= interval
+				&& counts.lastSummaryTime.compareAndSet(lastSummary, System.nanoTime());
+	}
+
+	private void publishSummary(StepCounts counts) {
+		counts.lastSummaryTime.set(System.nanoTime());
+		ItemSummaryEvent summary = new ItemSummaryEvent();
+		summary.setJobExecutionId(counts.jobExecutionId);
+		summary.setStepExecutionId(counts.stepExecutionId);
+		summary.setStepName(counts.stepName);
+		summary.setReadCount(counts.readCount.sumThenReset());
+		summary.setReadErrorCount(counts.readErrorCount.sumThenReset());
+		summary.setProcessCount(counts.processCount.sumThenReset());
+		summary.setFilterCount(counts.filterCount.sumThenReset());
+		summary.setProcessErrorCount(counts.processErrorCount.sumThenReset());
+		summary.setWriteCount(counts.writeCount.sumThenReset());
+		summary.setWriteErrorCount(counts.writeErrorCount.sumThenReset());
+		summary.setChunkCount(counts.chunkCount.sumThenReset());
+		if (summary.getReadCount() + summary.getReadErrorCount() + summary.getProcessCount()
+				+ summary.getFilterCount() + summary.getProcessErrorCount() + summary.getWriteCount()
+				+ summary.getWriteErrorCount() > 0) {
+			this.messagePublisher.publish(this.properties.getItemSummaryEventBindingName(), summary);
+		}
+	}
+
+	/**
+	 * The item counts of one step execution since its previous summary.
+	 */
+	private static final class StepCounts {
+
+		private final Long jobExecutionId;
+
+		private final Long stepExecutionId;
+
+		private final String stepName;
+
+		private final LongAdder readCount = new LongAdder();
+
+		private final LongAdder readErrorCount = new LongAdder();
+
+		private final LongAdder processCount = new LongAdder();
+
+		private final LongAdder filterCount = new LongAdder();
+
+		private final LongAdder processErrorCount = new LongAdder();
+
+		private final LongAdder writeCount = new LongAdder();
+
+		private final LongAdder writeErrorCount = new LongAdder();
+
+		private final LongAdder chunkCount = new LongAdder();
+
+		private final AtomicLong chunksSinceSummary = new AtomicLong();
+
+		private final AtomicLong lastSummaryTime = new AtomicLong(System.nanoTime());
+
+		private StepCounts(StepExecution stepExecution) {
+			this.jobExecutionId = stepExecution.getJobExecutionId();
+			this.stepExecutionId = stepExecution.getId();
+			this.stepName = stepExecution.getStepName();
+		}
+
+	}
+
+}
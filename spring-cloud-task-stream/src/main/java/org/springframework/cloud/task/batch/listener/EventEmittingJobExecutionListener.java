@@ -19,6 +19,7 @@ package org.springframework.cloud.task.batch.listener;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.listener.JobExecutionListener;
 import org.springframework.cloud.task.batch.listener.support.JobExecutionEvent;
+import org.springframework.cloud.task.batch.listener.support.ExecutionEventProjection;
 import org.springframework.cloud.task.batch.listener.support.MessagePublisher;
 import org.springframework.cloud.task.batch.listener.support.TaskEventProperties;
 import org.springframework.core.Ordered;
@@ -26,6 +27,8 @@ import org.springframework.util.Assert;
 
 /**
  * Provides {@link JobExecutionEvent} at both the start and end of the job's execution.
+ * The events are created by an {@link ExecutionEventProjection} configured by the
+ * {@link TaskEventProperties}.
  *
  * @author Michael Minella
  * @author Glenn Renfro
@@ -39,12 +42,15 @@ public class EventEmittingJobExecutionListener implements JobExecutionListener,
 
 	private TaskEventProperties properties;
 
+	private final ExecutionEventProjection projection;
+
 	public EventEmittingJobExecutionListener(MessagePublisher messagePublisher, TaskEventProperties properties) {
 		Assert.notNull(messagePublisher, "messagePublisher is required");
 		Assert.notNull(properties, "properties is required");
 
 		this.messagePublisher = messagePublisher;
 		this.properties = properties;
+		this.projection = new ExecutionEventProjection(properties);
 	}
 
 	public EventEmittingJobExecutionListener(MessagePublisher messagePublisher, int order,
@@ -56,13 +62,13 @@ public class EventEmittingJobExecutionListener implements JobExecutionListener,
 	@Override
 	public void beforeJob(JobExecution jobExecution) {
 		this.messagePublisher.publish(properties.getJobExecutionEventBindingName(),
-				new JobExecutionEvent(jobExecution));
+				this.projection.createJobExecutionEvent(jobExecution));
 	}
 
 	@Override
 	public void afterJob(JobExecution jobExecution) {
 		this.messagePublisher.publish(properties.getJobExecutionEventBindingName(),
-				new JobExecutionEvent(jobExecution));
+				this.projection.createJobExecutionEvent(jobExecution));
 	}
 
 	@Override
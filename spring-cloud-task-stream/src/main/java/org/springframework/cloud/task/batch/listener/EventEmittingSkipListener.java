@@ -16,11 +16,14 @@
 
 package org.springframework.cloud.task.batch.listener;
 
+import java.time.Duration;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.batch.core.listener.SkipListener;
 import org.springframework.cloud.task.batch.listener.support.BatchJobHeaders;
+import org.springframework.cloud.task.batch.listener.support.EventSampler;
 import org.springframework.cloud.task.batch.listener.support.MessagePublisher;
 import org.springframework.cloud.task.batch.listener.support.TaskEventProperties;
 import org.springframework.core.Ordered;
@@ -34,7 +37,9 @@ import org.springframework.util.Assert;
  * {@link BatchJobHeaders#BATCH_EXCEPTION} message header for each method. For
  * {@link SkipListener#onSkipInProcess(Object, Throwable)} and
  * {@link SkipListener#onSkipInWrite(Object, Throwable)} the body of the message consists
- * of the item that caused the error.
+ * of the item that caused the error. Unless errors bypass sampling, the skip events are
+ * sampled and rate limited by an {@link EventSampler} configured with the
+ * skip-sample-rate, skip-sample-interval and skip-rate-limit properties.
  *
  * @author Glenn Renfro
  * @author Ali Shahbour
@@ -49,12 +54,16 @@ public class EventEmittingSkipListener implements SkipListener, Ordered {
 
 	private TaskEventProperties properties;
 
+	private final EventSampler sampler;
+
 	public EventEmittingSkipListener(MessagePublisher messagePublisher, TaskEventProperties properties) {
 		Assert.notNull(messagePublisher, "messagePublisher is required");
 		Assert.notNull(properties, "properties is required");
 
 		this.messagePublisher = messagePublisher;
 		this.properties = properties;
+		this.sampler = new EventSampler(properties.getSkipSampleRate(),
+				Duration.ofMillis(properties.getSkipSampleInterval()), properties.getSkipRateLimit());
 	}
 
 	public EventEmittingSkipListener(MessagePublisher messagePublisher, int order, TaskEventProperties properties) {
@@ -67,6 +76,9 @@ public class EventEmittingSkipListener implements SkipListener, Ordered {
 		if (logger.isDebugEnabled()) {
 			logger.debug("Executing onSkipInRead: " + t.getMessage(), t);
 		}
+		if (!isPublished()) {
+			return;
+		}
 		this.messagePublisher.publishWithThrowableHeader(this.properties.getSkipEventBindingName(),
 				"Skipped when reading.", t.getMessage());
 	}
@@ -76,6 +88,9 @@ public class EventEmittingSkipListener implements SkipListener, Ordered {
 		if (logger.isDebugEnabled()) {
 			logger.debug("Executing onSkipInWrite: " + t.getMessage(), t);
 		}
+		if (!isPublished()) {
+			return;
+		}
 		this.messagePublisher.publishWithThrowableHeader(this.properties.getSkipEventBindingName(), item,
 				t.getMessage());
 	}
@@ -85,10 +100,17 @@ public class EventEmittingSkipListener implements SkipListener, Ordered {
 		if (logger.isDebugEnabled()) {
 			logger.debug("Executing onSkipInProcess: " + t.getMessage(), t);
 		}
+		if (!isPublished()) {
+			return;
+		}
 		this.messagePublisher.publishWithThrowableHeader(this.properties.getSkipEventBindingName(), item,
 				t.getMessage());
 	}
 
+	private boolean isPublished() {
+		return this.properties.isErrorsBypassSampling() || this.sampler.tryAcquire();
+	}
+
 	@Override
 	public int getOrder() {
 		return this.order;
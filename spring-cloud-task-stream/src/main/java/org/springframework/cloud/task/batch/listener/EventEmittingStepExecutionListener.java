@@ -19,6 +19,7 @@ package org.springframework.cloud.task.batch.listener;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.listener.StepExecutionListener;
 import org.springframework.batch.core.step.StepExecution;
+import org.springframework.cloud.task.batch.listener.support.ExecutionEventProjection;
 import org.springframework.cloud.task.batch.listener.support.MessagePublisher;
 import org.springframework.cloud.task.batch.listener.support.StepExecutionEvent;
 import org.springframework.cloud.task.batch.listener.support.TaskEventProperties;
@@ -28,7 +29,8 @@ import org.springframework.util.Assert;
 /**
  * Provides a {@link StepExecutionEvent} at the start and end of each step indicating the
  * step's status. The {@link StepExecutionListener#afterStep(StepExecution)} returns the
- * {@link ExitStatus} of the inputted {@link StepExecution}.
+ * {@link ExitStatus} of the inputted {@link StepExecution}. The events are created by an
+ * {@link ExecutionEventProjection} configured by the {@link TaskEventProperties}.
  *
  * @author Michael Minella
  * @author Glenn Renfro
@@ -42,12 +44,15 @@ public class EventEmittingStepExecutionListener implements StepExecutionListener
 
 	private TaskEventProperties properties;
 
+	private final ExecutionEventProjection projection;
+
 	public EventEmittingStepExecutionListener(MessagePublisher messagePublisher, TaskEventProperties properties) {
 		Assert.notNull(messagePublisher, "messagePublisher is required");
 		Assert.notNull(properties, "properties is required");
 
 		this.messagePublisher = messagePublisher;
 		this.properties = properties;
+		this.projection = new ExecutionEventProjection(properties);
 	}
 
 	public EventEmittingStepExecutionListener(MessagePublisher messagePublisher, int order,
@@ -59,13 +64,13 @@ public class EventEmittingStepExecutionListener implements StepExecutionListener
 	@Override
 	public void beforeStep(StepExecution stepExecution) {
 		this.messagePublisher.publish(this.properties.getStepExecutionEventBindingName(),
-				new StepExecutionEvent(stepExecution));
+				this.projection.createStepExecutionEvent(stepExecution));
 	}
 
 	@Override
 	public ExitStatus afterStep(StepExecution stepExecution) {
 		this.messagePublisher.publish(this.properties.getStepExecutionEventBindingName(),
-				new StepExecutionEvent(stepExecution));
+				this.projection.createStepExecutionEvent(stepExecution));
 
 		return stepExecution.getExitStatus();
 	}
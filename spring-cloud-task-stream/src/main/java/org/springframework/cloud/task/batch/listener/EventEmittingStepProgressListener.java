@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.task.batch.listener.support.MessagePublisher;
+import org.springframework.cloud.task.batch.listener.support.StepProgressEvent;
+import org.springframework.cloud.task.batch.listener.support.TaskEventProperties;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Publishes a {@link StepProgressEvent} for each running step every
+ * {@link TaskEventProperties#getStepProgressInterval() step progress interval}. The
+ * counts are sampled from the {@link StepExecution} by a single scheduler thread, so that
+ * the chunk threads do no more work than registering and removing the step.
+ *
+ * The estimated time remaining is derived from the {@code <name>.read.count.max} entry
+ * that readers such as the {@code AbstractItemCountingItemStreamItemReader} store in the
+ * step execution context when a {@code maxItemCount} is set.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+public class EventEmittingStepProgressListener implements StepExecutionListener, Ordered, DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(EventEmittingStepProgressListener.class);
+
+	private static final String READ_COUNT_MAX_SUFFIX = ".read.count.max";
+
+	private static final String READ_COUNT_SUFFIX = ".read.count";
+
+	private final MessagePublisher messagePublisher;
+
+	private final TaskEventProperties properties;
+
+	private final Map<Long, StepProgress> runningSteps = new ConcurrentHashMap<>();
+
+	private int order = Ordered.LOWEST_PRECEDENCE;
+
+	private ScheduledExecutorService progressExecutor;
+
+	public EventEmittingStepProgressListener(MessagePublisher messagePublisher, TaskEventProperties properties) {
+		Assert.notNull(messagePublisher, "messagePublisher is required");
+		Assert.notNull(properties, "properties is required");
+		this.messagePublisher = messagePublisher;
+		this.properties = properties;
+		long interval = properties.getStepProgressInterval();
+		if (interval > 0) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("task-step-progress-");
+			threadFactory.setDaemon(true);
+			this.progressExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+			this.progressExecutor.scheduleWithFixedDelay(this::scheduledProgress, interval, interval,
+					TimeUnit.MILLISECONDS);
+		}
+	}
+
+	public EventEmittingStepProgressListener(MessagePublisher messagePublisher, int order,
+			TaskEventProperties properties) {
+		this(messagePublisher, properties);
+		this.order = order;
+	}
+
+	@Override
+	public void beforeStep(StepExecution stepExecution) {
+		this.runningSteps.put(stepExecution.getId(), new StepProgress(stepExecution));
+	}
+
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		this.runningSteps.remove(stepExecution.getId());
+		return stepExecution.getExitStatus();
+	}
+
+	@Override
+	public int getOrder() {
+		return this.order;
+	}
+
+	@Override
+	public void destroy() {
+		if (this.progressExecutor != null) {
+			this.progressExecutor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Publishes the progress of every running step since the previous call.
+	 */
+	void publishProgress() {
+		for (StepProgress stepProgress : this.runningSteps.values()) {
+			this.messagePublisher.publish(this.properties.getStepProgressEventBindingName(),
+					stepProgress.sample(this.properties.isStepProgressCountDelta()));
+		}
+	}
+
+	private void scheduledProgress() {
+		try {
+			publishProgress();
+		}
+		catch (RuntimeException ex) {
+			logger.warn("Step progress could not be published", ex);
+		}
+	}
+
+	private static Long estimateTimeRemaining(StepExecution stepExecution, double readRate) {
+		if (readRate <= 0) {
+			return null;
+		}
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		for (Map.Entry<String, Object> entry : executionContext.entrySet()) {
+			String key = entry.getKey();
+			if (key.endsWith(READ_COUNT_MAX_SUFFIX) && entry.getValue() instanceof Number maxItemCount) {
+				String readCountKey = key.substring(0, key.length() - READ_COUNT_MAX_SUFFIX.length())
+						+ READ_COUNT_SUFFIX;
+				long readCount = (executionContext.get(readCountKey) instanceof Number count) ? count.longValue()
+						: stepExecution.getReadCount();
+				long remaining = Math.max(0, maxItemCount.longValue() - readCount);
+				return (long) (remaining * 1000 / readRate);
+			}
+		}
+		return null;
+	}
+
+	private static double perSecond(long delta, long elapsedNanos) {
+		return (elapsedNanos > 0) ? delta * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos : 0;
+	}
+
+	/**
+	 * The counts of a running step at its previous sample. Only the scheduler thread
+	 * samples a step, so the snapshot needs no synchronization beyond its publication in
+	 * the map.
+	 */
+	private static final class StepProgress {
+
+		private final StepExecution stepExecution;
+
+		private long readCount;
+
+		private long writeCount;
+
+		private long filterCount;
+
+		private long commitCount;
+
+		private long sampleTime;
+
+		StepProgress(StepExecution stepExecution) {
+			this.stepExecution = stepExecution;
+			this.readCount = stepExecution.getReadCount();
+			this.writeCount = stepExecution.getWriteCount();
+			this.filterCount = stepExecution.getFilterCount();
+			this.commitCount = stepExecution.getCommitCount();
+			this.sampleTime = System.nanoTime();
+		}
+
+		StepProgressEvent sample(boolean countDelta) {
+			long now = System.nanoTime();
+			long elapsed = now - this.sampleTime;
+			long readCount = this.stepExecution.getReadCount();
+			long writeCount = this.stepExecution.getWriteCount();
+			long filterCount = this.stepExecution.getFilterCount();
+			long commitCount = this.stepExecution.getCommitCount();
+
+			StepProgressEvent event = new StepProgressEvent();
+			event.setJobExecutionId(this.stepExecution.getJobExecutionId());
+			event.setStepExecutionId(this.stepExecution.getId());
+			event.setStepName(this.stepExecution.getStepName());
+			if (countDelta) {
+				event.setReadCount(readCount - this.readCount);
+				event.setWriteCount(writeCount - this.writeCount);
+				event.setFilterCount(filterCount - this.filterCount);
+				event.setCommitCount(commitCount - this.commitCount);
+				event.setCountDelta(true);
+			}
+			else {
+				event.setReadCount(readCount);
+				event.setWriteCount(writeCount);
+				event.setFilterCount(filterCount);
+				event.setCommitCount(commitCount);
+			}
+			event.setReadRate(perSecond(readCount - this.readCount, elapsed));
+			event.setWriteRate(perSecond(writeCount - this.writeCount, elapsed));
+			event.setFilterRate(perSecond(filterCount - this.filterCount, elapsed));
+			long commits = commitCount - this.commitCount;
+			if (commits > 0) {
+				event.setCommitInterval((double) elapsed / TimeUnit.MILLISECONDS.toNanos(1) / commits);
+			}
+			event.setEstimatedTimeRemaining(estimateTimeRemaining(this.stepExecution, event.getReadRate()));
+
+			this.readCount = readCount;
+			this.writeCount = writeCount;
+			this.filterCount = filterCount;
+			this.commitCount = commitCount;
+			this.sampleTime = now;
+			return event;
+		}
+
+	}
+
+}
@@ -0,0 +1,507 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.stream.config.BindingServiceProperties;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.cloud.task.listener.TaskExecutionListener;
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.Assert;
+
+/**
+ * {@link MessagePublisher} that hands the messages to a bounded, lock-free ring buffer
+ * drained by a dedicated sender thread, so that binder latency does not slow down the
+ * thread that publishes. What happens when the buffer is full is decided by the
+ * {@link OverflowPolicy}. The buffer is flushed, within the flush timeout, when the task
+ * ends and when the publisher is destroyed.
+ * <p>
+ * When a {@link MessageConverter} is configured, the payload of each message is
+ * serialized on the publishing thread, with the content type of the message, or else of
+ * its binding, or else as JSON, so that the events sent later by the sender thread do not
+ * reflect changes made in the meantime to the mutable objects they refer to, such as an
+ * execution context or a task execution. Without one, the payloads are sent as they are
+ * when the sender thread reaches them.
+ * <p>
+ * When an {@link EventSpool} is configured, messages published while the buffer is full,
+ * or while the sender thread is retrying a message the binder did not accept, are written
+ * to the spool instead, and the messages that follow are spooled too until the spool has
+ * been replayed, so that they are sent in the order they were published. Messages are
+ * dropped when the spool is full. Spooled messages that were not sent when the publisher
+ * is destroyed, followed by the messages still in the buffer, are replayed by the next
+ * publisher that opens the spool.
+ *
+ * @param <P> payload type
+ * @author agent
+ * @since 5.0.3
+ */
+public class AsyncMessagePublisher<P> extends MessagePublisher<P> implements TaskExecutionListener, DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(AsyncMessagePublisher.class);
+
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private static final long WAIT_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+	private static final long MIN_RETRY_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	private static final long MAX_RETRY_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private static final int MAX_FAILED_SENDS = 5;
+
+	private final EventRingBuffer<PendingMessage> buffer;
+
+	private final OverflowPolicy overflowPolicy;
+
+	private final int sampleRate;
+
+	private final Duration flushTimeout;
+
+	private final EventSpool spool;
+
+	private final EventMessageSerializer serializer;
+
+	private final AtomicLong enqueuedCount = new AtomicLong();
+
+	private final AtomicLong processedCount = new AtomicLong();
+
+	private final AtomicLong overflowCount = new AtomicLong();
+
+	private final AtomicLong droppedCount = new AtomicLong();
+
+	private final Thread sender;
+
+	private volatile boolean running = true;
+
+	private volatile boolean spooling;
+
+	/**
+	 * Create the publisher and start its sender thread.
+	 * @param streamBridge the stream bridge that sends the messages
+	 * @param bufferSize the number of messages the buffer holds, rounded up to a power of
+	 * two
+	 * @param overflowPolicy what to do with a message when the buffer is full
+	 * @param sampleRate with {@link OverflowPolicy#SAMPLE}, one in this many messages
+	 * published while the buffer is full is kept
+	 * @param flushTimeout the maximum time to wait for the buffer to be sent on flush
+	 */
+	public AsyncMessagePublisher(StreamBridge streamBridge, int bufferSize, OverflowPolicy overflowPolicy,
+			int sampleRate, Duration flushTimeout) {
+		this(streamBridge, bufferSize, overflowPolicy, sampleRate, flushTimeout, null);
+	}
+
+	/**
+	 * Create the publisher and start its sender thread.
+	 * @param streamBridge the stream bridge that sends the messages
+	 * @param bufferSize the number of messages the buffer holds, rounded up to a power of
+	 * two
+	 * @param overflowPolicy what to do with a message when the buffer is full and there is
+	 * no spool
+	 * @param sampleRate with {@link OverflowPolicy#SAMPLE}, one in this many messages
+	 * published while the buffer is full is kept
+	 * @param flushTimeout the maximum time to wait for the buffer to be sent on flush
+	 * @param spool the spool that keeps the messages that cannot be buffered or sent, or
+	 * {@code null} for none
+	 */
+	public AsyncMessagePublisher(StreamBridge streamBridge, int bufferSize, OverflowPolicy overflowPolicy,
+			int sampleRate, Duration flushTimeout, EventSpool spool) {
+		this(streamBridge, bufferSize, overflowPolicy, sampleRate, flushTimeout, spool, null, null);
+	}
+
+	/**
+	 * Create the publisher and start its sender thread.
+	 * @param streamBridge the stream bridge that sends the messages
+	 * @param bufferSize the number of messages the buffer holds, rounded up to a power of
+	 * two
+	 * @param overflowPolicy what to do with a message when the buffer is full and there is
+	 * no spool
+	 * @param sampleRate with {@link OverflowPolicy#SAMPLE}, one in this many messages
+	 * published while the buffer is full is kept
+	 * @param flushTimeout the maximum time to wait for the buffer to be sent on flush
+	 * @param spool the spool that keeps the messages that cannot be buffered or sent, or
+	 * {@code null} for none
+	 * @param messageConverter the converter that serializes the payloads on the
+	 * publishing thread, or {@code null} to send the payloads as they are
+	 * @param bindingServiceProperties the binding properties used to resolve the content
+	 * type of each binding, or {@code null} to serialize the payloads as JSON
+	 */
+	public AsyncMessagePublisher(StreamBridge streamBridge, int bufferSize, OverflowPolicy overflowPolicy,
+			int sampleRate, Duration flushTimeout, EventSpool spool, MessageConverter messageConverter,
+			BindingServiceProperties bindingServiceProperties) {
+		super(streamBridge);
+		Assert.isTrue(bufferSize > 0, "bufferSize must be greater than zero");
+		Assert.notNull(overflowPolicy, "overflowPolicy must not be null");
+		Assert.isTrue(sampleRate > 0, "sampleRate must be greater than zero");
+		Assert.notNull(flushTimeout, "flushTimeout must not be null");
+		this.buffer = new EventRingBuffer<>(bufferSize);
+		this.overflowPolicy = overflowPolicy;
+		this.sampleRate = sampleRate;
+		this.flushTimeout = flushTimeout;
+		this.spool = spool;
+		this.serializer = (messageConverter != null)
+				? new EventMessageSerializer(messageConverter, bindingServiceProperties) : null;
+		if (spool != null && spool.size() > 0) {
+			this.spooling = true;
+			this.enqueuedCount.set(spool.size());
+		}
+		this.sender = new Thread(this::sendBufferedMessages, "task-event-publisher");
+		this.sender.setDaemon(true);
+		this.sender.start();
+	}
+
+	/**
+	 * Create the publisher configured by the async properties of the
+	 * {@link TaskEventProperties} and start its sender thread.
+	 * @param streamBridge the stream bridge that sends the messages
+	 * @param properties the task event properties
+	 */
+	public AsyncMessagePublisher(StreamBridge streamBridge, TaskEventProperties properties) {
+		this(streamBridge, properties, null);
+	}
+
+	/**
+	 * Create the publisher configured by the async properties of the
+	 * {@link TaskEventProperties} and start its sender thread.
+	 * @param streamBridge the stream bridge that sends the messages
+	 * @param properties the task event properties
+	 * @param spool the spool that keeps the messages that cannot be buffered or sent, or
+	 * {@code null} for none
+	 */
+	public AsyncMessagePublisher(StreamBridge streamBridge, TaskEventProperties properties, EventSpool spool) {
+		this(streamBridge, properties, spool, null, null);
+	}
+
+	/**
+	 * Create the publisher configured by the async properties of the
+	 * {@link TaskEventProperties} and start its sender thread.
+	 * @param streamBridge the stream bridge that sends the messages
+	 * @param properties the task event properties
+	 * @param spool the spool that keeps the messages that cannot be buffered or sent, or
+	 * {@code null} for none
+	 * @param messageConverter the converter that serializes the payloads on the
+	 * publishing thread, or {@code null} to send the payloads as they are
+	 * @param bindingServiceProperties the binding properties used to resolve the content
+	 * type of each binding, or {@code null} to serialize the payloads as JSON
+	 */
+	public AsyncMessagePublisher(StreamBridge streamBridge, TaskEventProperties properties, EventSpool spool,
+			MessageConverter messageConverter, BindingServiceProperties bindingServiceProperties) {
+		this(streamBridge, properties.getAsyncBufferSize(), properties.getAsyncOverflowPolicy(),
+				properties.getAsyncSampleRate(), Duration.ofMillis(properties.getAsyncFlushTimeout()), spool,
+				messageConverter, bindingServiceProperties);
+	}
+
+	@Override
+	protected void send(String bindingName, Message<?> message) {
+		if (!this.running) {
+			super.send(bindingName, message);
+			return;
+		}
+		if (this.serializer != null) {
+			try {
+				message = serialize(bindingName, message);
+			}
+			catch (RuntimeException ex) {
+				logger.warn(String.format("Failed to serialize task event for %s, dropping it", bindingName), ex);
+				this.droppedCount.incrementAndGet();
+				return;
+			}
+		}
+		PendingMessage pendingMessage = new PendingMessage(bindingName, message);
+		if (this.spool != null) {
+			if (this.spooling || !this.buffer.offer(pendingMessage)) {
+				spool(pendingMessage);
+			}
+			else {
+				this.enqueuedCount.incrementAndGet();
+			}
+			LockSupport.unpark(this.sender);
+		}
+		else if (this.buffer.offer(pendingMessage) || offerOnOverflow(pendingMessage)) {
+			this.enqueuedCount.incrementAndGet();
+			LockSupport.unpark(this.sender);
+		}
+	}
+
+	/**
+	 * Waits until the messages published before this call have been sent, or dropped, or
+	 * the flush timeout has elapsed.
+	 * @return {@code true} if all the messages were handled within the flush timeout
+	 */
+	@Override
+	public boolean flush() {
+		long target = this.enqueuedCount.get();
+		long deadline = System.nanoTime() + this.flushTimeout.toNanos();
+		while (this.processedCount.get() < target) {
+			if (System.nanoTime() - deadline >= 0) {
+				logger.warn(String.format("%d task events were not published within %s ms",
+						target - this.processedCount.get(), this.flushTimeout.toMillis()));
+				return false;
+			}
+			LockSupport.unpark(this.sender);
+			LockSupport.parkNanos(WAIT_PARK_NANOS);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the number of messages dropped because the buffer, or the spool, was full,
+	 * or because they could not be serialized, sent or read from the spool.
+	 * @return the number of dropped messages
+	 */
+	public long getDroppedCount() {
+		return this.droppedCount.get();
+	}
+
+	@Override
+	public void onTaskEnd(TaskExecution taskExecution) {
+		flush();
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+		flush();
+		this.running = false;
+		LockSupport.unpark(this.sender);
+		this.sender.join(this.flushTimeout.toMillis());
+		if (this.spool != null && !this.sender.isAlive()) {
+			try {
+				this.spool.close();
+			}
+			catch (IOException ex) {
+				logger.warn("Failed to close the task event spool", ex);
+			}
+		}
+	}
+
+	private Message<?> serialize(String bindingName, Message<?> message) {
+		if (message.getPayload() instanceof byte[]) {
+			return message;
+		}
+		String contentType = this.serializer.getContentType(bindingName, message);
+		return MessageBuilder.withPayload(this.serializer.getPayload(message, contentType))
+			.copyHeaders(message.getHeaders())
+			.setHeader(MessageHeaders.CONTENT_TYPE, contentType)
+			.build();
+	}
+
+	private void spool(PendingMessage pendingMessage) {
+		synchronized (this.spool) {
+			if (!this.spooling && this.buffer.offer(pendingMessage)) {
+				this.enqueuedCount.incrementAndGet();
+				return;
+			}
+			this.spooling = true;
+			if (appendToSpool(pendingMessage)) {
+				this.enqueuedCount.incrementAndGet();
+			}
+		}
+	}
+
+	private boolean appendToSpool(PendingMessage pendingMessage) {
+		try {
+			if (this.spool.append(pendingMessage.bindingName, pendingMessage.message)) {
+				return true;
+			}
+		}
+		catch (RuntimeException ex) {
+			logger.warn(String.format("Failed to spool task event for %s", pendingMessage.bindingName), ex);
+		}
+		this.droppedCount.incrementAndGet();
+		return false;
+	}
+
+	private boolean offerOnOverflow(PendingMessage pendingMessage) {
+		if (this.overflowPolicy == OverflowPolicy.SAMPLE
+				&& this.overflowCount.incrementAndGet() % this.sampleRate != 0) {
+			this.droppedCount.incrementAndGet();
+			return false;
+		}
+		while (!this.buffer.offer(pendingMessage)) {
+			if (this.overflowPolicy == OverflowPolicy.BLOCK) {
+				if (!this.running) {
+					super.send(pendingMessage.bindingName, pendingMessage.message);
+					return false;
+				}
+				LockSupport.unpark(this.sender);
+				LockSupport.parkNanos(WAIT_PARK_NANOS);
+			}
+			else if (this.buffer.poll() != null) {
+				this.droppedCount.incrementAndGet();
+				this.processedCount.incrementAndGet();
+			}
+		}
+		return true;
+	}
+
+	private void sendBufferedMessages() {
+		while (true) {
+			PendingMessage pendingMessage = this.buffer.poll();
+			if (pendingMessage == null) {
+				if (this.spool != null && replaySpooledMessage()) {
+					continue;
+				}
+				if (!this.running) {
+					return;
+				}
+				LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+				continue;
+			}
+			if (this.spool == null) {
+				try {
+					super.send(pendingMessage.bindingName, pendingMessage.message);
+				}
+				catch (RuntimeException ex) {
+					logger.warn(String.format("Failed to publish task event to %s", pendingMessage.bindingName), ex);
+				}
+				finally {
+					this.processedCount.incrementAndGet();
+				}
+			}
+			else if (sendWithRetry(pendingMessage.bindingName, pendingMessage.message)) {
+				this.processedCount.incrementAndGet();
+			}
+			else {
+				synchronized (this.spool) {
+					appendToSpool(pendingMessage);
+					for (PendingMessage buffered = this.buffer.poll(); buffered != null; buffered = this.buffer
+						.poll()) {
+						appendToSpool(buffered);
+					}
+				}
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Sends the oldest spooled message.
+	 * @return {@code false} if the spool is empty or the publisher was destroyed before
+	 * the message could be sent
+	 */
+	private boolean replaySpooledMessage() {
+		EventSpool.SpooledMessage spooledMessage;
+		synchronized (this.spool) {
+			try {
+				spooledMessage = this.spool.peek();
+			}
+			catch (RuntimeException ex) {
+				logger.warn("Skipping a task event that could not be read from the spool", ex);
+				this.spool.remove();
+				this.droppedCount.incrementAndGet();
+				this.processedCount.incrementAndGet();
+				return true;
+			}
+			if (spooledMessage == null) {
+				this.spooling = false;
+				return false;
+			}
+		}
+		if (!sendWithRetry(spooledMessage.getBindingName(), spooledMessage.getMessage())) {
+			return false;
+		}
+		this.spool.remove();
+		this.processedCount.incrementAndGet();
+		return true;
+	}
+
+	/**
+	 * Sends the message, spooling the messages published in the meantime and retrying
+	 * until the binder accepts it or the publisher is destroyed. A message the binder
+	 * refuses is retried for as long as it takes. A message whose send throws an exception
+	 * is dropped, as it is without a spool, once it has failed {@link #MAX_FAILED_SENDS}
+	 * times in a row, or right away when it cannot be converted.
+	 * @return {@code true} if the message was sent or dropped
+	 */
+	private boolean sendWithRetry(String bindingName, Message<?> message) {
+		long retryParkNanos = MIN_RETRY_PARK_NANOS;
+		int failedSends = 0;
+		while (true) {
+			try {
+				if (getStreamBridge().send(bindingName, message)) {
+					return true;
+				}
+				failedSends = 0;
+				logger.debug(String.format("Task event was not accepted by %s, retrying", bindingName));
+			}
+			catch (RuntimeException ex) {
+				if (ex instanceof MessageConversionException || ++failedSends >= MAX_FAILED_SENDS) {
+					logger.warn(String.format("Failed to publish task event to %s, dropping it", bindingName), ex);
+					this.droppedCount.incrementAndGet();
+					return true;
+				}
+				logger.debug(String.format("Failed to publish task event to %s, retrying", bindingName), ex);
+			}
+			this.spooling = true;
+			if (!this.running) {
+				return false;
+			}
+			LockSupport.parkNanos(this, retryParkNanos);
+			retryParkNanos = Math.min(retryParkNanos * 2, MAX_RETRY_PARK_NANOS);
+		}
+	}
+
+	/**
+	 * What to do with a message published while the buffer is full.
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Wait until the sender thread makes room for the message.
+		 */
+		BLOCK,
+
+		/**
+		 * Drop the oldest buffered message to make room for the new one.
+		 */
+		DROP_OLDEST,
+
+		/**
+		 * Keep one in sample-rate of the messages published while the buffer is full,
+		 * dropping the oldest buffered message to make room for it, and drop the others.
+		 */
+		SAMPLE
+
+	}
+
+	private static final class PendingMessage {
+
+		private final String bindingName;
+
+		private final Message<?> message;
+
+		private PendingMessage(String bindingName, Message<?> message) {
+			this.bindingName = bindingName;
+			this.message = message;
+		}
+
+	}
+
+}
@@ -34,6 +34,17 @@ public final class BatchJobHeaders {
 	 */
 	public static final String BATCH_EXCEPTION = "batch_exception";
 
+	/**
+	 * Key of the id an event relayed from the outbox is published under. The id is the
+	 * same each time the event is relayed.
+	 */
+	public static final String EVENT_MESSAGE_ID = "task_event_message_id";
+
+	/**
+	 * Key of the partition key of an event, which the bindings can be partitioned by.
+	 */
+	public static final String PARTITION_KEY = "task_event_partition_key";
+
 	private BatchJobHeaders() {
 	}
 
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.cloud.stream.config.BindingServiceProperties;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Turns an event message into the content type, {@link String} headers and bytes that are
+ * stored until the event is sent. The payload is converted with the content type of the
+ * message, or else of its binding, or else as JSON.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+final class EventMessageSerializer {
+
+	private final MessageConverter messageConverter;
+
+	private final BindingServiceProperties bindingServiceProperties;
+
+	EventMessageSerializer(MessageConverter messageConverter, BindingServiceProperties bindingServiceProperties) {
+		Assert.notNull(messageConverter, "A messageConverter is required");
+		this.messageConverter = messageConverter;
+		this.bindingServiceProperties = bindingServiceProperties;
+	}
+
+	String getContentType(String bindingName, Message<?> message) {
+		Object contentType = message.getHeaders().get(MessageHeaders.CONTENT_TYPE);
+		if (contentType != null) {
+			return contentType.toString();
+		}
+		if (this.bindingServiceProperties != null) {
+			contentType = this.bindingServiceProperties.getBindingProperties(bindingName).getContentType();
+		}
+		return (contentType != null) ? contentType.toString() : MimeTypeUtils.APPLICATION_JSON_VALUE;
+	}
+
+	Map<String, String> getHeaders(Message<?> message) {
+		Map<String, String> headers = new LinkedHashMap<>();
+		message.getHeaders().forEach((name, value) -> {
+			if (value instanceof String stringValue && !MessageHeaders.ID.equals(name)
+					&& !MessageHeaders.CONTENT_TYPE.equals(name)) {
+				headers.put(name, stringValue);
+			}
+		});
+		return headers;
+	}
+
+	byte[] getPayload(Message<?> message, String contentType) {
+		Object payload = message.getPayload();
+		if (payload instanceof byte[] bytes) {
+			return bytes;
+		}
+		if (payload instanceof String string) {
+			return string.getBytes(StandardCharsets.UTF_8);
+		}
+		Message<?> converted = this.messageConverter.toMessage(payload,
+				new MessageHeaders(Map.of(MessageHeaders.CONTENT_TYPE, contentType)));
+		if (converted == null || !(converted.getPayload() instanceof byte[] bytes)) {
+			throw new MessageConversionException(
+					String.format("Could not convert %s to %s", payload.getClass().getName(), contentType));
+		}
+		return bytes;
+	}
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.cloud.task.batch.listener.support.JdbcEventOutbox.OutboxEvent;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Publishes the events of a {@link JdbcEventOutbox} to their bindings in batches, in
+ * {@code EVENT_ID} order, and optionally at a fixed interval. Only the events of the
+ * application of the outbox are relayed, and each event is claimed before it is sent so
+ * that several instances of the application can run a relay against the same table.
+ * Relaying stops at the first event claimed by another relay, which publishes it and the
+ * events that follow it. Each event is removed from the outbox once the binder has
+ * accepted it, and relaying stops at the first event that cannot be sent so that the
+ * events that follow it are not published out of order. An event may be published more
+ * than once if the relay stops between the send and the removal, or if its claim expires
+ * before it is removed, so each one carries its message id in the
+ * {@link BatchJobHeaders#EVENT_MESSAGE_ID} header for consumers to discard duplicates.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+public class EventOutboxRelay implements DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(EventOutboxRelay.class);
+
+	private static final long RETRY_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+	private final JdbcEventOutbox outbox;
+
+	private final StreamBridge streamBridge;
+
+	private final int batchSize;
+
+	private final Duration claimTimeout;
+
+	private final String relayId = UUID.randomUUID().toString();
+
+	private final Object monitor = new Object();
+
+	private ScheduledExecutorService relayExecutor;
+
+	/**
+	 * Initializes the EventOutboxRelay.
+	 * @param outbox the outbox the events are read from
+	 * @param streamBridge the stream bridge that sends the events
+	 * @param batchSize the maximum number of events read from the outbox at a time
+	 * @param relayInterval the interval at which the outbox is relayed, or
+	 * {@link Duration#ZERO} to relay it only when {@link #relay()} or
+	 * {@link #drain(Duration)} is called
+	 * @param claimTimeout the time an event claimed by this relay is reserved for it
+	 */
+	public EventOutboxRelay(JdbcEventOutbox outbox, StreamBridge streamBridge, int batchSize, Duration relayInterval,
+			Duration claimTimeout) {
+		Assert.notNull(outbox, "An outbox is required");
+		Assert.notNull(streamBridge, "streamBridge must not be null");
+		Assert.isTrue(batchSize > 0, "batchSize must be greater than zero");
+		Assert.notNull(relayInterval, "A relayInterval is required");
+		Assert.isTrue(!relayInterval.isNegative(), "relayInterval must not be negative");
+		Assert.notNull(claimTimeout, "A claimTimeout is required");
+		Assert.isTrue(claimTimeout.toMillis() > 0, "claimTimeout must be greater than zero");
+		this.outbox = outbox;
+		this.streamBridge = streamBridge;
+		this.batchSize = batchSize;
+		this.claimTimeout = claimTimeout;
+		if (!relayInterval.isZero()) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("task-event-outbox-relay-");
+			threadFactory.setDaemon(true);
+			this.relayExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+			this.relayExecutor.scheduleWithFixedDelay(this::scheduledRelay, relayInterval.toMillis(),
+					relayInterval.toMillis(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Publishes the events of the outbox until it is empty, an event cannot be sent or an
+	 * event is claimed by another relay.
+	 * @return {@code true} if no event is left for this relay to publish
+	 */
+	public boolean relay() {
+		synchronized (this.monitor) {
+			while (true) {
+				List<OutboxEvent> events = this.outbox.fetch(this.batchSize);
+				for (OutboxEvent event : events) {
+					if (!this.outbox.claim(event.getEventId(), this.relayId, this.claimTimeout)) {
+						logger.debug(String.format("Event %s is claimed by another relay", event.getMessageId()));
+						return true;
+					}
+					if (!this.streamBridge.send(event.getBindingName(), toMessage(event))) {
+						logger.warn(String.format("Event %s was not accepted by %s, retrying at the next relay",
+								event.getMessageId(), event.getBindingName()));
+						return false;
+					}
+					this.outbox.delete(event.getEventId());
+				}
+				if (events.size() < this.batchSize) {
+					return true;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Relays the outbox until no event is left for this relay, retrying failed sends until
+	 * the timeout has elapsed.
+	 * @param timeout the maximum time to spend relaying
+	 * @return {@code true} if the outbox was relayed within the timeout
+	 */
+	public boolean drain(Duration timeout) {
+		long deadline = System.nanoTime() + timeout.toNanos();
+		while (true) {
+			try {
+				if (relay()) {
+					return true;
+				}
+			}
+			catch (RuntimeException ex) {
+				logger.debug("Failed to relay the task event outbox", ex);
+			}
+			if (System.nanoTime() - deadline >= 0) {
+				logger.warn(String.format("The task event outbox was not relayed within %s ms", timeout.toMillis()));
+				return false;
+			}
+			LockSupport.parkNanos(RETRY_PARK_NANOS);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		if (this.relayExecutor != null) {
+			this.relayExecutor.shutdown();
+		}
+		scheduledRelay();
+	}
+
+	private Message<byte[]> toMessage(OutboxEvent event) {
+		MessageBuilder<byte[]> builder = MessageBuilder.withPayload(event.getPayload())
+			.copyHeaders(event.getHeaders())
+			.setHeader(BatchJobHeaders.EVENT_MESSAGE_ID, event.getMessageId());
+		if (event.getContentType() != null) {
+			builder.setHeader(MessageHeaders.CONTENT_TYPE, event.getContentType());
+		}
+		return builder.build();
+	}
+
+	private void scheduledRelay() {
+		try {
+			relay();
+		}
+		catch (RuntimeException ex) {
+			logger.warn("Failed to relay the task event outbox, retrying at the next relay", ex);
+		}
+	}
+
+}
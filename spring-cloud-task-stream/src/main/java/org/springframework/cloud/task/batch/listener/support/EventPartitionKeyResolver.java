@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.cloud.task.listener.TaskExecutionListener;
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Resolves the key that {@link MessagePublisher} sends in the
+ * {@link BatchJobHeaders#PARTITION_KEY} header of each event, so that the event bindings
+ * can be partitioned while the events of one execution stay in order. The key is taken
+ * from the event when it carries the chosen value, as step progress events published from
+ * the scheduler thread do, and otherwise from the step that is running on the publishing
+ * thread. Events that carry neither, such as task events when the key is the job
+ * execution id, are keyed by the task execution id.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+public class EventPartitionKeyResolver implements TaskExecutionListener {
+
+	private static final boolean BATCH_PRESENT = ClassUtils.isPresent(
+			"org.springframework.batch.core.scope.context.StepSynchronizationManager",
+			EventPartitionKeyResolver.class.getClassLoader());
+
+	private final PartitionKey partitionKey;
+
+	private volatile Long taskExecutionId;
+
+	/**
+	 * Create the resolver.
+	 * @param partitionKey the value the events are keyed by
+	 */
+	public EventPartitionKeyResolver(PartitionKey partitionKey) {
+		Assert.notNull(partitionKey, "partitionKey must not be null");
+		this.partitionKey = partitionKey;
+	}
+
+	/**
+	 * Returns the partition key of an event.
+	 * @param payload the payload of the event
+	 * @return the key, or {@code null} if the events are not keyed or the key is not
+	 * known yet
+	 */
+	public String resolve(Object payload) {
+		if (this.partitionKey == PartitionKey.NONE) {
+			return null;
+		}
+		if (payload instanceof TaskExecution taskExecution) {
+			return String.valueOf(taskExecution.getExecutionId());
+		}
+		Object key = null;
+		if (this.partitionKey != PartitionKey.TASK_EXECUTION_ID && BATCH_PRESENT) {
+			key = BatchPartitionKeys.resolve(this.partitionKey, payload);
+		}
+		if (key == null) {
+			key = this.taskExecutionId;
+		}
+		return (key != null) ? key.toString() : null;
+	}
+
+	@Override
+	public void onTaskStartup(TaskExecution taskExecution) {
+		this.taskExecutionId = taskExecution.getExecutionId();
+	}
+
+	/**
+	 * The value task and batch events are keyed by.
+	 */
+	public enum PartitionKey {
+
+		/**
+		 * The events are not keyed.
+		 */
+		NONE,
+
+		/**
+		 * The id of the job execution the event belongs to.
+		 */
+		JOB_EXECUTION_ID,
+
+		/**
+		 * The name of the step the event belongs to.
+		 */
+		STEP_NAME,
+
+		/**
+		 * The id of the task execution.
+		 */
+		TASK_EXECUTION_ID
+
+	}
+
+	/**
+	 * Keys taken from Spring Batch types, kept apart so that they are only loaded when
+	 * Spring Batch is on the classpath.
+	 */
+	private static final class BatchPartitionKeys {
+
+		private static Object resolve(PartitionKey partitionKey, Object payload) {
+			if (partitionKey == PartitionKey.JOB_EXECUTION_ID) {
+				if (payload instanceof JobExecutionEvent jobExecutionEvent) {
+					return jobExecutionEvent.getId();
+				}
+				if (payload instanceof StepExecutionEvent stepExecutionEvent) {
+					return stepExecutionEvent.getJobExecutionId();
+				}
+			}
+			else if (payload instanceof StepExecutionEvent stepExecutionEvent) {
+				return stepExecutionEvent.getStepName();
+			}
+			if (payload instanceof StepProgressEvent stepProgressEvent) {
+				return (partitionKey == PartitionKey.JOB_EXECUTION_ID) ? stepProgressEvent.getJobExecutionId()
+						: stepProgressEvent.getStepName();
+			}
+			if (payload instanceof ItemSummaryEvent itemSummaryEvent) {
+				Object key = (partitionKey == PartitionKey.JOB_EXECUTION_ID) ? itemSummaryEvent.getJobExecutionId()
+						: itemSummaryEvent.getStepName();
+				if (key != null) {
+					return key;
+				}
+			}
+			StepContext stepContext = StepSynchronizationManager.getContext();
+			if (stepContext == null) {
+				return null;
+			}
+			StepExecution stepExecution = stepContext.getStepExecution();
+			return (partitionKey == PartitionKey.JOB_EXECUTION_ID) ? stepExecution.getJobExecutionId()
+					: stepExecution.getStepName();
+		}
+
+	}
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free, multi-producer multi-consumer ring buffer. Each slot carries a
+ * sequence number that tells producers and consumers whether the slot is free or holds an
+ * element for the current lap, so that neither side needs a lock.
+ *
+ * @param <E> the element type
+ * @author agent
+ */
+final class EventRingBuffer<E> {
+
+	private final int mask;
+
+	private final AtomicReferenceArray<E> elements;
+
+	private final AtomicLongArray sequences;
+
+	private final AtomicLong head = new AtomicLong();
+
+	private final AtomicLong tail = new AtomicLong();
+
+	/**
+	 * Create a ring buffer that holds at least the given number of elements.
+	 * @param capacity the minimum capacity, rounded up to a power of two
+	 */
+	EventRingBuffer(int capacity) {
+		int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+		this.mask = size - 1;
+		this.elements = new AtomicReferenceArray<>(size);
+		this.sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			this.sequences.set(i, i);
+		}
+	}
+
+	/**
+	 * Add an element if there is room for it.
+	 * @param element the element
+	 * @return {@code false} if the buffer is full
+	 */
+	boolean offer(E element) {
+		long position = this.tail.get();
+		while (true) {
+			int index = (int) (position & this.mask);
+			long difference = this.sequences.get(index) - position;
+			if (difference == 0) {
+				if (this.tail.compareAndSet(position, position + 1)) {
+					this.elements.set(index, element);
+					this.sequences.set(index, position + 1);
+					return true;
+				}
+			}
+			else if (difference < 0) {
+				return false;
+			}
+			position = this.tail.get();
+		}
+	}
+
+	/**
+	 * Remove the oldest element.
+	 * @return the element or {@code null} if the buffer is empty
+	 */
+	E poll() {
+		long position = this.head.get();
+		while (true) {
+			int index = (int) (position & this.mask);
+			long difference = this.sequences.get(index) - (position + 1);
+			if (difference == 0) {
+				if (this.head.compareAndSet(position, position + 1)) {
+					E element = this.elements.getAndSet(index, null);
+					this.sequences.set(index, position + this.mask + 1);
+					return element;
+				}
+			}
+			else if (difference < 0) {
+				return null;
+			}
+			position = this.head.get();
+		}
+	}
+
+	int capacity() {
+		return this.mask + 1;
+	}
+
+}
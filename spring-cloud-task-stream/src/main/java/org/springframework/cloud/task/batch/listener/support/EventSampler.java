@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.util.Assert;
+
+/**
+ * Decides whether an item level batch event is published. An event first has to pass
+ * sampling, either one in every {@code sampleRate} events or at most one event per
+ * {@code sampleInterval}, and then take a token from a token bucket that is refilled at
+ * {@code rateLimit} tokens per second and holds at most one second of tokens. A sample
+ * rate of 1, a zero sample interval and a zero rate limit publish every event.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+public class EventSampler {
+
+	private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private final int sampleRate;
+
+	private final long sampleIntervalNanos;
+
+	private final double rateLimit;
+
+	private final LongSupplier nanoClock;
+
+	private final AtomicLong eventCount = new AtomicLong();
+
+	private final AtomicLong nextSampleNanos;
+
+	private final Object bucketMonitor = new Object();
+
+	private double tokens;
+
+	private long lastRefillNanos;
+
+	/**
+	 * Create the sampler.
+	 * @param sampleRate one in this many events is published, 1 publishes every event
+	 * @param sampleInterval at most one event is published per interval, zero disables
+	 * time based sampling
+	 * @param rateLimit the maximum number of events published per second, zero disables
+	 * rate limiting
+	 */
+	public EventSampler(int sampleRate, Duration sampleInterval, double rateLimit) {
+		this(sampleRate, sampleInterval, rateLimit, System::nanoTime);
+	}
+
+	EventSampler(int sampleRate, Duration sampleInterval, double rateLimit, LongSupplier nanoClock) {
+		Assert.isTrue(sampleRate > 0, "sampleRate must be greater than zero");
+		Assert.notNull(sampleInterval, "sampleInterval is required");
+		Assert.isTrue(!sampleInterval.isNegative(), "sampleInterval must not be negative");
+		Assert.isTrue(rateLimit >= 0, "rateLimit must not be negative");
+		Assert.notNull(nanoClock, "nanoClock is required");
+		this.sampleRate = sampleRate;
+		this.sampleIntervalNanos = sampleInterval.toNanos();
+		this.rateLimit = rateLimit;
+		this.nanoClock = nanoClock;
+		long now = nanoClock.getAsLong();
+		this.nextSampleNanos = new AtomicLong(now);
+		this.tokens = Math.max(1, rateLimit);
+		this.lastRefillNanos = now;
+	}
+
+	/**
+	 * Whether the sampler lets every event through.
+	 * @return true if neither sampling nor rate limiting is configured
+	 */
+	public boolean isUnrestricted() {
+		return this.sampleRate == 1 && this.sampleIntervalNanos == 0 && this.rateLimit == 0;
+	}
+
+	/**
+	 * Decide whether the current event is published.
+	 * @return true if the event passes sampling and the rate limit
+	 */
+	public boolean tryAcquire() {
+		if (isUnrestricted()) {
+			return true;
+		}
+		return sample() && acquireToken();
+	}
+
+	private boolean sample() {
+		if (this.sampleRate > 1 && this.eventCount.getAndIncrement() % this.sampleRate != 0) {
+			return false;
+		}
+		if (this.sampleIntervalNanos > 0) {
+			long now = this.nanoClock.getAsLong();
+			long next = this.nextSampleNanos.get();
+			return now - next >= 0 && this.nextSampleNanos.compareAndSet(next, now + this.sampleIntervalNanos);
+		}
+		return true;
+	}
+
+	private boolean acquireToken() {
+		if (this.rateLimit == 0) {
+			return true;
+		}
+		synchronized (this.bucketMonitor) {
+			long now = this.nanoClock.getAsLong();
+			double capacity = Math.max(1, this.rateLimit);
+			this.tokens = Math.min(capacity,
+					this.tokens + (now - this.lastRefillNanos) * this.rateLimit / NANOS_PER_SECOND);
+			this.lastRefillNanos = now;
+			if (this.tokens < 1) {
+				return false;
+			}
+			this.tokens--;
+			return true;
+		}
+	}
+
+}
@@ -0,0 +1,449 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cloud.stream.config.BindingServiceProperties;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.Assert;
+
+/**
+ * First in, first out store of event messages backed by memory-mapped segment files, used
+ * by the {@link AsyncMessagePublisher} to keep the events it cannot send right away.
+ * Records are appended to the newest segment and a new segment is started when it is
+ * full, up to the maximum number of segments. A segment is deleted once all its records
+ * have been read. The read and write positions are kept in the header of each segment,
+ * so the records that were not read are found again when a spool is opened on the same
+ * directory. A directory is locked by the spool that opens it.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+public class EventSpool implements Closeable {
+
+	private static final Log logger = LogFactory.getLog(EventSpool.class);
+
+	private static final String SEGMENT_PREFIX = "events-";
+
+	private static final String SEGMENT_SUFFIX = ".spool";
+
+	private static final String LOCK_FILE = "spool.lock";
+
+	private static final String DEFAULT_SPOOL_DIRECTORY = "spring-cloud-task-event-spool";
+
+	private static final int MAGIC = 0x53435445;
+
+	private static final int WRITE_POSITION = 4;
+
+	private static final int READ_POSITION = 8;
+
+	private static final int HEADER_SIZE = 12;
+
+	private final Path directory;
+
+	private final int segmentSize;
+
+	private final int maxSegments;
+
+	private final EventMessageSerializer serializer;
+
+	private final FileChannel lockChannel;
+
+	private final FileLock lock;
+
+	private final Deque<Segment> segments = new ArrayDeque<>();
+
+	private long nextSegmentNumber;
+
+	private long size;
+
+	/**
+	 * Open the spool, finding the records left in the directory by a previous spool.
+	 * @param directory the directory the segment files are stored in
+	 * @param segmentSize the size in bytes of each segment file
+	 * @param maxSegments the maximum number of segment files
+	 * @param messageConverter the converter that serializes the payloads
+	 * @param bindingServiceProperties the binding properties used to resolve the content
+	 * type of each binding, or {@code null} to serialize the payloads as JSON
+	 */
+	public EventSpool(Path directory, int segmentSize, int maxSegments, MessageConverter messageConverter,
+			BindingServiceProperties bindingServiceProperties) {
+		Assert.notNull(directory, "A directory is required");
+		Assert.isTrue(segmentSize > HEADER_SIZE, () -> "segmentSize must be greater than " + HEADER_SIZE);
+		Assert.isTrue(maxSegments > 0, "maxSegments must be greater than zero");
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		this.maxSegments = maxSegments;
+		this.serializer = new EventMessageSerializer(messageConverter, bindingServiceProperties);
+		try {
+			Files.createDirectories(directory);
+			this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE,
+					StandardOpenOption.WRITE);
+			this.lock = tryLock(this.lockChannel);
+			if (this.lock == null) {
+				this.lockChannel.close();
+				throw new IllegalStateException("The event spool in " + directory + " is used by another publisher");
+			}
+			openSegments();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Unable to open the event spool in " + directory, ex);
+		}
+	}
+
+	/**
+	 * Open the spool configured by the {@link TaskEventProperties}, in the given
+	 * subdirectory of {@link TaskEventProperties#getAsyncSpoolDirectory()}, or of a
+	 * directory named after the application in {@code java.io.tmpdir} when no directory is
+	 * configured. A spool that cannot be opened, for example because another running
+	 * application uses its directory, is reported and {@code null} is returned so that
+	 * the events are published without a spool.
+	 * @param properties the properties of the spool
+	 * @param applicationName the name of the application, used for the default directory
+	 * @param subdirectory the subdirectory of the spool
+	 * @param messageConverter the converter that serializes the payloads
+	 * @param bindingServiceProperties the binding properties used to resolve the content
+	 * type of each binding, or {@code null} to serialize the payloads as JSON
+	 * @return the spool or {@code null} if it could not be opened
+	 */
+	public static EventSpool open(TaskEventProperties properties, String applicationName, String subdirectory,
+			MessageConverter messageConverter, BindingServiceProperties bindingServiceProperties) {
+		Path directory = (properties.getAsyncSpoolDirectory() != null)
+				? Path.of(properties.getAsyncSpoolDirectory(), subdirectory)
+				: Path.of(System.getProperty("java.io.tmpdir"), DEFAULT_SPOOL_DIRECTORY,
+						applicationName.replaceAll("[^A-Za-z0-9._-]", "_"), subdirectory);
+		try {
+			return new EventSpool(directory, properties.getAsyncSpoolSegmentSize(),
+					properties.getAsyncSpoolMaxSegments(), messageConverter, bindingServiceProperties);
+		}
+		catch (IllegalStateException | UncheckedIOException ex) {
+			logger.warn(String.format("The event spool in %s cannot be used, events that cannot be sent right "
+					+ "away are dropped. Set spring.cloud.task.batch.events.async-spool-directory to a directory "
+					+ "that is not used by another application", directory), ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Appends a message to the spool.
+	 * @param bindingName the name of the binding the message is sent to
+	 * @param message the message
+	 * @return {@code false} if the message was not appended because the spool is full
+	 */
+	public synchronized boolean append(String bindingName, Message<?> message) {
+		byte[] record = encode(bindingName, message);
+		int length = Integer.BYTES + record.length;
+		if (length > this.segmentSize - HEADER_SIZE) {
+			logger.warn(String.format("A %d byte event does not fit in a %d byte spool segment", record.length,
+					this.segmentSize));
+			return false;
+		}
+		Segment tail = this.segments.peekLast();
+		if (tail == null || this.segmentSize - tail.getWritePosition() < length) {
+			if (this.segments.size() >= this.maxSegments) {
+				return false;
+			}
+			tail = createSegment();
+		}
+		int position = tail.getWritePosition();
+		tail.buffer.putInt(position, record.length);
+		tail.buffer.put(position + Integer.BYTES, record);
+		tail.buffer.putInt(WRITE_POSITION, position + length);
+		this.size++;
+		return true;
+	}
+
+	/**
+	 * Returns the oldest message of the spool without removing it.
+	 * @return the message, or {@code null} if the spool is empty
+	 */
+	public synchronized SpooledMessage peek() {
+		Segment head = this.segments.peekFirst();
+		while (head != null && head.getReadPosition() >= head.getWritePosition()) {
+			if (head == this.segments.peekLast()) {
+				head.buffer.putInt(WRITE_POSITION, HEADER_SIZE);
+				head.buffer.putInt(READ_POSITION, HEADER_SIZE);
+				return null;
+			}
+			deleteSegment(this.segments.pollFirst());
+			head = this.segments.peekFirst();
+		}
+		if (head == null) {
+			return null;
+		}
+		int position = head.getReadPosition();
+		int length = head.buffer.getInt(position);
+		if (!head.isValidRecord(position, length)) {
+			throw new IllegalStateException(String.format("Corrupt %d byte record at position %d of %s", length,
+					position, head.path));
+		}
+		byte[] record = new byte[length];
+		head.buffer.get(position + Integer.BYTES, record);
+		return decode(record);
+	}
+
+	/**
+	 * Removes the oldest message of the spool. A record whose length is corrupt is
+	 * removed together with the rest of its segment, as the records that follow it cannot
+	 * be located.
+	 */
+	public synchronized void remove() {
+		Segment head = this.segments.peekFirst();
+		if (head != null && head.getReadPosition() < head.getWritePosition()) {
+			int position = head.getReadPosition();
+			int length = head.buffer.getInt(position);
+			head.buffer.putInt(READ_POSITION, head.isValidRecord(position, length)
+					? position + Integer.BYTES + length : head.getWritePosition());
+			this.size--;
+		}
+	}
+
+	/**
+	 * Returns the number of messages in the spool.
+	 * @return the number of messages
+	 */
+	public synchronized long size() {
+		return this.size;
+	}
+
+	/**
+	 * Releases the lock on the directory. The segment files are kept.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		for (Segment segment : this.segments) {
+			segment.buffer.force();
+		}
+		this.lock.release();
+		this.lockChannel.close();
+	}
+
+	private void openSegments() throws IOException {
+		List<Path> paths;
+		try (Stream<Path> files = Files.list(this.directory)) {
+			paths = files.filter(this::isSegment).sorted().toList();
+		}
+		for (Path path : paths) {
+			MappedByteBuffer buffer = map(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			this.nextSegmentNumber = segmentNumber(path) + 1;
+			if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+				logger.warn(String.format("Ignoring %s, it is not an event spool segment", path));
+				continue;
+			}
+			Segment segment = new Segment(path, buffer);
+			int position = segment.getReadPosition();
+			while (position < segment.getWritePosition()) {
+				int length = buffer.getInt(position);
+				this.size++;
+				if (!segment.isValidRecord(position, length)) {
+					logger.warn(String.format("%s holds a corrupt record at position %d, the rest of the segment "
+							+ "will be skipped", path, position));
+					break;
+				}
+				position += Integer.BYTES + length;
+			}
+			this.segments.add(segment);
+		}
+		if (this.size > 0) {
+			logger.info(String.format("Found %d spooled events in %s", this.size, this.directory));
+		}
+	}
+
+	private Segment createSegment() {
+		Path path = this.directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, this.nextSegmentNumber++,
+				SEGMENT_SUFFIX));
+		try {
+			MappedByteBuffer buffer = map(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+					StandardOpenOption.WRITE);
+			buffer.putInt(WRITE_POSITION, HEADER_SIZE);
+			buffer.putInt(READ_POSITION, HEADER_SIZE);
+			buffer.putInt(0, MAGIC);
+			Segment segment = new Segment(path, buffer);
+			this.segments.addLast(segment);
+			return segment;
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Unable to create event spool segment " + path, ex);
+		}
+	}
+
+	private MappedByteBuffer map(Path path, StandardOpenOption... options) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, options)) {
+			long size = (channel.size() > 0) ? channel.size() : this.segmentSize;
+			return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+		}
+	}
+
+	private void deleteSegment(Segment segment) {
+		try {
+			Files.deleteIfExists(segment.path);
+		}
+		catch (IOException ex) {
+			logger.debug(String.format("Unable to delete event spool segment %s", segment.path), ex);
+		}
+	}
+
+	private boolean isSegment(Path path) {
+		String fileName = path.getFileName().toString();
+		return fileName.startsWith(SEGMENT_PREFIX) && fileName.endsWith(SEGMENT_SUFFIX);
+	}
+
+	private static long segmentNumber(Path path) {
+		String fileName = path.getFileName().toString();
+		return Long.parseLong(
+				fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+	}
+
+	private static FileLock tryLock(FileChannel channel) throws IOException {
+		try {
+			return channel.tryLock();
+		}
+		catch (OverlappingFileLockException ex) {
+			return null;
+		}
+	}
+
+	private byte[] encode(String bindingName, Message<?> message) {
+		String contentType = this.serializer.getContentType(bindingName, message);
+		Map<String, String> headers = this.serializer.getHeaders(message);
+		byte[] payload = this.serializer.getPayload(message, contentType);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length + 128);
+		try (DataOutputStream output = new DataOutputStream(bytes)) {
+			writeString(output, bindingName);
+			writeString(output, contentType);
+			output.writeInt(headers.size());
+			for (Map.Entry<String, String> header : headers.entrySet()) {
+				writeString(output, header.getKey());
+				writeString(output, header.getValue());
+			}
+			output.writeInt(payload.length);
+			output.write(payload);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static SpooledMessage decode(byte[] record) {
+		try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(record))) {
+			String bindingName = readString(input);
+			String contentType = readString(input);
+			int headerCount = input.readInt();
+			Map<String, Object> headers = new LinkedHashMap<>();
+			for (int i = 0; i < headerCount; i++) {
+				headers.put(readString(input), readString(input));
+			}
+			byte[] payload = input.readNBytes(input.readInt());
+			Message<byte[]> message = MessageBuilder.withPayload(payload)
+				.copyHeaders(headers)
+				.setHeader(MessageHeaders.CONTENT_TYPE, contentType)
+				.build();
+			return new SpooledMessage(bindingName, message);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private static void writeString(DataOutputStream output, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		return new String(input.readNBytes(input.readInt()), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * A message read from the spool.
+	 */
+	public static final class SpooledMessage {
+
+		private final String bindingName;
+
+		private final Message<byte[]> message;
+
+		SpooledMessage(String bindingName, Message<byte[]> message) {
+			this.bindingName = bindingName;
+			this.message = message;
+		}
+
+		public String getBindingName() {
+			return this.bindingName;
+		}
+
+		public Message<byte[]> getMessage() {
+			return this.message;
+		}
+
+	}
+
+	private static final class Segment {
+
+		private final Path path;
+
+		private final MappedByteBuffer buffer;
+
+		private Segment(Path path, MappedByteBuffer buffer) {
+			this.path = path;
+			this.buffer = buffer;
+		}
+
+		private int getWritePosition() {
+			return this.buffer.getInt(WRITE_POSITION);
+		}
+
+		private int getReadPosition() {
+			return this.buffer.getInt(READ_POSITION);
+		}
+
+		private boolean isValidRecord(int position, int length) {
+			return length >= 0 && length <= getWritePosition() - position - Integer.BYTES;
+		}
+
+	}
+
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.util.Assert;
+
+/**
+ * Creates the {@link JobExecutionEvent} and {@link StepExecutionEvent} payloads of the
+ * execution listeners, leaving out the {@link Field fields} that are excluded and capping
+ * the size of the {@link ExecutionContext} content.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+public class ExecutionEventProjection {
+
+	private final Set<Field> excludedFields;
+
+	private final int executionContextMaxSize;
+
+	/**
+	 * Create the projection.
+	 * @param excludedFields the fields left out of the events
+	 * @param executionContextMaxSize the maximum number of characters of execution
+	 * context content, keys and values rendered as strings, copied into an event. The
+	 * entries that do not fit are left out. Zero copies the whole context.
+	 */
+	public ExecutionEventProjection(Set<Field> excludedFields, int executionContextMaxSize) {
+		Assert.notNull(excludedFields, "excludedFields is required");
+		Assert.isTrue(executionContextMaxSize >= 0, "executionContextMaxSize must not be negative");
+		this.excludedFields = excludedFields.isEmpty() ? Collections.emptySet() : EnumSet.copyOf(excludedFields);
+		this.executionContextMaxSize = executionContextMaxSize;
+	}
+
+	/**
+	 * Create the projection configured by the execution-event-* properties.
+	 * @param properties the properties that configure the projection
+	 */
+	public ExecutionEventProjection(TaskEventProperties properties) {
+		this(properties.getExecutionEventExcludedFields(), properties.getExecutionContextMaxSize());
+	}
+
+	/**
+	 * Create the event of a job execution. The step executions it holds always report
+	 * totals.
+	 * @param jobExecution the job execution
+	 * @return the projected event
+	 */
+	public JobExecutionEvent createJobExecutionEvent(JobExecution jobExecution) {
+		JobExecutionEvent event = new JobExecutionEvent(jobExecution, !isExcluded(Field.JOB_PARAMETERS),
+				isExcluded(Field.STEP_EXECUTIONS) ? null : this::projectStepExecution);
+		event.setExecutionContext(projectExecutionContext(jobExecution.getExecutionContext()));
+		if (isExcluded(Field.FAILURE_EXCEPTIONS)) {
+			event.setFailureExceptions(Collections.emptyList());
+		}
+		return event;
+	}
+
+	/**
+	 * Create the event of a step execution.
+	 * @param stepExecution the step execution
+	 * @return the projected event
+	 */
+	public StepExecutionEvent createStepExecutionEvent(StepExecution stepExecution) {
+		return projectStepExecution(stepExecution);
+	}
+
+	private StepExecutionEvent projectStepExecution(StepExecution stepExecution) {
+		StepExecutionEvent event = new StepExecutionEvent(stepExecution);
+		event.setExecutionContext(projectExecutionContext(stepExecution.getExecutionContext()));
+		if (isExcluded(Field.FAILURE_EXCEPTIONS)) {
+			event.setFailureExceptions(Collections.emptyList());
+		}
+		return event;
+	}
+
+	private ExecutionContext projectExecutionContext(ExecutionContext executionContext) {
+		if (isExcluded(Field.EXECUTION_CONTEXT)) {
+			return new ExecutionContext();
+		}
+		if (this.executionContextMaxSize == 0) {
+			return executionContext;
+		}
+		ExecutionContext projected = new ExecutionContext();
+		long remaining = this.executionContextMaxSize;
+		for (Map.Entry<String, Object> entry : executionContext.entrySet()) {
+			long size = entry.getKey().length() + measure(entry.getValue(), remaining - entry.getKey().length());
+			if (size <= remaining) {
+				projected.put(entry.getKey(), entry.getValue());
+				remaining -= size;
+			}
+		}
+		return projected;
+	}
+
+	/**
+	 * Returns the number of characters of the string form of a value, without rendering
+	 * strings, numbers and the elements of collections, maps and arrays. Measuring stops
+	 * once the limit is exceeded, so a large value costs no more than the limit.
+	 * @param value the value to measure
+	 * @param limit the size past which the exact size does not matter
+	 * @return the size of the value, or a size above the limit
+	 */
+	private static long measure(Object value, long limit) {
+		if (limit < 0) {
+			return 1;
+		}
+		if (value instanceof CharSequence charSequence) {
+			return charSequence.length();
+		}
+		if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			return Long.toString(((Number) value).longValue()).length();
+		}
+		if (value instanceof Boolean bool) {
+			return bool ? 4 : 5;
+		}
+		if (value instanceof Collection<?> collection) {
+			return measureElements(collection, limit);
+		}
+		if (value instanceof Map<?, ?> map) {
+			long size = 2;
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				size += measure(entry.getKey(), limit - size) + measure(entry.getValue(), limit - size) + 3;
+				if (size > limit) {
+					return size;
+				}
+			}
+			return size;
+		}
+		if (value instanceof Object[] array) {
+			return measureElements(Arrays.asList(array), limit);
+		}
+		return String.valueOf(value).length();
+	}
+
+	private static long measureElements(Iterable<?> elements, long limit) {
+		long size = 2;
+		for (Object element : elements) {
+			size += measure(element, limit - size) + 2;
+			if (size > limit) {
+				return size;
+			}
+		}
+		return size;
+	}
+
+	private boolean isExcluded(Field field) {
+		return this.excludedFields.contains(field);
+	}
+
+	/**
+	 * Fields that can be left out of the execution events.
+	 */
+	public enum Field {
+
+		/**
+		 * The execution context of the job and step executions.
+		 */
+		EXECUTION_CONTEXT,
+
+		/**
+		 * The failure exceptions of the job and step executions.
+		 */
+		FAILURE_EXCEPTIONS,
+
+		/**
+		 * The step executions of a job execution.
+		 */
+		STEP_EXECUTIONS,
+
+		/**
+		 * The job parameters of a job execution.
+		 */
+		JOB_PARAMETERS
+
+	}
+
+}
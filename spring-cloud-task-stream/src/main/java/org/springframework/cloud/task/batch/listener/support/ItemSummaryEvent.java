@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+/**
+ * The counts of item outcomes of a chunk oriented step execution of a batch job since the
+ * previous summary of that step execution, published instead of one message per item or
+ * chunk.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+public class ItemSummaryEvent {
+
+	private Long jobExecutionId;
+
+	private Long stepExecutionId;
+
+	private String stepName;
+
+	private long readCount;
+
+	private long readErrorCount;
+
+	private long processCount;
+
+	private long filterCount;
+
+	private long processErrorCount;
+
+	private long writeCount;
+
+	private long writeErrorCount;
+
+	private long chunkCount;
+
+	public ItemSummaryEvent() {
+	}
+
+	public Long getJobExecutionId() {
+		return this.jobExecutionId;
+	}
+
+	public void setJobExecutionId(Long jobExecutionId) {
+		this.jobExecutionId = jobExecutionId;
+	}
+
+	public Long getStepExecutionId() {
+		return this.stepExecutionId;
+	}
+
+	public void setStepExecutionId(Long stepExecutionId) {
+		this.stepExecutionId = stepExecutionId;
+	}
+
+	public String getStepName() {
+		return this.stepName;
+	}
+
+	public void setStepName(String stepName) {
+		this.stepName = stepName;
+	}
+
+	public long getReadCount() {
+		return this.readCount;
+	}
+
+	public void setReadCount(long readCount) {
+		this.readCount = readCount;
+	}
+
+	public long getReadErrorCount() {
+		return this.readErrorCount;
+	}
+
+	public void setReadErrorCount(long readErrorCount) {
+		this.readErrorCount = readErrorCount;
+	}
+
+	public long getProcessCount() {
+		return this.processCount;
+	}
+
+	public void setProcessCount(long processCount) {
+		this.processCount = processCount;
+	}
+
+	public long getFilterCount() {
+		return this.filterCount;
+	}
+
+	public void setFilterCount(long filterCount) {
+		this.filterCount = filterCount;
+	}
+
+	public long getProcessErrorCount() {
+		return this.processErrorCount;
+	}
+
+	public void setProcessErrorCount(long processErrorCount) {
+		this.processErrorCount = processErrorCount;
+	}
+
+	public long getWriteCount() {
+		return this.writeCount;
+	}
+
+	public void setWriteCount(long writeCount) {
+		this.writeCount = writeCount;
+	}
+
+	public long getWriteErrorCount() {
+		return this.writeErrorCount;
+	}
+
+	public void setWriteErrorCount(long writeErrorCount) {
+		this.writeErrorCount = writeErrorCount;
+	}
+
+	public long getChunkCount() {
+		return this.chunkCount;
+	}
+
+	public void setChunkCount(long chunkCount) {
+		this.chunkCount = chunkCount;
+	}
+
+	@Override
+	public String toString() {
+		return "ItemSummaryEvent: jobExecutionId=" + this.jobExecutionId + ", stepExecutionId="
+				+ this.stepExecutionId + ", stepName=" + this.stepName + ", readCount=" + this.readCount
+				+ ", readErrorCount=" + this.readErrorCount + ", processCount=" + this.processCount + ", filterCount="
+				+ this.filterCount + ", processErrorCount=" + this.processErrorCount + ", writeCount="
+				+ this.writeCount + ", writeErrorCount=" + this.writeErrorCount + ", chunkCount=" + this.chunkCount;
+	}
+
+}
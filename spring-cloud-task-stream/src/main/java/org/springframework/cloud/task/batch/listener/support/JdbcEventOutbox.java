@@ -0,0 +1,286 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cloud.task.configuration.TaskProperties;
+import org.springframework.cloud.task.repository.support.DatabaseDialect;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Stores task and batch events in the {@code %PREFIX%EVENT_OUTBOX} table until they are
+ * relayed to the binder. The events are written with a {@link JdbcTemplate} on the task
+ * {@link DataSource}, so an event appended while a transaction is active on that
+ * {@link DataSource} is committed, or rolled back, with the rest of the transaction.
+ * <p>
+ * The table may be shared by several applications, so each event is stored with the
+ * name of the application that appended it and only the events of that application are
+ * returned by {@link #fetch(int)}. An event is {@link #claim(long, String, Duration)
+ * claimed} by a relay before it is sent, so that two instances of the application do not
+ * publish it at the same time.
+ * <p>
+ * Events are returned in the order of their {@code EVENT_ID}, which is taken from a
+ * sequence when the event is appended rather than when its transaction commits. The
+ * order is therefore only guaranteed for the events of a single transaction, and for
+ * events whose transactions commit in the order they were appended. An event appended
+ * in a transaction that commits after a relay has published later events is published
+ * after them.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+public class JdbcEventOutbox {
+
+	private static final Log logger = LogFactory.getLog(JdbcEventOutbox.class);
+
+	/**
+	 * The maximum length of the encoded headers of an event. Headers that do not fit are
+	 * not stored.
+	 */
+	public static final int MAX_HEADERS_LENGTH = 2500;
+
+	private static final String INSERT_EVENT = "INSERT INTO %PREFIX%EVENT_OUTBOX (EVENT_ID, APPLICATION_NAME, "
+			+ "MESSAGE_ID, BINDING_NAME, CONTENT_TYPE, HEADERS, PAYLOAD, CREATED_TIME) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private static final String SELECT_EVENTS = "SELECT EVENT_ID, MESSAGE_ID, BINDING_NAME, CONTENT_TYPE, HEADERS, "
+			+ "PAYLOAD FROM %PREFIX%EVENT_OUTBOX WHERE APPLICATION_NAME = ? ORDER BY EVENT_ID";
+
+	private static final String CLAIM_EVENT = "UPDATE %PREFIX%EVENT_OUTBOX SET RELAY_ID = ?, CLAIM_EXPIRY = ? "
+			+ "WHERE EVENT_ID = ? AND (RELAY_ID IS NULL OR RELAY_ID = ? OR CLAIM_EXPIRY < ?)";
+
+	private static final String DELETE_EVENT = "DELETE FROM %PREFIX%EVENT_OUTBOX WHERE EVENT_ID = ?";
+
+	private final JdbcOperations jdbcTemplate;
+
+	private final DataFieldMaxValueIncrementer incrementer;
+
+	private final String tablePrefix;
+
+	private final String applicationName;
+
+	/**
+	 * Initializes the JdbcEventOutbox.
+	 * @param dataSource {@link DataSource} where the outbox table resides.
+	 * @param tablePrefix the table prefix to use for this outbox.
+	 * @param applicationName the name of the application the events are stored for.
+	 */
+	public JdbcEventOutbox(DataSource dataSource, String tablePrefix, String applicationName) {
+		Assert.notNull(dataSource, "A dataSource is required");
+		Assert.hasText(tablePrefix, "tablePrefix must not be null nor empty.");
+		Assert.hasText(applicationName, "applicationName must not be null nor empty.");
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.tablePrefix = tablePrefix;
+		this.applicationName = applicationName;
+		this.incrementer = DatabaseDialect.forDataSource(dataSource)
+			.createIncrementer(dataSource, tablePrefix + "EVENT_OUTBOX_SEQ");
+	}
+
+	/**
+	 * Initializes the JdbcEventOutbox and defaults the table prefix to
+	 * {@link TaskProperties#DEFAULT_TABLE_PREFIX}.
+	 * @param dataSource {@link DataSource} where the outbox table resides.
+	 * @param applicationName the name of the application the events are stored for.
+	 */
+	public JdbcEventOutbox(DataSource dataSource, String applicationName) {
+		this(dataSource, TaskProperties.DEFAULT_TABLE_PREFIX, applicationName);
+	}
+
+	public String getApplicationName() {
+		return this.applicationName;
+	}
+
+	/**
+	 * Appends an event to the outbox under a new message id.
+	 * @param bindingName the name of the binding the event is published on
+	 * @param contentType the content type of the payload
+	 * @param headers the headers to publish with the event
+	 * @param payload the serialized event
+	 * @return the stored event
+	 */
+	public OutboxEvent append(String bindingName, String contentType, Map<String, String> headers, byte[] payload) {
+		Assert.hasText(bindingName, "bindingName must not be null nor empty.");
+		Assert.notNull(headers, "headers must not be null");
+		Assert.notNull(payload, "payload must not be null");
+		OutboxEvent event = new OutboxEvent(this.incrementer.nextLongValue(), UUID.randomUUID().toString(),
+				bindingName, contentType, headers, payload);
+		this.jdbcTemplate.update(getQuery(INSERT_EVENT), event.getEventId(), this.applicationName,
+				event.getMessageId(), bindingName, contentType, encodeHeaders(headers), payload, LocalDateTime.now());
+		return event;
+	}
+
+	/**
+	 * Returns the oldest events of this application in {@code EVENT_ID} order.
+	 * @param maxEvents the maximum number of events to return
+	 * @return the events
+	 */
+	public List<OutboxEvent> fetch(int maxEvents) {
+		Assert.isTrue(maxEvents > 0, "maxEvents must be greater than zero");
+		return this.jdbcTemplate.query((connection) -> {
+			PreparedStatement statement = connection.prepareStatement(getQuery(SELECT_EVENTS));
+			statement.setString(1, this.applicationName);
+			statement.setMaxRows(maxEvents);
+			return statement;
+		}, (resultSet, rowNum) -> new OutboxEvent(resultSet.getLong("EVENT_ID"), resultSet.getString("MESSAGE_ID"),
+				resultSet.getString("BINDING_NAME"), resultSet.getString("CONTENT_TYPE"),
+				decodeHeaders(resultSet.getString("HEADERS")), resultSet.getBytes("PAYLOAD")));
+	}
+
+	/**
+	 * Claims an event for a relay. The claim succeeds if the event is not claimed, is
+	 * already claimed by the same relay, or its previous claim has expired, and it is
+	 * renewed for the claim timeout each time it succeeds.
+	 * @param eventId the id of the event
+	 * @param relayId the id of the relay claiming the event
+	 * @param claimTimeout the time the event is reserved for the relay
+	 * @return {@code true} if the event was claimed, {@code false} if it is claimed by
+	 * another relay or no longer exists
+	 */
+	public boolean claim(long eventId, String relayId, Duration claimTimeout) {
+		Assert.hasText(relayId, "relayId must not be null nor empty.");
+		Assert.notNull(claimTimeout, "claimTimeout must not be null");
+		LocalDateTime now = LocalDateTime.now();
+		return this.jdbcTemplate.update(getQuery(CLAIM_EVENT), relayId, now.plus(claimTimeout), eventId, relayId,
+				now) == 1;
+	}
+
+	/**
+	 * Removes a relayed event from the outbox.
+	 * @param eventId the id of the event
+	 */
+	public void delete(long eventId) {
+		this.jdbcTemplate.update(getQuery(DELETE_EVENT), eventId);
+	}
+
+	private String getQuery(String base) {
+		return StringUtils.replace(base, "%PREFIX%", this.tablePrefix);
+	}
+
+	private static String encodeHeaders(Map<String, String> headers) {
+		StringBuilder encoded = new StringBuilder();
+		for (Map.Entry<String, String> header : headers.entrySet()) {
+			String entry = URLEncoder.encode(header.getKey(), StandardCharsets.UTF_8) + "="
+					+ URLEncoder.encode(header.getValue(), StandardCharsets.UTF_8);
+			int length = encoded.length() + entry.length() + ((encoded.length() > 0) ? 1 : 0);
+			if (length > MAX_HEADERS_LENGTH) {
+				logger.warn(String.format("Header %s is not stored as the encoded headers would exceed %d characters",
+						header.getKey(), MAX_HEADERS_LENGTH));
+				continue;
+			}
+			if (encoded.length() > 0) {
+				encoded.append('&');
+			}
+			encoded.append(entry);
+		}
+		return (encoded.length() > 0) ? encoded.toString() : null;
+	}
+
+	private static Map<String, String> decodeHeaders(String encoded) {
+		if (!StringUtils.hasText(encoded)) {
+			return Collections.emptyMap();
+		}
+		Map<String, String> headers = new LinkedHashMap<>();
+		for (String entry : StringUtils.delimitedListToStringArray(encoded, "&")) {
+			int separator = entry.indexOf('=');
+			headers.put(URLDecoder.decode(entry.substring(0, separator), StandardCharsets.UTF_8),
+					URLDecoder.decode(entry.substring(separator + 1), StandardCharsets.UTF_8));
+		}
+		return headers;
+	}
+
+	/**
+	 * An event stored in the outbox.
+	 */
+	public static final class OutboxEvent {
+
+		private final long eventId;
+
+		private final String messageId;
+
+		private final String bindingName;
+
+		private final String contentType;
+
+		private final Map<String, String> headers;
+
+		private final byte[] payload;
+
+		OutboxEvent(long eventId, String messageId, String bindingName, String contentType,
+				Map<String, String> headers, byte[] payload) {
+			this.eventId = eventId;
+			this.messageId = messageId;
+			this.bindingName = bindingName;
+			this.contentType = contentType;
+			this.headers = headers;
+			this.payload = payload;
+		}
+
+		/**
+		 * Returns the position of the event in the outbox.
+		 * @return the event id
+		 */
+		public long getEventId() {
+			return this.eventId;
+		}
+
+		/**
+		 * Returns the id the event is published under, the same each time the event is
+		 * relayed.
+		 * @return the message id
+		 */
+		public String getMessageId() {
+			return this.messageId;
+		}
+
+		public String getBindingName() {
+			return this.bindingName;
+		}
+
+		public String getContentType() {
+			return this.contentType;
+		}
+
+		public Map<String, String> getHeaders() {
+			return this.headers;
+		}
+
+		public byte[] getPayload() {
+			return this.payload;
+		}
+
+	}
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cloud.task.repository.support.DatabaseDialect;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.util.Assert;
+
+/**
+ * Creates the {@code TASK_EVENT_OUTBOX} table and its sequence when they do not exist
+ * yet. The outbox is not part of the task repository schema, so its tables are only
+ * created for applications that enable the outbox, with the script for the platform of
+ * the {@link DataSource} found under {@code org/springframework/cloud/task/outbox}.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+public class JdbcEventOutboxInitializer {
+
+	private static final Log logger = LogFactory.getLog(JdbcEventOutboxInitializer.class);
+
+	static final String SCHEMA_LOCATION = "classpath:org/springframework/cloud/task/outbox/schema-@@platform@@.sql";
+
+	private static final String SELECT_OUTBOX = "SELECT EVENT_ID FROM TASK_EVENT_OUTBOX WHERE 1 = 0";
+
+	private final DataSource dataSource;
+
+	private final String databaseType;
+
+	private final ResourceLoader resourceLoader = new DefaultResourceLoader();
+
+	/**
+	 * @param dataSource the {@link DataSource} of the task repository
+	 * @param databaseType the configured database type name, may be {@code null}
+	 */
+	public JdbcEventOutboxInitializer(DataSource dataSource, String databaseType) {
+		Assert.notNull(dataSource, "A dataSource is required");
+		this.dataSource = dataSource;
+		this.databaseType = databaseType;
+	}
+
+	/**
+	 * Runs the outbox script unless the outbox table already exists.
+	 */
+	public void initialize() {
+		try {
+			new JdbcTemplate(this.dataSource).queryForList(SELECT_OUTBOX);
+			return;
+		}
+		catch (DataAccessException ex) {
+			logger.debug("Task event outbox table is not available", ex);
+		}
+		String platform = DatabaseDialect.forDataSource(this.dataSource, this.databaseType).getSchemaPlatform();
+		logger.debug(String.format("Initializing task event outbox for %s database", platform));
+		ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+				this.resourceLoader.getResource(SCHEMA_LOCATION.replace("@@platform@@", platform)));
+		// The table may have been created concurrently by another task.
+		populator.setContinueOnError(true);
+		DatabasePopulatorUtils.execute(populator, this.dataSource);
+	}
+
+}
@@ -24,6 +24,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Entity;
@@ -65,17 +66,37 @@ public class JobExecutionEvent extends Entity {
 		super(0);
 	}
 
+	JobExecutionEvent(long id) {
+		super(id);
+	}
+
 	/**
 	 * Constructor for the StepExecution to initialize the DTO.
 	 * @param original the StepExecution to build this DTO around.
 	 */
 	public JobExecutionEvent(JobExecution original) {
+		this(original, true, StepExecutionEvent::new);
+	}
+
+	/**
+	 * Constructor used by {@link ExecutionEventProjection} to leave out the job
+	 * parameters or the step executions without building them first.
+	 * @param original the JobExecution to build this DTO around.
+	 * @param includeJobParameters whether the job parameters are copied
+	 * @param stepExecutionMapper creates the step execution DTOs, null to leave them out
+	 */
+	JobExecutionEvent(JobExecution original, boolean includeJobParameters,
+			Function<StepExecution, StepExecutionEvent> stepExecutionMapper) {
 		super(original.getId());
-		this.jobParameters = new JobParametersEvent(original.getJobParameters().parameters());
+		if (includeJobParameters) {
+			this.jobParameters = new JobParametersEvent(original.getJobParameters().parameters());
+		}
 		this.jobInstance = new JobInstanceEvent(original.getJobInstance().getId(),
 				original.getJobInstance().getJobName());
-		for (StepExecution stepExecution : original.getStepExecutions()) {
-			this.stepExecutions.add(new StepExecutionEvent(stepExecution));
+		if (stepExecutionMapper != null) {
+			for (StepExecution stepExecution : original.getStepExecutions()) {
+				this.stepExecutions.add(stepExecutionMapper.apply(stepExecution));
+			}
 		}
 		this.status = original.getStatus();
 		this.startTime = original.getStartTime();
@@ -92,6 +113,10 @@ public class JobExecutionEvent extends Entity {
 		return this.jobParameters;
 	}
 
+	void setJobParameters(JobParametersEvent jobParameters) {
+		this.jobParameters = jobParameters;
+	}
+
 	public LocalDateTime getEndTime() {
 		return this.endTime;
 	}
@@ -174,6 +199,10 @@ public class JobExecutionEvent extends Entity {
 		return Collections.unmodifiableList(new ArrayList<>(this.stepExecutions));
 	}
 
+	void setStepExecutions(Collection<StepExecutionEvent> stepExecutions) {
+		this.stepExecutions = Collections.synchronizedList(new ArrayList<>(stepExecutions));
+	}
+
 	/**
 	 * Returns the {@link ExecutionContext} for this execution. The content is expected to
 	 * be persisted after each step completion (successful or not).
@@ -226,6 +255,10 @@ public class JobExecutionEvent extends Entity {
 		return this.failureExceptions;
 	}
 
+	void setFailureExceptions(List<Throwable> failureExceptions) {
+		this.failureExceptions = failureExceptions;
+	}
+
 	/**
 	 * Add the provided throwable to the failure exception list.
 	 * @param t a {@link Throwable} to be added to the exception list.
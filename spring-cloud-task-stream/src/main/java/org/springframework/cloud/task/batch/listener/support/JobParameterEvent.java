@@ -37,6 +37,11 @@ public class JobParameterEvent {
 	public JobParameterEvent() {
 	}
 
+	JobParameterEvent(Object parameter, boolean identifying) {
+		this.parameter = parameter;
+		this.identifying = identifying;
+	}
+
 	public JobParameterEvent(JobParameter jobParameter) {
 		this.parameter = jobParameter.value();
 		this.identifying = jobParameter.identifying();
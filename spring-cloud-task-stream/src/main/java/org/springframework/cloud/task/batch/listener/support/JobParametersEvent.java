@@ -58,6 +58,10 @@ public class JobParametersEvent {
 		return this.parameters.isEmpty();
 	}
 
+	void addParameter(JobParameterEvent parameter) {
+		this.parameters.add(parameter);
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (!(obj instanceof JobParametersEvent)) {
@@ -31,30 +31,79 @@ public class MessagePublisher<P> {
 
 	private final StreamBridge streamBridge;
 
+	private EventPartitionKeyResolver partitionKeyResolver;
+
 	public MessagePublisher(StreamBridge streamBridge) {
 		Assert.notNull(streamBridge, "streamBridge must not be null");
 		this.streamBridge = streamBridge;
 	}
 
+	/**
+	 * Returns the stream bridge the messages are sent with.
+	 * @return the stream bridge
+	 */
+	protected final StreamBridge getStreamBridge() {
+		return this.streamBridge;
+	}
+
+	/**
+	 * Sets the resolver of the key sent in the {@link BatchJobHeaders#PARTITION_KEY}
+	 * header of each message.
+	 * @param partitionKeyResolver the resolver, or {@code null} to send no key
+	 */
+	public void setPartitionKeyResolver(EventPartitionKeyResolver partitionKeyResolver) {
+		this.partitionKeyResolver = partitionKeyResolver;
+	}
+
 	public final void publish(String bindingName, P payload) {
 		if (payload instanceof Message) {
-			this.publishMessage(bindingName, (Message<?>) payload);
+			Message<?> message = (Message<?>) payload;
+			String partitionKey = resolvePartitionKey(message.getPayload());
+			if (partitionKey != null && !message.getHeaders().containsKey(BatchJobHeaders.PARTITION_KEY)) {
+				message = MessageBuilder.fromMessage(message)
+					.setHeader(BatchJobHeaders.PARTITION_KEY, partitionKey)
+					.build();
+			}
+			this.send(bindingName, message);
 		}
 		else {
-			Message<P> message = MessageBuilder.withPayload(payload).build();
-			this.streamBridge.send(bindingName, message);
+			Message<P> message = MessageBuilder.withPayload(payload)
+				.setHeaderIfAbsent(BatchJobHeaders.PARTITION_KEY, resolvePartitionKey(payload))
+				.build();
+			this.send(bindingName, message);
 		}
 	}
 
-	private void publishMessage(String bindingName, Message<?> message) {
+	/**
+	 * Sends the message to the binding. Subclasses may override this to change how and
+	 * when the message is sent.
+	 * @param bindingName the name of the binding
+	 * @param message the message to send
+	 */
+	protected void send(String bindingName, Message<?> message) {
 		this.streamBridge.send(bindingName, message);
 	}
 
 	public void publishWithThrowableHeader(String bindingName, P payload, String header) {
 		Message<P> message = MessageBuilder.withPayload(payload)
 			.setHeader(BatchJobHeaders.BATCH_EXCEPTION, header)
+			.setHeaderIfAbsent(BatchJobHeaders.PARTITION_KEY, resolvePartitionKey(payload))
 			.build();
-		publishMessage(bindingName, message);
+		send(bindingName, message);
+	}
+
+	/**
+	 * Waits until the messages published before this call have been handed to the
+	 * binder. Messages are sent as they are published, so this returns immediately;
+	 * subclasses that defer the send override it.
+	 * @return {@code true} if all the messages were handed to the binder
+	 */
+	public boolean flush() {
+		return true;
+	}
+
+	private String resolvePartitionKey(Object payload) {
+		return (this.partitionKeyResolver != null) ? this.partitionKeyResolver.resolve(payload) : null;
 	}
 
 }
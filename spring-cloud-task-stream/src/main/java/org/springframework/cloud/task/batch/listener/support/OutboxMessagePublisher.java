@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.stream.config.BindingServiceProperties;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.cloud.task.listener.TaskExecutionListener;
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.util.Assert;
+
+/**
+ * {@link MessagePublisher} that appends the messages to a {@link JdbcEventOutbox}
+ * instead of sending them, so that a slow or unavailable binder does not hold up the
+ * task or its steps. A message published while a transaction is active on the task
+ * {@link javax.sql.DataSource} is only relayed if that transaction commits. The payload
+ * is converted with the content type of its binding and the {@link String} headers are
+ * kept. The {@link EventOutboxRelay} publishes the stored messages, and is drained,
+ * within the flush timeout, when the task ends and when the publisher is destroyed.
+ *
+ * @param <P> payload type
+ * @author agent
+ * @since 5.0.3
+ */
+public class OutboxMessagePublisher<P> extends MessagePublisher<P> implements TaskExecutionListener, DisposableBean {
+
+	private final JdbcEventOutbox outbox;
+
+	private final EventOutboxRelay relay;
+
+	private final EventMessageSerializer serializer;
+
+	private final Duration flushTimeout;
+
+	/**
+	 * Create the publisher.
+	 * @param streamBridge the stream bridge of the application
+	 * @param outbox the outbox the messages are appended to
+	 * @param relay the relay that publishes the messages of the outbox
+	 * @param messageConverter the converter that serializes the payloads
+	 * @param bindingServiceProperties the binding properties used to resolve the content
+	 * type of each binding, or {@code null} to serialize the payloads as JSON
+	 * @param flushTimeout the maximum time to wait for the outbox to be relayed on flush
+	 */
+	public OutboxMessagePublisher(StreamBridge streamBridge, JdbcEventOutbox outbox, EventOutboxRelay relay,
+			MessageConverter messageConverter, BindingServiceProperties bindingServiceProperties,
+			Duration flushTimeout) {
+		super(streamBridge);
+		Assert.notNull(outbox, "An outbox is required");
+		Assert.notNull(relay, "A relay is required");
+		Assert.notNull(flushTimeout, "flushTimeout must not be null");
+		this.outbox = outbox;
+		this.relay = relay;
+		this.serializer = new EventMessageSerializer(messageConverter, bindingServiceProperties);
+		this.flushTimeout = flushTimeout;
+	}
+
+	@Override
+	protected void send(String bindingName, Message<?> message) {
+		String contentType = this.serializer.getContentType(bindingName, message);
+		this.outbox.append(bindingName, contentType, this.serializer.getHeaders(message),
+				this.serializer.getPayload(message, contentType));
+	}
+
+	/**
+	 * Waits until the outbox has been relayed, or the flush timeout has elapsed.
+	 * @return {@code true} if the outbox was emptied within the flush timeout
+	 */
+	@Override
+	public boolean flush() {
+		return this.relay.drain(this.flushTimeout);
+	}
+
+	@Override
+	public void onTaskEnd(TaskExecution taskExecution) {
+		flush();
+	}
+
+	@Override
+	public void destroy() {
+		flush();
+		this.relay.destroy();
+	}
+
+}
@@ -75,6 +75,10 @@ public class StepExecutionEvent extends Entity {
 		super(0);
 	}
 
+	StepExecutionEvent(long id) {
+		super(id);
+	}
+
 	/**
 	 * Constructor for the StepExecution to initialize the DTO.
 	 * @param stepExecution the StepExecution to build this DTO around.
@@ -371,10 +375,34 @@ public class StepExecutionEvent extends Entity {
 		return this.failureExceptions;
 	}
 
+	void setFailureExceptions(List<Throwable> failureExceptions) {
+		this.failureExceptions = failureExceptions;
+	}
+
+	long[] getCounts() {
+		return new long[] { this.readCount, this.writeCount, this.commitCount, this.rollbackCount,
+				this.readSkipCount, this.processSkipCount, this.writeSkipCount, this.filterCount };
+	}
+
+	void setCounts(long[] counts) {
+		this.readCount = counts[0];
+		this.writeCount = counts[1];
+		this.commitCount = counts[2];
+		this.rollbackCount = counts[3];
+		this.readSkipCount = counts[4];
+		this.processSkipCount = counts[5];
+		this.writeSkipCount = counts[6];
+		this.filterCount = counts[7];
+	}
+
 	public long getJobExecutionId() {
 		return this.jobExecutionId;
 	}
 
+	void setJobExecutionId(long jobExecutionId) {
+		this.jobExecutionId = jobExecutionId;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
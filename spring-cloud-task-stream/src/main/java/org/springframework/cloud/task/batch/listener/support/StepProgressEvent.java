@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+/**
+ * A periodic heartbeat of a running step, holding its item counts and the rates at which
+ * they grew since the previous heartbeat.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+public class StepProgressEvent {
+
+	private long jobExecutionId;
+
+	private long stepExecutionId;
+
+	private String stepName;
+
+	private long readCount;
+
+	private long writeCount;
+
+	private long filterCount;
+
+	private long commitCount;
+
+	private double readRate;
+
+	private double writeRate;
+
+	private double filterRate;
+
+	private double commitInterval;
+
+	private Long estimatedTimeRemaining;
+
+	private boolean countDelta;
+
+	public StepProgressEvent() {
+	}
+
+	public long getJobExecutionId() {
+		return this.jobExecutionId;
+	}
+
+	public void setJobExecutionId(long jobExecutionId) {
+		this.jobExecutionId = jobExecutionId;
+	}
+
+	public long getStepExecutionId() {
+		return this.stepExecutionId;
+	}
+
+	public void setStepExecutionId(long stepExecutionId) {
+		this.stepExecutionId = stepExecutionId;
+	}
+
+	public String getStepName() {
+		return this.stepName;
+	}
+
+	public void setStepName(String stepName) {
+		this.stepName = stepName;
+	}
+
+	public long getReadCount() {
+		return this.readCount;
+	}
+
+	public void setReadCount(long readCount) {
+		this.readCount = readCount;
+	}
+
+	public long getWriteCount() {
+		return this.writeCount;
+	}
+
+	public void setWriteCount(long writeCount) {
+		this.writeCount = writeCount;
+	}
+
+	public long getFilterCount() {
+		return this.filterCount;
+	}
+
+	public void setFilterCount(long filterCount) {
+		this.filterCount = filterCount;
+	}
+
+	public long getCommitCount() {
+		return this.commitCount;
+	}
+
+	public void setCommitCount(long commitCount) {
+		this.commitCount = commitCount;
+	}
+
+	/**
+	 * @return the items read per second since the previous heartbeat
+	 */
+	public double getReadRate() {
+		return this.readRate;
+	}
+
+	public void setReadRate(double readRate) {
+		this.readRate = readRate;
+	}
+
+	/**
+	 * @return the items written per second since the previous heartbeat
+	 */
+	public double getWriteRate() {
+		return this.writeRate;
+	}
+
+	public void setWriteRate(double writeRate) {
+		this.writeRate = writeRate;
+	}
+
+	/**
+	 * @return the items filtered per second since the previous heartbeat
+	 */
+	public double getFilterRate() {
+		return this.filterRate;
+	}
+
+	public void setFilterRate(double filterRate) {
+		this.filterRate = filterRate;
+	}
+
+	/**
+	 * @return the average number of milliseconds between two commits since the previous
+	 * heartbeat, or 0 if no chunk was committed. It is not the duration of the commits
+	 * themselves
+	 */
+	public double getCommitInterval() {
+		return this.commitInterval;
+	}
+
+	public void setCommitInterval(double commitInterval) {
+		this.commitInterval = commitInterval;
+	}
+
+	/**
+	 * @return the estimated number of milliseconds until the reader is exhausted, or
+	 * {@code null} if the reader does not know how many items it will read or no item was
+	 * read since the previous heartbeat
+	 */
+	public Long getEstimatedTimeRemaining() {
+		return this.estimatedTimeRemaining;
+	}
+
+	public void setEstimatedTimeRemaining(Long estimatedTimeRemaining) {
+		this.estimatedTimeRemaining = estimatedTimeRemaining;
+	}
+
+	/**
+	 * @return true if the counts of this event are the increase since the previous
+	 * progress event of the step instead of totals
+	 */
+	public boolean isCountDelta() {
+		return this.countDelta;
+	}
+
+	public void setCountDelta(boolean countDelta) {
+		this.countDelta = countDelta;
+	}
+
+	@Override
+	public String toString() {
+		return "StepProgressEvent: stepName=" + this.stepName + ", readCount=" + this.readCount + ", writeCount="
+				+ this.writeCount + ", filterCount=" + this.filterCount + ", commitCount=" + this.commitCount
+				+ ", readRate=" + this.readRate + ", writeRate=" + this.writeRate + ", filterRate=" + this.filterRate
+				+ ", commitInterval=" + this.commitInterval + ", estimatedTimeRemaining="
+				+ this.estimatedTimeRemaining + ", countDelta=" + this.countDelta;
+	}
+
+}
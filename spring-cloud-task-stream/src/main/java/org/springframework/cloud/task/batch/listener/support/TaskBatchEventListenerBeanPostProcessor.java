@@ -30,10 +30,10 @@ import org.springframework.batch.core.listener.JobExecutionListener;
 import org.springframework.batch.core.listener.SkipListener;
 import org.springframework.batch.core.listener.StepExecutionListener;
 import org.springframework.batch.core.step.AbstractStep;
+import org.springframework.batch.core.step.item.ChunkOrientedStep;
 import org.springframework.batch.core.step.item.ChunkOrientedTasklet;
 import org.springframework.batch.core.step.item.SimpleChunkProcessor;
 import org.springframework.batch.core.step.item.SimpleChunkProvider;
-import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.core.step.tasklet.TaskletStep;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -50,8 +50,11 @@ import org.springframework.util.ReflectionUtils;
  * <ul>
  * <li>If the bean is of type AbstractJob then the JobExecutionListener is registered with
  * this bean.</li>
- * <li>If the bean is of type AbstractStep then the StepExecutionListener is registered
- * with this bean.</li>
+ * <li>If the bean is of type AbstractStep then the StepExecutionListener and the step
+ * progress listener, if defined, are registered with this bean.</li>
+ * <li>If the bean is of type ChunkOrientedStep then the ChunkEventListener, the
+ * ItemReadListener, the ItemProcessListener, the ItemWriteEventsListener and the
+ * SkipEventsListener are registered with this bean.</li>
  * <li>If the bean is of type TaskletStep then the ChunkEventListener is registered with
  * this bean.</li>
  * <li>If the tasklet for the TaskletStep is of type ChunkOrientedTasklet the following
@@ -64,43 +67,63 @@ import org.springframework.util.ReflectionUtils;
  * <li>SkipEventsListener with the ChunkProcessor.</li>
  * </ul>
  * </li>
+ * <li>If an item summary listener is defined, it is registered in place of the item
+ * read, process and write listeners.</li>
  * </ul>
  *
+ * The listener beans are looked up once, when the first job or step is processed. Beans
+ * that are neither jobs nor steps are returned without any lookup.
+ *
  * @author Michael Minella
  * @author Glenn Renfro
  */
 @ImportRuntimeHints(RuntimeHint.class)
 public class TaskBatchEventListenerBeanPostProcessor implements BeanPostProcessor {
 
+	/**
+	 * {@link ChunkOrientedTasklet} has no accessors for its provider and processor, so
+	 * the listeners of the steps built with the deprecated {@code SimpleStepBuilder} are
+	 * still registered through these fields.
+	 */
+	private static final Field CHUNK_PROVIDER_FIELD = accessibleField("chunkProvider");
+
+	private static final Field CHUNK_PROCESSOR_FIELD = accessibleField("chunkProcessor");
+
 	@Autowired
 	private ApplicationContext applicationContext;
 
+	private volatile EventListeners eventListeners;
+
 	@Override
 	public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+		if (!(bean instanceof AbstractJob) && !(bean instanceof AbstractStep)) {
+			return bean;
+		}
+		EventListeners listeners = getEventListeners();
 
-		registerJobExecutionEventListener(bean);
-
-		if (bean instanceof AbstractStep) {
-			registerStepExecutionEventListener(bean);
-			if (bean instanceof TaskletStep taskletStep) {
-				Tasklet tasklet = taskletStep.getTasklet();
-				registerChunkEventsListener(bean);
-
-				if (tasklet instanceof ChunkOrientedTasklet) {
-					Field chunkProviderField = ReflectionUtils.findField(ChunkOrientedTasklet.class, "chunkProvider");
-					ReflectionUtils.makeAccessible(chunkProviderField);
-					SimpleChunkProvider chunkProvider = (SimpleChunkProvider) ReflectionUtils
-						.getField(chunkProviderField, tasklet);
-					Field chunkProcessorField = ReflectionUtils.findField(ChunkOrientedTasklet.class, "chunkProcessor");
-					ReflectionUtils.makeAccessible(chunkProcessorField);
-					SimpleChunkProcessor chunkProcessor = (SimpleChunkProcessor) ReflectionUtils
-						.getField(chunkProcessorField, tasklet);
-					registerItemReadEvents(chunkProvider);
-					registerSkipEvents(chunkProvider);
-					registerItemProcessEvents(chunkProcessor);
-					registerItemWriteEvents(chunkProcessor);
-					registerSkipEvents(chunkProcessor);
-				}
+		if (bean instanceof AbstractJob job) {
+			if (listeners.jobExecutionListener != null) {
+				job.registerJobExecutionListener(listeners.jobExecutionListener);
+			}
+			return bean;
+		}
+
+		AbstractStep step = (AbstractStep) bean;
+		if (listeners.stepExecutionListener != null) {
+			step.registerStepExecutionListener(listeners.stepExecutionListener);
+		}
+		if (listeners.stepProgressListener != null) {
+			step.registerStepExecutionListener(listeners.stepProgressListener);
+		}
+		if (step instanceof ChunkOrientedStep chunkOrientedStep) {
+			registerChunkOrientedStepListeners(chunkOrientedStep, listeners);
+		}
+		else if (step instanceof TaskletStep taskletStep) {
+			if (listeners.chunkListener != null) {
+				taskletStep.registerChunkListener(listeners.chunkListener);
+			}
+			if (taskletStep.getTasklet() instanceof ChunkOrientedTasklet tasklet) {
+				registerChunkOrientedTaskletListeners(taskletStep, tasklet, listeners);
 			}
 		}
 
@@ -112,67 +135,130 @@ public class TaskBatchEventListenerBeanPostProcessor implements BeanPostProcesso
 		return bean;
 	}
 
-	private void registerItemProcessEvents(SimpleChunkProcessor chunkProcessor) {
-		if (this.applicationContext.containsBean(BatchEventAutoConfiguration.ITEM_PROCESS_EVENTS_LISTENER)) {
-			chunkProcessor.registerListener((ItemProcessListener) this.applicationContext
-				.getBean(BatchEventAutoConfiguration.ITEM_PROCESS_EVENTS_LISTENER));
+	private void registerChunkOrientedStepListeners(ChunkOrientedStep step, EventListeners listeners) {
+		if (listeners.chunkListener != null) {
+			step.registerChunkListener(listeners.chunkListener);
 		}
-	}
-
-	private void registerItemReadEvents(SimpleChunkProvider chunkProvider) {
-		if (this.applicationContext.containsBean(BatchEventAutoConfiguration.ITEM_READ_EVENTS_LISTENER)) {
-			chunkProvider.registerListener((ItemReadListener) this.applicationContext
-				.getBean(BatchEventAutoConfiguration.ITEM_READ_EVENTS_LISTENER));
+		if (listeners.itemSummaryListener != null) {
+			step.registerItemReadListener((ItemReadListener) listeners.itemSummaryListener);
+			step.registerItemProcessListener((ItemProcessListener) listeners.itemSummaryListener);
+			step.registerItemWriteListener((ItemWriteListener) listeners.itemSummaryListener);
+			step.registerStepExecutionListener((StepExecutionListener) listeners.itemSummaryListener);
 		}
-	}
-
-	private void registerItemWriteEvents(SimpleChunkProcessor chunkProcessor) {
-		if (this.applicationContext.containsBean(BatchEventAutoConfiguration.ITEM_WRITE_EVENTS_LISTENER)) {
-			chunkProcessor.registerListener((ItemWriteListener) this.applicationContext
-				.getBean(BatchEventAutoConfiguration.ITEM_WRITE_EVENTS_LISTENER));
+		else {
+			if (listeners.itemReadListener != null) {
+				step.registerItemReadListener(listeners.itemReadListener);
+			}
+			if (listeners.itemProcessListener != null) {
+				step.registerItemProcessListener(listeners.itemProcessListener);
+			}
+			if (listeners.itemWriteListener != null) {
+				step.registerItemWriteListener(listeners.itemWriteListener);
+			}
+		}
+		if (listeners.skipListener != null) {
+			step.registerSkipListener(listeners.skipListener);
 		}
 	}
 
-	private void registerSkipEvents(SimpleChunkProvider chunkProvider) {
-		if (this.applicationContext.containsBean(BatchEventAutoConfiguration.SKIP_EVENTS_LISTENER)) {
-			chunkProvider.registerListener(
-					(SkipListener) this.applicationContext.getBean(BatchEventAutoConfiguration.SKIP_EVENTS_LISTENER));
+	private void registerChunkOrientedTaskletListeners(TaskletStep step, ChunkOrientedTasklet tasklet,
+			EventListeners listeners) {
+		SimpleChunkProvider chunkProvider = (SimpleChunkProvider) ReflectionUtils.getField(CHUNK_PROVIDER_FIELD,
+				tasklet);
+		SimpleChunkProcessor chunkProcessor = (SimpleChunkProcessor) ReflectionUtils.getField(CHUNK_PROCESSOR_FIELD,
+				tasklet);
+		if (listeners.itemSummaryListener != null) {
+			chunkProvider.registerListener((ItemReadListener) listeners.itemSummaryListener);
+			chunkProcessor.registerListener((ItemProcessListener) listeners.itemSummaryListener);
+			step.registerStepExecutionListener((StepExecutionListener) listeners.itemSummaryListener);
+		}
+		else {
+			if (listeners.itemReadListener != null) {
+				chunkProvider.registerListener(listeners.itemReadListener);
+			}
+			if (listeners.itemProcessListener != null) {
+				chunkProcessor.registerListener(listeners.itemProcessListener);
+			}
+			if (listeners.itemWriteListener != null) {
+				chunkProcessor.registerListener(listeners.itemWriteListener);
+			}
+		}
+		if (listeners.skipListener != null) {
+			chunkProvider.registerListener(listeners.skipListener);
+			chunkProcessor.registerListener(listeners.skipListener);
 		}
 	}
 
-	private void registerSkipEvents(SimpleChunkProcessor chunkProcessor) {
-		if (this.applicationContext.containsBean(BatchEventAutoConfiguration.SKIP_EVENTS_LISTENER)) {
-			chunkProcessor.registerListener(
-					(SkipListener) this.applicationContext.getBean(BatchEventAutoConfiguration.SKIP_EVENTS_LISTENER));
+	private EventListeners getEventListeners() {
+		EventListeners listeners = this.eventListeners;
+		if (listeners == null) {
+			listeners = new EventListeners(this.applicationContext);
+			this.eventListeners = listeners;
 		}
+		return listeners;
 	}
 
-	private void registerChunkEventsListener(Object bean) {
-		if (this.applicationContext.containsBean(BatchEventAutoConfiguration.CHUNK_EVENTS_LISTENER)) {
-			((TaskletStep) bean).registerChunkListener(
-					(ChunkListener) this.applicationContext.getBean(BatchEventAutoConfiguration.CHUNK_EVENTS_LISTENER));
+	private static Field accessibleField(String name) {
+		Field field = ReflectionUtils.findField(ChunkOrientedTasklet.class, name);
+		if (field != null) {
+			ReflectionUtils.makeAccessible(field);
 		}
+		return field;
 	}
 
-	private void registerJobExecutionEventListener(Object bean) {
-		if (bean instanceof AbstractJob job
-				&& this.applicationContext.containsBean(BatchEventAutoConfiguration.JOB_EXECUTION_EVENTS_LISTENER)) {
-			JobExecutionListener jobExecutionEventsListener = (JobExecutionListener) this.applicationContext
-				.getBean(BatchEventAutoConfiguration.JOB_EXECUTION_EVENTS_LISTENER);
+	/**
+	 * The event listener beans defined in the context, {@code null} for those that are
+	 * not.
+	 */
+	private static final class EventListeners {
+
+		private final JobExecutionListener jobExecutionListener;
+
+		private final StepExecutionListener stepExecutionListener;
 
-			job.registerJobExecutionListener(jobExecutionEventsListener);
+		private final StepExecutionListener stepProgressListener;
+
+		private final ChunkListener chunkListener;
+
+		private final ItemReadListener itemReadListener;
+
+		private final ItemProcessListener itemProcessListener;
+
+		private final ItemWriteListener itemWriteListener;
+
+		private final SkipListener skipListener;
+
+		private final Object itemSummaryListener;
+
+		EventListeners(ApplicationContext applicationContext) {
+			this.jobExecutionListener = getBean(applicationContext,
+					BatchEventAutoConfiguration.JOB_EXECUTION_EVENTS_LISTENER);
+			this.stepExecutionListener = getBean(applicationContext,
+					BatchEventAutoConfiguration.STEP_EXECUTION_EVENTS_LISTENER);
+			this.stepProgressListener = getBean(applicationContext,
+					BatchEventAutoConfiguration.STEP_PROGRESS_EVENTS_LISTENER);
+			this.chunkListener = getBean(applicationContext, BatchEventAutoConfiguration.CHUNK_EVENTS_LISTENER);
+			this.itemSummaryListener = getBean(applicationContext,
+					BatchEventAutoConfiguration.ITEM_SUMMARY_EVENTS_LISTENER);
+			this.itemReadListener = getBean(applicationContext, BatchEventAutoConfiguration.ITEM_READ_EVENTS_LISTENER);
+			this.itemProcessListener = getBean(applicationContext,
+					BatchEventAutoConfiguration.ITEM_PROCESS_EVENTS_LISTENER);
+			this.itemWriteListener = getBean(applicationContext,
+					BatchEventAutoConfiguration.ITEM_WRITE_EVENTS_LISTENER);
+			this.skipListener = getBean(applicationContext, BatchEventAutoConfiguration.SKIP_EVENTS_LISTENER);
 		}
-	}
 
-	private void registerStepExecutionEventListener(Object bean) {
-		if (this.applicationContext.containsBean(BatchEventAutoConfiguration.STEP_EXECUTION_EVENTS_LISTENER)) {
-			StepExecutionListener stepExecutionListener = (StepExecutionListener) this.applicationContext
-				.getBean(BatchEventAutoConfiguration.STEP_EXECUTION_EVENTS_LISTENER);
-			AbstractStep step = (AbstractStep) bean;
-			step.registerStepExecutionListener(stepExecutionListener);
+		@SuppressWarnings("unchecked")
+		private static <T> T getBean(ApplicationContext applicationContext, String name) {
+			return applicationContext.containsBean(name) ? (T) applicationContext.getBean(name) : null;
 		}
+
 	}
 
+	/**
+	 * Registers the fields of {@link ChunkOrientedTasklet} read by the post processor for
+	 * steps built with the deprecated {@code SimpleStepBuilder}.
+	 */
 	static class RuntimeHint implements RuntimeHintsRegistrar {
 
 		@Override
@@ -0,0 +1,777 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
+
+/**
+ * Hand-written compact binary encoder and decoder for {@link TaskExecution},
+ * {@link JobExecutionEvent}, {@link StepExecutionEvent}, {@link JobInstanceEvent},
+ * {@link JobParametersEvent}, {@link ExitStatus}, {@link ItemSummaryEvent} and
+ * {@link StepProgressEvent}.
+ *
+ * <p>
+ * An encoded event starts with a format version and a type tag followed by a record. A
+ * record is a four byte length followed by its fields in a fixed order, numbers as
+ * variable length integers and strings as UTF-8. Fields are only ever appended to a
+ * record: a decoder skips the trailing fields it does not know and leaves the fields a
+ * shorter record lacks at their defaults, so producers and consumers can be upgraded
+ * independently.
+ *
+ * <p>
+ * Execution context values and job parameters that are not strings, numbers, booleans or
+ * dates are encoded as their string form. Failure exceptions are encoded as their
+ * {@link Throwable#toString()} and decoded as {@link RuntimeException RuntimeExceptions}
+ * carrying it as their message.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+public class TaskEventBinaryCodec {
+
+	/**
+	 * The content type of the encoded events.
+	 */
+	public static final MimeType MIME_TYPE = new MimeType("application", "x-spring-cloud-task-event");
+
+	private static final int FORMAT_VERSION = 1;
+
+	private static final int TASK_EXECUTION = 1;
+
+	private static final int JOB_EXECUTION_EVENT = 2;
+
+	private static final int STEP_EXECUTION_EVENT = 3;
+
+	private static final int JOB_INSTANCE_EVENT = 4;
+
+	private static final int JOB_PARAMETERS_EVENT = 5;
+
+	private static final int EXIT_STATUS = 6;
+
+	private static final int ITEM_SUMMARY_EVENT = 7;
+
+	private static final int STEP_PROGRESS_EVENT = 8;
+
+	private static final int VALUE_NULL = 0;
+
+	private static final int VALUE_STRING = 1;
+
+	private static final int VALUE_LONG = 2;
+
+	private static final int VALUE_INTEGER = 3;
+
+	private static final int VALUE_DOUBLE = 4;
+
+	private static final int VALUE_BOOLEAN = 5;
+
+	private static final int VALUE_LOCAL_DATE_TIME = 6;
+
+	private static final int VALUE_DATE = 7;
+
+	private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(TaskExecution.class, JobExecutionEvent.class,
+			StepExecutionEvent.class, JobInstanceEvent.class, JobParametersEvent.class, ExitStatus.class,
+			ItemSummaryEvent.class, StepProgressEvent.class);
+
+	/**
+	 * Whether instances of the type can be encoded and decoded.
+	 * @param type the type to check
+	 * @return true if the type is one of the supported event types
+	 */
+	public boolean supports(Class<?> type) {
+		return SUPPORTED_TYPES.contains(type);
+	}
+
+	/**
+	 * Encode an event.
+	 * @param event the event to encode
+	 * @return the encoded event
+	 */
+	public byte[] encode(Object event) {
+		Assert.notNull(event, "event is required");
+		Writer writer = new Writer();
+		writer.writeVarInt(FORMAT_VERSION);
+		if (event instanceof TaskExecution taskExecution) {
+			writer.writeVarInt(TASK_EXECUTION);
+			writeTaskExecution(writer, taskExecution);
+		}
+		else if (event instanceof JobExecutionEvent jobExecutionEvent) {
+			writer.writeVarInt(JOB_EXECUTION_EVENT);
+			writeJobExecution(writer, jobExecutionEvent);
+		}
+		else if (event instanceof StepExecutionEvent stepExecutionEvent) {
+			writer.writeVarInt(STEP_EXECUTION_EVENT);
+			writeStepExecution(writer, stepExecutionEvent);
+		}
+		else if (event instanceof JobInstanceEvent jobInstanceEvent) {
+			writer.writeVarInt(JOB_INSTANCE_EVENT);
+			writeJobInstance(writer, jobInstanceEvent);
+		}
+		else if (event instanceof JobParametersEvent jobParametersEvent) {
+			writer.writeVarInt(JOB_PARAMETERS_EVENT);
+			writeJobParameters(writer, jobParametersEvent);
+		}
+		else if (event instanceof ExitStatus exitStatus) {
+			writer.writeVarInt(EXIT_STATUS);
+			writeExitStatus(writer, exitStatus);
+		}
+		else if (event instanceof ItemSummaryEvent itemSummaryEvent) {
+			writer.writeVarInt(ITEM_SUMMARY_EVENT);
+			writeItemSummary(writer, itemSummaryEvent);
+		}
+		else if (event instanceof StepProgressEvent stepProgressEvent) {
+			writer.writeVarInt(STEP_PROGRESS_EVENT);
+			writeStepProgress(writer, stepProgressEvent);
+		}
+		else {
+			throw new IllegalArgumentException("Unsupported event type " + event.getClass().getName());
+		}
+		return writer.toByteArray();
+	}
+
+	/**
+	 * Decode an event.
+	 * @param bytes the encoded event
+	 * @return the decoded event
+	 */
+	public Object decode(byte[] bytes) {
+		Assert.notNull(bytes, "bytes is required");
+		Reader reader = new Reader(bytes);
+		int version = reader.readVarInt();
+		Assert.state(version == FORMAT_VERSION, () -> "Unsupported event format version " + version);
+		int type = reader.readVarInt();
+		return switch (type) {
+			case TASK_EXECUTION -> readTaskExecution(reader);
+			case JOB_EXECUTION_EVENT -> readJobExecution(reader);
+			case STEP_EXECUTION_EVENT -> readStepExecution(reader);
+			case JOB_INSTANCE_EVENT -> readJobInstance(reader);
+			case JOB_PARAMETERS_EVENT -> readJobParameters(reader);
+			case EXIT_STATUS -> readExitStatus(reader);
+			case ITEM_SUMMARY_EVENT -> readItemSummary(reader);
+			case STEP_PROGRESS_EVENT -> readStepProgress(reader);
+			default -> throw new IllegalStateException("Unsupported event type " + type);
+		};
+	}
+
+	private void writeTaskExecution(Writer writer, TaskExecution taskExecution) {
+		int record = writer.beginRecord();
+		writer.writeLong(taskExecution.getExecutionId());
+		writer.writeNullableLong(taskExecution.getParentExecutionId());
+		writer.writeNullableLong(
+				(taskExecution.getExitCode() != null) ? taskExecution.getExitCode().longValue() : null);
+		writer.writeString(taskExecution.getTaskName());
+		writer.writeDateTime(taskExecution.getStartTime());
+		writer.writeDateTime(taskExecution.getEndTime());
+		writer.writeString(taskExecution.getExitMessage());
+		writer.writeString(taskExecution.getExternalExecutionId());
+		writer.writeString(taskExecution.getErrorMessage());
+		List<String> arguments = taskExecution.getArguments();
+		writer.writeVarInt((arguments != null) ? arguments.size() : 0);
+		if (arguments != null) {
+			for (String argument : arguments) {
+				writer.writeString(argument);
+			}
+		}
+		writer.endRecord(record);
+	}
+
+	private TaskExecution readTaskExecution(Reader reader) {
+		int end = reader.beginRecord();
+		long executionId = reader.readLong();
+		Long parentExecutionId = reader.readNullableLong();
+		Long exitCode = reader.readNullableLong();
+		String taskName = reader.readString();
+		LocalDateTime startTime = reader.readDateTime();
+		LocalDateTime endTime = reader.readDateTime();
+		String exitMessage = reader.readString();
+		String externalExecutionId = reader.readString();
+		String errorMessage = reader.readString();
+		int argumentCount = reader.readCount();
+		List<String> arguments = new ArrayList<>(argumentCount);
+		for (int i = 0; i < argumentCount; i++) {
+			arguments.add(reader.readString());
+		}
+		reader.endRecord(end);
+		return new TaskExecution(executionId, (exitCode != null) ? exitCode.intValue() : null, taskName, startTime,
+				endTime, exitMessage, arguments, errorMessage, externalExecutionId, parentExecutionId);
+	}
+
+	private void writeJobExecution(Writer writer, JobExecutionEvent event) {
+		int record = writer.beginRecord();
+		writer.writeLong(event.getId());
+		writer.writeNullableLong((event.getVersion() != null) ? event.getVersion().longValue() : null);
+		writer.writeBoolean(event.getJobParameters() != null);
+		if (event.getJobParameters() != null) {
+			writeJobParameters(writer, event.getJobParameters());
+		}
+		writer.writeBoolean(event.getJobInstance() != null);
+		if (event.getJobInstance() != null) {
+			writeJobInstance(writer, event.getJobInstance());
+		}
+		Collection<StepExecutionEvent> stepExecutions = event.getStepExecutions();
+		writer.writeVarInt(stepExecutions.size());
+		for (StepExecutionEvent stepExecution : stepExecutions) {
+			writeStepExecution(writer, stepExecution);
+		}
+		writer.writeString((event.getStatus() != null) ? event.getStatus().name() : null);
+		writer.writeDateTime(event.getStartTime());
+		writer.writeDateTime(event.getCreateTime());
+		writer.writeDateTime(event.getEndTime());
+		writer.writeDateTime(event.getLastUpdated());
+		writer.writeBoolean(event.getExitStatus() != null);
+		if (event.getExitStatus() != null) {
+			writeExitStatus(writer, event.getExitStatus());
+		}
+		writeExecutionContext(writer, event.getExecutionContext());
+		writeFailureExceptions(writer, event.getFailureExceptions());
+		writer.endRecord(record);
+	}
+
+	private JobExecutionEvent readJobExecution(Reader reader) {
+		int end = reader.beginRecord();
+		JobExecutionEvent event = new JobExecutionEvent(reader.readLong());
+		Long version = reader.readNullableLong();
+		event.setVersion((version != null) ? version.intValue() : null);
+		event.setJobParameters(reader.readBoolean() ? readJobParameters(reader) : null);
+		event.setJobInstance(reader.readBoolean() ? readJobInstance(reader) : null);
+		int stepExecutionCount = reader.readCount();
+		List<StepExecutionEvent> stepExecutions = new ArrayList<>(stepExecutionCount);
+		for (int i = 0; i < stepExecutionCount; i++) {
+			stepExecutions.add(readStepExecution(reader));
+		}
+		event.setStepExecutions(stepExecutions);
+		String status = reader.readString();
+		if (status != null) {
+			event.setStatus(BatchStatus.valueOf(status));
+		}
+		event.setStartTime(reader.readDateTime());
+		event.setCreateTime(reader.readDateTime());
+		event.setEndTime(reader.readDateTime());
+		event.setLastUpdated(reader.readDateTime());
+		if (reader.readBoolean()) {
+			event.setExitStatus(readExitStatus(reader));
+		}
+		event.setExecutionContext(readExecutionContext(reader));
+		event.setFailureExceptions(readFailureExceptions(reader));
+		reader.endRecord(end);
+		return event;
+	}
+
+	private void writeStepExecution(Writer writer, StepExecutionEvent event) {
+		int record = writer.beginRecord();
+		writer.writeLong(event.getId());
+		writer.writeNullableLong((event.getVersion() != null) ? event.getVersion().longValue() : null);
+		writer.writeLong(event.getJobExecutionId());
+		writer.writeString(event.getStepName());
+		writer.writeString((event.getStatus() != null) ? event.getStatus().name() : null);
+		for (long count : event.getCounts()) {
+			writer.writeLong(count);
+		}
+		writer.writeDateTime(event.getStartTime());
+		writer.writeDateTime(event.getEndTime());
+		writer.writeDateTime(event.getLastUpdated());
+		writeExecutionContext(writer, event.getExecutionContext());
+		writer.writeBoolean(event.getExitStatus() != null);
+		if (event.getExitStatus() != null) {
+			writeExitStatus(writer, event.getExitStatus());
+		}
+		writer.writeBoolean(event.isTerminateOnly());
+		writeFailureExceptions(writer, event.getFailureExceptions());
+		writer.endRecord(record);
+	}
+
+	private StepExecutionEvent readStepExecution(Reader reader) {
+		int end = reader.beginRecord();
+		StepExecutionEvent event = new StepExecutionEvent(reader.readLong());
+		Long version = reader.readNullableLong();
+		event.setVersion((version != null) ? version.intValue() : null);
+		event.setJobExecutionId(reader.readLong());
+		event.setStepName(reader.readString());
+		String status = reader.readString();
+		if (status != null) {
+			event.setStatus(BatchStatus.valueOf(status));
+		}
+		long[] counts = new long[8];
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = reader.readLong();
+		}
+		event.setCounts(counts);
+		event.setStartTime(reader.readDateTime());
+		event.setEndTime(reader.readDateTime());
+		event.setLastUpdated(reader.readDateTime());
+		event.setExecutionContext(readExecutionContext(reader));
+		if (reader.readBoolean()) {
+			event.setExitStatus(readExitStatus(reader));
+		}
+		if (reader.readBoolean()) {
+			event.setTerminateOnly();
+		}
+		event.setFailureExceptions(readFailureExceptions(reader));
+		reader.endRecord(end);
+		return event;
+	}
+
+	private void writeJobInstance(Writer writer, JobInstanceEvent event) {
+		int record = writer.beginRecord();
+		writer.writeLong(event.getInstanceId());
+		writer.writeString(event.getJobName());
+		writer.endRecord(record);
+	}
+
+	private JobInstanceEvent readJobInstance(Reader reader) {
+		int end = reader.beginRecord();
+		long id = reader.readLong();
+		String jobName = reader.readString();
+		reader.endRecord(end);
+		return (jobName != null) ? new JobInstanceEvent(id, jobName) : new JobInstanceEvent();
+	}
+
+	private void writeJobParameters(Writer writer, JobParametersEvent event) {
+		int record = writer.beginRecord();
+		Set<JobParameterEvent> parameters = event.getParameters();
+		writer.writeVarInt(parameters.size());
+		for (JobParameterEvent parameter : parameters) {
+			int parameterRecord = writer.beginRecord();
+			writeValue(writer, parameter.getValue());
+			writer.writeBoolean(parameter.isIdentifying());
+			writer.endRecord(parameterRecord);
+		}
+		writer.endRecord(record);
+	}
+
+	private JobParametersEvent readJobParameters(Reader reader) {
+		int end = reader.beginRecord();
+		JobParametersEvent event = new JobParametersEvent();
+		int parameterCount = reader.readCount();
+		for (int i = 0; i < parameterCount; i++) {
+			int parameterEnd = reader.beginRecord();
+			Object value = readValue(reader);
+			boolean identifying = reader.readBoolean();
+			reader.endRecord(parameterEnd);
+			event.addParameter(new JobParameterEvent(value, identifying));
+		}
+		reader.endRecord(end);
+		return event;
+	}
+
+	private void writeExitStatus(Writer writer, ExitStatus exitStatus) {
+		int record = writer.beginRecord();
+		writer.writeString(exitStatus.getExitCode());
+		writer.writeString(exitStatus.getExitDescription());
+		writer.endRecord(record);
+	}
+
+	private ExitStatus readExitStatus(Reader reader) {
+		int end = reader.beginRecord();
+		ExitStatus exitStatus = new ExitStatus();
+		exitStatus.setExitCode(reader.readString());
+		exitStatus.setExitDescription(reader.readString());
+		reader.endRecord(end);
+		return exitStatus;
+	}
+
+	private void writeItemSummary(Writer writer, ItemSummaryEvent event) {
+		int record = writer.beginRecord();
+		writer.writeLong(event.getReadCount());
+		writer.writeLong(event.getReadErrorCount());
+		writer.writeLong(event.getProcessCount());
+		writer.writeLong(event.getFilterCount());
+		writer.writeLong(event.getProcessErrorCount());
+		writer.writeLong(event.getWriteCount());
+		writer.writeLong(event.getWriteErrorCount());
+		writer.writeLong(event.getChunkCount());
+		writer.writeNullableLong(event.getJobExecutionId());
+		writer.writeNullableLong(event.getStepExecutionId());
+		writer.writeString(event.getStepName());
+		writer.endRecord(record);
+	}
+
+	private ItemSummaryEvent readItemSummary(Reader reader) {
+		int end = reader.beginRecord();
+		ItemSummaryEvent event = new ItemSummaryEvent();
+		event.setReadCount(reader.readLong());
+		event.setReadErrorCount(reader.readLong());
+		event.setProcessCount(reader.readLong());
+		event.setFilterCount(reader.readLong());
+		event.setProcessErrorCount(reader.readLong());
+		event.setWriteCount(reader.readLong());
+		event.setWriteErrorCount(reader.readLong());
+		event.setChunkCount(reader.readLong());
+		event.setJobExecutionId(reader.readNullableLong());
+		event.setStepExecutionId(reader.readNullableLong());
+		event.setStepName(reader.readString());
+		reader.endRecord(end);
+		return event;
+	}
+
+	private void writeStepProgress(Writer writer, StepProgressEvent event) {
+		int record = writer.beginRecord();
+		writer.writeLong(event.getJobExecutionId());
+		writer.writeLong(event.getStepExecutionId());
+		writer.writeString(event.getStepName());
+		writer.writeLong(event.getReadCount());
+		writer.writeLong(event.getWriteCount());
+		writer.writeLong(event.getFilterCount());
+		writer.writeLong(event.getCommitCount());
+		writer.writeDouble(event.getReadRate());
+		writer.writeDouble(event.getWriteRate());
+		writer.writeDouble(event.getFilterRate());
+		writer.writeDouble(event.getCommitInterval());
+		writer.writeNullableLong(event.getEstimatedTimeRemaining());
+		writer.writeBoolean(event.isCountDelta());
+		writer.endRecord(record);
+	}
+
+	private StepProgressEvent readStepProgress(Reader reader) {
+		int end = reader.beginRecord();
+		StepProgressEvent event = new StepProgressEvent();
+		event.setJobExecutionId(reader.readLong());
+		event.setStepExecutionId(reader.readLong());
+		event.setStepName(reader.readString());
+		event.setReadCount(reader.readLong());
+		event.setWriteCount(reader.readLong());
+		event.setFilterCount(reader.readLong());
+		event.setCommitCount(reader.readLong());
+		event.setReadRate(reader.readDouble());
+		event.setWriteRate(reader.readDouble());
+		event.setFilterRate(reader.readDouble());
+		event.setCommitInterval(reader.readDouble());
+		event.setEstimatedTimeRemaining(reader.readNullableLong());
+		event.setCountDelta(reader.readBoolean());
+		reader.endRecord(end);
+		return event;
+	}
+
+	private void writeExecutionContext(Writer writer, ExecutionContext executionContext) {
+		if (executionContext == null) {
+			writer.writeVarInt(0);
+			return;
+		}
+		Set<Map.Entry<String, Object>> entries = executionContext.entrySet();
+		writer.writeVarInt(entries.size());
+		for (Map.Entry<String, Object> entry : entries) {
+			writer.writeString(entry.getKey());
+			writeValue(writer, entry.getValue());
+		}
+	}
+
+	private ExecutionContext readExecutionContext(Reader reader) {
+		ExecutionContext executionContext = new ExecutionContext();
+		int entryCount = reader.readCount();
+		for (int i = 0; i < entryCount; i++) {
+			String key = reader.readString();
+			Object value = readValue(reader);
+			if (value != null) {
+				executionContext.put(key, value);
+			}
+		}
+		return executionContext;
+	}
+
+	private void writeFailureExceptions(Writer writer, List<Throwable> failureExceptions) {
+		if (failureExceptions == null) {
+			writer.writeVarInt(0);
+			return;
+		}
+		writer.writeVarInt(failureExceptions.size());
+		for (Throwable failureException : failureExceptions) {
+			writer.writeString(failureException.toString());
+		}
+	}
+
+	private List<Throwable> readFailureExceptions(Reader reader) {
+		int failureExceptionCount = reader.readCount();
+		List<Throwable> failureExceptions = new CopyOnWriteArrayList<>();
+		for (int i = 0; i < failureExceptionCount; i++) {
+			failureExceptions.add(new RuntimeException(reader.readString()));
+		}
+		return failureExceptions;
+	}
+
+	private void writeValue(Writer writer, Object value) {
+		if (value == null) {
+			writer.writeVarInt(VALUE_NULL);
+		}
+		else if (value instanceof String string) {
+			writer.writeVarInt(VALUE_STRING);
+			writer.writeString(string);
+		}
+		else if (value instanceof Long number) {
+			writer.writeVarInt(VALUE_LONG);
+			writer.writeLong(number);
+		}
+		else if (value instanceof Integer number) {
+			writer.writeVarInt(VALUE_INTEGER);
+			writer.writeLong(number);
+		}
+		else if (value instanceof Double number) {
+			writer.writeVarInt(VALUE_DOUBLE);
+			writer.writeDouble(number);
+		}
+		else if (value instanceof Boolean bool) {
+			writer.writeVarInt(VALUE_BOOLEAN);
+			writer.writeBoolean(bool);
+		}
+		else if (value instanceof LocalDateTime dateTime) {
+			writer.writeVarInt(VALUE_LOCAL_DATE_TIME);
+			writer.writeDateTime(dateTime);
+		}
+		else if (value instanceof Date date) {
+			writer.writeVarInt(VALUE_DATE);
+			writer.writeLong(date.getTime());
+		}
+		else {
+			writer.writeVarInt(VALUE_STRING);
+			writer.writeString(String.valueOf(value));
+		}
+	}
+
+	private Object readValue(Reader reader) {
+		int type = reader.readVarInt();
+		return switch (type) {
+			case VALUE_NULL -> null;
+			case VALUE_STRING -> reader.readString();
+			case VALUE_LONG -> reader.readLong();
+			case VALUE_INTEGER -> (int) reader.readLong();
+			case VALUE_DOUBLE -> reader.readDouble();
+			case VALUE_BOOLEAN -> reader.readBoolean();
+			case VALUE_LOCAL_DATE_TIME -> reader.readDateTime();
+			case VALUE_DATE -> new Date(reader.readLong());
+			default -> throw new IllegalStateException("Unsupported value type " + type);
+		};
+	}
+
+	/**
+	 * Appends to a growing byte array. Longs are zigzag encoded variable length integers.
+	 */
+	private static final class Writer {
+
+		private byte[] buffer = new byte[256];
+
+		private int position;
+
+		int beginRecord() {
+			ensureCapacity(4);
+			int record = this.position;
+			this.position += 4;
+			return record;
+		}
+
+		void endRecord(int record) {
+			int length = this.position - record - 4;
+			this.buffer[record] = (byte) (length >>> 24);
+			this.buffer[record + 1] = (byte) (length >>> 16);
+			this.buffer[record + 2] = (byte) (length >>> 8);
+			this.buffer[record + 3] = (byte) length;
+		}
+
+		void writeVarInt(int value) {
+			writeVarLong(value & 0xFFFFFFFFL);
+		}
+
+		void writeLong(long value) {
+			writeVarLong((value << 1) ^ (value >> 63));
+		}
+
+		void writeNullableLong(Long value) {
+			writeBoolean(value != null);
+			if (value != null) {
+				writeLong(value);
+			}
+		}
+
+		void writeDouble(double value) {
+			writeLong(Double.doubleToRawLongBits(value));
+		}
+
+		void writeBoolean(boolean value) {
+			ensureCapacity(1);
+			this.buffer[this.position++] = (byte) (value ? 1 : 0);
+		}
+
+		void writeString(String value) {
+			if (value == null) {
+				writeVarInt(0);
+				return;
+			}
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			writeVarInt(bytes.length + 1);
+			ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, this.buffer, this.position, bytes.length);
+			this.position += bytes.length;
+		}
+
+		void writeDateTime(LocalDateTime value) {
+			writeBoolean(value != null);
+			if (value != null) {
+				writeLong(value.toEpochSecond(ZoneOffset.UTC));
+				writeVarInt(value.getNano());
+			}
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(this.buffer, this.position);
+		}
+
+		private void writeVarLong(long value) {
+			ensureCapacity(10);
+			while ((value & ~0x7FL) != 0) {
+				this.buffer[this.position++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			this.buffer[this.position++] = (byte) value;
+		}
+
+		private void ensureCapacity(int length) {
+			if (this.position + length > this.buffer.length) {
+				this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.position + length));
+			}
+		}
+
+	}
+
+	/**
+	 * Reads what {@link Writer} wrote. Reads past the end of the current record return
+	 * the default of the field.
+	 */
+	private static final class Reader {
+
+		private final byte[] buffer;
+
+		private int position;
+
+		private int limit;
+
+		Reader(byte[] buffer) {
+			this.buffer = buffer;
+			this.limit = buffer.length;
+		}
+
+		/**
+		 * Start reading a record.
+		 * @return the limit of the enclosing record, to pass to {@link #endRecord(int)}
+		 */
+		int beginRecord() {
+			Assert.state(this.position + 4 <= this.limit, "Truncated event record");
+			int length = ((this.buffer[this.position] & 0xFF) << 24) | ((this.buffer[this.position + 1] & 0xFF) << 16)
+					| ((this.buffer[this.position + 2] & 0xFF) << 8) | (this.buffer[this.position + 3] & 0xFF);
+			this.position += 4;
+			Assert.state(length >= 0 && this.position + length <= this.limit, "Truncated event record");
+			int enclosingLimit = this.limit;
+			this.limit = this.position + length;
+			return enclosingLimit;
+		}
+
+		/**
+		 * Skip the unread fields of the current record and resume the enclosing one.
+		 * @param enclosingLimit the value returned by {@link #beginRecord()}
+		 */
+		void endRecord(int enclosingLimit) {
+			this.position = this.limit;
+			this.limit = enclosingLimit;
+		}
+
+		int readVarInt() {
+			return (int) readVarLong();
+		}
+
+		/**
+		 * Read the number of elements that follow. Each element takes at least one byte,
+		 * so a count larger than the bytes left in the record can only come from a
+		 * truncated or corrupted record and is rejected before anything is allocated.
+		 * @return the number of elements
+		 */
+		int readCount() {
+			long count = readVarLong();
+			Assert.state(count >= 0 && count <= this.limit - this.position, "Truncated event record");
+			return (int) count;
+		}
+
+		long readLong() {
+			long value = readVarLong();
+			return (value >>> 1) ^ -(value & 1);
+		}
+
+		Long readNullableLong() {
+			return readBoolean() ? readLong() : null;
+		}
+
+		double readDouble() {
+			return Double.longBitsToDouble(readLong());
+		}
+
+		boolean readBoolean() {
+			if (this.position >= this.limit) {
+				return false;
+			}
+			return this.buffer[this.position++] != 0;
+		}
+
+		String readString() {
+			long length = readVarLong() - 1;
+			if (length == -1) {
+				return null;
+			}
+			Assert.state(length >= 0 && length <= this.limit - this.position, "Truncated event string");
+			String value = new String(this.buffer, this.position, (int) length, StandardCharsets.UTF_8);
+			this.position += (int) length;
+			return value;
+		}
+
+		LocalDateTime readDateTime() {
+			if (!readBoolean()) {
+				return null;
+			}
+			long epochSecond = readLong();
+			return LocalDateTime.ofEpochSecond(epochSecond, readVarInt(), ZoneOffset.UTC);
+		}
+
+		private long readVarLong() {
+			if (this.position >= this.limit) {
+				return 0;
+			}
+			long value = 0;
+			int shift = 0;
+			byte current;
+			do {
+				Assert.state(this.position < this.limit && shift < 64, "Malformed event number");
+				current = this.buffer[this.position++];
+				value |= (long) (current & 0x7F) << shift;
+				shift += 7;
+			}
+			while ((current & 0x80) != 0);
+			return value;
+		}
+
+	}
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.AbstractMessageConverter;
+
+/**
+ * Converts task and batch events to and from the compact binary format of
+ * {@link TaskEventBinaryCodec} for messages whose content type is
+ * {@link TaskEventBinaryCodec#MIME_TYPE}. Select it for a binding with
+ * {@code spring.cloud.stream.bindings.<binding>.content-type=application/x-spring-cloud-task-event}.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+public class TaskEventBinaryMessageConverter extends AbstractMessageConverter {
+
+	private final TaskEventBinaryCodec codec = new TaskEventBinaryCodec();
+
+	public TaskEventBinaryMessageConverter() {
+		super(TaskEventBinaryCodec.MIME_TYPE);
+		setStrictContentTypeMatch(true);
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return this.codec.supports(clazz);
+	}
+
+	@Override
+	protected Object convertFromInternal(Message<?> message, Class<?> targetClass, Object conversionHint) {
+		if (!(message.getPayload() instanceof byte[] bytes)) {
+			return null;
+		}
+		Object event = this.codec.decode(bytes);
+		return targetClass.isInstance(event) ? event : null;
+	}
+
+	@Override
+	protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+		return this.codec.encode(payload);
+	}
+
+}
@@ -16,6 +16,9 @@
 
 package org.springframework.cloud.task.batch.listener.support;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.core.Ordered;
 
@@ -67,6 +70,123 @@ public class TaskEventProperties {
 	 */
 	private int skipOrder = Ordered.LOWEST_PRECEDENCE;
 
+	/**
+	 * Establishes the default {@link Ordered} precedence for the item summary listener.
+	 */
+	private int itemSummaryOrder = Ordered.LOWEST_PRECEDENCE;
+
+	/**
+	 * The interval in milliseconds at which an item summary is published when
+	 * spring.cloud.task.batch.events.item-summary.enabled is true. A summary is also
+	 * published when a step ends. Defaults to 10000.
+	 */
+	private long itemSummaryInterval = 10000;
+
+	/**
+	 * The number of chunks after which an item summary is published when
+	 * spring.cloud.task.batch.events.item-summary.enabled is true, in addition to the
+	 * item-summary-interval. Defaults to 0, no chunk based summaries.
+	 */
+	private int itemSummaryChunks = 0;
+
+	/**
+	 * Establishes the default {@link Ordered} precedence for the step progress listener.
+	 */
+	private int stepProgressOrder = Ordered.LOWEST_PRECEDENCE;
+
+	/**
+	 * The interval in milliseconds at which the progress of each running step is
+	 * published when spring.cloud.task.batch.events.step-progress.enabled is true.
+	 * Defaults to 10000.
+	 */
+	private long stepProgressInterval = 10000;
+
+	/**
+	 * When set to true, the counts of a step progress event are the increase since the
+	 * previous progress event of the same step instead of totals. Defaults to false.
+	 */
+	private boolean stepProgressCountDelta = false;
+
+	/**
+	 * One in this many item read error events is published. Only applies when
+	 * errors-bypass-sampling is false. Defaults to 1, every event.
+	 */
+	private int itemReadSampleRate = 1;
+
+	/**
+	 * At most one item read error event is published per this many milliseconds. Only
+	 * applies when errors-bypass-sampling is false. Defaults to 0, no time based
+	 * sampling.
+	 */
+	private long itemReadSampleInterval = 0;
+
+	/**
+	 * The maximum number of item read error events published per second. Only applies
+	 * when errors-bypass-sampling is false. Defaults to 0, no rate limit.
+	 */
+	private double itemReadRateLimit = 0;
+
+	/**
+	 * One in this many item process events is published. Item process errors are only
+	 * sampled when errors-bypass-sampling is false. Defaults to 1, every event.
+	 */
+	private int itemProcessSampleRate = 1;
+
+	/**
+	 * At most one item process event is published per this many milliseconds. Item
+	 * process errors are only sampled when errors-bypass-sampling is false. Defaults to
+	 * 0, no time based sampling.
+	 */
+	private long itemProcessSampleInterval = 0;
+
+	/**
+	 * The maximum number of item process events published per second. Item process errors
+	 * are only rate limited when errors-bypass-sampling is false. Defaults to 0, no rate
+	 * limit.
+	 */
+	private double itemProcessRateLimit = 0;
+
+	/**
+	 * One in this many skip events is published. Only applies when errors-bypass-sampling
+	 * is false. Defaults to 1, every event.
+	 */
+	private int skipSampleRate = 1;
+
+	/**
+	 * At most one skip event is published per this many milliseconds. Only applies when
+	 * errors-bypass-sampling is false. Defaults to 0, no time based sampling.
+	 */
+	private long skipSampleInterval = 0;
+
+	/**
+	 * The maximum number of skip events published per second. Only applies when
+	 * errors-bypass-sampling is false. Defaults to 0, no rate limit.
+	 */
+	private double skipRateLimit = 0;
+
+	/**
+	 * When set to true, item read errors, item process errors and skips are always
+	 * published, regardless of the sample rates, sample intervals and rate limits. As
+	 * item read and skip events are only published for errors, their sampling properties
+	 * have no effect when this is true. Defaults to false.
+	 */
+	private boolean errorsBypassSampling = false;
+
+	/**
+	 * The fields left out of the job and step execution events, among
+	 * execution-context, failure-exceptions, step-executions and job-parameters. Defaults
+	 * to none.
+	 */
+	private Set<ExecutionEventProjection.Field> executionEventExcludedFields = EnumSet
+		.noneOf(ExecutionEventProjection.Field.class);
+
+	/**
+	 * The maximum number of characters of execution context content, keys and values
+	 * rendered as strings, copied into a job or step execution event. The entries that do
+	 * not fit are left out. Defaults to 0, the whole execution context.
+	 */
+	private int executionContextMaxSize = 0;
+
 	private String jobExecutionEventBindingName = "job-execution-events";
 
 	private String skipEventBindingName = "skip-events";
@@ -83,6 +203,107 @@ public class TaskEventProperties {
 
 	private String taskEventBindingName = "task-events";
 
+	/**
+	 * When set to true, task and batch events are handed to a bounded buffer and sent by
+	 * a dedicated thread instead of on the thread that emits them. Defaults to false.
+	 */
+	private boolean asyncEnabled = false;
+
+	/**
+	 * The number of events the async buffer holds, rounded up to a power of two. Defaults
+	 * to 1024.
+	 */
+	private int asyncBufferSize = 1024;
+
+	/**
+	 * What to do with an event emitted while the async buffer is full. BLOCK waits for
+	 * room, DROP_OLDEST drops the oldest buffered event and SAMPLE keeps one in
+	 * async-sample-rate of the overflowing events. Defaults to BLOCK.
+	 */
+	private AsyncMessagePublisher.OverflowPolicy asyncOverflowPolicy = AsyncMessagePublisher.OverflowPolicy.BLOCK;
+
+	/**
+	 * With the SAMPLE overflow policy, one in this many events emitted while the async
+	 * buffer is full is kept. Defaults to 10.
+	 */
+	private int asyncSampleRate = 10;
+
+	/**
+	 * The maximum time in milliseconds to wait for the async buffer to be sent when the
+	 * task ends. Defaults to 5000.
+	 */
+	private long asyncFlushTimeout = 5000;
+
+	/**
+	 * When set to true, async events that do not fit in the buffer, or that are emitted
+	 * while the binder does not accept events, are written to memory-mapped spool files
+	 * and replayed in order once the binder accepts events again. Defaults to false.
+	 */
+	private boolean asyncSpoolEnabled = false;
+
+	/**
+	 * The directory of the spool files. The task events and the batch events are spooled
+	 * in its task-events and batch-events subdirectories, which must not be shared with
+	 * another running application. Defaults to a directory named after the task in the
+	 * spring-cloud-task-event-spool directory of java.io.tmpdir.
+	 */
+	private String asyncSpoolDirectory;
+
+	/**
+	 * The size in bytes of each spool file. Defaults to 16777216.
+	 */
+	private int asyncSpoolSegmentSize = 16 * 1024 * 1024;
+
+	/**
+	 * The maximum number of spool files, after which spooled events are dropped. Defaults
+	 * to 8.
+	 */
+	private int asyncSpoolMaxSegments = 8;
+
+	/**
+	 * When set to true, task and batch events are written to the EVENT_OUTBOX table of
+	 * the task repository and published by a background relay, in the same transaction as
+	 * the writes on the task DataSource that are active when they are emitted. Defaults to
+	 * false.
+	 */
+	private boolean outboxEnabled = false;
+
+	/**
+	 * The maximum number of events the relay reads from the outbox at a time. Defaults to
+	 * 100.
+	 */
+	private int outboxBatchSize = 100;
+
+	/**
+	 * The interval in milliseconds at which the relay publishes the outbox, or 0 to
+	 * publish it only when the task ends. Defaults to 1000.
+	 */
+	private long outboxRelayInterval = 1000;
+
+	/**
+	 * The maximum time in milliseconds to wait for the outbox to be published when the
+	 * task ends. Defaults to 5000.
+	 */
+	private long outboxFlushTimeout = 5000;
+
+	/**
+	 * The time in milliseconds an event claimed by a relay is reserved for it. An event
+	 * whose claim has expired, for example because the instance that claimed it stopped,
+	 * can be claimed by another instance of the application. Defaults to 60000.
+	 */
+	private long outboxClaimTimeout = 60000;
+
+	/**
+	 * The value sent in the task_event_partition_key header of each event, which the
+	 * event bindings can be partitioned by: NONE, JOB_EXECUTION_ID, STEP_NAME or
+	 * TASK_EXECUTION_ID. Defaults to NONE.
+	 */
+	private EventPartitionKeyResolver.PartitionKey partitionKey = EventPartitionKeyResolver.PartitionKey.NONE;
+
+	private String itemSummaryEventBindingName = "item-summary-events";
+
+	private String stepProgressEventBindingName = "step-progress-events";
+
 	public int getJobExecutionOrder() {
 		return this.jobExecutionOrder;
 	}
@@ -203,4 +424,284 @@ public class TaskEventProperties {
 		this.taskEventBindingName = taskEventBindingName;
 	}
 
+	public int getItemSummaryOrder() {
+		return this.itemSummaryOrder;
+	}
+
+	public void setItemSummaryOrder(int itemSummaryOrder) {
+		this.itemSummaryOrder = itemSummaryOrder;
+	}
+
+	public long getItemSummaryInterval() {
+		return this.itemSummaryInterval;
+	}
+
+	public void setItemSummaryInterval(long itemSummaryInterval) {
+		this.itemSummaryInterval = itemSummaryInterval;
+	}
+
+	public int getItemSummaryChunks() {
+		return this.itemSummaryChunks;
+	}
+
+	public void setItemSummaryChunks(int itemSummaryChunks) {
+		this.itemSummaryChunks = itemSummaryChunks;
+	}
+
+	public int getStepProgressOrder() {
+		return this.stepProgressOrder;
+	}
+
+	public void setStepProgressOrder(int stepProgressOrder) {
+		this.stepProgressOrder = stepProgressOrder;
+	}
+
+	public long getStepProgressInterval() {
+		return this.stepProgressInterval;
+	}
+
+	public void setStepProgressInterval(long stepProgressInterval) {
+		this.stepProgressInterval = stepProgressInterval;
+	}
+
+	public boolean isStepProgressCountDelta() {
+		return this.stepProgressCountDelta;
+	}
+
+	public void setStepProgressCountDelta(boolean stepProgressCountDelta) {
+		this.stepProgressCountDelta = stepProgressCountDelta;
+	}
+
+	public int getItemReadSampleRate() {
+		return this.itemReadSampleRate;
+	}
+
+	public void setItemReadSampleRate(int itemReadSampleRate) {
+		this.itemReadSampleRate = itemReadSampleRate;
+	}
+
+	public long getItemReadSampleInterval() {
+		return this.itemReadSampleInterval;
+	}
+
+	public void setItemReadSampleInterval(long itemReadSampleInterval) {
+		this.itemReadSampleInterval = itemReadSampleInterval;
+	}
+
+	public double getItemReadRateLimit() {
+		return this.itemReadRateLimit;
+	}
+
+	public void setItemReadRateLimit(double itemReadRateLimit) {
+		this.itemReadRateLimit = itemReadRateLimit;
+	}
+
+	public int getItemProcessSampleRate() {
+		return this.itemProcessSampleRate;
+	}
+
+	public void setItemProcessSampleRate(int itemProcessSampleRate) {
+		this.itemProcessSampleRate = itemProcessSampleRate;
+	}
+
+	public long getItemProcessSampleInterval() {
+		return this.itemProcessSampleInterval;
+	}
+
+	public void setItemProcessSampleInterval(long itemProcessSampleInterval) {
+		this.itemProcessSampleInterval = itemProcessSampleInterval;
+	}
+
+	public double getItemProcessRateLimit() {
+		return this.itemProcessRateLimit;
+	}
+
+	public void setItemProcessRateLimit(double itemProcessRateLimit) {
+		this.itemProcessRateLimit = itemProcessRateLimit;
+	}
+
+	public int getSkipSampleRate() {
+		return this.skipSampleRate;
+	}
+
+	public void setSkipSampleRate(int skipSampleRate) {
+		this.skipSampleRate = skipSampleRate;
+	}
+
+	public long getSkipSampleInterval() {
+		return this.skipSampleInterval;
+	}
+
+	public void setSkipSampleInterval(long skipSampleInterval) {
+		this.skipSampleInterval = skipSampleInterval;
+	}
+
+	public double getSkipRateLimit() {
+		return this.skipRateLimit;
+	}
+
+	public void setSkipRateLimit(double skipRateLimit) {
+		this.skipRateLimit = skipRateLimit;
+	}
+
+	public boolean isErrorsBypassSampling() {
+		return this.errorsBypassSampling;
+	}
+
+	public void setErrorsBypassSampling(boolean errorsBypassSampling) {
+		this.errorsBypassSampling = errorsBypassSampling;
+	}
+
+	public Set<ExecutionEventProjection.Field> getExecutionEventExcludedFields() {
+		return this.executionEventExcludedFields;
+	}
+
+	public void setExecutionEventExcludedFields(Set<ExecutionEventProjection.Field> executionEventExcludedFields) {
+		this.executionEventExcludedFields = executionEventExcludedFields;
+	}
+
+	public int getExecutionContextMaxSize() {
+		return this.executionContextMaxSize;
+	}
+
+	public void setExecutionContextMaxSize(int executionContextMaxSize) {
+		this.executionContextMaxSize = executionContextMaxSize;
+	}
+
+	public String getItemSummaryEventBindingName() {
+		return this.itemSummaryEventBindingName;
+	}
+
+	public void setItemSummaryEventBindingName(String itemSummaryEventBindingName) {
+		this.itemSummaryEventBindingName = itemSummaryEventBindingName;
+	}
+
+	public String getStepProgressEventBindingName() {
+		return this.stepProgressEventBindingName;
+	}
+
+	public void setStepProgressEventBindingName(String stepProgressEventBindingName) {
+		this.stepProgressEventBindingName = stepProgressEventBindingName;
+	}
+
+	public boolean isAsyncEnabled() {
+		return this.asyncEnabled;
+	}
+
+	public void setAsyncEnabled(boolean asyncEnabled) {
+		this.asyncEnabled = asyncEnabled;
+	}
+
+	public int getAsyncBufferSize() {
+		return this.asyncBufferSize;
+	}
+
+	public void setAsyncBufferSize(int asyncBufferSize) {
+		this.asyncBufferSize = asyncBufferSize;
+	}
+
+	public AsyncMessagePublisher.OverflowPolicy getAsyncOverflowPolicy() {
+		return this.asyncOverflowPolicy;
+	}
+
+	public void setAsyncOverflowPolicy(AsyncMessagePublisher.OverflowPolicy asyncOverflowPolicy) {
+		this.asyncOverflowPolicy = asyncOverflowPolicy;
+	}
+
+	public int getAsyncSampleRate() {
+		return this.asyncSampleRate;
+	}
+
+	public void setAsyncSampleRate(int asyncSampleRate) {
+		this.asyncSampleRate = asyncSampleRate;
+	}
+
+	public long getAsyncFlushTimeout() {
+		return this.asyncFlushTimeout;
+	}
+
+	public void setAsyncFlushTimeout(long asyncFlushTimeout) {
+		this.asyncFlushTimeout = asyncFlushTimeout;
+	}
+
+	public boolean isAsyncSpoolEnabled() {
+		return this.asyncSpoolEnabled;
+	}
+
+	public void setAsyncSpoolEnabled(boolean asyncSpoolEnabled) {
+		this.asyncSpoolEnabled = asyncSpoolEnabled;
+	}
+
+	public String getAsyncSpoolDirectory() {
+		return this.asyncSpoolDirectory;
+	}
+
+	public void setAsyncSpoolDirectory(String asyncSpoolDirectory) {
+		this.asyncSpoolDirectory = asyncSpoolDirectory;
+	}
+
+	public int getAsyncSpoolSegmentSize() {
+		return this.asyncSpoolSegmentSize;
+	}
+
+	public void setAsyncSpoolSegmentSize(int asyncSpoolSegmentSize) {
+		this.asyncSpoolSegmentSize = asyncSpoolSegmentSize;
+	}
+
+	public int getAsyncSpoolMaxSegments() {
+		return this.asyncSpoolMaxSegments;
+	}
+
+	public void setAsyncSpoolMaxSegments(int asyncSpoolMaxSegments) {
+		this.asyncSpoolMaxSegments = asyncSpoolMaxSegments;
+	}
+
+	public boolean isOutboxEnabled() {
+		return this.outboxEnabled;
+	}
+
+	public void setOutboxEnabled(boolean outboxEnabled) {
+		this.outboxEnabled = outboxEnabled;
+	}
+
+	public int getOutboxBatchSize() {
+		return this.outboxBatchSize;
+	}
+
+	public void setOutboxBatchSize(int outboxBatchSize) {
+		this.outboxBatchSize = outboxBatchSize;
+	}
+
+	public long getOutboxRelayInterval() {
+		return this.outboxRelayInterval;
+	}
+
+	public void setOutboxRelayInterval(long outboxRelayInterval) {
+		this.outboxRelayInterval = outboxRelayInterval;
+	}
+
+	public long getOutboxFlushTimeout() {
+		return this.outboxFlushTimeout;
+	}
+
+	public void setOutboxFlushTimeout(long outboxFlushTimeout) {
+		this.outboxFlushTimeout = outboxFlushTimeout;
+	}
+
+	public long getOutboxClaimTimeout() {
+		return this.outboxClaimTimeout;
+	}
+
+	public void setOutboxClaimTimeout(long outboxClaimTimeout) {
+		this.outboxClaimTimeout = outboxClaimTimeout;
+	}
+
+	public EventPartitionKeyResolver.PartitionKey getPartitionKey() {
+		return this.partitionKey;
+	}
+
+	public void setPartitionKey(EventPartitionKeyResolver.PartitionKey partitionKey) {
+		this.partitionKey = partitionKey;
+	}
+
 }
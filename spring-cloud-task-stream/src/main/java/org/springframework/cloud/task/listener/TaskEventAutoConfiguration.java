@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.task.listener;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
@@ -25,12 +26,20 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.stream.config.BindingServiceConfiguration;
+import org.springframework.cloud.stream.config.BindingServiceProperties;
 import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.cloud.task.batch.listener.support.AsyncMessagePublisher;
+import org.springframework.cloud.task.batch.listener.support.EventPartitionKeyResolver;
+import org.springframework.cloud.task.batch.listener.support.EventSpool;
+import org.springframework.cloud.task.batch.listener.support.MessagePublisher;
+import org.springframework.cloud.task.batch.listener.support.OutboxMessagePublisher;
 import org.springframework.cloud.task.batch.listener.support.TaskEventProperties;
 import org.springframework.cloud.task.configuration.SimpleTaskAutoConfiguration;
 import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskNameResolver;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.messaging.converter.CompositeMessageConverter;
 
 /**
  * @author Michael Minella
@@ -58,23 +67,39 @@ public class TaskEventAutoConfiguration {
 
 		@Bean
 		public TaskExecutionListener taskEventEmitter(StreamBridge streamBridge,
-				TaskEventProperties taskEventProperties) {
-			return new TaskExecutionListener() {
-				@Override
-				public void onTaskStartup(TaskExecution taskExecution) {
-					streamBridge.send(taskEventProperties.getTaskEventBindingName(), taskExecution);
-				}
+				TaskEventProperties taskEventProperties, TaskNameResolver taskNameResolver,
+				ObjectProvider<OutboxMessagePublisher<TaskExecution>> outboxMessagePublisher,
+				ObjectProvider<CompositeMessageConverter> messageConverter,
+				ObjectProvider<BindingServiceProperties> bindingServiceProperties,
+				ObjectProvider<EventPartitionKeyResolver> partitionKeyResolver) {
+			MessagePublisher<TaskExecution> messagePublisher = outboxMessagePublisher
+				.getIfAvailable(() -> createMessagePublisher(streamBridge, taskEventProperties, taskNameResolver,
+						messageConverter, bindingServiceProperties));
+			partitionKeyResolver.ifAvailable(messagePublisher::setPartitionKeyResolver);
+			return new TaskEventEmitter(messagePublisher, taskEventProperties);
+		}
 
-				@Override
-				public void onTaskEnd(TaskExecution taskExecution) {
-					streamBridge.send(taskEventProperties.getTaskEventBindingName(), taskExecution);
-				}
+		private MessagePublisher<TaskExecution> createMessagePublisher(StreamBridge streamBridge,
+				TaskEventProperties taskEventProperties, TaskNameResolver taskNameResolver,
+				ObjectProvider<CompositeMessageConverter> messageConverter,
+				ObjectProvider<BindingServiceProperties> bindingServiceProperties) {
+			if (!taskEventProperties.isAsyncEnabled()) {
+				return new MessagePublisher<>(streamBridge);
+			}
+			EventSpool spool = createSpool(taskEventProperties, taskNameResolver, messageConverter,
+					bindingServiceProperties);
+			return new AsyncMessagePublisher<>(streamBridge, taskEventProperties, spool, messageConverter.getObject(),
+					bindingServiceProperties.getIfAvailable());
+		}
 
-				@Override
-				public void onTaskFailed(TaskExecution taskExecution, Throwable throwable) {
-					streamBridge.send(taskEventProperties.getTaskEventBindingName(), taskExecution);
-				}
-			};
+		private EventSpool createSpool(TaskEventProperties taskEventProperties, TaskNameResolver taskNameResolver,
+				ObjectProvider<CompositeMessageConverter> messageConverter,
+				ObjectProvider<BindingServiceProperties> bindingServiceProperties) {
+			if (!taskEventProperties.isAsyncSpoolEnabled()) {
+				return null;
+			}
+			return EventSpool.open(taskEventProperties, taskNameResolver.getTaskName(), "task-events",
+					messageConverter.getObject(), bindingServiceProperties.getIfAvailable());
 		}
 
 	}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.listener;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.task.batch.listener.support.AsyncMessagePublisher;
+import org.springframework.cloud.task.batch.listener.support.MessagePublisher;
+import org.springframework.cloud.task.batch.listener.support.TaskEventProperties;
+import org.springframework.cloud.task.repository.TaskExecution;
+
+/**
+ * {@link TaskExecutionListener} that emits the {@link TaskExecution} on the task event
+ * binding when the task starts, fails and ends. When the events are not sent as they are
+ * published, they are flushed once the end event has been emitted.
+ *
+ * @author agent
+ */
+class TaskEventEmitter implements TaskExecutionListener, DisposableBean {
+
+	private final MessagePublisher<TaskExecution> messagePublisher;
+
+	private final TaskEventProperties taskEventProperties;
+
+	TaskEventEmitter(MessagePublisher<TaskExecution> messagePublisher, TaskEventProperties taskEventProperties) {
+		this.messagePublisher = messagePublisher;
+		this.taskEventProperties = taskEventProperties;
+	}
+
+	@Override
+	public void onTaskStartup(TaskExecution taskExecution) {
+		this.messagePublisher.publish(this.taskEventProperties.getTaskEventBindingName(), taskExecution);
+	}
+
+	@Override
+	public void onTaskEnd(TaskExecution taskExecution) {
+		this.messagePublisher.publish(this.taskEventProperties.getTaskEventBindingName(), taskExecution);
+		this.messagePublisher.flush();
+	}
+
+	@Override
+	public void onTaskFailed(TaskExecution taskExecution, Throwable throwable) {
+		this.messagePublisher.publish(this.taskEventProperties.getTaskEventBindingName(), taskExecution);
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		if (this.messagePublisher instanceof AsyncMessagePublisher<TaskExecution> asyncMessagePublisher) {
+			asyncMessagePublisher.destroy();
+		}
+	}
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.listener;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.cloud.stream.config.BindingServiceConfiguration;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.cloud.task.batch.listener.support.TaskEventBinaryMessageConverter;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Registers the {@link TaskEventBinaryMessageConverter}, so that task and batch event
+ * bindings, and the consumers of those events, can use the compact binary content type.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+@AutoConfiguration(before = BindingServiceConfiguration.class)
+@ConditionalOnClass(StreamBridge.class)
+public class TaskEventMessageConverterAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public TaskEventBinaryMessageConverter taskEventBinaryMessageConverter() {
+		return new TaskEventBinaryMessageConverter();
+	}
+
+}
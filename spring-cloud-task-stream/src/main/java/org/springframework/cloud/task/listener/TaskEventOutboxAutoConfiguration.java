@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.listener;
+
+import java.time.Duration;
+
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.stream.config.BindingServiceProperties;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.cloud.task.batch.listener.BatchEventAutoConfiguration;
+import org.springframework.cloud.task.batch.listener.support.EventOutboxRelay;
+import org.springframework.cloud.task.batch.listener.support.EventPartitionKeyResolver;
+import org.springframework.cloud.task.batch.listener.support.JdbcEventOutbox;
+import org.springframework.cloud.task.batch.listener.support.JdbcEventOutboxInitializer;
+import org.springframework.cloud.task.batch.listener.support.OutboxMessagePublisher;
+import org.springframework.cloud.task.batch.listener.support.TaskEventProperties;
+import org.springframework.cloud.task.configuration.SimpleTaskAutoConfiguration;
+import org.springframework.cloud.task.configuration.TaskConfigurer;
+import org.springframework.cloud.task.configuration.TaskProperties;
+import org.springframework.cloud.task.repository.TaskNameResolver;
+import org.springframework.cloud.task.listener.TaskEventOutboxAutoConfiguration.RuntimeHint;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.util.Assert;
+
+/**
+ * Registers the {@link OutboxMessagePublisher} used by the task and batch event listeners
+ * when {@code spring.cloud.task.batch.events.outbox-enabled} is true. The outbox is
+ * stored in the task repository, so a task {@link javax.sql.DataSource} is required, and
+ * its events are stored under the name of the task so that applications sharing the
+ * repository only relay their own events. The outbox table is created in the task
+ * repository when it does not exist, unless the repository initialization is disabled or
+ * a custom table prefix is used.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+// @checkstyle:off
+@AutoConfiguration(after = SimpleTaskAutoConfiguration.class,
+		before = { TaskEventAutoConfiguration.class, BatchEventAutoConfiguration.class })
+@ConditionalOnClass(StreamBridge.class)
+@ConditionalOnBean(TaskLifecycleListener.class)
+@ConditionalOnProperty(prefix = "spring.cloud.task.batch.events", name = "outbox-enabled", havingValue = "true")
+// @checkstyle:on
+@EnableConfigurationProperties(TaskEventProperties.class)
+@ImportRuntimeHints(RuntimeHint.class)
+public class TaskEventOutboxAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public OutboxMessagePublisher taskEventOutboxPublisher(TaskConfigurer taskConfigurer,
+			TaskProperties taskProperties, TaskNameResolver taskNameResolver, TaskEventProperties properties,
+			StreamBridge streamBridge, CompositeMessageConverter messageConverter,
+			ObjectProvider<BindingServiceProperties> bindingServiceProperties,
+			ObjectProvider<EventPartitionKeyResolver> partitionKeyResolver) {
+		Assert.state(taskConfigurer.getTaskDataSource() != null,
+				"The task event outbox requires the task repository to use a DataSource");
+		if (!Boolean.FALSE.equals(taskProperties.isInitializeEnabled())
+				&& TaskProperties.DEFAULT_TABLE_PREFIX.equals(taskProperties.getTablePrefix())) {
+			new JdbcEventOutboxInitializer(taskConfigurer.getTaskDataSource(), taskProperties.getDatabaseType())
+				.initialize();
+		}
+		JdbcEventOutbox outbox = new JdbcEventOutbox(taskConfigurer.getTaskDataSource(),
+				taskProperties.getTablePrefix(), taskNameResolver.getTaskName());
+		EventOutboxRelay relay = new EventOutboxRelay(outbox, streamBridge, properties.getOutboxBatchSize(),
+				Duration.ofMillis(properties.getOutboxRelayInterval()),
+				Duration.ofMillis(properties.getOutboxClaimTimeout()));
+		OutboxMessagePublisher messagePublisher = new OutboxMessagePublisher(streamBridge, outbox, relay,
+				messageConverter, bindingServiceProperties.getIfAvailable(),
+				Duration.ofMillis(properties.getOutboxFlushTimeout()));
+		partitionKeyResolver.ifAvailable(messagePublisher::setPartitionKeyResolver);
+		return messagePublisher;
+	}
+
+	static class RuntimeHint implements RuntimeHintsRegistrar {
+
+		@Override
+		public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+			hints.resources().registerPattern("org/springframework/cloud/task/outbox/schema-*.sql");
+		}
+
+	}
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.listener;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.cloud.task.batch.listener.BatchEventAutoConfiguration;
+import org.springframework.cloud.task.batch.listener.support.EventPartitionKeyResolver;
+import org.springframework.cloud.task.batch.listener.support.TaskEventProperties;
+import org.springframework.cloud.task.configuration.SimpleTaskAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Registers the {@link EventPartitionKeyResolver} shared by the task and batch event
+ * publishers, keyed by {@code spring.cloud.task.batch.events.partition-key}.
+ *
+ * @author agent
+ * @since 5.0.3
+ */
+@AutoConfiguration(after = SimpleTaskAutoConfiguration.class, before = { TaskEventAutoConfiguration.class,
+		TaskEventOutboxAutoConfiguration.class, BatchEventAutoConfiguration.class })
+@ConditionalOnClass(StreamBridge.class)
+@ConditionalOnBean(TaskLifecycleListener.class)
+@EnableConfigurationProperties(TaskEventProperties.class)
+public class TaskEventPartitionKeyAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public EventPartitionKeyResolver taskEventPartitionKeyResolver(TaskEventProperties properties) {
+		return new EventPartitionKeyResolver(properties.getPartitionKey());
+	}
+
+}
@@ -0,0 +1,16 @@
+CREATE TABLE TASK_EVENT_OUTBOX  (
+	EVENT_ID BIGINT NOT NULL PRIMARY KEY ,
+	APPLICATION_NAME VARCHAR(255) NOT NULL ,
+	MESSAGE_ID CHAR(36) NOT NULL ,
+	BINDING_NAME VARCHAR(255) NOT NULL ,
+	CONTENT_TYPE VARCHAR(255) ,
+	HEADERS VARCHAR(2500) ,
+	PAYLOAD LONGVARBINARY ,
+	CREATED_TIME TIMESTAMP(9) NOT NULL ,
+	RELAY_ID CHAR(36) ,
+	CLAIM_EXPIRY TIMESTAMP(9)
+);
+
+CREATE TABLE TASK_EVENT_OUTBOX_SEQ (
+	ID BIGINT IDENTITY
+);
@@ -0,0 +1,14 @@
+CREATE TABLE TASK_EVENT_OUTBOX  (
+	EVENT_ID BIGINT NOT NULL PRIMARY KEY ,
+	APPLICATION_NAME VARCHAR(255) NOT NULL ,
+	MESSAGE_ID CHAR(36) NOT NULL ,
+	BINDING_NAME VARCHAR(255) NOT NULL ,
+	CONTENT_TYPE VARCHAR(255) ,
+	HEADERS VARCHAR(2500) ,
+	PAYLOAD LONGBLOB ,
+	CREATED_TIME DATETIME(6) NOT NULL ,
+	RELAY_ID CHAR(36) ,
+	CLAIM_EXPIRY DATETIME(6)
+) ENGINE=InnoDB;
+
+CREATE SEQUENCE TASK_EVENT_OUTBOX_SEQ START WITH 1 MINVALUE 1 MAXVALUE 9223372036854775806 INCREMENT BY 1 NOCACHE NOCYCLE ENGINE=InnoDB;
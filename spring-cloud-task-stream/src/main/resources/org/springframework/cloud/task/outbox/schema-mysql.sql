@@ -0,0 +1,20 @@
+CREATE TABLE TASK_EVENT_OUTBOX  (
+	EVENT_ID BIGINT NOT NULL PRIMARY KEY ,
+	APPLICATION_NAME VARCHAR(255) NOT NULL ,
+	MESSAGE_ID CHAR(36) NOT NULL ,
+	BINDING_NAME VARCHAR(255) NOT NULL ,
+	CONTENT_TYPE VARCHAR(255) ,
+	HEADERS VARCHAR(2500) ,
+	PAYLOAD LONGBLOB ,
+	CREATED_TIME DATETIME(6) NOT NULL ,
+	RELAY_ID CHAR(36) ,
+	CLAIM_EXPIRY DATETIME(6)
+) ENGINE=InnoDB;
+
+CREATE TABLE TASK_EVENT_OUTBOX_SEQ (
+	ID BIGINT NOT NULL,
+	UNIQUE_KEY CHAR(1) NOT NULL,
+	constraint OUTBOX_UNIQUE_KEY_UN unique (UNIQUE_KEY)
+) ENGINE=InnoDB;
+
+INSERT INTO TASK_EVENT_OUTBOX_SEQ (ID, UNIQUE_KEY) select * from (select 0 as ID, '0' as UNIQUE_KEY) as tmp;
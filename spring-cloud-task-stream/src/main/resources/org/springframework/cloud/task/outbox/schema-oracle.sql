@@ -0,0 +1,14 @@
+CREATE TABLE TASK_EVENT_OUTBOX  (
+	EVENT_ID NUMBER NOT NULL PRIMARY KEY ,
+	APPLICATION_NAME VARCHAR2(255) NOT NULL ,
+	MESSAGE_ID VARCHAR2(36) NOT NULL ,
+	BINDING_NAME VARCHAR2(255) NOT NULL ,
+	CONTENT_TYPE VARCHAR2(255) ,
+	HEADERS VARCHAR2(2500) ,
+	PAYLOAD BLOB ,
+	CREATED_TIME TIMESTAMP(9) NOT NULL ,
+	RELAY_ID VARCHAR2(36) ,
+	CLAIM_EXPIRY TIMESTAMP(9)
+);
+
+CREATE SEQUENCE TASK_EVENT_OUTBOX_SEQ START WITH 0 MINVALUE 0 MAXVALUE 9223372036854775807 ORDER NOCYCLE;
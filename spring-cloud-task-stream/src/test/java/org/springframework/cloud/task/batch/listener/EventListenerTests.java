@@ -33,6 +33,7 @@ import org.springframework.batch.core.job.JobInstance;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
 import org.springframework.batch.core.step.StepExecution;
 import org.springframework.batch.infrastructure.item.Chunk;
 import org.springframework.boot.WebApplicationType;
@@ -41,9 +42,11 @@ import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.cloud.stream.binder.test.OutputDestination;
 import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
 import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.cloud.task.batch.listener.support.ItemSummaryEvent;
 import org.springframework.cloud.task.batch.listener.support.JobExecutionEvent;
 import org.springframework.cloud.task.batch.listener.support.MessagePublisher;
 import org.springframework.cloud.task.batch.listener.support.StepExecutionEvent;
+import org.springframework.cloud.task.batch.listener.support.StepProgressEvent;
 import org.springframework.cloud.task.batch.listener.support.TaskEventProperties;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.Ordered;
@@ -290,6 +293,194 @@ public class EventListenerTests {
 		return new JobExecution(1L, jobInstance, new JobParameters());
 	}
 
+	@Test
+	public void testItemSummaryListenerPublishesEveryNChunks() {
+		this.taskEventProperties.setItemSummaryInterval(0);
+		this.taskEventProperties.setItemSummaryChunks(2);
+		EventEmittingItemSummaryListener listener = new EventEmittingItemSummaryListener(
+				new MessagePublisher(this.applicationContext.getBean(StreamBridge.class)), this.taskEventProperties);
+		listener.beforeStep(new StepExecution(1L, "STEP1", getJobExecution()));
+		for (int i = 0; i < 3; i++) {
+			listener.afterRead("HELLO");
+		}
+		listener.afterProcess("HELLO", "HELLO");
+		listener.afterProcess("HELLO", "WORLD");
+		listener.afterProcess("HELLO", null);
+		listener.afterWrite(getSampleList());
+		listener.afterWrite(getSampleList());
+
+		ItemSummaryEvent summary = this.objectMapper.readValue(
+				testListener(this.taskEventProperties.getItemSummaryEventBindingName(), 1).get(0).getPayload(),
+				ItemSummaryEvent.class);
+		assertThat(summary.getJobExecutionId()).isEqualTo(1L);
+		assertThat(summary.getStepExecutionId()).isEqualTo(1L);
+		assertThat(summary.getStepName()).isEqualTo("STEP1");
+		assertThat(summary.getReadCount()).isEqualTo(3);
+		assertThat(summary.getProcessCount()).isEqualTo(2);
+		assertThat(summary.getFilterCount()).isEqualTo(1);
+		assertThat(summary.getWriteCount()).isEqualTo(6);
+		assertThat(summary.getChunkCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void testItemSummaryListenerPublishesRemainderAfterStep() {
+		this.taskEventProperties.setItemSummaryInterval(0);
+		EventEmittingItemSummaryListener listener = new EventEmittingItemSummaryListener(
+				new MessagePublisher(this.applicationContext.getBean(StreamBridge.class)), this.taskEventProperties);
+		StepExecution stepExecution = new StepExecution(1L, "STEP1", getJobExecution());
+		listener.beforeStep(stepExecution);
+		listener.afterRead("HELLO");
+		listener.afterWrite(getSampleList());
+		listener.afterStep(stepExecution);
+
+		ItemSummaryEvent summary = this.objectMapper.readValue(
+				testListener(this.taskEventProperties.getItemSummaryEventBindingName(), 1).get(0).getPayload(),
+				ItemSummaryEvent.class);
+		assertThat(summary.getReadCount()).isEqualTo(1);
+		assertThat(summary.getWriteCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void testItemSummaryListenerCountsEachStepExecutionApart() {
+		this.taskEventProperties.setItemSummaryInterval(0);
+		EventEmittingItemSummaryListener listener = new EventEmittingItemSummaryListener(
+				new MessagePublisher(this.applicationContext.getBean(StreamBridge.class)), this.taskEventProperties);
+		JobExecution jobExecution = getJobExecution();
+		StepExecution partition1 = new StepExecution(1L, "STEP1:partition1", jobExecution);
+		StepExecution partition2 = new StepExecution(2L, "STEP1:partition2", jobExecution);
+		listener.beforeStep(partition1);
+		listener.beforeStep(partition2);
+		readItems(listener, partition1, 2);
+		readItems(listener, partition2, 5);
+		readItems(listener, partition1, 1);
+		listener.afterStep(partition1);
+		listener.afterStep(partition2);
+
+		List<Message<byte[]>> messages = testListener(this.taskEventProperties.getItemSummaryEventBindingName(), 2);
+		ItemSummaryEvent summary1 = this.objectMapper.readValue(messages.get(0).getPayload(), ItemSummaryEvent.class);
+		ItemSummaryEvent summary2 = this.objectMapper.readValue(messages.get(1).getPayload(), ItemSummaryEvent.class);
+		assertThat(summary1.getStepExecutionId()).isEqualTo(1L);
+		assertThat(summary1.getStepName()).isEqualTo("STEP1:partition1");
+		assertThat(summary1.getReadCount()).isEqualTo(3);
+		assertThat(summary2.getStepExecutionId()).isEqualTo(2L);
+		assertThat(summary2.getStepName()).isEqualTo("STEP1:partition2");
+		assertThat(summary2.getReadCount()).isEqualTo(5);
+	}
+
+	@Test
+	public void testStepProgressListenerPublishesRatesOfRunningSteps() {
+		this.taskEventProperties.setStepProgressInterval(0);
+		EventEmittingStepProgressListener listener = new EventEmittingStepProgressListener(
+				new MessagePublisher(this.applicationContext.getBean(StreamBridge.class)), this.taskEventProperties);
+		StepExecution stepExecution = new StepExecution(1L, "STEP1", getJobExecution());
+		stepExecution.getExecutionContext().putInt("reader.read.count.max", 100);
+		listener.beforeStep(stepExecution);
+		stepExecution.setReadCount(10);
+		stepExecution.setFilterCount(2);
+		stepExecution.setWriteCount(8);
+		stepExecution.setCommitCount(2);
+		stepExecution.getExecutionContext().putInt("reader.read.count", 10);
+		listener.publishProgress();
+
+		StepProgressEvent progress = this.objectMapper.readValue(
+				testListener(this.taskEventProperties.getStepProgressEventBindingName(), 1).get(0).getPayload(),
+				StepProgressEvent.class);
+		assertThat(progress.getStepName()).isEqualTo("STEP1");
+		assertThat(progress.getReadCount()).isEqualTo(10);
+		assertThat(progress.getWriteCount()).isEqualTo(8);
+		assertThat(progress.getFilterCount()).isEqualTo(2);
+		assertThat(progress.getCommitCount()).isEqualTo(2);
+		assertThat(progress.getCommitInterval()).isPositive();
+		assertThat(progress.getReadRate()).isPositive();
+		assertThat(progress.getWriteRate()).isPositive();
+		assertThat(progress.getEstimatedTimeRemaining()).isNotNull();
+
+		listener.afterStep(stepExecution);
+		listener.publishProgress();
+		assertNoMessageFromDestination(this.taskEventProperties.getStepProgressEventBindingName());
+		listener.destroy();
+	}
+
+	@Test
+	public void testStepProgressListenerPublishesCountDeltas() {
+		this.taskEventProperties.setStepProgressInterval(0);
+		this.taskEventProperties.setStepProgressCountDelta(true);
+		EventEmittingStepProgressListener listener = new EventEmittingStepProgressListener(
+				new MessagePublisher(this.applicationContext.getBean(StreamBridge.class)), this.taskEventProperties);
+		StepExecution stepExecution = new StepExecution(1L, "STEP1", getJobExecution());
+		listener.beforeStep(stepExecution);
+		stepExecution.setReadCount(10);
+		listener.publishProgress();
+		stepExecution.setReadCount(25);
+		listener.publishProgress();
+
+		List<Message<byte[]>> messages = testListener(this.taskEventProperties.getStepProgressEventBindingName(), 2);
+		StepProgressEvent first = this.objectMapper.readValue(messages.get(0).getPayload(), StepProgressEvent.class);
+		StepProgressEvent second = this.objectMapper.readValue(messages.get(1).getPayload(), StepProgressEvent.class);
+		assertThat(first.isCountDelta()).isTrue();
+		assertThat(first.getReadCount()).isEqualTo(10);
+		assertThat(second.getReadCount()).isEqualTo(15);
+		listener.afterStep(stepExecution);
+		listener.destroy();
+	}
+
+	@Test
+	public void testItemProcessListenerSamplesEventsAndErrors() {
+		this.taskEventProperties.setItemProcessSampleRate(2);
+		EventEmittingItemProcessListener listener = new EventEmittingItemProcessListener(
+				new MessagePublisher(this.applicationContext.getBean(StreamBridge.class)), this.taskEventProperties);
+		listener.afterProcess("HELLO", "HELLO");
+		listener.onProcessError("HELLO", new RuntimeException("Test Exception"));
+		listener.afterProcess("HELLO", "WORLD");
+
+		assertThat(getStringFromDestination(this.taskEventProperties.getItemProcessEventBindingName()))
+			.isEqualTo("item equaled result after processing");
+		assertThat(getStringFromDestination(this.taskEventProperties.getItemProcessEventBindingName()))
+			.isEqualTo("item did not equal result after processing");
+	}
+
+	@Test
+	public void testItemProcessListenerPublishesErrorsWhenErrorsBypassSampling() {
+		this.taskEventProperties.setErrorsBypassSampling(true);
+		this.taskEventProperties.setItemProcessSampleRate(3);
+		EventEmittingItemProcessListener listener = new EventEmittingItemProcessListener(
+				new MessagePublisher(this.applicationContext.getBean(StreamBridge.class)), this.taskEventProperties);
+		listener.afterProcess("HELLO", "HELLO");
+		listener.afterProcess("HELLO", "WORLD");
+		listener.onProcessError("HELLO", new RuntimeException("Test Exception"));
+
+		assertThat(getStringFromDestination(this.taskEventProperties.getItemProcessEventBindingName()))
+			.isEqualTo("item equaled result after processing");
+		assertThat(getStringFromDestination(this.taskEventProperties.getItemProcessEventBindingName()))
+			.isEqualTo("Exception while item was being processed");
+	}
+
+	@Test
+	public void testSkipListenerSamplesSkips() {
+		this.taskEventProperties.setSkipSampleRate(2);
+		EventEmittingSkipListener listener = new EventEmittingSkipListener(
+				new MessagePublisher(this.applicationContext.getBean(StreamBridge.class)), this.taskEventProperties);
+		listener.onSkipInRead(new RuntimeException("Text Exception"));
+		listener.onSkipInWrite("HELLO", new RuntimeException("Text Exception"));
+		listener.onSkipInProcess("WORLD", new RuntimeException("Text Exception"));
+
+		assertThat(getStringFromDestination(this.taskEventProperties.getSkipEventBindingName()))
+			.isEqualTo("Skipped when reading.");
+		assertThat(getStringFromDestination(this.taskEventProperties.getSkipEventBindingName())).isEqualTo("WORLD");
+	}
+
+	private void readItems(EventEmittingItemSummaryListener listener, StepExecution stepExecution, int count) {
+		StepSynchronizationManager.register(stepExecution);
+		try {
+			for (int i = 0; i < count; i++) {
+				listener.afterRead("HELLO");
+			}
+		}
+		finally {
+			StepSynchronizationManager.close();
+		}
+	}
+
 	private Chunk<String> getSampleList() {
 		List<String> testList = new ArrayList<>(3);
 		testList.add("Hello");
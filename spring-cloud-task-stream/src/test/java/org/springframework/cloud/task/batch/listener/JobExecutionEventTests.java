@@ -182,6 +182,25 @@ public class JobExecutionEventTests {
 				BatchEventAutoConfiguration.SKIP_EVENTS_LISTENER);
 	}
 
+	@Test
+	public void testItemSummaryListenerReplacesItemListeners() {
+		ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(PropertyPlaceholderAutoConfiguration.class,
+					SimpleTaskAutoConfiguration.class, SingleTaskConfiguration.class))
+			.withUserConfiguration(BatchEventAutoConfiguration.JobExecutionListenerConfiguration.class)
+			.withBean("org.springframework.cloud.task.batch.listener.JobExecutionEventTests$BatchEventTestApplication",
+					BatchEventTestApplication.class)
+			.withPropertyValues("--spring.cloud.task.closecontext_enabled=false", "--spring.main.web-environment=false",
+					"--spring.cloud.task.batch.events.item-summary.enabled=true");
+		applicationContextRunner.run((context) -> {
+			assertThat(context).hasBean(BatchEventAutoConfiguration.ITEM_SUMMARY_EVENTS_LISTENER)
+				.doesNotHaveBean(BatchEventAutoConfiguration.ITEM_READ_EVENTS_LISTENER)
+				.doesNotHaveBean(BatchEventAutoConfiguration.ITEM_PROCESS_EVENTS_LISTENER)
+				.doesNotHaveBean(BatchEventAutoConfiguration.ITEM_WRITE_EVENTS_LISTENER)
+				.hasBean(BatchEventAutoConfiguration.SKIP_EVENTS_LISTENER);
+		});
+	}
+
 	@Test
 	public void testDefaultConstructor() {
 		JobExecutionEvent jobExecutionEvent = new JobExecutionEvent();
@@ -26,6 +26,7 @@ import org.springframework.batch.core.listener.ItemReadListener;
 import org.springframework.batch.core.listener.ItemWriteListener;
 import org.springframework.batch.core.listener.SkipListener;
 import org.springframework.batch.core.listener.StepExecutionListener;
+import org.springframework.batch.core.step.item.ChunkOrientedStep;
 import org.springframework.batch.core.step.item.ChunkOrientedTasklet;
 import org.springframework.batch.core.step.item.SimpleChunkProcessor;
 import org.springframework.batch.core.step.item.SimpleChunkProvider;
@@ -41,6 +42,8 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -104,6 +107,30 @@ public class TaskBatchEventListenerBeanPostProcessorTests {
 		assertThat(updatedTaskletStep).isEqualTo(this.taskletStep);
 	}
 
+	@Test
+	public void testPostProcessorRegistersListenersWithChunkOrientedStep() {
+		TaskBatchEventListenerBeanPostProcessor postProcessor = new TaskBatchEventListenerBeanPostProcessor();
+		this.context.getAutowireCapableBeanFactory().autowireBean(postProcessor);
+		ChunkOrientedStep chunkOrientedStep = mock(ChunkOrientedStep.class);
+
+		assertThat(postProcessor.postProcessBeforeInitialization(chunkOrientedStep, "FOO"))
+			.isSameAs(chunkOrientedStep);
+		verify(chunkOrientedStep).registerStepExecutionListener(this.stepExecutionListener);
+		verify(chunkOrientedStep).registerChunkListener(this.chunkListener);
+		verify(chunkOrientedStep).registerItemReadListener(this.itemReadListener);
+		verify(chunkOrientedStep).registerItemProcessListener(this.itemProcessListener);
+		verify(chunkOrientedStep).registerItemWriteListener(this.itemWriteListener);
+		verify(chunkOrientedStep).registerSkipListener(this.skipListener);
+	}
+
+	@Test
+	public void testPostProcessorSkipsBeansThatAreNotJobsOrSteps() {
+		TaskBatchEventListenerBeanPostProcessor postProcessor = this.context
+			.getBean(TaskBatchEventListenerBeanPostProcessor.class);
+		Object bean = new Object();
+		assertThat(postProcessor.postProcessBeforeInitialization(bean, "FOO")).isSameAs(bean);
+	}
+
 	private void registerAlias(Class clazz, String name) {
 		assertThat(this.context.getBeanNamesForType(clazz).length).isEqualTo(1);
 		this.context.registerAlias(this.context.getBeanNamesForType(clazz)[0], name);
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.cloud.task.batch.listener.support.AsyncMessagePublisher.OverflowPolicy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author agent
+ */
+public class AsyncMessagePublisherTests {
+
+	private final List<Object> sentPayloads = new CopyOnWriteArrayList<>();
+
+	private final List<String> senderThreads = new CopyOnWriteArrayList<>();
+
+	private final CountDownLatch firstSendStarted = new CountDownLatch(1);
+
+	private final CountDownLatch releaseSender = new CountDownLatch(1);
+
+	private StreamBridge streamBridge;
+
+	private AsyncMessagePublisher<String> publisher;
+
+	@BeforeEach
+	public void setup() {
+		this.streamBridge = mock(StreamBridge.class);
+		given(this.streamBridge.send(anyString(), any())).willAnswer((invocation) -> {
+			this.firstSendStarted.countDown();
+			this.releaseSender.await(10, TimeUnit.SECONDS);
+			this.senderThreads.add(Thread.currentThread().getName());
+			this.sentPayloads.add(((Message<?>) invocation.getArgument(1)).getPayload());
+			return true;
+		});
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		this.releaseSender.countDown();
+		if (this.publisher != null) {
+			this.publisher.destroy();
+		}
+	}
+
+	@Test
+	public void testMessagesSentOnSenderThread() {
+		this.publisher = new AsyncMessagePublisher<>(this.streamBridge, 4, OverflowPolicy.BLOCK, 1,
+				Duration.ofSeconds(10));
+		this.releaseSender.countDown();
+
+		this.publisher.publish("binding", "one");
+		this.publisher.publish("binding", "two");
+
+		assertThat(this.publisher.flush()).isTrue();
+		assertThat(this.sentPayloads).containsExactly("one", "two");
+		assertThat(this.senderThreads).containsOnly("task-event-publisher");
+	}
+
+	@Test
+	public void testDropOldestWhenFull() throws Exception {
+		this.publisher = new AsyncMessagePublisher<>(this.streamBridge, 2, OverflowPolicy.DROP_OLDEST, 1,
+				Duration.ofSeconds(10));
+		this.publisher.publish("binding", "one");
+		assertThat(this.firstSendStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+		this.publisher.publish("binding", "two");
+		this.publisher.publish("binding", "three");
+		this.publisher.publish("binding", "four");
+		this.releaseSender.countDown();
+
+		assertThat(this.publisher.flush()).isTrue();
+		assertThat(this.sentPayloads).containsExactly("one", "three", "four");
+		assertThat(this.publisher.getDroppedCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void testSampleWhenFull() throws Exception {
+		this.publisher = new AsyncMessagePublisher<>(this.streamBridge, 2, OverflowPolicy.SAMPLE, 2,
+				Duration.ofSeconds(10));
+		this.publisher.publish("binding", "one");
+		assertThat(this.firstSendStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+		this.publisher.publish("binding", "two");
+		this.publisher.publish("binding", "three");
+		this.publisher.publish("binding", "four");
+		this.publisher.publish("binding", "five");
+		this.releaseSender.countDown();
+
+		assertThat(this.publisher.flush()).isTrue();
+		assertThat(this.sentPayloads).containsExactly("one", "three", "five");
+		assertThat(this.publisher.getDroppedCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void testSpooledWhileSendFails(@TempDir Path spoolDirectory) {
+		AtomicBoolean accepting = new AtomicBoolean();
+		StreamBridge failingStreamBridge = mock(StreamBridge.class);
+		given(failingStreamBridge.send(anyString(), any())).willAnswer((invocation) -> {
+			if (!accepting.get()) {
+				return false;
+			}
+			Object payload = ((Message<?>) invocation.getArgument(1)).getPayload();
+			this.sentPayloads
+				.add((payload instanceof byte[] bytes) ? new String(bytes, StandardCharsets.UTF_8) : payload);
+			return true;
+		});
+		EventSpool spool = new EventSpool(spoolDirectory, 1024, 2, mock(MessageConverter.class), null);
+		this.publisher = new AsyncMessagePublisher<>(failingStreamBridge, 2, OverflowPolicy.BLOCK, 1,
+				Duration.ofSeconds(10), spool);
+
+		for (int i = 0; i < 5; i++) {
+			this.publisher.publish("binding", "message-" + i);
+		}
+		assertThat(this.publisher.getDroppedCount()).isZero();
+		accepting.set(true);
+
+		assertThat(this.publisher.flush()).isTrue();
+		assertThat(this.sentPayloads).containsExactly("message-0", "message-1", "message-2", "message-3",
+				"message-4");
+		assertThat(spool.size()).isZero();
+	}
+
+	@Test
+	public void testMessageDroppedWhenSendKeepsFailingWithSpool(@TempDir Path spoolDirectory) {
+		StreamBridge failingStreamBridge = mock(StreamBridge.class);
+		given(failingStreamBridge.send(anyString(), any())).willThrow(new IllegalStateException("broken binding"));
+		EventSpool spool = new EventSpool(spoolDirectory, 1024, 2, mock(MessageConverter.class), null);
+		this.publisher = new AsyncMessagePublisher<>(failingStreamBridge, 2, OverflowPolicy.BLOCK, 1,
+				Duration.ofSeconds(10), spool);
+
+		this.publisher.publish("binding", "one");
+
+		assertThat(this.publisher.flush()).isTrue();
+		assertThat(this.publisher.getDroppedCount()).isEqualTo(1);
+		verify(failingStreamBridge, times(5)).send(anyString(), any());
+	}
+
+	@Test
+	public void testPayloadSerializedOnPublishingThread() throws Exception {
+		MessageConverter messageConverter = mock(MessageConverter.class);
+		given(messageConverter.toMessage(any(), any())).willAnswer((invocation) -> MessageBuilder
+			.withPayload(invocation.getArgument(0).toString().getBytes(StandardCharsets.UTF_8))
+			.build());
+		AsyncMessagePublisher<Object> publisher = new AsyncMessagePublisher<>(this.streamBridge, 4,
+				OverflowPolicy.BLOCK, 1, Duration.ofSeconds(10), null, messageConverter, null);
+		try {
+			List<String> executionContext = new ArrayList<>(List.of("started"));
+			publisher.publish("binding", executionContext);
+			executionContext.add("changed after publish");
+			this.releaseSender.countDown();
+
+			assertThat(publisher.flush()).isTrue();
+			assertThat(this.sentPayloads).hasSize(1);
+			assertThat(new String((byte[]) this.sentPayloads.get(0), StandardCharsets.UTF_8)).isEqualTo("[started]");
+		}
+		finally {
+			publisher.destroy();
+		}
+	}
+
+	@Test
+	public void testFlushTimesOut() throws Exception {
+		this.publisher = new AsyncMessagePublisher<>(this.streamBridge, 2, OverflowPolicy.BLOCK, 1,
+				Duration.ofMillis(50));
+		this.publisher.publish("binding", "one");
+		assertThat(this.firstSendStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(this.publisher.flush()).isFalse();
+	}
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author agent
+ */
+public class EventOutboxRelayTests {
+
+	private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(1);
+
+	private final List<Message<?>> sentMessages = new ArrayList<>();
+
+	private EmbeddedDatabase dataSource;
+
+	private JdbcEventOutbox outbox;
+
+	private StreamBridge streamBridge;
+
+	@BeforeEach
+	public void setup() {
+		this.dataSource = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+			.generateUniqueName(true)
+			.addScript("classpath:org/springframework/cloud/task/schema-h2.sql")
+			.addScript("classpath:org/springframework/cloud/task/outbox/schema-h2.sql")
+			.build();
+		this.outbox = new JdbcEventOutbox(this.dataSource, "application");
+		this.streamBridge = mock(StreamBridge.class);
+		given(this.streamBridge.send(anyString(), any())).willAnswer((invocation) -> {
+			Message<?> message = invocation.getArgument(1);
+			this.sentMessages.add(message);
+			return !"fail".equals(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8));
+		});
+	}
+
+	@AfterEach
+	public void tearDown() {
+		this.dataSource.shutdown();
+	}
+
+	@Test
+	public void testEventsRelayedInOrder() {
+		JdbcEventOutbox.OutboxEvent first = append("one", Map.of(BatchJobHeaders.BATCH_EXCEPTION, "a=b&c"));
+		append("two", Map.of());
+		append("three", Map.of());
+		EventOutboxRelay relay = new EventOutboxRelay(this.outbox, this.streamBridge, 2, Duration.ZERO,
+				CLAIM_TIMEOUT);
+
+		assertThat(relay.relay()).isTrue();
+
+		assertThat(this.sentMessages).extracting(this::payload).containsExactly("one", "two", "three");
+		Message<?> message = this.sentMessages.get(0);
+		assertThat(message.getHeaders().get(BatchJobHeaders.EVENT_MESSAGE_ID)).isEqualTo(first.getMessageId());
+		assertThat(message.getHeaders().get(BatchJobHeaders.BATCH_EXCEPTION)).isEqualTo("a=b&c");
+		assertThat(message.getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo("text/plain");
+		assertThat(this.outbox.fetch(10)).isEmpty();
+	}
+
+	@Test
+	public void testRelayStopsAtFailedEvent() {
+		append("one", Map.of());
+		JdbcEventOutbox.OutboxEvent failed = append("fail", Map.of());
+		append("three", Map.of());
+		EventOutboxRelay relay = new EventOutboxRelay(this.outbox, this.streamBridge, 10, Duration.ZERO,
+				CLAIM_TIMEOUT);
+
+		assertThat(relay.relay()).isFalse();
+
+		assertThat(this.sentMessages).extracting(this::payload).containsExactly("one", "fail");
+		assertThat(this.outbox.fetch(10)).extracting(JdbcEventOutbox.OutboxEvent::getMessageId)
+			.first()
+			.isEqualTo(failed.getMessageId());
+		assertThat(this.outbox.fetch(10)).hasSize(2);
+	}
+
+	@Test
+	public void testDrainTimesOut() {
+		append("fail", Map.of());
+		EventOutboxRelay relay = new EventOutboxRelay(this.outbox, this.streamBridge, 10, Duration.ZERO,
+				CLAIM_TIMEOUT);
+
+		assertThat(relay.drain(Duration.ofMillis(100))).isFalse();
+		assertThat(this.outbox.fetch(10)).hasSize(1);
+	}
+
+	@Test
+	public void testOnlyEventsOfTheApplicationAreRelayed() {
+		JdbcEventOutbox otherOutbox = new JdbcEventOutbox(this.dataSource, "other-application");
+		otherOutbox.append("binding", "text/plain", Map.of(), "other".getBytes(StandardCharsets.UTF_8));
+		append("one", Map.of());
+		EventOutboxRelay relay = new EventOutboxRelay(this.outbox, this.streamBridge, 10, Duration.ZERO,
+				CLAIM_TIMEOUT);
+
+		assertThat(relay.relay()).isTrue();
+
+		assertThat(this.sentMessages).extracting(this::payload).containsExactly("one");
+		assertThat(otherOutbox.fetch(10)).extracting(this::payload).containsExactly("other");
+	}
+
+	@Test
+	public void testRelayStopsAtEventClaimedByAnotherRelay() {
+		append("one", Map.of());
+		JdbcEventOutbox.OutboxEvent claimed = append("two", Map.of());
+		append("three", Map.of());
+		assertThat(this.outbox.claim(claimed.getEventId(), "other-relay", CLAIM_TIMEOUT)).isTrue();
+		EventOutboxRelay relay = new EventOutboxRelay(this.outbox, this.streamBridge, 10, Duration.ZERO,
+				CLAIM_TIMEOUT);
+
+		assertThat(relay.relay()).isTrue();
+
+		assertThat(this.sentMessages).extracting(this::payload).containsExactly("one");
+		assertThat(this.outbox.fetch(10)).extracting(this::payload).containsExactly("two", "three");
+	}
+
+	@Test
+	public void testExpiredClaimIsTakenOver() {
+		JdbcEventOutbox.OutboxEvent claimed = append("one", Map.of());
+		assertThat(this.outbox.claim(claimed.getEventId(), "other-relay", Duration.ofMillis(-1))).isTrue();
+		EventOutboxRelay relay = new EventOutboxRelay(this.outbox, this.streamBridge, 10, Duration.ZERO,
+				CLAIM_TIMEOUT);
+
+		assertThat(relay.relay()).isTrue();
+
+		assertThat(this.sentMessages).extracting(this::payload).containsExactly("one");
+	}
+
+	@Test
+	public void testRolledBackEventIsNotRelayed() {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(new JdbcTransactionManager(this.dataSource));
+		transactionTemplate.executeWithoutResult((status) -> {
+			append("rolled back", Map.of());
+			status.setRollbackOnly();
+		});
+		append("committed", Map.of());
+		EventOutboxRelay relay = new EventOutboxRelay(this.outbox, this.streamBridge, 10, Duration.ZERO,
+				CLAIM_TIMEOUT);
+
+		assertThat(relay.relay()).isTrue();
+
+		assertThat(this.sentMessages).extracting(this::payload).containsExactly("committed");
+		assertThat(this.outbox.fetch(10)).isEmpty();
+	}
+
+	@Test
+	public void testLateCommittedEventIsRelayedAfterEarlierCommits() {
+		EventOutboxRelay relay = new EventOutboxRelay(this.outbox, this.streamBridge, 10, Duration.ZERO,
+				CLAIM_TIMEOUT);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(new JdbcTransactionManager(this.dataSource));
+		JdbcEventOutbox.OutboxEvent late = transactionTemplate.execute((status) -> {
+			JdbcEventOutbox.OutboxEvent event = append("late", Map.of());
+			JdbcEventOutbox.OutboxEvent early = CompletableFuture.supplyAsync(() -> append("early", Map.of()))
+				.join();
+			assertThat(early.getEventId()).isGreaterThan(event.getEventId());
+			assertThat(CompletableFuture.supplyAsync(relay::relay).join()).isTrue();
+			return event;
+		});
+
+		assertThat(this.sentMessages).extracting(this::payload).containsExactly("early");
+		assertThat(this.outbox.fetch(10)).extracting(JdbcEventOutbox.OutboxEvent::getMessageId)
+			.containsExactly(late.getMessageId());
+
+		assertThat(relay.relay()).isTrue();
+
+		assertThat(this.sentMessages).extracting(this::payload).containsExactly("early", "late");
+	}
+
+	private JdbcEventOutbox.OutboxEvent append(String payload, Map<String, String> headers) {
+		return this.outbox.append("binding", "text/plain", headers, payload.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String payload(Message<?> message) {
+		return new String((byte[]) message.getPayload(), StandardCharsets.UTF_8);
+	}
+
+	private String payload(JdbcEventOutbox.OutboxEvent event) {
+		return new String(event.getPayload(), StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.cloud.task.batch.listener.support.EventPartitionKeyResolver.PartitionKey;
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.messaging.Message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author agent
+ */
+public class EventPartitionKeyResolverTests {
+
+	private final JobExecution jobExecution = new JobExecution(3L, new JobInstance(1L, "job"), new JobParameters());
+
+	private final StepExecution stepExecution = new StepExecution(5L, "step", this.jobExecution);
+
+	@Test
+	public void testKeyTakenFromEvent() {
+		EventPartitionKeyResolver jobExecutionId = new EventPartitionKeyResolver(PartitionKey.JOB_EXECUTION_ID);
+		EventPartitionKeyResolver stepName = new EventPartitionKeyResolver(PartitionKey.STEP_NAME);
+
+		assertThat(jobExecutionId.resolve(new JobExecutionEvent(this.jobExecution))).isEqualTo("3");
+		assertThat(jobExecutionId.resolve(new StepExecutionEvent(this.stepExecution))).isEqualTo("3");
+		assertThat(stepName.resolve(new StepExecutionEvent(this.stepExecution))).isEqualTo("step");
+		assertThat(stepName.resolve(taskExecution(7))).isEqualTo("7");
+
+		ItemSummaryEvent itemSummaryEvent = new ItemSummaryEvent();
+		itemSummaryEvent.setJobExecutionId(3L);
+		itemSummaryEvent.setStepName("step");
+		assertThat(jobExecutionId.resolve(itemSummaryEvent)).isEqualTo("3");
+		assertThat(stepName.resolve(itemSummaryEvent)).isEqualTo("step");
+
+		StepProgressEvent stepProgressEvent = new StepProgressEvent();
+		stepProgressEvent.setJobExecutionId(3L);
+		stepProgressEvent.setStepName("step");
+		assertThat(jobExecutionId.resolve(stepProgressEvent)).isEqualTo("3");
+		assertThat(stepName.resolve(stepProgressEvent)).isEqualTo("step");
+	}
+
+	@Test
+	public void testKeyTakenFromRunningStep() {
+		EventPartitionKeyResolver resolver = new EventPartitionKeyResolver(PartitionKey.STEP_NAME);
+		StepSynchronizationManager.register(this.stepExecution);
+		try {
+			assertThat(resolver.resolve("item")).isEqualTo("step");
+		}
+		finally {
+			StepSynchronizationManager.close();
+		}
+	}
+
+	@Test
+	public void testTaskExecutionIdFallback() {
+		EventPartitionKeyResolver resolver = new EventPartitionKeyResolver(PartitionKey.JOB_EXECUTION_ID);
+		assertThat(resolver.resolve("item")).isNull();
+
+		resolver.onTaskStartup(taskExecution(7));
+
+		assertThat(resolver.resolve("item")).isEqualTo("7");
+		assertThat(new EventPartitionKeyResolver(PartitionKey.NONE).resolve(taskExecution(7))).isNull();
+	}
+
+	@Test
+	public void testPartitionKeyHeaderPublished() {
+		List<Message<?>> messages = new ArrayList<>();
+		StreamBridge streamBridge = mock(StreamBridge.class);
+		given(streamBridge.send(anyString(), any()))
+			.willAnswer((invocation) -> messages.add(invocation.getArgument(1)));
+		MessagePublisher<Object> publisher = new MessagePublisher<>(streamBridge);
+		publisher.setPartitionKeyResolver(new EventPartitionKeyResolver(PartitionKey.JOB_EXECUTION_ID));
+
+		publisher.publish("binding", new StepExecutionEvent(this.stepExecution));
+		publisher.publishWithThrowableHeader("binding", new JobExecutionEvent(this.jobExecution), "failure");
+		publisher.publish("binding", "no key");
+
+		assertThat(messages).extracting((message) -> message.getHeaders().get(BatchJobHeaders.PARTITION_KEY))
+			.containsExactly("3", "3", null);
+	}
+
+	private TaskExecution taskExecution(long executionId) {
+		return new TaskExecution(executionId, null, "task", null, null, null, new ArrayList<>(), null, null);
+	}
+
+}
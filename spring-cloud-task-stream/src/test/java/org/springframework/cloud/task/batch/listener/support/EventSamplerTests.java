@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * @author agent
+ */
+public class EventSamplerTests {
+
+	private final AtomicLong nanoTime = new AtomicLong();
+
+	@Test
+	public void testUnrestrictedSamplerPublishesEveryEvent() {
+		EventSampler sampler = new EventSampler(1, Duration.ZERO, 0, this.nanoTime::get);
+		assertThat(sampler.isUnrestricted()).isTrue();
+		for (int i = 0; i < 100; i++) {
+			assertThat(sampler.tryAcquire()).isTrue();
+		}
+	}
+
+	@Test
+	public void testSampleRate() {
+		EventSampler sampler = new EventSampler(3, Duration.ZERO, 0, this.nanoTime::get);
+		assertThat(sampler.isUnrestricted()).isFalse();
+		assertThat(sampler.tryAcquire()).isTrue();
+		assertThat(sampler.tryAcquire()).isFalse();
+		assertThat(sampler.tryAcquire()).isFalse();
+		assertThat(sampler.tryAcquire()).isTrue();
+	}
+
+	@Test
+	public void testSampleInterval() {
+		EventSampler sampler = new EventSampler(1, Duration.ofMillis(100), 0, this.nanoTime::get);
+		assertThat(sampler.tryAcquire()).isTrue();
+		assertThat(sampler.tryAcquire()).isFalse();
+		advance(99);
+		assertThat(sampler.tryAcquire()).isFalse();
+		advance(1);
+		assertThat(sampler.tryAcquire()).isTrue();
+		assertThat(sampler.tryAcquire()).isFalse();
+	}
+
+	@Test
+	public void testRateLimit() {
+		EventSampler sampler = new EventSampler(1, Duration.ZERO, 2, this.nanoTime::get);
+		assertThat(sampler.tryAcquire()).isTrue();
+		assertThat(sampler.tryAcquire()).isTrue();
+		assertThat(sampler.tryAcquire()).isFalse();
+		advance(500);
+		assertThat(sampler.tryAcquire()).isTrue();
+		assertThat(sampler.tryAcquire()).isFalse();
+		advance(10000);
+		assertThat(sampler.tryAcquire()).isTrue();
+		assertThat(sampler.tryAcquire()).isTrue();
+		assertThat(sampler.tryAcquire()).isFalse();
+	}
+
+	@Test
+	public void testInvalidSampleRate() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new EventSampler(0, Duration.ZERO, 0))
+			.withMessage("sampleRate must be greater than zero");
+	}
+
+	private void advance(long millis) {
+		this.nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+	}
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author agent
+ */
+public class EventSpoolTests {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void testMessagesReadInOrder() throws Exception {
+		try (EventSpool spool = createSpool(1024, 4)) {
+			spool.append("binding", MessageBuilder.withPayload("one")
+				.setHeader(BatchJobHeaders.BATCH_EXCEPTION, "failure")
+				.build());
+			spool.append("other", MessageBuilder.withPayload("two").build());
+
+			EventSpool.SpooledMessage first = spool.peek();
+			assertThat(first.getBindingName()).isEqualTo("binding");
+			assertThat(payload(first)).isEqualTo("one");
+			assertThat(first.getMessage().getHeaders().get(BatchJobHeaders.BATCH_EXCEPTION)).isEqualTo("failure");
+			assertThat(first.getMessage().getHeaders().get(MessageHeaders.CONTENT_TYPE))
+				.isEqualTo("application/json");
+			spool.remove();
+			assertThat(payload(spool.peek())).isEqualTo("two");
+			spool.remove();
+			assertThat(spool.peek()).isNull();
+			assertThat(spool.size()).isZero();
+		}
+	}
+
+	@Test
+	public void testSegmentsRotated() throws Exception {
+		try (EventSpool spool = createSpool(128, 3)) {
+			for (int i = 0; i < 6; i++) {
+				assertThat(spool.append("binding", MessageBuilder.withPayload("message-" + i).build())).isTrue();
+			}
+			assertThat(segmentCount()).isEqualTo(3);
+			assertThat(spool.append("binding", MessageBuilder.withPayload("message-6").build())).isFalse();
+
+			assertThat(drain(spool)).containsExactly("message-0", "message-1", "message-2", "message-3",
+					"message-4", "message-5");
+			assertThat(segmentCount()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	public void testUnreadMessagesFoundWhenReopened() throws Exception {
+		try (EventSpool spool = createSpool(1024, 4)) {
+			spool.append("binding", MessageBuilder.withPayload("one").build());
+			spool.append("binding", MessageBuilder.withPayload("two").build());
+			spool.remove();
+		}
+		try (EventSpool spool = createSpool(1024, 4)) {
+			assertThat(spool.size()).isEqualTo(1);
+			assertThat(drain(spool)).containsExactly("two");
+		}
+	}
+
+	@Test
+	public void testDirectoryLocked() throws Exception {
+		try (EventSpool spool = createSpool(1024, 4)) {
+			assertThatIllegalStateException().isThrownBy(() -> createSpool(1024, 4));
+		}
+	}
+
+	@Test
+	public void testOpenWithoutSpoolWhenDirectoryLocked() throws Exception {
+		TaskEventProperties properties = new TaskEventProperties();
+		properties.setAsyncSpoolDirectory(this.directory.toString());
+		try (EventSpool spool = EventSpool.open(properties, "application", "task-events",
+				mock(MessageConverter.class), null)) {
+			assertThat(spool).isNotNull();
+			assertThat(this.directory.resolve("task-events")).isDirectory();
+
+			assertThat(EventSpool.open(properties, "application", "task-events", mock(MessageConverter.class), null))
+				.isNull();
+		}
+	}
+
+	@Test
+	public void testCorruptRecordSkipped() throws Exception {
+		try (EventSpool spool = createSpool(1024, 4)) {
+			spool.append("binding", MessageBuilder.withPayload("one").build());
+			spool.append("binding", MessageBuilder.withPayload("two").build());
+		}
+		// the first record starts after the 12 byte header with its length, followed by
+		// the length of the binding name
+		writeInt(16, -1);
+		try (EventSpool spool = createSpool(1024, 4)) {
+			assertThat(spool.size()).isEqualTo(2);
+			assertThatIllegalArgumentException().isThrownBy(spool::peek);
+			spool.remove();
+			assertThat(drain(spool)).containsExactly("two");
+		}
+	}
+
+	@Test
+	public void testRestOfSegmentSkippedAfterCorruptRecordLength() throws Exception {
+		try (EventSpool spool = createSpool(1024, 4)) {
+			spool.append("binding", MessageBuilder.withPayload("one").build());
+			spool.append("binding", MessageBuilder.withPayload("two").build());
+		}
+		writeInt(12, -1);
+		try (EventSpool spool = createSpool(1024, 4)) {
+			assertThat(spool.size()).isEqualTo(1);
+			assertThatIllegalStateException().isThrownBy(spool::peek);
+			spool.remove();
+			assertThat(spool.peek()).isNull();
+			assertThat(spool.size()).isZero();
+		}
+	}
+
+	private void writeInt(int position, int value) throws Exception {
+		Path segment;
+		try (Stream<Path> files = Files.list(this.directory)) {
+			segment = files.filter((path) -> path.toString().endsWith(".spool")).findFirst().orElseThrow();
+		}
+		try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, value), position);
+		}
+	}
+
+	private EventSpool createSpool(int segmentSize, int maxSegments) {
+		return new EventSpool(this.directory, segmentSize, maxSegments, mock(MessageConverter.class), null);
+	}
+
+	private List<String> drain(EventSpool spool) {
+		List<String> payloads = new ArrayList<>();
+		for (EventSpool.SpooledMessage message = spool.peek(); message != null; message = spool.peek()) {
+			payloads.add(payload(message));
+			spool.remove();
+		}
+		return payloads;
+	}
+
+	private long segmentCount() throws Exception {
+		try (Stream<Path> files = Files.list(this.directory)) {
+			return files.filter((path) -> path.toString().endsWith(".spool")).count();
+		}
+	}
+
+	private String payload(EventSpool.SpooledMessage message) {
+		return new String(message.getMessage().getPayload(), StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.cloud.task.batch.listener.support.ExecutionEventProjection.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author agent
+ */
+public class ExecutionEventProjectionTests {
+
+	@Test
+	public void testDefaultProjectionCopiesEverything() {
+		JobExecution jobExecution = getJobExecution();
+		JobExecutionEvent event = new ExecutionEventProjection(new TaskEventProperties())
+			.createJobExecutionEvent(jobExecution);
+		assertThat(event.getJobParameters().getParameters()).hasSize(1);
+		assertThat(event.getStepExecutions()).hasSize(1);
+		assertThat(event.getFailureExceptions()).hasSize(1);
+		assertThat(event.getExecutionContext().getString("key")).isEqualTo("value");
+	}
+
+	@Test
+	public void testExcludedFields() {
+		JobExecution jobExecution = getJobExecution();
+		ExecutionEventProjection projection = new ExecutionEventProjection(EnumSet.allOf(Field.class), 0);
+
+		JobExecutionEvent jobEvent = projection.createJobExecutionEvent(jobExecution);
+		assertThat(jobEvent.getJobParameters()).isNull();
+		assertThat(jobEvent.getStepExecutions()).isEmpty();
+		assertThat(jobEvent.getFailureExceptions()).isEmpty();
+		assertThat(jobEvent.getExecutionContext().isEmpty()).isTrue();
+		assertThat(jobEvent.getJobInstance().getJobName()).isEqualTo("job");
+
+		StepExecutionEvent stepEvent = projection
+			.createStepExecutionEvent(jobExecution.getStepExecutions().iterator().next());
+		assertThat(stepEvent.getFailureExceptions()).isEmpty();
+		assertThat(stepEvent.getExecutionContext().isEmpty()).isTrue();
+		assertThat(stepEvent.getReadCount()).isEqualTo(5);
+	}
+
+	@Test
+	public void testExecutionContextMaxSize() {
+		StepExecution stepExecution = getJobExecution().getStepExecutions().iterator().next();
+		stepExecution.getExecutionContext().putString("a", "12345");
+		stepExecution.getExecutionContext().putString("b", "12345");
+		ExecutionEventProjection projection = new ExecutionEventProjection(EnumSet.noneOf(Field.class), 10);
+
+		StepExecutionEvent event = projection.createStepExecutionEvent(stepExecution);
+		assertThat(event.getExecutionContext().size()).isEqualTo(1);
+		assertThat(stepExecution.getExecutionContext().size()).isEqualTo(2);
+	}
+
+	@Test
+	public void testOversizedExecutionContextEntriesSkipped() {
+		StepExecution stepExecution = getJobExecution().getStepExecutions().iterator().next();
+		stepExecution.getExecutionContext().putString("a", "12345");
+		stepExecution.getExecutionContext().put("big", List.of("1234567890", "1234567890"));
+		stepExecution.getExecutionContext().putLong("c", 12345L);
+		ExecutionEventProjection projection = new ExecutionEventProjection(EnumSet.noneOf(Field.class), 12);
+
+		StepExecutionEvent event = projection.createStepExecutionEvent(stepExecution);
+		assertThat(event.getExecutionContext().containsKey("big")).isFalse();
+		assertThat(event.getExecutionContext().getString("a")).isEqualTo("12345");
+		assertThat(event.getExecutionContext().getLong("c")).isEqualTo(12345L);
+	}
+
+	private JobExecution getJobExecution() {
+		JobParameters jobParameters = new JobParametersBuilder().addString("foo", "bar").toJobParameters();
+		JobExecution jobExecution = new JobExecution(1L, new JobInstance(1L, "job"), jobParameters);
+		jobExecution.getExecutionContext().putString("key", "value");
+		jobExecution.addFailureException(new IllegalStateException("job failure"));
+		StepExecution stepExecution = new StepExecution(2L, "step", jobExecution);
+		stepExecution.setReadCount(5);
+		stepExecution.addFailureException(new IllegalStateException("step failure"));
+		jobExecution.addStepExecutions(List.of(stepExecution));
+		return jobExecution;
+	}
+
+}
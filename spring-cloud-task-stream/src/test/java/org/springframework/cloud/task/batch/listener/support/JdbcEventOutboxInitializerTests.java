@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author agent
+ */
+public class JdbcEventOutboxInitializerTests {
+
+	private EmbeddedDatabase dataSource;
+
+	@BeforeEach
+	public void setup() {
+		this.dataSource = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+			.generateUniqueName(true)
+			.addScript("classpath:org/springframework/cloud/task/schema-h2.sql")
+			.build();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		this.dataSource.shutdown();
+	}
+
+	@Test
+	public void testTaskSchemaHasNoOutbox() {
+		assertThat(tableCount("TASK_EVENT_OUTBOX")).isZero();
+	}
+
+	@Test
+	public void testOutboxCreated() {
+		new JdbcEventOutboxInitializer(this.dataSource, null).initialize();
+		assertThat(tableCount("TASK_EVENT_OUTBOX")).isOne();
+		new JdbcEventOutbox(this.dataSource, "application").append("binding", "text/plain", Map.of(), new byte[] { 1 });
+		assertThat(new JdbcEventOutbox(this.dataSource, "application").fetch(10)).hasSize(1);
+	}
+
+	@Test
+	public void testExistingOutboxKept() {
+		new JdbcEventOutboxInitializer(this.dataSource, null).initialize();
+		new JdbcEventOutbox(this.dataSource, "application").append("binding", "text/plain", Map.of(), new byte[] { 1 });
+		new JdbcEventOutboxInitializer(this.dataSource, null).initialize();
+		assertThat(new JdbcEventOutbox(this.dataSource, "application").fetch(10)).hasSize(1);
+	}
+
+	private Integer tableCount(String tableName) {
+		return new JdbcTemplate(this.dataSource).queryForObject(
+				"SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = ?", Integer.class, tableName);
+	}
+
+}
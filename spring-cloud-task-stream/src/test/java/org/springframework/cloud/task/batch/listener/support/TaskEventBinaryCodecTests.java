@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.batch.listener.support;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.JobInstance;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.core.step.StepExecution;
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * @author agent
+ */
+public class TaskEventBinaryCodecTests {
+
+	private final TaskEventBinaryCodec codec = new TaskEventBinaryCodec();
+
+	@Test
+	public void testTaskExecutionRoundTrip() {
+		LocalDateTime startTime = LocalDateTime.of(2026, 1, 2, 3, 4, 5, 6000);
+		TaskExecution taskExecution = new TaskExecution(7, 1, "task", startTime, startTime.plusMinutes(1), "exit",
+				List.of("--foo=bar", "--baz=é"), "error", "external", 3L);
+
+		TaskExecution decoded = (TaskExecution) this.codec.decode(this.codec.encode(taskExecution));
+		assertThat(decoded).usingRecursiveComparison().isEqualTo(taskExecution);
+	}
+
+	@Test
+	public void testTaskExecutionWithNullsRoundTrip() {
+		TaskExecution taskExecution = new TaskExecution();
+		taskExecution.setTaskName("task");
+
+		TaskExecution decoded = (TaskExecution) this.codec.decode(this.codec.encode(taskExecution));
+		assertThat(decoded).usingRecursiveComparison().isEqualTo(taskExecution);
+	}
+
+	@Test
+	public void testJobExecutionEventRoundTrip() {
+		JobExecution jobExecution = new JobExecution(1L, new JobInstance(2L, "job"),
+				new JobParametersBuilder().addString("foo", "bar").addLong("count", 5L).toJobParameters());
+		jobExecution.setStatus(BatchStatus.FAILED);
+		jobExecution.setStartTime(LocalDateTime.now());
+		jobExecution.getExecutionContext().putString("key", "value");
+		jobExecution.getExecutionContext().putLong("long", 42L);
+		jobExecution.addFailureException(new IllegalStateException("job failure"));
+		StepExecution stepExecution = new StepExecution(3L, "step", jobExecution);
+		stepExecution.setReadCount(10);
+		stepExecution.setWriteCount(9);
+		stepExecution.setFilterCount(1);
+		stepExecution.getExecutionContext().putDouble("double", 1.5);
+		jobExecution.addStepExecutions(List.of(stepExecution));
+		JobExecutionEvent event = new JobExecutionEvent(jobExecution);
+
+		JobExecutionEvent decoded = (JobExecutionEvent) this.codec.decode(this.codec.encode(event));
+		assertThat(decoded.getId()).isEqualTo(event.getId());
+		assertThat(decoded.getStatus()).isEqualTo(BatchStatus.FAILED);
+		assertThat(decoded.getStartTime()).isEqualTo(event.getStartTime());
+		assertThat(decoded.getJobInstance().getJobName()).isEqualTo("job");
+		assertThat(decoded.getJobParameters()).isEqualTo(event.getJobParameters());
+		assertThat(decoded.getExitStatus().getExitCode()).isEqualTo(event.getExitStatus().getExitCode());
+		assertThat(decoded.getExecutionContext().getString("key")).isEqualTo("value");
+		assertThat(decoded.getExecutionContext().getLong("long")).isEqualTo(42L);
+		assertThat(decoded.getFailureExceptions()).singleElement()
+			.extracting(Throwable::getMessage)
+			.isEqualTo("java.lang.IllegalStateException: job failure");
+
+		StepExecutionEvent decodedStep = decoded.getStepExecutions().iterator().next();
+		assertThat(decodedStep.getStepName()).isEqualTo("step");
+		assertThat(decodedStep.getJobExecutionId()).isEqualTo(1L);
+		assertThat(decodedStep.getReadCount()).isEqualTo(10);
+		assertThat(decodedStep.getWriteCount()).isEqualTo(9);
+		assertThat(decodedStep.getFilterCount()).isEqualTo(1);
+		assertThat(decodedStep.getExecutionContext().getDouble("double")).isEqualTo(1.5);
+	}
+
+	@Test
+	public void testItemSummaryEventRoundTrip() {
+		ItemSummaryEvent event = new ItemSummaryEvent();
+		event.setJobExecutionId(3L);
+		event.setStepExecutionId(5L);
+		event.setStepName("step");
+		event.setReadCount(100);
+		event.setWriteErrorCount(2);
+		event.setChunkCount(-1);
+
+		ItemSummaryEvent decoded = (ItemSummaryEvent) this.codec.decode(this.codec.encode(event));
+		assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+	}
+
+	@Test
+	public void testStepProgressEventRoundTrip() {
+		StepProgressEvent event = new StepProgressEvent();
+		event.setJobExecutionId(3L);
+		event.setStepExecutionId(5L);
+		event.setStepName("step");
+		event.setReadCount(100);
+		event.setWriteCount(90);
+		event.setFilterCount(10);
+		event.setCommitCount(9);
+		event.setReadRate(12.5);
+		event.setWriteRate(11.25);
+		event.setFilterRate(1.25);
+		event.setCommitInterval(800);
+		event.setEstimatedTimeRemaining(4000L);
+		event.setCountDelta(true);
+
+		StepProgressEvent decoded = (StepProgressEvent) this.codec.decode(this.codec.encode(event));
+		assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+
+		event.setEstimatedTimeRemaining(null);
+		decoded = (StepProgressEvent) this.codec.decode(this.codec.encode(event));
+		assertThat(decoded.getEstimatedTimeRemaining()).isNull();
+		assertThat(this.codec.supports(StepProgressEvent.class)).isTrue();
+	}
+
+	@Test
+	public void testRecordWithUnknownTrailingFields() {
+		byte[] bytes = { 1, 6, 0, 0, 0, 8, 3, 'O', 'K', 3, 'a', 'b', 7, 7 };
+		ExitStatus exitStatus = (ExitStatus) this.codec.decode(bytes);
+		assertThat(exitStatus.getExitCode()).isEqualTo("OK");
+		assertThat(exitStatus.getExitDescription()).isEqualTo("ab");
+	}
+
+	@Test
+	public void testRecordWithMissingFields() {
+		byte[] bytes = { 1, 6, 0, 0, 0, 3, 3, 'O', 'K' };
+		ExitStatus exitStatus = (ExitStatus) this.codec.decode(bytes);
+		assertThat(exitStatus.getExitCode()).isEqualTo("OK");
+		assertThat(exitStatus.getExitDescription()).isNull();
+	}
+
+	@Test
+	public void testCountLargerThanRecordRejected() {
+		byte[] bytes = { 1, 5, 0, 0, 0, 5, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 };
+		assertThatIllegalStateException().isThrownBy(() -> this.codec.decode(bytes))
+			.withMessage("Truncated event record");
+	}
+
+	@Test
+	public void testNegativeCountRejected() {
+		byte[] bytes = { 1, 5, 0, 0, 0, 10, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+				(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01 };
+		assertThatIllegalStateException().isThrownBy(() -> this.codec.decode(bytes))
+			.withMessage("Truncated event record");
+	}
+
+	@Test
+	public void testMessageConverter() {
+		TaskEventBinaryMessageConverter converter = new TaskEventBinaryMessageConverter();
+		MessageHeaders headers = new MessageHeaders(
+				Map.of(MessageHeaders.CONTENT_TYPE, TaskEventBinaryCodec.MIME_TYPE.toString()));
+		ItemSummaryEvent event = new ItemSummaryEvent();
+		event.setWriteCount(3);
+
+		Message<?> message = converter.toMessage(event, headers);
+		assertThat(message.getPayload()).isInstanceOf(byte[].class);
+		ItemSummaryEvent decoded = (ItemSummaryEvent) converter.fromMessage(message, ItemSummaryEvent.class);
+		assertThat(decoded.getWriteCount()).isEqualTo(3);
+
+		Message<byte[]> jsonMessage = MessageBuilder.withPayload("{}".getBytes())
+			.setHeader(MessageHeaders.CONTENT_TYPE, "application/json")
+			.build();
+		assertThat(converter.fromMessage(jsonMessage, ItemSummaryEvent.class)).isNull();
+		assertThat(converter.toMessage("text", headers)).isNull();
+	}
+
+}